@@ -1,5 +1,6 @@
 package com.fuzzjump.api;
 
+import com.fuzzjump.api.session.CoalescingSessionService;
 import com.fuzzjump.api.session.ISessionService;
 import com.fuzzjump.api.user.IUserService;
 
@@ -13,11 +14,15 @@ public final class Api {
 
     private final IUserService userService;
     private final ISessionService sessionService;
+    private final ApiMetrics metrics;
 
     @Inject
-    Api(IUserService userService, ISessionService sessionService) {
+    Api(IUserService userService, ISessionService sessionService, ApiConfig config, ApiMetrics metrics) {
         this.userService = userService;
-        this.sessionService = sessionService;
+        this.sessionService = config.coalesceCalls
+                ? new CoalescingSessionService(sessionService, metrics::coalesced)
+                : sessionService;
+        this.metrics = metrics;
     }
 
     public IUserService getUserService() {
@@ -28,19 +33,29 @@ public final class Api {
         return sessionService;
     }
 
+    public ApiMetrics getMetrics() {
+        return metrics;
+    }
+
     public static class Builder {
 
         private String url;
+        private ApiConfig config = ApiConfig.DEFAULT;
 
         public Builder url(String url) {
             this.url = url;
             return this;
         }
 
+        public Builder config(ApiConfig config) {
+            this.config = config;
+            return this;
+        }
+
         public Api build() {
             ApiComponent component = DaggerApiComponent
                     .builder()
-                    .retrofitModule(new RetrofitModule(url))
+                    .retrofitModule(new RetrofitModule(url, config))
                     .build();
             return component.provideApi();
         }
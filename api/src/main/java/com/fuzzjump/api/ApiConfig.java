@@ -0,0 +1,43 @@
+package com.fuzzjump.api;
+
+import com.fuzzjump.api.util.HttpLoggingInterceptor;
+
+/**
+ * How the http client talking to the api is set up.
+ *
+ * DEFAULT is for the game client, a handful of calls at a time with everything logged. SERVER is for the game and
+ * matchmaking servers, which make hundreds of calls at once to one host during a login storm.
+ */
+public final class ApiConfig {
+
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = 5 * 60 * 1000;
+
+    public static final ApiConfig DEFAULT = new ApiConfig(64, 5, 5, DEFAULT_KEEP_ALIVE_MILLIS,
+            HttpLoggingInterceptor.Level.BODY, false, false);
+    public static final ApiConfig SERVER = new ApiConfig(256, 256, 64, DEFAULT_KEEP_ALIVE_MILLIS,
+            HttpLoggingInterceptor.Level.NONE, true, true);
+
+    //calls running at once, anything over this waits in the dispatcher's queue
+    public final int maxRequests;
+    public final int maxRequestsPerHost;
+    //idle connections kept open for the next call
+    public final int maxIdleConnections;
+    public final long keepAliveMillis;
+    public final HttpLoggingInterceptor.Level logLevel;
+    //calls go through the dispatcher, so the limits above apply. otherwise they block an io thread each
+    public final boolean async;
+    //identical server token requests made while one is in flight share its result. token checks never do
+    public final boolean coalesceCalls;
+
+    public ApiConfig(int maxRequests, int maxRequestsPerHost, int maxIdleConnections, long keepAliveMillis,
+                     HttpLoggingInterceptor.Level logLevel, boolean async, boolean coalesceCalls) {
+        this.maxRequests = maxRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveMillis = keepAliveMillis;
+        this.logLevel = logLevel;
+        this.async = async;
+        this.coalesceCalls = coalesceCalls;
+    }
+
+}
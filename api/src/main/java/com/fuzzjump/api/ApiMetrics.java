@@ -0,0 +1,121 @@
+package com.fuzzjump.api;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Counts and times calls to the api. Latency is from when a call starts running to its response, so time spent
+ * waiting for a free slot shows up in the queue depth instead.
+ */
+public class ApiMetrics implements Interceptor {
+
+    private static final int SAMPLE_COUNT = 1024;
+
+    private final Dispatcher dispatcher;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    //recent latencies in millis, guarded by itself
+    private final long[] samples = new long[SAMPLE_COUNT];
+    private int sampleCount;
+    private int sampleIndex;
+
+    public ApiMetrics(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        requests.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            Response response = chain.proceed(chain.request());
+            if (!response.isSuccessful()) {
+                failures.incrementAndGet();
+            }
+            return response;
+        } catch (IOException e) {
+            failures.incrementAndGet();
+            throw e;
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Counts a call that shared the result of one already in flight instead of making its own
+     */
+    void coalesced() {
+        coalesced.incrementAndGet();
+    }
+
+    private void record(long nanos) {
+        synchronized (samples) {
+            samples[sampleIndex] = TimeUnit.NANOSECONDS.toMillis(nanos);
+            sampleIndex = (sampleIndex + 1) % samples.length;
+            if (sampleCount < samples.length) {
+                sampleCount++;
+            }
+        }
+    }
+
+    public Stats getStats() {
+        long[] sorted;
+        synchronized (samples) {
+            sorted = Arrays.copyOf(samples, sampleCount);
+        }
+        Arrays.sort(sorted);
+        return new Stats(dispatcher.queuedCallsCount(), dispatcher.runningCallsCount(),
+                requests.get(), failures.get(), coalesced.get(),
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    public static final class Stats {
+
+        //calls waiting for a free slot in the dispatcher
+        public final int queued;
+        public final int running;
+        public final long requests;
+        //errors and non 2xx responses
+        public final long failures;
+        public final long coalesced;
+        //latency in millis over the last SAMPLE_COUNT calls
+        public final long p50;
+        public final long p90;
+        public final long p99;
+
+        public Stats(int queued, int running, long requests, long failures, long coalesced, long p50, long p90, long p99) {
+            this.queued = queued;
+            this.running = running;
+            this.requests = requests;
+            this.failures = failures;
+            this.coalesced = coalesced;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+        }
+
+        @Override
+        public String toString() {
+            return "queued=" + queued + " running=" + running + " requests=" + requests + " failures=" + failures
+                    + " coalesced=" + coalesced + " p50=" + p50 + "ms p90=" + p90 + "ms p99=" + p99 + "ms";
+        }
+
+    }
+
+}
@@ -4,11 +4,15 @@ import com.fuzzjump.api.util.HttpLoggingInterceptor;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import java.util.concurrent.TimeUnit;
+
 import javax.inject.Singleton;
 
 import dagger.Module;
 import dagger.Provides;
 import io.reactivex.schedulers.Schedulers;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import retrofit2.Retrofit;
 import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
@@ -21,9 +25,20 @@ import retrofit2.converter.gson.GsonConverterFactory;
 public class RetrofitModule {
 
     private final String apiUrl;
+    private final ApiConfig config;
 
     public RetrofitModule(String apiUrl) {
+        this(apiUrl, ApiConfig.DEFAULT);
+    }
+
+    public RetrofitModule(String apiUrl, ApiConfig config) {
         this.apiUrl = apiUrl;
+        this.config = config;
+    }
+
+    @Provides
+    ApiConfig config() {
+        return config;
     }
 
     @Provides
@@ -41,11 +56,32 @@ public class RetrofitModule {
 
     @Provides
     @Singleton
-    OkHttpClient okHttpClient(TokenInterceptor interceptor) {
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        logging.setLevel(HttpLoggingInterceptor.Level.BODY);
-        return new OkHttpClient.Builder()
-                .addInterceptor(logging)
+    Dispatcher dispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(config.maxRequests);
+        dispatcher.setMaxRequestsPerHost(config.maxRequestsPerHost);
+        return dispatcher;
+    }
+
+    @Provides
+    @Singleton
+    ApiMetrics metrics(Dispatcher dispatcher) {
+        return new ApiMetrics(dispatcher);
+    }
+
+    @Provides
+    @Singleton
+    OkHttpClient okHttpClient(TokenInterceptor interceptor, Dispatcher dispatcher, ApiMetrics metrics) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(config.maxIdleConnections, config.keepAliveMillis, TimeUnit.MILLISECONDS))
+                .addInterceptor(metrics);
+        if (config.logLevel != HttpLoggingInterceptor.Level.NONE) {
+            HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
+            logging.setLevel(config.logLevel);
+            builder.addInterceptor(logging);
+        }
+        return builder
                 .addInterceptor(interceptor)
                 .build();
     }
@@ -54,7 +90,9 @@ public class RetrofitModule {
     @Singleton
     Retrofit retrofit(Gson gson, OkHttpClient okHttpClient) {
         return new Retrofit.Builder()
-                .addCallAdapterFactory(RxJava2CallAdapterFactory.createWithScheduler(Schedulers.io()))
+                .addCallAdapterFactory(config.async
+                        ? RxJava2CallAdapterFactory.createAsync()
+                        : RxJava2CallAdapterFactory.createWithScheduler(Schedulers.io()))
                 .addConverterFactory(GsonConverterFactory.create(gson))
                 .baseUrl(apiUrl)
                 .client(okHttpClient)
@@ -0,0 +1,81 @@
+package com.fuzzjump.api.session;
+
+import com.fuzzjump.api.session.model.SessionResponse;
+import com.fuzzjump.api.session.model.SessionVerifyResponse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.reactivex.Observable;
+
+/**
+ * Makes identical server token requests share one request while it's in flight, eg every control connection to a
+ * game server asking for a token at once. The request is forgotten once it finishes, so results are never reused
+ * after that.
+ *
+ * Token checks are never shared. A session token is single use, and the api refuses it the second time, so two
+ * connections presenting the same token at once must each get their own answer or both would be let in.
+ */
+public class CoalescingSessionService implements ISessionService {
+
+    /**
+     * Told about every call that was answered by one already in flight
+     */
+    public interface Listener {
+
+        void coalesced();
+
+    }
+
+    private final ISessionService service;
+    private final Listener listener;
+    private final ConcurrentHashMap<List<String>, Observable<?>> inFlight = new ConcurrentHashMap<>();
+
+    public CoalescingSessionService(ISessionService service, Listener listener) {
+        this.service = service;
+        this.listener = listener;
+    }
+
+    @Override
+    public Observable<SessionResponse> getSessionToken(String feature) {
+        return service.getSessionToken(feature);
+    }
+
+    @Override
+    public Observable<SessionResponse> getServerSessionToken(String machineName, String feature) {
+        return coalesce(Arrays.asList("getServerSessionToken", machineName, feature),
+                service.getServerSessionToken(machineName, feature));
+    }
+
+    @Override
+    public Observable<SessionVerifyResponse> verify(String userId, String feature, String token) {
+        return service.verify(userId, feature, token);
+    }
+
+    @Override
+    public Observable<SessionVerifyResponse> verifyServer(String machineName, String feature, String token) {
+        return service.verifyServer(machineName, feature, token);
+    }
+
+    /**
+     * @param call isn't subscribed to unless no identical call is in flight
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Observable<T> coalesce(List<String> key, Observable<T> call) {
+        AtomicReference<Observable<T>> self = new AtomicReference<>();
+        //only ever removes this call's entry, never one that replaced it
+        Observable<T> shared = call
+                .doOnTerminate(() -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(shared);
+        Observable<?> existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            listener.coalesced();
+            return (Observable<T>) existing;
+        }
+        return shared;
+    }
+
+}
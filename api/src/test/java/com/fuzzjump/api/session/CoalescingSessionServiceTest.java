@@ -0,0 +1,149 @@
+package com.fuzzjump.api.session;
+
+import com.fuzzjump.api.session.model.SessionResponse;
+import com.fuzzjump.api.session.model.SessionVerifyResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+
+import static org.junit.Assert.assertEquals;
+
+public class CoalescingSessionServiceTest {
+
+    private final List<PublishSubject<SessionResponse>> requests = new ArrayList<>();
+    private final List<PublishSubject<SessionVerifyResponse>> verifies = new ArrayList<>();
+    private final AtomicInteger coalesced = new AtomicInteger();
+    private CoalescingSessionService service;
+
+    @Before
+    public void setUp() {
+        service = new CoalescingSessionService(new FakeSessionService(), coalesced::incrementAndGet);
+    }
+
+    @Test
+    public void identicalCallsShareOneRequest() {
+        TestObserver<SessionResponse> first = service.getServerSessionToken("machine", "GAME").test();
+        TestObserver<SessionResponse> second = service.getServerSessionToken("machine", "GAME").test();
+        assertEquals(1, requests.size());
+        assertEquals(1, coalesced.get());
+
+        SessionResponse response = new SessionResponse();
+        requests.get(0).onNext(response);
+        requests.get(0).onComplete();
+        first.assertResult(response);
+        second.assertResult(response);
+    }
+
+    @Test
+    public void differentCallsAreNotShared() {
+        service.getServerSessionToken("machine", "GAME").test();
+        service.getServerSessionToken("other", "GAME").test();
+        service.getServerSessionToken("machine", "MATCHMAKING").test();
+        assertEquals(3, requests.size());
+        assertEquals(0, coalesced.get());
+    }
+
+    @Test
+    public void tokenChecksAreNeverShared() {
+        //the same single use token twice at once has to get two answers from the api, or both would be let in
+        TestObserver<SessionVerifyResponse> first = service.verify("user", "MATCHMAKING", "token").test();
+        TestObserver<SessionVerifyResponse> second = service.verify("user", "MATCHMAKING", "token").test();
+        service.verifyServer("machine", "GAME", "token").test();
+        service.verifyServer("machine", "GAME", "token").test();
+        assertEquals(4, verifies.size());
+        assertEquals(0, coalesced.get());
+
+        SessionVerifyResponse accepted = new SessionVerifyResponse();
+        verifies.get(0).onNext(accepted);
+        verifies.get(0).onComplete();
+        verifies.get(1).onError(new IOException("token already used"));
+        first.assertResult(accepted);
+        second.assertError(IOException.class);
+    }
+
+    @Test
+    public void errorReachesEveryCaller() {
+        TestObserver<SessionResponse> first = service.getServerSessionToken("machine", "GAME").test();
+        TestObserver<SessionResponse> second = service.getServerSessionToken("machine", "GAME").test();
+        requests.get(0).onError(new IOException("api down"));
+        first.assertError(IOException.class);
+        second.assertError(IOException.class);
+    }
+
+    @Test
+    public void failedCallIsNotCached() {
+        service.getServerSessionToken("machine", "GAME").test();
+        requests.get(0).onError(new IOException("api down"));
+
+        TestObserver<SessionResponse> retry = service.getServerSessionToken("machine", "GAME").test();
+        assertEquals(2, requests.size());
+        SessionResponse response = new SessionResponse();
+        requests.get(1).onNext(response);
+        requests.get(1).onComplete();
+        retry.assertResult(response);
+    }
+
+    @Test
+    public void finishedCallIsNotReused() {
+        service.getServerSessionToken("machine", "GAME").test();
+        requests.get(0).onNext(new SessionResponse());
+        requests.get(0).onComplete();
+
+        service.getServerSessionToken("machine", "GAME").test();
+        assertEquals(2, requests.size());
+        assertEquals(0, coalesced.get());
+    }
+
+    @Test
+    public void callerJoiningLateStillGetsTheResult() {
+        Observable<SessionResponse> call = service.getServerSessionToken("machine", "GAME");
+        call.test();
+        SessionResponse response = new SessionResponse();
+        requests.get(0).onNext(response);
+        requests.get(0).onComplete();
+        call.test().assertResult(response);
+    }
+
+    private class FakeSessionService implements ISessionService {
+
+        @Override
+        public Observable<SessionResponse> getSessionToken(String feature) {
+            return Observable.never();
+        }
+
+        @Override
+        public Observable<SessionResponse> getServerSessionToken(String machineName, String feature) {
+            return request(requests);
+        }
+
+        @Override
+        public Observable<SessionVerifyResponse> verify(String userId, String feature, String token) {
+            return request(verifies);
+        }
+
+        @Override
+        public Observable<SessionVerifyResponse> verifyServer(String machineName, String feature, String token) {
+            return request(verifies);
+        }
+
+        //a request is only made once something subscribes, like retrofit's
+        private <T> Observable<T> request(List<PublishSubject<T>> made) {
+            return Observable.defer(() -> {
+                PublishSubject<T> request = PublishSubject.create();
+                made.add(request);
+                return request;
+            });
+        }
+
+    }
+
+}
@@ -9,11 +9,13 @@ package com.fuzzjump.game.game;
 public class FuzzContext {
 
     private String gameId;
+    private String lobbyId;
     private String gameSeed;
     private int gameMap;
     private String ip;
     private int port;
     private String sessionKey;
+    private String traceId;
 
     public String getGameId() {
         return gameId;
@@ -23,6 +25,17 @@ public class FuzzContext {
         this.gameId = gameId;
     }
 
+    /**
+     * @return the matchmaking lobby to join, eg from an invite. null to be put in any open lobby
+     */
+    public String getLobbyId() {
+        return lobbyId;
+    }
+
+    public void setLobbyId(String lobbyId) {
+        this.lobbyId = lobbyId;
+    }
+
     public String getGameSeed() {
         return gameSeed;
     }
@@ -62,4 +75,16 @@ public class FuzzContext {
     public String getSessionKey() {
         return sessionKey;
     }
+
+    /**
+     * @return the id the servers trace this join under, so it can be matched up in their logs. null before the
+     * matchmaker has answered
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public void setTraceId(String traceId) {
+        this.traceId = traceId;
+    }
 }
@@ -319,11 +319,14 @@ public class GameScreen extends StageScreen<GameUI> implements GameSessionWatche
 
     private void authorize() {
         System.out.println("Authorizing");
-        gameSession.send(Join.JoinPacket.newBuilder()
+        Join.JoinPacket.Builder builder = Join.JoinPacket.newBuilder()
                 .setUserId(me.getUserId())
                 .setServerSessionKey(context.getSessionKey())
-                .setVersion(1)
-                .buildPartial());
+                .setVersion(1);
+        if (context.getTraceId() != null) {
+            builder.setTraceId(context.getTraceId());
+        }
+        gameSession.send(builder.buildPartial());
     }
 
     @Override
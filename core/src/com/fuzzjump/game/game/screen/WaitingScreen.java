@@ -30,6 +30,8 @@ import javax.inject.Inject;
 public class WaitingScreen extends StageScreen<WaitingUI> implements GameSessionWatcher {
 
     public static final int MAX_PLAYERS = 4;
+    //matchmaking nodes only redirect to the node that owns a lobby, so more than this means they disagree
+    private static final int MAX_REDIRECTS = 3;
 
     private final FuzzJumpParams params;
     private final ISessionService sessionService;
@@ -43,6 +45,11 @@ public class WaitingScreen extends StageScreen<WaitingUI> implements GameSession
     private final Lobby.ReadySet.Builder readySetBuilder = Lobby.ReadySet.newBuilder();
     private final Lobby.MapSlotSet.Builder mapSlotSetBuilder = Lobby.MapSlotSet.newBuilder();
 
+    /**
+     * The lobby state from the server, with every delta since applied to it.
+     */
+    private final Lobby.LobbyState.Builder lobbyState = Lobby.LobbyState.newBuilder();
+
     private GameSession gameSession;
 
     private Label timeLabel;
@@ -66,6 +73,7 @@ public class WaitingScreen extends StageScreen<WaitingUI> implements GameSession
 
     private String matchmakingKey;
     private Join.JoinResponsePacket joinResponse;
+    private int redirects;
 
     @Inject
     public WaitingScreen(Stage stage,
@@ -105,6 +113,8 @@ public class WaitingScreen extends StageScreen<WaitingUI> implements GameSession
         connectingMessage.setText("Connecting");
         connectingProgress.setVisible(true);
         showDialog(connectingDialog, getStage());
+        redirects = 0;
+        context.setTraceId(null);
         gameSession = new GameSession(params.matchmakingIp, params.matchmakingPort, this);
 
         sessionService.getSessionToken("MATCHMAKING")
@@ -143,6 +153,7 @@ public class WaitingScreen extends StageScreen<WaitingUI> implements GameSession
         gameSession.getPacketProcessor().addListener(Join.JoinResponsePacket.class, this::joinResponse)
                 .addListener(Lobby.GameFound.class, this::gameFound)
                 .addListener(Lobby.LobbyState.class, this::lobbyUpdate)
+                .addListener(Lobby.LobbyDelta.class, this::lobbyDelta)
                 .addListener(Lobby.TimeState.class, this::updateTime)
                 .addListener(Lobby.GameServerSetupData.class, this::gameServerFound);
     }
@@ -156,17 +167,45 @@ public class WaitingScreen extends StageScreen<WaitingUI> implements GameSession
         context.setSessionKey(message.getKey());
         context.setIp(message.getIp());
         context.setPort(message.getPort());
+        context.setTraceId(message.hasTraceId() ? message.getTraceId() : null);
         screenHandler.showScreen(GameScreen.class);
     }
 
     private void joinResponse(GameSession session, Join.JoinResponsePacket packet) {
+        if (packet.hasTraceId()) {
+            context.setTraceId(packet.getTraceId());
+        }
+        if (packet.getRedirect()) {
+            followRedirect(packet.getServerIp(), packet.getServerPort());
+            return;
+        }
         connectingMessage.setText("Finding game");
         this.joinResponse = packet;
-        Lobby.Loaded loadedPacket = Lobby.Loaded.newBuilder().build();
-        gameSession.send(loadedPacket);
+        Lobby.Loaded.Builder loadedPacket = Lobby.Loaded.newBuilder().setRank(myProfile.getLevel());
+        if (context.getLobbyId() != null) {
+            loadedPacket.setGameId(context.getLobbyId());
+        }
+        gameSession.send(loadedPacket.build());
+    }
+
+    /**
+     * The lobby we asked for is on another matchmaking node, so join that one instead
+     */
+    private void followRedirect(String ip, int port) {
+        gameSession.close(true);
+        if (++redirects > MAX_REDIRECTS) {
+            onDisconnect();
+            return;
+        }
+        connectingMessage.setText("Connecting");
+        gameSession = new GameSession(ip, port, this);
+        gameSession.connect();
+        initPacketListeners();
     }
 
     private void updateTime(GameSession session, Lobby.TimeState message) {
+        //kept in the state too, or the next delta would show the old time again
+        lobbyState.setTime(message);
         setTime(message.getTime());
     }
 
@@ -175,6 +214,50 @@ public class WaitingScreen extends StageScreen<WaitingUI> implements GameSession
     }
 
     private void lobbyUpdate(GameSession session, Lobby.LobbyState message) {
+        lobbyState.clear().mergeFrom(message);
+        showLobby(lobbyState);
+    }
+
+    private void lobbyDelta(GameSession session, Lobby.LobbyDelta message) {
+        for (int i = 0; i < message.getRemovedPlayersCount(); i++) {
+            int index = findPlayer(message.getRemovedPlayers(i));
+            if (index != -1) {
+                lobbyState.removePlayers(index);
+            }
+        }
+        for (int i = 0; i < message.getPlayersCount(); i++) {
+            Lobby.Player player = message.getPlayers(i);
+            int index = findPlayer(player.getPlayerIndex());
+            if (index != -1) {
+                lobbyState.setPlayers(index, player);
+            } else {
+                lobbyState.addPlayers(player);
+            }
+        }
+        for (int i = 0; i < message.getMapSlotsCount(); i++) {
+            Lobby.MapSlot slot = message.getMapSlots(i);
+            for (int j = 0; j < lobbyState.getMapSlotsCount(); j++) {
+                if (lobbyState.getMapSlots(j).getMapId() == slot.getMapId()) {
+                    lobbyState.setMapSlots(j, slot);
+                }
+            }
+        }
+        if (message.hasTime()) {
+            lobbyState.setTime(message.getTime());
+        }
+        showLobby(lobbyState);
+    }
+
+    private int findPlayer(int playerIndex) {
+        for (int i = 0; i < lobbyState.getPlayersCount(); i++) {
+            if (lobbyState.getPlayers(i).getPlayerIndex() == playerIndex) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void showLobby(Lobby.LobbyStateOrBuilder message) {
         // update players
         playerProfiles.clear();
         for (int i = 0; i < message.getPlayersCount(); i++) {
@@ -241,11 +324,15 @@ public class WaitingScreen extends StageScreen<WaitingUI> implements GameSession
     @Override
     public void onConnect() {
         connectingMessage.setText("Validating profile");
-        gameSession.send(Join.JoinPacket.newBuilder()
+        Join.JoinPacket.Builder builder = Join.JoinPacket.newBuilder()
                 .setUserId(myProfile.getUserId())
                 .setSessionKey(matchmakingKey)
-                .setVersion(1)
-                .build());
+                .setVersion(1);
+        //set after a redirect, so the next node carries on the same trace
+        if (context.getTraceId() != null) {
+            builder.setTraceId(context.getTraceId());
+        }
+        gameSession.send(builder.build());
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.fuzzjump.game.net;
 
 import com.steveadoo.server.common.packets.Packet;
+import com.steveadoo.server.common.packets.PacketPool;
 import com.steveadoo.server.common.packets.PacketProcessor;
 import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
 import com.steveadoo.server.common.packets.exceptions.MissingHandlerException;
@@ -17,8 +18,12 @@ import java.util.Queue;
 
 public class Client {
 
+    //frames bigger than this disconnect us, same as the server side
+    private static final int MAX_FRAME_LENGTH = 64 * 1024;
+    private static final int MAX_VARINT_LENGTH = 5;
+
     private final int selectorTimeout;
-    private final ByteBuffer readBuffer;
+    private ByteBuffer readBuffer;
 
     private ConnectionListener listener;
     private Selector selector;
@@ -29,6 +34,8 @@ public class Client {
     private InetSocketAddress address;
 
     private PacketProcessor packetProcessor;
+    //received packets are released once ReceivedPacketRunnable has processed them
+    private final PacketPool packetPool = new PacketPool();
     private final Queue<Object> writeQueue = new LinkedList<>();
 
     private boolean connected = false;
@@ -74,7 +81,7 @@ public class Client {
 
     private void connect() {
         try {
-            address = new InetSocketAddress("127.0.0.1", port);
+            address = new InetSocketAddress(ip, port);
             initSocket();
             connected = false;
             while (!Thread.interrupted()) {
@@ -110,6 +117,7 @@ public class Client {
     }
 
     private void initSocket() throws IOException {
+        readBuffer.clear();
         selector = Selector.open();
         socket = SocketChannel.open();
         socket.socket().setTcpNoDelay(true);
@@ -157,8 +165,8 @@ public class Client {
 
     private void read(SelectionKey key) throws IOException {
         SocketChannel channel = (SocketChannel) key.channel();
-        readBuffer.clear();
 
+        //readBuffer is kept in write mode between reads so a partial frame carries over to the next read
         int length = 0;
         int totalLength = 0;
         while ((length = channel.read(readBuffer)) > 0) {
@@ -176,27 +184,65 @@ public class Client {
         if (totalLength > 0) {
             readBuffer.flip();
             parse(key, readBuffer);
+            readBuffer.compact();
         }
     }
 
+    /**
+     * Reads every complete frame out of the buffer. A frame is the opcode byte, the body length as a varint, then the body.
+     * A partial frame is left in the buffer.
+     */
     private void parse(SelectionKey key, ByteBuffer buffer) throws IOException {
-        while (buffer.hasRemaining()) {
-            int opcode = buffer.get() & 0xFF;
-            int len = buffer.get() & 0xFF;
-
-            if (buffer.remaining() < len) {
-                // TODO Handle this
-                return;
+        while (buffer.remaining() >= 2) {
+            int start = buffer.position();
+            int opcode = buffer.get(start) & 0xFF;
+            int len = 0;
+            int headerLength = 1;
+            int shift = 0;
+            boolean complete = false;
+            while (headerLength < buffer.remaining()) {
+                byte b = buffer.get(start + headerLength++);
+                len |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    complete = true;
+                    break;
+                }
+                shift += 7;
+                if (headerLength > MAX_VARINT_LENGTH) {
+                    throw new IOException("Malformed frame length");
+                }
+            }
+            if (!complete) {
+                break;
+            }
+            if (len < 0 || len > MAX_FRAME_LENGTH) {
+                throw new IOException("Frame of " + len + " bytes is over the limit of " + MAX_FRAME_LENGTH);
+            }
+            if (buffer.remaining() - headerLength < len) {
+                ensureReadCapacity(headerLength + len);
+                break;
             }
 
-            byte[] data = new byte[len];
-            buffer.get(data);
-            Packet packet = new Packet(opcode, data);
+            buffer.position(start + headerLength);
+            Packet packet = packetPool.obtain().copyOf(opcode, buffer, len);
 
             listener.receivedMessage(packet);
         }
     }
 
+    /**
+     * Grows the read buffer if a frame won't fit in it. The buffer is in read mode, and compact is called after this
+     */
+    private void ensureReadCapacity(int frameLength) {
+        if (frameLength <= readBuffer.capacity()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(frameLength, readBuffer.capacity() * 2));
+        buffer.put(readBuffer);
+        buffer.flip();
+        readBuffer = buffer;
+    }
+
     private boolean write(SelectionKey key) throws IOException, MissingHandlerException, MessageHandlerException {
         SocketChannel channel = (SocketChannel) key.channel();
         Object message = null;
@@ -205,11 +251,12 @@ public class Client {
         synchronized (writeQueue) {
             while ((message = writeQueue.peek()) != null) {
                 packet = packetProcessor.encodeMessage(message);
-                buffer = ByteBuffer.allocateDirect(2 + packet.length);
+                buffer = ByteBuffer.allocateDirect(1 + MAX_VARINT_LENGTH + packet.length);
                 buffer.put((byte) packet.opcode);
-                buffer.put((byte) packet.length);
+                putVarInt(buffer, packet.length);
                 if (packet.length > 0)
                     buffer.put(packet.data);
+                packet.release();
                 buffer.flip();
                 if (channel.write(buffer) == 0) {
                     //return false so it will wait until sendbuffer is cleared
@@ -222,6 +269,14 @@ public class Client {
         return true;
     }
 
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
     private boolean connect(SelectionKey key) throws IOException {
         SocketChannel channel = (SocketChannel) key.channel();
         if (channel.isConnectionPending()) {
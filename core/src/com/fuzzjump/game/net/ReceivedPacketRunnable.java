@@ -40,6 +40,14 @@ public class ReceivedPacketRunnable implements Pool.Poolable, Runnable {
             }
         } catch (MissingHandlerException | MessageHandlerException e) {
             e.printStackTrace();
+        } finally {
+            if (packet != null) {
+                packet.release();
+            } else if (packets != null) {
+                for (int i = 0, n = packets.size(); i < n; i++) {
+                    packets.get(i).release();
+                }
+            }
         }
         Pools.free(this);
     }
@@ -12,7 +12,8 @@ public class FuzzJumpPlayer extends Player {
 
     private int index;
     private String serverSessionKey;
-    private FuzzJumpSession session;
+    //set on the session's event loop, read from the player's
+    private volatile FuzzJumpSession session;
     private boolean isServer;
 
     private String userId;
@@ -1,15 +1,21 @@
 package com.fuzzjump.server.base;
 
 import com.fuzzjump.api.Api;
+import com.fuzzjump.api.ApiMetrics;
+import com.fuzzjump.server.common.FuzzJumpPackets;
 import com.steveadoo.server.base.Player;
 import com.steveadoo.server.base.Server;
 import com.steveadoo.server.common.packets.PacketProcessor;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import io.netty.channel.Channel;
 import io.netty.util.AttributeKey;
@@ -19,20 +25,30 @@ public abstract class FuzzJumpServer<T extends FuzzJumpPlayer, E extends FuzzJum
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
     private static final long RECONNECT_TIMEOUT = 5000;
+    private static final long API_AUTHORIZE_TIMEOUT = 30000;
     private static final AttributeKey<ScheduledFuture> RECONNECT_KEY = AttributeKey.newInstance("Player.reconnectFuture");
 
     private final Api api;
+    private final SessionTokens sessionTokens;
 
     private ConcurrentHashMap<String, T> disconnectedPlayerKeys = new ConcurrentHashMap<>();
 
     public FuzzJumpServer(E serverInfo, PacketProcessor packetProcessor) {
         super(serverInfo, packetProcessor);
+        //only the newest of these matters to a client that's behind
+        getOutboundPolicy().supersede(FuzzJumpPackets.TIME_STATE_UPDATE, FuzzJumpPackets.GAME_COUNTDOWN, FuzzJumpPackets.GAME_READY);
+        getTracer().setSlowThreshold(FuzzJumpServerConfig.loadSlowTraceMillis(), TimeUnit.MILLISECONDS);
         api = initApi();
+        registerApiMetrics();
+        sessionTokens = getServerInfo().tokenKey == null
+                ? null
+                : new SessionTokens(Base64.getDecoder().decode(getServerInfo().tokenKey), getTimerService());
     }
 
     private Api initApi() {
         Api api = new Api.Builder()
                 .url(getServerInfo().apiAddress)
+                .config(FuzzJumpServerConfig.loadApiConfig())
                 .build();
 
         //Authorize. the server will take care of setting the token, we want to make sure our credentials are correct though.
@@ -41,8 +57,8 @@ public abstract class FuzzJumpServer<T extends FuzzJumpPlayer, E extends FuzzJum
                     .retrieveToken(getServerInfo().apiUsername, getServerInfo().apiPassword)
                     .observeOn(Schedulers.computation())
                     .toFuture()
-                    .get();
-        } catch (InterruptedException | ExecutionException e) {
+                    .get(API_AUTHORIZE_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
             e.printStackTrace();
             throw new RuntimeException("Cannot authorize server with api.");
         }
@@ -50,6 +66,18 @@ public abstract class FuzzJumpServer<T extends FuzzJumpPlayer, E extends FuzzJum
         return api;
     }
 
+    private void registerApiMetrics() {
+        //getStats sorts the latency samples, so it's read once per snapshot for all of these
+        Supplier<ApiMetrics.Stats> stats = getMetrics().perSnapshot(api.getMetrics()::getStats);
+        getMetrics().gauge("api.queued", () -> stats.get().queued);
+        getMetrics().gauge("api.running", () -> stats.get().running);
+        getMetrics().gauge("api.requests", () -> stats.get().requests);
+        getMetrics().gauge("api.failures", () -> stats.get().failures);
+        getMetrics().gauge("api.coalesced", () -> stats.get().coalesced);
+        getMetrics().gauge("api.latencyMillis.p50", () -> stats.get().p50);
+        getMetrics().gauge("api.latencyMillis.p99", () -> stats.get().p99);
+    }
+
     public boolean validateServerSessionKey(Channel newChannel, String userId, String serverSessionKey) {
         if (!disconnectedPlayerKeys.containsKey(userId)) {
             return false;
@@ -69,7 +97,8 @@ public abstract class FuzzJumpServer<T extends FuzzJumpPlayer, E extends FuzzJum
     @Override
     protected void connected(Player player) {
         T fjPlayer = (T) player;
-        if (disconnectedPlayerKeys.containsKey(fjPlayer.getUserId())) {
+        //server connections don't have a user id, and the map can't be asked about null
+        if (fjPlayer.getUserId() != null && disconnectedPlayerKeys.containsKey(fjPlayer.getUserId())) {
             disconnectedPlayerKeys.remove(fjPlayer.getUserId());
             disconnected(disconnectedPlayerKeys.get(fjPlayer.getUserId()));
         }
@@ -109,4 +138,11 @@ public abstract class FuzzJumpServer<T extends FuzzJumpPlayer, E extends FuzzJum
         return api;
     }
 
+    /**
+     * @return the signed token checker, or null if no key is configured and tokens have to be checked with the api
+     */
+    public SessionTokens getSessionTokens() {
+        return sessionTokens;
+    }
+
 }
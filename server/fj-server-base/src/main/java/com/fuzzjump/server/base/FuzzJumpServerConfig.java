@@ -1,12 +1,17 @@
 package com.fuzzjump.server.base;
 
+import com.fuzzjump.api.ApiConfig;
+import com.fuzzjump.api.util.HttpLoggingInterceptor;
 import com.steveadoo.server.base.ServerConfig;
+import com.steveadoo.server.base.TransportConfig;
+import com.steveadoo.server.base.trace.Tracer;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.URL;
 
 public class FuzzJumpServerConfig extends ServerConfig {
@@ -23,6 +28,8 @@ public class FuzzJumpServerConfig extends ServerConfig {
     public final String apiUsername;
     //api password
     public final String apiPassword;
+    //base64 key shared with the api for signing session tokens, null to check every token with the api
+    public final String tokenKey;
 
     public FuzzJumpServerConfig(int port,
                                 int privatePort,
@@ -30,16 +37,45 @@ public class FuzzJumpServerConfig extends ServerConfig {
                                 String apiAddress,
                                 String apiUsername,
                                 String apiPassword) {
-        super(port, VALIDATE_TIMEOUT);
+        this(port, privatePort, ip, apiAddress, apiUsername, apiPassword,
+                DEFAULT_WRITE_BUFFER_LOW_WATER_MARK, DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK, DEFAULT_MAX_PENDING_WRITE_BYTES);
+    }
+
+    public FuzzJumpServerConfig(int port,
+                                int privatePort,
+                                String ip,
+                                String apiAddress,
+                                String apiUsername,
+                                String apiPassword,
+                                int writeBufferLowWaterMark,
+                                int writeBufferHighWaterMark,
+                                int maxPendingWriteBytes) {
+        this(port, privatePort, ip, apiAddress, apiUsername, apiPassword,
+                writeBufferLowWaterMark, writeBufferHighWaterMark, maxPendingWriteBytes, null);
+    }
+
+    public FuzzJumpServerConfig(int port,
+                                int privatePort,
+                                String ip,
+                                String apiAddress,
+                                String apiUsername,
+                                String apiPassword,
+                                int writeBufferLowWaterMark,
+                                int writeBufferHighWaterMark,
+                                int maxPendingWriteBytes,
+                                String tokenKey) {
+        super(port, true, VALIDATE_TIMEOUT, writeBufferLowWaterMark, writeBufferHighWaterMark, maxPendingWriteBytes);
         this.privatePort = privatePort;
         this.ip = ip;
         this.apiAddress = apiAddress;
         this.apiUsername = apiUsername;
         this.apiPassword = apiPassword;
+        this.tokenKey = tokenKey;
     }
 
     public FuzzJumpServerConfig(FuzzJumpServerConfig config) {
-        this(config.port, config.privatePort, config.ip, config.apiAddress, config.apiUsername, config.apiPassword);
+        this(config.port, config.privatePort, config.ip, config.apiAddress, config.apiUsername, config.apiPassword,
+                config.writeBufferLowWaterMark, config.writeBufferHighWaterMark, config.maxPendingWriteBytes, config.tokenKey);
     }
 
     public static FuzzJumpServerConfig loadConfig(String[] args) throws IOException {
@@ -48,6 +84,13 @@ public class FuzzJumpServerConfig extends ServerConfig {
         String apiAddress = System.getenv("FUZZ_API");
         String apiUsername = System.getenv("FUZZ_API_USERNAME");
         String apiPassword = System.getenv("FUZZ_API_PASSWORD");
+        String tokenKey = System.getenv("FUZZ_TOKEN_KEY");
+        if (tokenKey != null && tokenKey.equals("")) {
+            tokenKey = null;
+        }
+        int writeBufferLow = getIntEnv("FUZZ_WRITE_BUFFER_LOW", DEFAULT_WRITE_BUFFER_LOW_WATER_MARK);
+        int writeBufferHigh = getIntEnv("FUZZ_WRITE_BUFFER_HIGH", DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK);
+        int maxPendingWrites = getIntEnv("FUZZ_MAX_PENDING_WRITES", DEFAULT_MAX_PENDING_WRITE_BYTES);
         String onAwsStr = System.getenv("FUZZ_AWS");
         if (onAwsStr == null || onAwsStr.equals("")) {
             onAwsStr = "false";
@@ -60,10 +103,86 @@ public class FuzzJumpServerConfig extends ServerConfig {
                 directIp,
                 apiAddress,
                 apiUsername,
-                apiPassword
+                apiPassword,
+                writeBufferLow,
+                writeBufferHigh,
+                maxPendingWrites,
+                tokenKey
         );
     }
 
+    /**
+     * Loads the netty setup from FUZZ_TRANSPORT(auto, epoll or nio), FUZZ_BOSS_THREADS, FUZZ_WORKER_THREADS,
+     * FUZZ_POOLED_ALLOCATOR and FUZZ_ACCEPTORS. Anything that isn't set uses TransportConfig.DEFAULT
+     */
+    public static TransportConfig loadTransportConfig() {
+        TransportConfig defaults = TransportConfig.DEFAULT;
+        String transportStr = System.getenv("FUZZ_TRANSPORT");
+        TransportConfig.Transport transport = transportStr == null || transportStr.equals("")
+                ? defaults.transport
+                : TransportConfig.Transport.valueOf(transportStr.toUpperCase());
+        String pooledStr = System.getenv("FUZZ_POOLED_ALLOCATOR");
+        boolean pooled = pooledStr == null || pooledStr.equals("") ? defaults.pooledAllocator : Boolean.parseBoolean(pooledStr);
+        return new TransportConfig(
+                transport,
+                getIntEnv("FUZZ_BOSS_THREADS", defaults.bossThreads),
+                getIntEnv("FUZZ_WORKER_THREADS", defaults.workerThreads),
+                pooled,
+                getIntEnv("FUZZ_ACCEPTORS", defaults.acceptors)
+        );
+    }
+
+    /**
+     * Loads the api client setup from FUZZ_API_MAX_REQUESTS, FUZZ_API_IDLE_CONNECTIONS and FUZZ_API_LOG(none, basic,
+     * headers or body). Anything that isn't set uses ApiConfig.SERVER
+     */
+    public static ApiConfig loadApiConfig() {
+        ApiConfig defaults = ApiConfig.SERVER;
+        String logStr = System.getenv("FUZZ_API_LOG");
+        HttpLoggingInterceptor.Level logLevel = logStr == null || logStr.equals("")
+                ? defaults.logLevel
+                : HttpLoggingInterceptor.Level.valueOf(logStr.toUpperCase());
+        //servers only talk to the one api host, so it gets all of them
+        int maxRequests = getIntEnv("FUZZ_API_MAX_REQUESTS", defaults.maxRequests);
+        return new ApiConfig(
+                maxRequests,
+                maxRequests,
+                getIntEnv("FUZZ_API_IDLE_CONNECTIONS", defaults.maxIdleConnections),
+                defaults.keepAliveMillis,
+                logLevel,
+                defaults.async,
+                defaults.coalesceCalls
+        );
+    }
+
+    /**
+     * @return where to serve metrics over http, from FUZZ_METRICS_PORT and FUZZ_METRICS_HOST(defaults to localhost).
+     * null if there's no port
+     */
+    public static InetSocketAddress loadMetricsAddress() {
+        int port = getIntEnv("FUZZ_METRICS_PORT", 0);
+        if (port == 0) {
+            return null;
+        }
+        String host = System.getenv("FUZZ_METRICS_HOST");
+        return new InetSocketAddress(host == null || host.equals("") ? "127.0.0.1" : host, port);
+    }
+
+    /**
+     * @return how long a join has to take to be kept as a slow trace, from FUZZ_SLOW_TRACE_MILLIS
+     */
+    public static long loadSlowTraceMillis() {
+        return getIntEnv("FUZZ_SLOW_TRACE_MILLIS", (int) Tracer.DEFAULT_SLOW_MILLIS);
+    }
+
+    private static int getIntEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.equals("")) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value);
+    }
+
     public static String getDirectIp(boolean onAws) throws IOException {
         if (!onAws) {
             return InetAddress.getLocalHost().getHostAddress();
@@ -1,8 +1,22 @@
 package com.fuzzjump.server.base;
 
+import com.steveadoo.server.base.TickEngine;
+import com.steveadoo.server.base.net.Broadcaster;
+import com.steveadoo.server.base.net.WriteBatch;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import io.netty.channel.EventLoop;
 
+/**
+ * A group of players. Every session is pinned to one event loop, and its state is only touched from that loop:
+ * ticks and timeouts are scheduled on it, and packet listeners hand work to it with execute. That keeps sessions
+ * single threaded without any locks. Ticks go through a TickEngine, which steps every session on a loop in one pass.
+ */
 public abstract class FuzzJumpSession<T extends FuzzJumpPlayer> {
 
     public final int max;
@@ -12,10 +26,53 @@ public abstract class FuzzJumpSession<T extends FuzzJumpPlayer> {
 
     private int playerIndex = 0;
     protected final List<T> players = new ArrayList<T>();
+    protected final Broadcaster broadcaster;
+    private final EventLoop eventLoop;
+    private volatile TickEngine.Handle tickHandle;
 
-    public FuzzJumpSession(String id, int max) {
+    public FuzzJumpSession(String id, int max, Broadcaster broadcaster, EventLoop eventLoop) {
         this.id = id;
         this.max = max;
+        this.broadcaster = broadcaster;
+        this.eventLoop = eventLoop;
+    }
+
+    /**
+     * Runs the task on this session's event loop. It runs right away if we're already on it
+     */
+    public void execute(Runnable task) {
+        if (eventLoop.inEventLoop()) {
+            task.run();
+        } else {
+            eventLoop.execute(task);
+        }
+    }
+
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return eventLoop.schedule(task, delay, unit);
+    }
+
+    /**
+     * Runs the task on this session's event loop every tick of the engine, until stopTicking is called
+     */
+    public void startTicking(TickEngine engine, Runnable task) {
+        stopTicking();
+        tickHandle = engine.register(eventLoop, task);
+    }
+
+    public void stopTicking() {
+        if (tickHandle != null) {
+            tickHandle.cancel();
+            tickHandle = null;
+        }
+    }
+
+    public boolean inEventLoop() {
+        return eventLoop.inEventLoop();
+    }
+
+    public EventLoop getEventLoop() {
+        return eventLoop;
     }
 
     /**
@@ -24,6 +81,19 @@ public abstract class FuzzJumpSession<T extends FuzzJumpPlayer> {
      */
     public abstract boolean update();
 
+    /**
+     * Runs update in a WriteBatch, so each player's channel is flushed once per tick
+     * @return true if the session is over
+     */
+    public final boolean tick() {
+        WriteBatch.begin();
+        try {
+            return update();
+        } finally {
+            WriteBatch.end();
+        }
+    }
+
     public abstract void destroy();
 
     public void addPlayer(T player) {
@@ -38,6 +108,21 @@ public abstract class FuzzJumpSession<T extends FuzzJumpPlayer> {
         update = true;
     }
 
+    /**
+     * Sends the message to every player in the session. It's only encoded once
+     */
+    public void broadcast(Object message) {
+        broadcaster.broadcast(message, players);
+    }
+
+    /**
+     * Sends the message to every player in the session that isn't excluded. It's only encoded once
+     * @param exclude players this returns true for are skipped
+     */
+    public void broadcast(Object message, Predicate<? super T> exclude) {
+        broadcaster.broadcast(message, players, exclude);
+    }
+
     public boolean isEmpty() {
         return players.isEmpty();
     }
@@ -0,0 +1,179 @@
+package com.fuzzjump.server.base;
+
+import com.steveadoo.server.base.TimerService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Session tokens that can be checked without asking the api. A token is
+ *
+ *   fj1.base64url(subject \n feature \n expiry millis \n nonce).base64url(HMAC-SHA256 of everything before it)
+ *
+ * signed with a key shared by the api and the servers. The subject is the user id, or the machine name for server
+ * tokens, and the feature is what it's good for, eg MATCHMAKING or MATCH->GAME.
+ *
+ * Each token is only accepted once. Nonces are remembered until their token expires, so a token that's been sniffed
+ * can't be used again. Tokens that aren't in this format should be checked with the api like before.
+ *
+ * Every server that signs or checks tokens has to have the same key. getKeyId tells keys apart without giving them away,
+ * so servers can compare theirs when they connect to each other.
+ */
+public class SessionTokens {
+
+    public static final String MATCHMAKING = "MATCHMAKING";
+    public static final String MATCH_TO_GAME = "MATCH->GAME";
+
+    /**
+     * What checking a token found
+     */
+    public enum Result {
+        VALID,
+        //not in the fj1. format, check it with the api
+        NOT_SIGNED,
+        //in the format, but it couldn't be read
+        MALFORMED,
+        //signed with another key, or tampered with
+        BAD_SIGNATURE,
+        WRONG_SUBJECT,
+        WRONG_FEATURE,
+        EXPIRED,
+        //accepted once already
+        REPLAYED
+    }
+
+    private static final String PREFIX = "fj1.";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final int KEY_ID_BYTES = 6;
+    //clocks on the api and the servers can disagree by this much
+    private static final long CLOCK_SKEW = 30000;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final TimerService timerService;
+    //Mac isn't thread safe, so there's one per thread
+    private final ThreadLocal<Mac> macs;
+    //nonces of tokens that were accepted and haven't expired
+    private final ConcurrentHashMap<String, Boolean> used = new ConcurrentHashMap<>();
+    private final String keyId;
+
+    public SessionTokens(byte[] key, TimerService timerService) {
+        if (key.length < MIN_KEY_BYTES) {
+            throw new IllegalArgumentException("Token key has to be at least " + MIN_KEY_BYTES + " bytes");
+        }
+        this.key = new SecretKeySpec(key, ALGORITHM);
+        this.timerService = timerService;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.keyId = ENCODER.encodeToString(Arrays.copyOf(mac("key id"), KEY_ID_BYTES));
+    }
+
+    /**
+     * @return a short id that's the same for the same key and different for any other, made from the key's signature
+     * of a fixed string so it doesn't give the key away
+     */
+    public String getKeyId() {
+        return keyId;
+    }
+
+    /**
+     * @return true if the token is in the signed format, otherwise it has to be checked with the api
+     */
+    public static boolean isSigned(String token) {
+        return token != null && token.startsWith(PREFIX);
+    }
+
+    public String sign(String subject, String feature, long ttl, TimeUnit unit) {
+        byte[] nonce = new byte[16];
+        SECURE_RANDOM.nextBytes(nonce);
+        long expiry = System.currentTimeMillis() + unit.toMillis(ttl);
+        String payload = subject + "\n" + feature + "\n" + expiry + "\n" + ENCODER.encodeToString(nonce);
+        String signed = PREFIX + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return signed + "." + ENCODER.encodeToString(mac(signed));
+    }
+
+    /**
+     * @return true if the token is signed with our key, hasn't expired, is for this subject and feature, and hasn't
+     * been used before
+     */
+    public boolean verify(String token, String subject, String feature) {
+        return check(token, subject, feature) == Result.VALID;
+    }
+
+    /**
+     * Same as verify, but says why a token was refused. A token is only ever VALID once
+     */
+    public Result check(String token, String subject, String feature) {
+        if (!isSigned(token)) {
+            return Result.NOT_SIGNED;
+        }
+        int split = token.lastIndexOf('.');
+        if (split <= PREFIX.length()) {
+            return Result.MALFORMED;
+        }
+        String signed = token.substring(0, split);
+        String[] fields;
+        try {
+            byte[] signature = DECODER.decode(token.substring(split + 1));
+            if (!MessageDigest.isEqual(signature, mac(signed))) {
+                return Result.BAD_SIGNATURE;
+            }
+            fields = new String(DECODER.decode(signed.substring(PREFIX.length())), StandardCharsets.UTF_8).split("\n", -1);
+        } catch (IllegalArgumentException e) {
+            return Result.MALFORMED;
+        }
+        if (fields.length != 4) {
+            return Result.MALFORMED;
+        }
+        if (!fields[0].equals(subject)) {
+            return Result.WRONG_SUBJECT;
+        }
+        if (!fields[1].equals(feature)) {
+            return Result.WRONG_FEATURE;
+        }
+        long expiry;
+        try {
+            expiry = Long.parseLong(fields[2]);
+        } catch (NumberFormatException e) {
+            return Result.MALFORMED;
+        }
+        long remaining = expiry + CLOCK_SKEW - System.currentTimeMillis();
+        if (remaining <= 0) {
+            return Result.EXPIRED;
+        }
+        String nonce = fields[3];
+        if (used.putIfAbsent(nonce, Boolean.TRUE) != null) {
+            return Result.REPLAYED;
+        }
+        //once it's expired it can't be replayed anyway
+        timerService.schedule(() -> used.remove(nonce), remaining, TimeUnit.MILLISECONDS);
+        return Result.VALID;
+    }
+
+    private byte[] mac(String signed) {
+        return macs.get().doFinal(signed.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot create " + ALGORITHM, e);
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.fuzzjump.server.base;
+
+import com.steveadoo.server.base.TimerService;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SessionTokensTest {
+
+    private static final byte[] KEY = key(1);
+
+    private TimerService timerService;
+    private SessionTokens tokens;
+
+    @Before
+    public void setUp() {
+        timerService = new TimerService();
+        tokens = new SessionTokens(KEY, timerService);
+    }
+
+    @After
+    public void tearDown() {
+        timerService.stop();
+    }
+
+    @Test
+    public void signedTokenVerifies() {
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS);
+        assertTrue(SessionTokens.isSigned(token));
+        assertTrue(tokens.verify(token, "user", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void tokenIsOnlyGoodForItsSubjectAndFeature() {
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS);
+        assertFalse(tokens.verify(token, "other", SessionTokens.MATCHMAKING));
+        assertFalse(tokens.verify(token, "user", SessionTokens.MATCH_TO_GAME));
+    }
+
+    @Test
+    public void tokenFromAnotherKeyIsRejected() {
+        SessionTokens other = new SessionTokens(key(2), timerService);
+        String token = other.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS);
+        assertFalse(tokens.verify(token, "user", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void changedPayloadIsRejected() {
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS);
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String forged = payload.replaceFirst("^user\n", "admin\n");
+        String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(forged.getBytes(StandardCharsets.UTF_8));
+        assertFalse(tokens.verify("fj1." + encoded + "." + parts[2], "admin", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void changedSignatureIsRejected() {
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS);
+        char last = token.charAt(token.length() - 1);
+        String forged = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+        assertFalse(tokens.verify(forged, "user", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void tokenIsAcceptedOnlyOnce() {
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS);
+        assertTrue(tokens.verify(token, "user", SessionTokens.MATCHMAKING));
+        assertFalse(tokens.verify(token, "user", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void rejectedTokenIsNotUsedUp() {
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS);
+        assertFalse(tokens.verify(token, "other", SessionTokens.MATCHMAKING));
+        assertTrue(tokens.verify(token, "user", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void replayRaceHasOneWinner() throws Exception {
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                attempts.add(() -> tokens.verify(token, "user", SessionTokens.MATCHMAKING));
+            }
+            int accepted = 0;
+            for (Future<Boolean> result : executor.invokeAll(attempts)) {
+                accepted += result.get() ? 1 : 0;
+            }
+            assertEquals(1, accepted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void expiredTokenIsAcceptedWithinClockSkew() {
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, -10, TimeUnit.SECONDS);
+        assertTrue(tokens.verify(token, "user", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void expiredTokenIsRejectedPastClockSkew() {
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, -31, TimeUnit.SECONDS);
+        assertFalse(tokens.verify(token, "user", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void malformedTokensAreRejected() {
+        for (String token : Arrays.asList(null, "", "api-token", "fj1.", "fj1..", "fj1.abc", "fj1.abc.", "fj1.!!!.###")) {
+            assertFalse(String.valueOf(token), tokens.verify(token, "user", SessionTokens.MATCHMAKING));
+        }
+    }
+
+    @Test
+    public void signedPayloadWithBadFieldsIsRejected() throws Exception {
+        long expiry = System.currentTimeMillis() + 60000;
+        assertFalse(tokens.verify(forge("user\nMATCHMAKING\n" + expiry), "user", SessionTokens.MATCHMAKING));
+        assertFalse(tokens.verify(forge("user\nMATCHMAKING\n" + expiry + "\nnonce\nextra"), "user", SessionTokens.MATCHMAKING));
+        assertFalse(tokens.verify(forge("user\nMATCHMAKING\nsoon\nnonce"), "user", SessionTokens.MATCHMAKING));
+        assertTrue(tokens.verify(forge("user\nMATCHMAKING\n" + expiry + "\nnonce"), "user", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void checkSaysWhyATokenWasRefused() throws Exception {
+        long expiry = System.currentTimeMillis() + 60000;
+        String token = tokens.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS);
+        SessionTokens other = new SessionTokens(key(2), timerService);
+        assertEquals(SessionTokens.Result.NOT_SIGNED, tokens.check("api-token", "user", SessionTokens.MATCHMAKING));
+        assertEquals(SessionTokens.Result.MALFORMED, tokens.check("fj1.", "user", SessionTokens.MATCHMAKING));
+        assertEquals(SessionTokens.Result.MALFORMED, tokens.check(forge("user\nMATCHMAKING\nsoon\nnonce"), "user", SessionTokens.MATCHMAKING));
+        assertEquals(SessionTokens.Result.MALFORMED, tokens.check(forge("user\nMATCHMAKING\n" + expiry), "user", SessionTokens.MATCHMAKING));
+        assertEquals(SessionTokens.Result.BAD_SIGNATURE,
+                tokens.check(other.sign("user", SessionTokens.MATCHMAKING, 60, TimeUnit.SECONDS), "user", SessionTokens.MATCHMAKING));
+        assertEquals(SessionTokens.Result.WRONG_SUBJECT, tokens.check(token, "other", SessionTokens.MATCHMAKING));
+        assertEquals(SessionTokens.Result.WRONG_FEATURE, tokens.check(token, "user", SessionTokens.MATCH_TO_GAME));
+        assertEquals(SessionTokens.Result.EXPIRED,
+                tokens.check(tokens.sign("user", SessionTokens.MATCHMAKING, -31, TimeUnit.SECONDS), "user", SessionTokens.MATCHMAKING));
+        assertEquals(SessionTokens.Result.VALID, tokens.check(token, "user", SessionTokens.MATCHMAKING));
+        assertEquals(SessionTokens.Result.REPLAYED, tokens.check(token, "user", SessionTokens.MATCHMAKING));
+    }
+
+    @Test
+    public void keyIdOnlyMatchesTheSameKey() {
+        assertEquals(tokens.getKeyId(), new SessionTokens(KEY, timerService).getKeyId());
+        assertFalse(tokens.getKeyId().equals(new SessionTokens(key(2), timerService).getKeyId()));
+        assertFalse(tokens.getKeyId().isEmpty());
+        //it's made from the key's signature, not the key itself
+        assertFalse(Base64.getUrlEncoder().withoutPadding().encodeToString(KEY).startsWith(tokens.getKeyId()));
+    }
+
+    @Test
+    public void apiTokensAreNotSigned() {
+        assertFalse(SessionTokens.isSigned(null));
+        assertFalse(SessionTokens.isSigned("3f2a9c"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shortKeyIsRefused() {
+        new SessionTokens(new byte[16], timerService);
+    }
+
+    /**
+     * Signs any payload with the test key, the way the api would
+     */
+    private static String forge(String payload) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String signed = "fj1." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY, "HmacSHA256"));
+        return signed + "." + encoder.encodeToString(mac.doFinal(signed.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] key(int seed) {
+        byte[] key = new byte[32];
+        Arrays.fill(key, (byte) seed);
+        return key;
+    }
+
+}
@@ -3,10 +3,14 @@ package com.fuzzjump.server.common;
 import com.fuzzjump.server.common.messages.game.Game;
 import com.fuzzjump.server.common.messages.join.Join;
 import com.fuzzjump.server.common.messages.lobby.Lobby;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.GeneratedMessage;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.steveadoo.server.common.packets.MessageHandler;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -22,6 +26,43 @@ public class FuzzJumpMessageHandlers {
         }
     };
 
+    private static final MessageHandler.BufferEncoder<? extends GeneratedMessage> BUFFER_ENCODER = new MessageHandler.BufferEncoder<GeneratedMessage>() {
+        @Override
+        public int getEncodedSize(GeneratedMessage message) {
+            return message.getSerializedSize();
+        }
+
+        @Override
+        public void encode(GeneratedMessage message, ByteBuffer out) {
+            int size = message.getSerializedSize();
+            try {
+                if (out.hasArray()) {
+                    CodedOutputStream output = CodedOutputStream.newInstance(out.array(), out.arrayOffset() + out.position(), size);
+                    message.writeTo(output);
+                    output.checkNoSpaceLeft();
+                    out.position(out.position() + size);
+                } else {
+                    //protobuf can only write direct buffers through its own byte[], so go through ours instead
+                    byte[] scratch = getScratch(size);
+                    CodedOutputStream output = CodedOutputStream.newInstance(scratch, 0, size);
+                    message.writeTo(output);
+                    output.checkNoSpaceLeft();
+                    out.put(scratch, 0, size);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not encode " + message.getClass().getSimpleName(), e);
+            }
+        }
+    };
+
+    //parsing copies strings and bytes out of the input, so one scratch array per thread can be reused for every message
+    private static final ThreadLocal<byte[]> SCRATCH = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[256];
+        }
+    };
+
     static {
         List<MessageHandler> tempHandlerList = new LinkedList<>();
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.JOIN_PACKET, Join.JoinPacket.getDefaultInstance()));
@@ -29,6 +70,7 @@ public class FuzzJumpMessageHandlers {
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.LOBBY_STATE, Lobby.LobbyState.getDefaultInstance()));
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.LOBBY_STATE, Lobby.LobbyState.getDefaultInstance()));
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.TIME_STATE_UPDATE, Lobby.TimeState.getDefaultInstance()));
+        tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.LOBBY_DELTA, Lobby.LobbyDelta.getDefaultInstance()));
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.MAP_SLOT_VOTES_UPDATE, Lobby.MapSlot.getDefaultInstance()));
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.MAP_SLOT_UPDATE, Lobby.MapSlotSet.getDefaultInstance()));
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.READY_UPDATE, Lobby.ReadySet.getDefaultInstance()));
@@ -39,6 +81,7 @@ public class FuzzJumpMessageHandlers {
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.GAME_SERVER_SETUP, Lobby.GameServerSetup.getDefaultInstance()));
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.GAME_SERVER_SETUP_RESPONSE, Lobby.GameServerSetupResponse.getDefaultInstance()));
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.GAME_SERVER_SETUP_DATA, Lobby.GameServerSetupData.getDefaultInstance()));
+        tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.GAME_SERVER_HEARTBEAT, Lobby.GameServerHeartbeat.getDefaultInstance()));
 
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.GAME_COUNTDOWN, Game.Countdown.getDefaultInstance()));
         tempHandlerList.add(createProtoMessageHandler(FuzzJumpPackets.GAME_JOIN, Game.JoinGame.getDefaultInstance()));
@@ -62,6 +105,35 @@ public class FuzzJumpMessageHandlers {
                 }
             }
         };
-        return new MessageHandler(message.getClass(), opcode, decoder, ENCODER);
+        MessageHandler.BufferDecoder bufferDecoder = new MessageHandler.BufferDecoder() {
+            @Override
+            public GeneratedMessage decode(ByteBuffer data) {
+                try {
+                    CodedInputStream input;
+                    if (data.hasArray()) {
+                        input = CodedInputStream.newInstance(data);
+                    } else {
+                        int length = data.remaining();
+                        byte[] scratch = getScratch(length);
+                        data.get(scratch, 0, length);
+                        input = CodedInputStream.newInstance(scratch, 0, length);
+                    }
+                    return message.getParserForType().parseFrom(input);
+                } catch (InvalidProtocolBufferException e) {
+                    e.printStackTrace();
+                    return null;
+                }
+            }
+        };
+        return new MessageHandler(message.getClass(), opcode, decoder, ENCODER, bufferDecoder, BUFFER_ENCODER);
+    }
+
+    private static byte[] getScratch(int size) {
+        byte[] scratch = SCRATCH.get();
+        if (scratch.length < size) {
+            scratch = new byte[Math.max(size, scratch.length * 2)];
+            SCRATCH.set(scratch);
+        }
+        return scratch;
     }
 }
@@ -25,4 +25,7 @@ public class FuzzJumpPackets {
     public static final int GAME_LOADED = 17;
     public static final int GAME_READY = 18;
 
+    public static final int LOBBY_DELTA = 19;
+    public static final int GAME_SERVER_HEARTBEAT = 20;
+
 }
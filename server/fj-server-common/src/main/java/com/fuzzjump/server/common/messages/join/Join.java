@@ -62,6 +62,32 @@ public final class Join {
      */
     com.google.protobuf.ByteString
         getServerSessionKeyBytes();
+
+    /**
+     * <code>optional string traceId = 5;</code>
+     *
+     * <pre>
+     *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+     * </pre>
+     */
+    boolean hasTraceId();
+    /**
+     * <code>optional string traceId = 5;</code>
+     *
+     * <pre>
+     *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+     * </pre>
+     */
+    java.lang.String getTraceId();
+    /**
+     * <code>optional string traceId = 5;</code>
+     *
+     * <pre>
+     *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getTraceIdBytes();
   }
   /**
    * Protobuf type {@code com.steveadoo.server.common.JoinPacket}
@@ -138,6 +164,12 @@ public final class Join {
               serverSessionKey_ = bs;
               break;
             }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              traceId_ = bs;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -319,11 +351,66 @@ public final class Join {
       }
     }
 
+    public static final int TRACEID_FIELD_NUMBER = 5;
+    private java.lang.Object traceId_;
+    /**
+     * <code>optional string traceId = 5;</code>
+     *
+     * <pre>
+     *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+     * </pre>
+     */
+    public boolean hasTraceId() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string traceId = 5;</code>
+     *
+     * <pre>
+     *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+     * </pre>
+     */
+    public java.lang.String getTraceId() {
+      java.lang.Object ref = traceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          traceId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string traceId = 5;</code>
+     *
+     * <pre>
+     *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getTraceIdBytes() {
+      java.lang.Object ref = traceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        traceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
       version_ = 0;
       userId_ = "";
       sessionKey_ = "";
       serverSessionKey_ = "";
+      traceId_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -354,6 +441,9 @@ public final class Join {
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         output.writeBytes(4, getServerSessionKeyBytes());
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getTraceIdBytes());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -379,6 +469,10 @@ public final class Join {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(4, getServerSessionKeyBytes());
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getTraceIdBytes());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -504,6 +598,8 @@ public final class Join {
         bitField0_ = (bitField0_ & ~0x00000004);
         serverSessionKey_ = "";
         bitField0_ = (bitField0_ & ~0x00000008);
+        traceId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -548,6 +644,10 @@ public final class Join {
           to_bitField0_ |= 0x00000008;
         }
         result.serverSessionKey_ = serverSessionKey_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.traceId_ = traceId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -582,6 +682,11 @@ public final class Join {
           serverSessionKey_ = other.serverSessionKey_;
           onChanged();
         }
+        if (other.hasTraceId()) {
+          bitField0_ |= 0x00000010;
+          traceId_ = other.traceId_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -873,6 +978,106 @@ public final class Join {
         return this;
       }
 
+      private java.lang.Object traceId_ = "";
+      /**
+       * <code>optional string traceId = 5;</code>
+       *
+       * <pre>
+       *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+       * </pre>
+       */
+      public boolean hasTraceId() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string traceId = 5;</code>
+       *
+       * <pre>
+       *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+       * </pre>
+       */
+      public java.lang.String getTraceId() {
+        java.lang.Object ref = traceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            traceId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string traceId = 5;</code>
+       *
+       * <pre>
+       *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getTraceIdBytes() {
+        java.lang.Object ref = traceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          traceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string traceId = 5;</code>
+       *
+       * <pre>
+       *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+       * </pre>
+       */
+      public Builder setTraceId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        traceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string traceId = 5;</code>
+       *
+       * <pre>
+       *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+       * </pre>
+       */
+      public Builder clearTraceId() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        traceId_ = getDefaultInstance().getTraceId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string traceId = 5;</code>
+       *
+       * <pre>
+       *the trace this join continues, eg from the matchmaker. the server starts one if it's missing
+       * </pre>
+       */
+      public Builder setTraceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        traceId_ = value;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:com.steveadoo.server.common.JoinPacket)
     }
 
@@ -924,6 +1129,32 @@ public final class Join {
      */
     com.google.protobuf.ByteString
         getMachineNameBytes();
+
+    /**
+     * <code>optional string tokenKeyId = 4;</code>
+     *
+     * <pre>
+     *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+     * </pre>
+     */
+    boolean hasTokenKeyId();
+    /**
+     * <code>optional string tokenKeyId = 4;</code>
+     *
+     * <pre>
+     *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+     * </pre>
+     */
+    java.lang.String getTokenKeyId();
+    /**
+     * <code>optional string tokenKeyId = 4;</code>
+     *
+     * <pre>
+     *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getTokenKeyIdBytes();
   }
   /**
    * Protobuf type {@code com.steveadoo.server.common.JoinServerPacket}
@@ -994,6 +1225,12 @@ public final class Join {
               machineName_ = bs;
               break;
             }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              tokenKeyId_ = bs;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1133,10 +1370,65 @@ public final class Join {
       }
     }
 
+    public static final int TOKENKEYID_FIELD_NUMBER = 4;
+    private java.lang.Object tokenKeyId_;
+    /**
+     * <code>optional string tokenKeyId = 4;</code>
+     *
+     * <pre>
+     *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+     * </pre>
+     */
+    public boolean hasTokenKeyId() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string tokenKeyId = 4;</code>
+     *
+     * <pre>
+     *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+     * </pre>
+     */
+    public java.lang.String getTokenKeyId() {
+      java.lang.Object ref = tokenKeyId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tokenKeyId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tokenKeyId = 4;</code>
+     *
+     * <pre>
+     *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getTokenKeyIdBytes() {
+      java.lang.Object ref = tokenKeyId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tokenKeyId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
       version_ = 0;
       sessionKey_ = "";
       machineName_ = "";
+      tokenKeyId_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1172,6 +1464,9 @@ public final class Join {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeBytes(3, getMachineNameBytes());
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getTokenKeyIdBytes());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1193,6 +1488,10 @@ public final class Join {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(3, getMachineNameBytes());
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getTokenKeyIdBytes());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1316,6 +1615,8 @@ public final class Join {
         bitField0_ = (bitField0_ & ~0x00000002);
         machineName_ = "";
         bitField0_ = (bitField0_ & ~0x00000004);
+        tokenKeyId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -1356,6 +1657,10 @@ public final class Join {
           to_bitField0_ |= 0x00000004;
         }
         result.machineName_ = machineName_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.tokenKeyId_ = tokenKeyId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1385,6 +1690,11 @@ public final class Join {
           machineName_ = other.machineName_;
           onChanged();
         }
+        if (other.hasTokenKeyId()) {
+          bitField0_ |= 0x00000008;
+          tokenKeyId_ = other.tokenKeyId_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1608,6 +1918,106 @@ public final class Join {
         return this;
       }
 
+      private java.lang.Object tokenKeyId_ = "";
+      /**
+       * <code>optional string tokenKeyId = 4;</code>
+       *
+       * <pre>
+       *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+       * </pre>
+       */
+      public boolean hasTokenKeyId() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string tokenKeyId = 4;</code>
+       *
+       * <pre>
+       *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+       * </pre>
+       */
+      public java.lang.String getTokenKeyId() {
+        java.lang.Object ref = tokenKeyId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tokenKeyId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tokenKeyId = 4;</code>
+       *
+       * <pre>
+       *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getTokenKeyIdBytes() {
+        java.lang.Object ref = tokenKeyId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tokenKeyId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tokenKeyId = 4;</code>
+       *
+       * <pre>
+       *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+       * </pre>
+       */
+      public Builder setTokenKeyId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        tokenKeyId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tokenKeyId = 4;</code>
+       *
+       * <pre>
+       *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+       * </pre>
+       */
+      public Builder clearTokenKeyId() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        tokenKeyId_ = getDefaultInstance().getTokenKeyId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tokenKeyId = 4;</code>
+       *
+       * <pre>
+       *id of the key the sender signs tokens with, missing if it has none. both sides have to have the same one
+       * </pre>
+       */
+      public Builder setTokenKeyIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        tokenKeyId_ = value;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:com.steveadoo.server.common.JoinServerPacket)
     }
 
@@ -1677,6 +2087,58 @@ public final class Join {
      * <code>required bool redirect = 5;</code>
      */
     boolean getRedirect();
+
+    /**
+     * <code>optional string traceId = 6;</code>
+     *
+     * <pre>
+     *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+     * </pre>
+     */
+    boolean hasTraceId();
+    /**
+     * <code>optional string traceId = 6;</code>
+     *
+     * <pre>
+     *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+     * </pre>
+     */
+    java.lang.String getTraceId();
+    /**
+     * <code>optional string traceId = 6;</code>
+     *
+     * <pre>
+     *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getTraceIdBytes();
+
+    /**
+     * <code>optional string tokenKeyId = 7;</code>
+     *
+     * <pre>
+     *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+     * </pre>
+     */
+    boolean hasTokenKeyId();
+    /**
+     * <code>optional string tokenKeyId = 7;</code>
+     *
+     * <pre>
+     *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+     * </pre>
+     */
+    java.lang.String getTokenKeyId();
+    /**
+     * <code>optional string tokenKeyId = 7;</code>
+     *
+     * <pre>
+     *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getTokenKeyIdBytes();
   }
   /**
    * Protobuf type {@code com.steveadoo.server.common.JoinResponsePacket}
@@ -1757,6 +2219,18 @@ public final class Join {
               redirect_ = input.readBool();
               break;
             }
+            case 50: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000020;
+              traceId_ = bs;
+              break;
+            }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000040;
+              tokenKeyId_ = bs;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1926,12 +2400,122 @@ public final class Join {
       return redirect_;
     }
 
+    public static final int TRACEID_FIELD_NUMBER = 6;
+    private java.lang.Object traceId_;
+    /**
+     * <code>optional string traceId = 6;</code>
+     *
+     * <pre>
+     *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+     * </pre>
+     */
+    public boolean hasTraceId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string traceId = 6;</code>
+     *
+     * <pre>
+     *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+     * </pre>
+     */
+    public java.lang.String getTraceId() {
+      java.lang.Object ref = traceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          traceId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string traceId = 6;</code>
+     *
+     * <pre>
+     *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getTraceIdBytes() {
+      java.lang.Object ref = traceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        traceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TOKENKEYID_FIELD_NUMBER = 7;
+    private java.lang.Object tokenKeyId_;
+    /**
+     * <code>optional string tokenKeyId = 7;</code>
+     *
+     * <pre>
+     *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+     * </pre>
+     */
+    public boolean hasTokenKeyId() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string tokenKeyId = 7;</code>
+     *
+     * <pre>
+     *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+     * </pre>
+     */
+    public java.lang.String getTokenKeyId() {
+      java.lang.Object ref = tokenKeyId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tokenKeyId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tokenKeyId = 7;</code>
+     *
+     * <pre>
+     *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getTokenKeyIdBytes() {
+      java.lang.Object ref = tokenKeyId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tokenKeyId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
       serverIp_ = "";
       serverPort_ = 0;
       status_ = 0;
       serverSessionKey_ = "";
       redirect_ = false;
+      traceId_ = "";
+      tokenKeyId_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1969,6 +2553,12 @@ public final class Join {
       if (((bitField0_ & 0x00000010) == 0x00000010)) {
         output.writeBool(5, redirect_);
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getTraceIdBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getTokenKeyIdBytes());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1998,6 +2588,14 @@ public final class Join {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(5, redirect_);
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getTraceIdBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getTokenKeyIdBytes());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2125,6 +2723,10 @@ public final class Join {
         bitField0_ = (bitField0_ & ~0x00000008);
         redirect_ = false;
         bitField0_ = (bitField0_ & ~0x00000010);
+        traceId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        tokenKeyId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -2173,6 +2775,14 @@ public final class Join {
           to_bitField0_ |= 0x00000010;
         }
         result.redirect_ = redirect_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.traceId_ = traceId_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.tokenKeyId_ = tokenKeyId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2208,6 +2818,16 @@ public final class Join {
         if (other.hasRedirect()) {
           setRedirect(other.getRedirect());
         }
+        if (other.hasTraceId()) {
+          bitField0_ |= 0x00000020;
+          traceId_ = other.traceId_;
+          onChanged();
+        }
+        if (other.hasTokenKeyId()) {
+          bitField0_ |= 0x00000040;
+          tokenKeyId_ = other.tokenKeyId_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -2491,6 +3111,206 @@ public final class Join {
         return this;
       }
 
+      private java.lang.Object traceId_ = "";
+      /**
+       * <code>optional string traceId = 6;</code>
+       *
+       * <pre>
+       *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+       * </pre>
+       */
+      public boolean hasTraceId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string traceId = 6;</code>
+       *
+       * <pre>
+       *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+       * </pre>
+       */
+      public java.lang.String getTraceId() {
+        java.lang.Object ref = traceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            traceId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string traceId = 6;</code>
+       *
+       * <pre>
+       *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getTraceIdBytes() {
+        java.lang.Object ref = traceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          traceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string traceId = 6;</code>
+       *
+       * <pre>
+       *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+       * </pre>
+       */
+      public Builder setTraceId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        traceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string traceId = 6;</code>
+       *
+       * <pre>
+       *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+       * </pre>
+       */
+      public Builder clearTraceId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        traceId_ = getDefaultInstance().getTraceId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string traceId = 6;</code>
+       *
+       * <pre>
+       *send it back in the next JoinPacket, so a redirected or transferred join keeps its trace
+       * </pre>
+       */
+      public Builder setTraceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        traceId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tokenKeyId_ = "";
+      /**
+       * <code>optional string tokenKeyId = 7;</code>
+       *
+       * <pre>
+       *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+       * </pre>
+       */
+      public boolean hasTokenKeyId() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string tokenKeyId = 7;</code>
+       *
+       * <pre>
+       *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+       * </pre>
+       */
+      public java.lang.String getTokenKeyId() {
+        java.lang.Object ref = tokenKeyId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tokenKeyId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tokenKeyId = 7;</code>
+       *
+       * <pre>
+       *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getTokenKeyIdBytes() {
+        java.lang.Object ref = tokenKeyId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tokenKeyId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tokenKeyId = 7;</code>
+       *
+       * <pre>
+       *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+       * </pre>
+       */
+      public Builder setTokenKeyId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        tokenKeyId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tokenKeyId = 7;</code>
+       *
+       * <pre>
+       *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+       * </pre>
+       */
+      public Builder clearTokenKeyId() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        tokenKeyId_ = getDefaultInstance().getTokenKeyId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tokenKeyId = 7;</code>
+       *
+       * <pre>
+       *id of the key the game server checks signed tokens with, missing if it has none. only sent to servers
+       * </pre>
+       */
+      public Builder setTokenKeyIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        tokenKeyId_ = value;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:com.steveadoo.server.common.JoinResponsePacket)
     }
 
@@ -2527,15 +3347,17 @@ public final class Join {
   static {
     java.lang.String[] descriptorData = {
       "\n\nJoin.proto\022\033com.steveadoo.server.commo" +
-      "n\"[\n\nJoinPacket\022\017\n\007version\030\001 \002(\005\022\016\n\006user" +
+      "n\"l\n\nJoinPacket\022\017\n\007version\030\001 \002(\005\022\016\n\006user" +
       "Id\030\002 \001(\t\022\022\n\nsessionKey\030\003 \001(\t\022\030\n\020serverSe" +
-      "ssionKey\030\004 \001(\t\"L\n\020JoinServerPacket\022\017\n\007ve" +
-      "rsion\030\001 \002(\005\022\022\n\nsessionKey\030\002 \002(\t\022\023\n\013machi" +
-      "neName\030\003 \002(\t\"v\n\022JoinResponsePacket\022\020\n\010se" +
-      "rverIp\030\001 \001(\t\022\022\n\nserverPort\030\002 \001(\005\022\016\n\006stat" +
-      "us\030\003 \002(\005\022\030\n\020serverSessionKey\030\004 \001(\t\022\020\n\010re" +
-      "direct\030\005 \002(\010B*\n(com.fuzzjump.server.comm" +
-      "on.messages.join"
+      "ssionKey\030\004 \001(\t\022\017\n\007traceId\030\005 \001(\t\"`\n\020JoinS" +
+      "erverPacket\022\017\n\007version\030\001 \002(\005\022\022\n\nsessionK" +
+      "ey\030\002 \002(\t\022\023\n\013machineName\030\003 \002(\t\022\022\n\ntokenKe" +
+      "yId\030\004 \001(\t\"\233\001\n\022JoinResponsePacket\022\020\n\010serv" +
+      "erIp\030\001 \001(\t\022\022\n\nserverPort\030\002 \001(\005\022\016\n\006status" +
+      "\030\003 \002(\005\022\030\n\020serverSessionKey\030\004 \001(\t\022\020\n\010redi" +
+      "rect\030\005 \002(\010\022\017\n\007traceId\030\006 \001(\t\022\022\n\ntokenKeyI",
+      "d\030\007 \001(\tB*\n(com.fuzzjump.server.common.me" +
+      "ssages.join"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -2554,19 +3376,19 @@ public final class Join {
     internal_static_com_steveadoo_server_common_JoinPacket_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_steveadoo_server_common_JoinPacket_descriptor,
-        new java.lang.String[] { "Version", "UserId", "SessionKey", "ServerSessionKey", });
+        new java.lang.String[] { "Version", "UserId", "SessionKey", "ServerSessionKey", "TraceId", });
     internal_static_com_steveadoo_server_common_JoinServerPacket_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_com_steveadoo_server_common_JoinServerPacket_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_steveadoo_server_common_JoinServerPacket_descriptor,
-        new java.lang.String[] { "Version", "SessionKey", "MachineName", });
+        new java.lang.String[] { "Version", "SessionKey", "MachineName", "TokenKeyId", });
     internal_static_com_steveadoo_server_common_JoinResponsePacket_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_com_steveadoo_server_common_JoinResponsePacket_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_steveadoo_server_common_JoinResponsePacket_descriptor,
-        new java.lang.String[] { "ServerIp", "ServerPort", "Status", "ServerSessionKey", "Redirect", });
+        new java.lang.String[] { "ServerIp", "ServerPort", "Status", "ServerSessionKey", "Redirect", "TraceId", "TokenKeyId", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -1276,62 +1276,160 @@ public final class Lobby {
     // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.LobbyState)
   }
 
-  public interface PlayerOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.Player)
+  public interface LobbyDeltaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.LobbyDelta)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string userId = 1;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
      */
-    boolean hasUserId();
+    java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.Player> 
+        getPlayersList();
     /**
-     * <code>optional string userId = 1;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
      */
-    java.lang.String getUserId();
+    com.fuzzjump.server.common.messages.lobby.Lobby.Player getPlayers(int index);
     /**
-     * <code>optional string userId = 1;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
      */
-    com.google.protobuf.ByteString
-        getUserIdBytes();
+    int getPlayersCount();
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
+     */
+    java.util.List<? extends com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder> 
+        getPlayersOrBuilderList();
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
+     */
+    com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder getPlayersOrBuilder(
+        int index);
 
     /**
-     * <code>required int32 playerIndex = 2;</code>
+     * <code>repeated int32 removedPlayers = 2;</code>
+     *
+     * <pre>
+     * playerIndex of players that left
+     * </pre>
      */
-    boolean hasPlayerIndex();
+    java.util.List<java.lang.Integer> getRemovedPlayersList();
     /**
-     * <code>required int32 playerIndex = 2;</code>
+     * <code>repeated int32 removedPlayers = 2;</code>
+     *
+     * <pre>
+     * playerIndex of players that left
+     * </pre>
      */
-    int getPlayerIndex();
+    int getRemovedPlayersCount();
+    /**
+     * <code>repeated int32 removedPlayers = 2;</code>
+     *
+     * <pre>
+     * playerIndex of players that left
+     * </pre>
+     */
+    int getRemovedPlayers(int index);
 
     /**
-     * <code>required bool ready = 3;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
      */
-    boolean hasReady();
+    java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot> 
+        getMapSlotsList();
     /**
-     * <code>required bool ready = 3;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
      */
-    boolean getReady();
+    com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot getMapSlots(int index);
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
+     */
+    int getMapSlotsCount();
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
+     */
+    java.util.List<? extends com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder> 
+        getMapSlotsOrBuilderList();
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
+     */
+    com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder getMapSlotsOrBuilder(
+        int index);
+
+    /**
+     * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+     */
+    boolean hasTime();
+    /**
+     * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+     */
+    com.fuzzjump.server.common.messages.lobby.Lobby.TimeState getTime();
+    /**
+     * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+     */
+    com.fuzzjump.server.common.messages.lobby.Lobby.TimeStateOrBuilder getTimeOrBuilder();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.Player}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.LobbyDelta}
+   *
+   * <pre>
+   * what changed in a lobby since the last state or delta the player was sent
+   * </pre>
    */
-  public static final class Player extends
+  public static final class LobbyDelta extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.Player)
-      PlayerOrBuilder {
-    // Use Player.newBuilder() to construct.
-    private Player(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.LobbyDelta)
+      LobbyDeltaOrBuilder {
+    // Use LobbyDelta.newBuilder() to construct.
+    private LobbyDelta(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Player(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private LobbyDelta(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Player defaultInstance;
-    public static Player getDefaultInstance() {
+    private static final LobbyDelta defaultInstance;
+    public static LobbyDelta getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Player getDefaultInstanceForType() {
+    public LobbyDelta getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -1341,7 +1439,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Player(
+    private LobbyDelta(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1365,19 +1463,53 @@ public final class Lobby {
               break;
             }
             case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              userId_ = bs;
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                players_ = new java.util.ArrayList<com.fuzzjump.server.common.messages.lobby.Lobby.Player>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              players_.add(input.readMessage(com.fuzzjump.server.common.messages.lobby.Lobby.Player.PARSER, extensionRegistry));
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              playerIndex_ = input.readInt32();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                removedPlayers_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              removedPlayers_.add(input.readInt32());
               break;
             }
-            case 24: {
-              bitField0_ |= 0x00000004;
-              ready_ = input.readBool();
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                removedPlayers_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                removedPlayers_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                mapSlots_ = new java.util.ArrayList<com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              mapSlots_.add(input.readMessage(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.PARSER, extensionRegistry));
+              break;
+            }
+            case 34: {
+              com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = time_.toBuilder();
+              }
+              time_ = input.readMessage(com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(time_);
+                time_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
               break;
             }
           }
@@ -1388,114 +1520,217 @@ public final class Lobby {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          players_ = java.util.Collections.unmodifiableList(players_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          removedPlayers_ = java.util.Collections.unmodifiableList(removedPlayers_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          mapSlots_ = java.util.Collections.unmodifiableList(mapSlots_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_fieldAccessorTable
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.Player.class, com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder.class);
+              com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta.class, com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Player> PARSER =
-        new com.google.protobuf.AbstractParser<Player>() {
-      public Player parsePartialFrom(
+    public static com.google.protobuf.Parser<LobbyDelta> PARSER =
+        new com.google.protobuf.AbstractParser<LobbyDelta>() {
+      public LobbyDelta parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Player(input, extensionRegistry);
+        return new LobbyDelta(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Player> getParserForType() {
+    public com.google.protobuf.Parser<LobbyDelta> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int USERID_FIELD_NUMBER = 1;
-    private java.lang.Object userId_;
+    public static final int PLAYERS_FIELD_NUMBER = 1;
+    private java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.Player> players_;
     /**
-     * <code>optional string userId = 1;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
      */
-    public boolean hasUserId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.Player> getPlayersList() {
+      return players_;
     }
     /**
-     * <code>optional string userId = 1;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
      */
-    public java.lang.String getUserId() {
-      java.lang.Object ref = userId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          userId_ = s;
-        }
-        return s;
-      }
+    public java.util.List<? extends com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder> 
+        getPlayersOrBuilderList() {
+      return players_;
     }
     /**
-     * <code>optional string userId = 1;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
      */
-    public com.google.protobuf.ByteString
-        getUserIdBytes() {
-      java.lang.Object ref = userId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        userId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getPlayersCount() {
+      return players_.size();
+    }
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
+     */
+    public com.fuzzjump.server.common.messages.lobby.Lobby.Player getPlayers(int index) {
+      return players_.get(index);
+    }
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+     *
+     * <pre>
+     * players that joined or changed
+     * </pre>
+     */
+    public com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder getPlayersOrBuilder(
+        int index) {
+      return players_.get(index);
     }
 
-    public static final int PLAYERINDEX_FIELD_NUMBER = 2;
-    private int playerIndex_;
+    public static final int REMOVEDPLAYERS_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> removedPlayers_;
     /**
-     * <code>required int32 playerIndex = 2;</code>
+     * <code>repeated int32 removedPlayers = 2;</code>
+     *
+     * <pre>
+     * playerIndex of players that left
+     * </pre>
      */
-    public boolean hasPlayerIndex() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public java.util.List<java.lang.Integer>
+        getRemovedPlayersList() {
+      return removedPlayers_;
     }
     /**
-     * <code>required int32 playerIndex = 2;</code>
+     * <code>repeated int32 removedPlayers = 2;</code>
+     *
+     * <pre>
+     * playerIndex of players that left
+     * </pre>
      */
-    public int getPlayerIndex() {
-      return playerIndex_;
+    public int getRemovedPlayersCount() {
+      return removedPlayers_.size();
+    }
+    /**
+     * <code>repeated int32 removedPlayers = 2;</code>
+     *
+     * <pre>
+     * playerIndex of players that left
+     * </pre>
+     */
+    public int getRemovedPlayers(int index) {
+      return removedPlayers_.get(index);
     }
 
-    public static final int READY_FIELD_NUMBER = 3;
-    private boolean ready_;
+    public static final int MAPSLOTS_FIELD_NUMBER = 3;
+    private java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot> mapSlots_;
     /**
-     * <code>required bool ready = 3;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
      */
-    public boolean hasReady() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot> getMapSlotsList() {
+      return mapSlots_;
     }
     /**
-     * <code>required bool ready = 3;</code>
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
      */
-    public boolean getReady() {
-      return ready_;
+    public java.util.List<? extends com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder> 
+        getMapSlotsOrBuilderList() {
+      return mapSlots_;
+    }
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
+     */
+    public int getMapSlotsCount() {
+      return mapSlots_.size();
+    }
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
+     */
+    public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot getMapSlots(int index) {
+      return mapSlots_.get(index);
+    }
+    /**
+     * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+     *
+     * <pre>
+     * map slots whose votes changed
+     * </pre>
+     */
+    public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder getMapSlotsOrBuilder(
+        int index) {
+      return mapSlots_.get(index);
+    }
+
+    public static final int TIME_FIELD_NUMBER = 4;
+    private com.fuzzjump.server.common.messages.lobby.Lobby.TimeState time_;
+    /**
+     * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+     */
+    public boolean hasTime() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+     */
+    public com.fuzzjump.server.common.messages.lobby.Lobby.TimeState getTime() {
+      return time_;
+    }
+    /**
+     * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+     */
+    public com.fuzzjump.server.common.messages.lobby.Lobby.TimeStateOrBuilder getTimeOrBuilder() {
+      return time_;
     }
 
     private void initFields() {
-      userId_ = "";
-      playerIndex_ = 0;
-      ready_ = false;
+      players_ = java.util.Collections.emptyList();
+      removedPlayers_ = java.util.Collections.emptyList();
+      mapSlots_ = java.util.Collections.emptyList();
+      time_ = com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1503,13 +1738,23 @@ public final class Lobby {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasPlayerIndex()) {
-        memoizedIsInitialized = 0;
-        return false;
+      for (int i = 0; i < getPlayersCount(); i++) {
+        if (!getPlayers(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
-      if (!hasReady()) {
-        memoizedIsInitialized = 0;
-        return false;
+      for (int i = 0; i < getMapSlotsCount(); i++) {
+        if (!getMapSlots(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasTime()) {
+        if (!getTime().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
       memoizedIsInitialized = 1;
       return true;
@@ -1518,14 +1763,17 @@ public final class Lobby {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getUserIdBytes());
+      for (int i = 0; i < players_.size(); i++) {
+        output.writeMessage(1, players_.get(i));
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, playerIndex_);
+      for (int i = 0; i < removedPlayers_.size(); i++) {
+        output.writeInt32(2, removedPlayers_.get(i));
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBool(3, ready_);
+      for (int i = 0; i < mapSlots_.size(); i++) {
+        output.writeMessage(3, mapSlots_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(4, time_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -1536,17 +1784,26 @@ public final class Lobby {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      for (int i = 0; i < players_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getUserIdBytes());
+          .computeMessageSize(1, players_.get(i));
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedPlayers_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(removedPlayers_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedPlayersList().size();
+      }
+      for (int i = 0; i < mapSlots_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, playerIndex_);
+          .computeMessageSize(3, mapSlots_.get(i));
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, ready_);
+          .computeMessageSize(4, time_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -1560,53 +1817,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1615,7 +1872,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.Player prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -1627,25 +1884,29 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.Player}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.LobbyDelta}
+     *
+     * <pre>
+     * what changed in a lobby since the last state or delta the player was sent
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.Player)
-        com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.LobbyDelta)
+        com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDeltaOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.Player.class, com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta.class, com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.Player.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1657,6 +1918,9 @@ public final class Lobby {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPlayersFieldBuilder();
+          getMapSlotsFieldBuilder();
+          getTimeFieldBuilder();
         }
       }
       private static Builder create() {
@@ -1665,12 +1929,26 @@ public final class Lobby {
 
       public Builder clear() {
         super.clear();
-        userId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        playerIndex_ = 0;
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          playersBuilder_.clear();
+        }
+        removedPlayers_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000002);
-        ready_ = false;
-        bitField0_ = (bitField0_ & ~0x00000004);
+        if (mapSlotsBuilder_ == null) {
+          mapSlots_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          mapSlotsBuilder_.clear();
+        }
+        if (timeBuilder_ == null) {
+          time_ = com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.getDefaultInstance();
+        } else {
+          timeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -1680,76 +1958,159 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.Player getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.Player.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.Player build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.Player result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.Player buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.Player result = new com.fuzzjump.server.common.messages.lobby.Lobby.Player(this);
+      public com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta result = new com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
+        if (playersBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            players_ = java.util.Collections.unmodifiableList(players_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.players_ = players_;
+        } else {
+          result.players_ = playersBuilder_.build();
         }
-        result.userId_ = userId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          removedPlayers_ = java.util.Collections.unmodifiableList(removedPlayers_);
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
-        result.playerIndex_ = playerIndex_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
+        result.removedPlayers_ = removedPlayers_;
+        if (mapSlotsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            mapSlots_ = java.util.Collections.unmodifiableList(mapSlots_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.mapSlots_ = mapSlots_;
+        } else {
+          result.mapSlots_ = mapSlotsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (timeBuilder_ == null) {
+          result.time_ = time_;
+        } else {
+          result.time_ = timeBuilder_.build();
         }
-        result.ready_ = ready_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.Player) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.Player)other);
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.Player other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.Player.getDefaultInstance()) return this;
-        if (other.hasUserId()) {
-          bitField0_ |= 0x00000001;
-          userId_ = other.userId_;
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta.getDefaultInstance()) return this;
+        if (playersBuilder_ == null) {
+          if (!other.players_.isEmpty()) {
+            if (players_.isEmpty()) {
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePlayersIsMutable();
+              players_.addAll(other.players_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.players_.isEmpty()) {
+            if (playersBuilder_.isEmpty()) {
+              playersBuilder_.dispose();
+              playersBuilder_ = null;
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              playersBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPlayersFieldBuilder() : null;
+            } else {
+              playersBuilder_.addAllMessages(other.players_);
+            }
+          }
+        }
+        if (!other.removedPlayers_.isEmpty()) {
+          if (removedPlayers_.isEmpty()) {
+            removedPlayers_ = other.removedPlayers_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRemovedPlayersIsMutable();
+            removedPlayers_.addAll(other.removedPlayers_);
+          }
           onChanged();
         }
-        if (other.hasPlayerIndex()) {
-          setPlayerIndex(other.getPlayerIndex());
+        if (mapSlotsBuilder_ == null) {
+          if (!other.mapSlots_.isEmpty()) {
+            if (mapSlots_.isEmpty()) {
+              mapSlots_ = other.mapSlots_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureMapSlotsIsMutable();
+              mapSlots_.addAll(other.mapSlots_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.mapSlots_.isEmpty()) {
+            if (mapSlotsBuilder_.isEmpty()) {
+              mapSlotsBuilder_.dispose();
+              mapSlotsBuilder_ = null;
+              mapSlots_ = other.mapSlots_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              mapSlotsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getMapSlotsFieldBuilder() : null;
+            } else {
+              mapSlotsBuilder_.addAllMessages(other.mapSlots_);
+            }
+          }
         }
-        if (other.hasReady()) {
-          setReady(other.getReady());
+        if (other.hasTime()) {
+          mergeTime(other.getTime());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasPlayerIndex()) {
-          
-          return false;
+        for (int i = 0; i < getPlayersCount(); i++) {
+          if (!getPlayers(i).isInitialized()) {
+            
+            return false;
+          }
         }
-        if (!hasReady()) {
-          
-          return false;
+        for (int i = 0; i < getMapSlotsCount(); i++) {
+          if (!getMapSlots(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasTime()) {
+          if (!getTime().isInitialized()) {
+            
+            return false;
+          }
         }
         return true;
       }
@@ -1758,11 +2119,11 @@ public final class Lobby {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.Player parsedMessage = null;
+        com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.Player) e.getUnfinishedMessage();
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.LobbyDelta) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -1773,190 +2134,1946 @@ public final class Lobby {
       }
       private int bitField0_;
 
-      private java.lang.Object userId_ = "";
+      private java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.Player> players_ =
+        java.util.Collections.emptyList();
+      private void ensurePlayersIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          players_ = new java.util.ArrayList<com.fuzzjump.server.common.messages.lobby.Lobby.Player>(players_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.fuzzjump.server.common.messages.lobby.Lobby.Player, com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder, com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder> playersBuilder_;
+
       /**
-       * <code>optional string userId = 1;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public boolean hasUserId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.Player> getPlayersList() {
+        if (playersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(players_);
+        } else {
+          return playersBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>optional string userId = 1;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public java.lang.String getUserId() {
-        java.lang.Object ref = userId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            userId_ = s;
-          }
-          return s;
+      public int getPlayersCount() {
+        if (playersBuilder_ == null) {
+          return players_.size();
         } else {
-          return (java.lang.String) ref;
+          return playersBuilder_.getCount();
         }
       }
       /**
-       * <code>optional string userId = 1;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public com.google.protobuf.ByteString
-          getUserIdBytes() {
-        java.lang.Object ref = userId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          userId_ = b;
-          return b;
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Player getPlayers(int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return playersBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>optional string userId = 1;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public Builder setUserId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        userId_ = value;
-        onChanged();
+      public Builder setPlayers(
+          int index, com.fuzzjump.server.common.messages.lobby.Lobby.Player value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.set(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>optional string userId = 1;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public Builder clearUserId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        userId_ = getDefaultInstance().getUserId();
-        onChanged();
+      public Builder setPlayers(
+          int index, com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>optional string userId = 1;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public Builder setUserIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        userId_ = value;
-        onChanged();
+      public Builder addPlayers(com.fuzzjump.server.common.messages.lobby.Lobby.Player value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(value);
+        }
         return this;
       }
-
-      private int playerIndex_ ;
       /**
-       * <code>required int32 playerIndex = 2;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public boolean hasPlayerIndex() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder addPlayers(
+          int index, com.fuzzjump.server.common.messages.lobby.Lobby.Player value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>required int32 playerIndex = 2;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public int getPlayerIndex() {
-        return playerIndex_;
+      public Builder addPlayers(
+          com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>required int32 playerIndex = 2;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public Builder setPlayerIndex(int value) {
-        bitField0_ |= 0x00000002;
-        playerIndex_ = value;
-        onChanged();
+      public Builder addPlayers(
+          int index, com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>required int32 playerIndex = 2;</code>
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
        */
-      public Builder clearPlayerIndex() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        playerIndex_ = 0;
-        onChanged();
+      public Builder addAllPlayers(
+          java.lang.Iterable<? extends com.fuzzjump.server.common.messages.lobby.Lobby.Player> values) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, players_);
+          onChanged();
+        } else {
+          playersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
+       */
+      public Builder clearPlayers() {
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          playersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
+       */
+      public Builder removePlayers(int index) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.remove(index);
+          onChanged();
+        } else {
+          playersBuilder_.remove(index);
+        }
         return this;
       }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder getPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder getPlayersOrBuilder(
+          int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);  } else {
+          return playersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
+       */
+      public java.util.List<? extends com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder> 
+           getPlayersOrBuilderList() {
+        if (playersBuilder_ != null) {
+          return playersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(players_);
+        }
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder addPlayersBuilder() {
+        return getPlayersFieldBuilder().addBuilder(
+            com.fuzzjump.server.common.messages.lobby.Lobby.Player.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder addPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().addBuilder(
+            index, com.fuzzjump.server.common.messages.lobby.Lobby.Player.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.Player players = 1;</code>
+       *
+       * <pre>
+       * players that joined or changed
+       * </pre>
+       */
+      public java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder> 
+           getPlayersBuilderList() {
+        return getPlayersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.fuzzjump.server.common.messages.lobby.Lobby.Player, com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder, com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder> 
+          getPlayersFieldBuilder() {
+        if (playersBuilder_ == null) {
+          playersBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.fuzzjump.server.common.messages.lobby.Lobby.Player, com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder, com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder>(
+                  players_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          players_ = null;
+        }
+        return playersBuilder_;
+      }
 
-      private boolean ready_ ;
+      private java.util.List<java.lang.Integer> removedPlayers_ = java.util.Collections.emptyList();
+      private void ensureRemovedPlayersIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          removedPlayers_ = new java.util.ArrayList<java.lang.Integer>(removedPlayers_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>required bool ready = 3;</code>
+       * <code>repeated int32 removedPlayers = 2;</code>
+       *
+       * <pre>
+       * playerIndex of players that left
+       * </pre>
        */
-      public boolean hasReady() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public java.util.List<java.lang.Integer>
+          getRemovedPlayersList() {
+        return java.util.Collections.unmodifiableList(removedPlayers_);
       }
       /**
-       * <code>required bool ready = 3;</code>
+       * <code>repeated int32 removedPlayers = 2;</code>
+       *
+       * <pre>
+       * playerIndex of players that left
+       * </pre>
        */
-      public boolean getReady() {
-        return ready_;
+      public int getRemovedPlayersCount() {
+        return removedPlayers_.size();
       }
       /**
-       * <code>required bool ready = 3;</code>
+       * <code>repeated int32 removedPlayers = 2;</code>
+       *
+       * <pre>
+       * playerIndex of players that left
+       * </pre>
        */
-      public Builder setReady(boolean value) {
-        bitField0_ |= 0x00000004;
-        ready_ = value;
+      public int getRemovedPlayers(int index) {
+        return removedPlayers_.get(index);
+      }
+      /**
+       * <code>repeated int32 removedPlayers = 2;</code>
+       *
+       * <pre>
+       * playerIndex of players that left
+       * </pre>
+       */
+      public Builder setRemovedPlayers(
+          int index, int value) {
+        ensureRemovedPlayersIsMutable();
+        removedPlayers_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>required bool ready = 3;</code>
+       * <code>repeated int32 removedPlayers = 2;</code>
+       *
+       * <pre>
+       * playerIndex of players that left
+       * </pre>
        */
-      public Builder clearReady() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        ready_ = false;
+      public Builder addRemovedPlayers(int value) {
+        ensureRemovedPlayersIsMutable();
+        removedPlayers_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 removedPlayers = 2;</code>
+       *
+       * <pre>
+       * playerIndex of players that left
+       * </pre>
+       */
+      public Builder addAllRemovedPlayers(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRemovedPlayersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedPlayers_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 removedPlayers = 2;</code>
+       *
+       * <pre>
+       * playerIndex of players that left
+       * </pre>
+       */
+      public Builder clearRemovedPlayers() {
+        removedPlayers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.Player)
-    }
+      private java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot> mapSlots_ =
+        java.util.Collections.emptyList();
+      private void ensureMapSlotsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          mapSlots_ = new java.util.ArrayList<com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot>(mapSlots_);
+          bitField0_ |= 0x00000004;
+         }
+      }
 
-    static {
-      defaultInstance = new Player(true);
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder> mapSlotsBuilder_;
+
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot> getMapSlotsList() {
+        if (mapSlotsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(mapSlots_);
+        } else {
+          return mapSlotsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public int getMapSlotsCount() {
+        if (mapSlotsBuilder_ == null) {
+          return mapSlots_.size();
+        } else {
+          return mapSlotsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot getMapSlots(int index) {
+        if (mapSlotsBuilder_ == null) {
+          return mapSlots_.get(index);
+        } else {
+          return mapSlotsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public Builder setMapSlots(
+          int index, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot value) {
+        if (mapSlotsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMapSlotsIsMutable();
+          mapSlots_.set(index, value);
+          onChanged();
+        } else {
+          mapSlotsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public Builder setMapSlots(
+          int index, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder builderForValue) {
+        if (mapSlotsBuilder_ == null) {
+          ensureMapSlotsIsMutable();
+          mapSlots_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          mapSlotsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public Builder addMapSlots(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot value) {
+        if (mapSlotsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMapSlotsIsMutable();
+          mapSlots_.add(value);
+          onChanged();
+        } else {
+          mapSlotsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public Builder addMapSlots(
+          int index, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot value) {
+        if (mapSlotsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMapSlotsIsMutable();
+          mapSlots_.add(index, value);
+          onChanged();
+        } else {
+          mapSlotsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public Builder addMapSlots(
+          com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder builderForValue) {
+        if (mapSlotsBuilder_ == null) {
+          ensureMapSlotsIsMutable();
+          mapSlots_.add(builderForValue.build());
+          onChanged();
+        } else {
+          mapSlotsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public Builder addMapSlots(
+          int index, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder builderForValue) {
+        if (mapSlotsBuilder_ == null) {
+          ensureMapSlotsIsMutable();
+          mapSlots_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          mapSlotsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public Builder addAllMapSlots(
+          java.lang.Iterable<? extends com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot> values) {
+        if (mapSlotsBuilder_ == null) {
+          ensureMapSlotsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, mapSlots_);
+          onChanged();
+        } else {
+          mapSlotsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public Builder clearMapSlots() {
+        if (mapSlotsBuilder_ == null) {
+          mapSlots_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          mapSlotsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public Builder removeMapSlots(int index) {
+        if (mapSlotsBuilder_ == null) {
+          ensureMapSlotsIsMutable();
+          mapSlots_.remove(index);
+          onChanged();
+        } else {
+          mapSlotsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder getMapSlotsBuilder(
+          int index) {
+        return getMapSlotsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder getMapSlotsOrBuilder(
+          int index) {
+        if (mapSlotsBuilder_ == null) {
+          return mapSlots_.get(index);  } else {
+          return mapSlotsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public java.util.List<? extends com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder> 
+           getMapSlotsOrBuilderList() {
+        if (mapSlotsBuilder_ != null) {
+          return mapSlotsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(mapSlots_);
+        }
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder addMapSlotsBuilder() {
+        return getMapSlotsFieldBuilder().addBuilder(
+            com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder addMapSlotsBuilder(
+          int index) {
+        return getMapSlotsFieldBuilder().addBuilder(
+            index, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.fuzzjump.server.common.messages.lobby.MapSlot mapSlots = 3;</code>
+       *
+       * <pre>
+       * map slots whose votes changed
+       * </pre>
+       */
+      public java.util.List<com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder> 
+           getMapSlotsBuilderList() {
+        return getMapSlotsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder> 
+          getMapSlotsFieldBuilder() {
+        if (mapSlotsBuilder_ == null) {
+          mapSlotsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder>(
+                  mapSlots_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          mapSlots_ = null;
+        }
+        return mapSlotsBuilder_;
+      }
+
+      private com.fuzzjump.server.common.messages.lobby.Lobby.TimeState time_ = com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.fuzzjump.server.common.messages.lobby.Lobby.TimeState, com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder, com.fuzzjump.server.common.messages.lobby.Lobby.TimeStateOrBuilder> timeBuilder_;
+      /**
+       * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+       */
+      public boolean hasTime() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.TimeState getTime() {
+        if (timeBuilder_ == null) {
+          return time_;
+        } else {
+          return timeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+       */
+      public Builder setTime(com.fuzzjump.server.common.messages.lobby.Lobby.TimeState value) {
+        if (timeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          time_ = value;
+          onChanged();
+        } else {
+          timeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+       */
+      public Builder setTime(
+          com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder builderForValue) {
+        if (timeBuilder_ == null) {
+          time_ = builderForValue.build();
+          onChanged();
+        } else {
+          timeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+       */
+      public Builder mergeTime(com.fuzzjump.server.common.messages.lobby.Lobby.TimeState value) {
+        if (timeBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              time_ != com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.getDefaultInstance()) {
+            time_ =
+              com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.newBuilder(time_).mergeFrom(value).buildPartial();
+          } else {
+            time_ = value;
+          }
+          onChanged();
+        } else {
+          timeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+       */
+      public Builder clearTime() {
+        if (timeBuilder_ == null) {
+          time_ = com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.getDefaultInstance();
+          onChanged();
+        } else {
+          timeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder getTimeBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getTimeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+       */
+      public com.fuzzjump.server.common.messages.lobby.Lobby.TimeStateOrBuilder getTimeOrBuilder() {
+        if (timeBuilder_ != null) {
+          return timeBuilder_.getMessageOrBuilder();
+        } else {
+          return time_;
+        }
+      }
+      /**
+       * <code>optional .com.fuzzjump.server.common.messages.lobby.TimeState time = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.fuzzjump.server.common.messages.lobby.Lobby.TimeState, com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder, com.fuzzjump.server.common.messages.lobby.Lobby.TimeStateOrBuilder> 
+          getTimeFieldBuilder() {
+        if (timeBuilder_ == null) {
+          timeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.fuzzjump.server.common.messages.lobby.Lobby.TimeState, com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder, com.fuzzjump.server.common.messages.lobby.Lobby.TimeStateOrBuilder>(
+                  getTime(),
+                  getParentForChildren(),
+                  isClean());
+          time_ = null;
+        }
+        return timeBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.LobbyDelta)
+    }
+
+    static {
+      defaultInstance = new LobbyDelta(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.LobbyDelta)
+  }
+
+  public interface PlayerOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.Player)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string userId = 1;</code>
+     */
+    boolean hasUserId();
+    /**
+     * <code>optional string userId = 1;</code>
+     */
+    java.lang.String getUserId();
+    /**
+     * <code>optional string userId = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getUserIdBytes();
+
+    /**
+     * <code>required int32 playerIndex = 2;</code>
+     */
+    boolean hasPlayerIndex();
+    /**
+     * <code>required int32 playerIndex = 2;</code>
+     */
+    int getPlayerIndex();
+
+    /**
+     * <code>required bool ready = 3;</code>
+     */
+    boolean hasReady();
+    /**
+     * <code>required bool ready = 3;</code>
+     */
+    boolean getReady();
+  }
+  /**
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.Player}
+   */
+  public static final class Player extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.Player)
+      PlayerOrBuilder {
+    // Use Player.newBuilder() to construct.
+    private Player(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Player(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Player defaultInstance;
+    public static Player getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Player getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Player(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              userId_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              playerIndex_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              ready_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.fuzzjump.server.common.messages.lobby.Lobby.Player.class, com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Player> PARSER =
+        new com.google.protobuf.AbstractParser<Player>() {
+      public Player parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Player(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Player> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int USERID_FIELD_NUMBER = 1;
+    private java.lang.Object userId_;
+    /**
+     * <code>optional string userId = 1;</code>
+     */
+    public boolean hasUserId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string userId = 1;</code>
+     */
+    public java.lang.String getUserId() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          userId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string userId = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getUserIdBytes() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PLAYERINDEX_FIELD_NUMBER = 2;
+    private int playerIndex_;
+    /**
+     * <code>required int32 playerIndex = 2;</code>
+     */
+    public boolean hasPlayerIndex() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required int32 playerIndex = 2;</code>
+     */
+    public int getPlayerIndex() {
+      return playerIndex_;
+    }
+
+    public static final int READY_FIELD_NUMBER = 3;
+    private boolean ready_;
+    /**
+     * <code>required bool ready = 3;</code>
+     */
+    public boolean hasReady() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required bool ready = 3;</code>
+     */
+    public boolean getReady() {
+      return ready_;
+    }
+
+    private void initFields() {
+      userId_ = "";
+      playerIndex_ = 0;
+      ready_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasPlayerIndex()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasReady()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getUserIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, playerIndex_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, ready_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getUserIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, playerIndex_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, ready_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Player parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.Player prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.Player}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.Player)
+        com.fuzzjump.server.common.messages.lobby.Lobby.PlayerOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.fuzzjump.server.common.messages.lobby.Lobby.Player.class, com.fuzzjump.server.common.messages.lobby.Lobby.Player.Builder.class);
+      }
+
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.Player.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        userId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        playerIndex_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        ready_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor;
+      }
+
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Player getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.Player.getDefaultInstance();
+      }
+
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Player build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.Player result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Player buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.Player result = new com.fuzzjump.server.common.messages.lobby.Lobby.Player(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.userId_ = userId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.playerIndex_ = playerIndex_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.ready_ = ready_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.Player) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.Player)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.Player other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.Player.getDefaultInstance()) return this;
+        if (other.hasUserId()) {
+          bitField0_ |= 0x00000001;
+          userId_ = other.userId_;
+          onChanged();
+        }
+        if (other.hasPlayerIndex()) {
+          setPlayerIndex(other.getPlayerIndex());
+        }
+        if (other.hasReady()) {
+          setReady(other.getReady());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasPlayerIndex()) {
+          
+          return false;
+        }
+        if (!hasReady()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.fuzzjump.server.common.messages.lobby.Lobby.Player parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.Player) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object userId_ = "";
+      /**
+       * <code>optional string userId = 1;</code>
+       */
+      public boolean hasUserId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string userId = 1;</code>
+       */
+      public java.lang.String getUserId() {
+        java.lang.Object ref = userId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            userId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string userId = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getUserIdBytes() {
+        java.lang.Object ref = userId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          userId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string userId = 1;</code>
+       */
+      public Builder setUserId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string userId = 1;</code>
+       */
+      public Builder clearUserId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        userId_ = getDefaultInstance().getUserId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string userId = 1;</code>
+       */
+      public Builder setUserIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int playerIndex_ ;
+      /**
+       * <code>required int32 playerIndex = 2;</code>
+       */
+      public boolean hasPlayerIndex() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required int32 playerIndex = 2;</code>
+       */
+      public int getPlayerIndex() {
+        return playerIndex_;
+      }
+      /**
+       * <code>required int32 playerIndex = 2;</code>
+       */
+      public Builder setPlayerIndex(int value) {
+        bitField0_ |= 0x00000002;
+        playerIndex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 playerIndex = 2;</code>
+       */
+      public Builder clearPlayerIndex() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        playerIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean ready_ ;
+      /**
+       * <code>required bool ready = 3;</code>
+       */
+      public boolean hasReady() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required bool ready = 3;</code>
+       */
+      public boolean getReady() {
+        return ready_;
+      }
+      /**
+       * <code>required bool ready = 3;</code>
+       */
+      public Builder setReady(boolean value) {
+        bitField0_ |= 0x00000004;
+        ready_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool ready = 3;</code>
+       */
+      public Builder clearReady() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        ready_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.Player)
+    }
+
+    static {
+      defaultInstance = new Player(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.Player)
+  }
+
+  public interface TimeStateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.TimeState)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 time = 1;</code>
+     */
+    boolean hasTime();
+    /**
+     * <code>required int32 time = 1;</code>
+     */
+    int getTime();
+  }
+  /**
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.TimeState}
+   */
+  public static final class TimeState extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.TimeState)
+      TimeStateOrBuilder {
+    // Use TimeState.newBuilder() to construct.
+    private TimeState(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private TimeState(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final TimeState defaultInstance;
+    public static TimeState getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public TimeState getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TimeState(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              time_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.class, com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<TimeState> PARSER =
+        new com.google.protobuf.AbstractParser<TimeState>() {
+      public TimeState parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TimeState(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TimeState> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int TIME_FIELD_NUMBER = 1;
+    private int time_;
+    /**
+     * <code>required int32 time = 1;</code>
+     */
+    public boolean hasTime() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 time = 1;</code>
+     */
+    public int getTime() {
+      return time_;
+    }
+
+    private void initFields() {
+      time_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasTime()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, time_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, time_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.TimeState prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.TimeState}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.TimeState)
+        com.fuzzjump.server.common.messages.lobby.Lobby.TimeStateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.class, com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder.class);
+      }
+
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        time_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_descriptor;
+      }
+
+      public com.fuzzjump.server.common.messages.lobby.Lobby.TimeState getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.getDefaultInstance();
+      }
+
+      public com.fuzzjump.server.common.messages.lobby.Lobby.TimeState build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.TimeState result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.fuzzjump.server.common.messages.lobby.Lobby.TimeState buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.TimeState result = new com.fuzzjump.server.common.messages.lobby.Lobby.TimeState(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.time_ = time_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.TimeState) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.TimeState)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.TimeState other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.getDefaultInstance()) return this;
+        if (other.hasTime()) {
+          setTime(other.getTime());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasTime()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.TimeState) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int time_ ;
+      /**
+       * <code>required int32 time = 1;</code>
+       */
+      public boolean hasTime() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 time = 1;</code>
+       */
+      public int getTime() {
+        return time_;
+      }
+      /**
+       * <code>required int32 time = 1;</code>
+       */
+      public Builder setTime(int value) {
+        bitField0_ |= 0x00000001;
+        time_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 time = 1;</code>
+       */
+      public Builder clearTime() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        time_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.TimeState)
+    }
+
+    static {
+      defaultInstance = new TimeState(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.Player)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.TimeState)
   }
 
-  public interface TimeStateOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.TimeState)
+  public interface MapSlotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.MapSlot)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required int32 time = 1;</code>
+     * <code>required int32 mapId = 1;</code>
      */
-    boolean hasTime();
+    boolean hasMapId();
     /**
-     * <code>required int32 time = 1;</code>
+     * <code>required int32 mapId = 1;</code>
      */
-    int getTime();
+    int getMapId();
+
+    /**
+     * <code>required int32 votes = 2;</code>
+     */
+    boolean hasVotes();
+    /**
+     * <code>required int32 votes = 2;</code>
+     */
+    int getVotes();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.TimeState}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.MapSlot}
    */
-  public static final class TimeState extends
+  public static final class MapSlot extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.TimeState)
-      TimeStateOrBuilder {
-    // Use TimeState.newBuilder() to construct.
-    private TimeState(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.MapSlot)
+      MapSlotOrBuilder {
+    // Use MapSlot.newBuilder() to construct.
+    private MapSlot(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private TimeState(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private MapSlot(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final TimeState defaultInstance;
-    public static TimeState getDefaultInstance() {
+    private static final MapSlot defaultInstance;
+    public static MapSlot getDefaultInstance() {
       return defaultInstance;
     }
 
-    public TimeState getDefaultInstanceForType() {
+    public MapSlot getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -1966,7 +4083,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private TimeState(
+    private MapSlot(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1991,7 +4108,12 @@ public final class Lobby {
             }
             case 8: {
               bitField0_ |= 0x00000001;
-              time_ = input.readInt32();
+              mapId_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              votes_ = input.readInt32();
               break;
             }
           }
@@ -2008,49 +4130,65 @@ public final class Lobby {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_fieldAccessorTable
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.class, com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder.class);
+              com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.class, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<TimeState> PARSER =
-        new com.google.protobuf.AbstractParser<TimeState>() {
-      public TimeState parsePartialFrom(
+    public static com.google.protobuf.Parser<MapSlot> PARSER =
+        new com.google.protobuf.AbstractParser<MapSlot>() {
+      public MapSlot parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new TimeState(input, extensionRegistry);
+        return new MapSlot(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<TimeState> getParserForType() {
+    public com.google.protobuf.Parser<MapSlot> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int TIME_FIELD_NUMBER = 1;
-    private int time_;
+    public static final int MAPID_FIELD_NUMBER = 1;
+    private int mapId_;
     /**
-     * <code>required int32 time = 1;</code>
+     * <code>required int32 mapId = 1;</code>
      */
-    public boolean hasTime() {
+    public boolean hasMapId() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required int32 time = 1;</code>
+     * <code>required int32 mapId = 1;</code>
      */
-    public int getTime() {
-      return time_;
+    public int getMapId() {
+      return mapId_;
+    }
+
+    public static final int VOTES_FIELD_NUMBER = 2;
+    private int votes_;
+    /**
+     * <code>required int32 votes = 2;</code>
+     */
+    public boolean hasVotes() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required int32 votes = 2;</code>
+     */
+    public int getVotes() {
+      return votes_;
     }
 
     private void initFields() {
-      time_ = 0;
+      mapId_ = 0;
+      votes_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2058,7 +4196,11 @@ public final class Lobby {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasTime()) {
+      if (!hasMapId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasVotes()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -2070,7 +4212,10 @@ public final class Lobby {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeInt32(1, time_);
+        output.writeInt32(1, mapId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, votes_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -2083,7 +4228,11 @@ public final class Lobby {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, time_);
+          .computeInt32Size(1, mapId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, votes_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -2097,53 +4246,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2152,7 +4301,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.TimeState prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -2164,25 +4313,25 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.TimeState}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.MapSlot}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.TimeState)
-        com.fuzzjump.server.common.messages.lobby.Lobby.TimeStateOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.MapSlot)
+        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.class, com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.class, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2202,8 +4351,10 @@ public final class Lobby {
 
       public Builder clear() {
         super.clear();
-        time_ = 0;
+        mapId_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
+        votes_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -2213,54 +4364,65 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.TimeState getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.TimeState build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.TimeState result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.TimeState buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.TimeState result = new com.fuzzjump.server.common.messages.lobby.Lobby.TimeState(this);
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot result = new com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.time_ = time_;
+        result.mapId_ = mapId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.votes_ = votes_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.TimeState) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.TimeState)other);
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.TimeState other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.TimeState.getDefaultInstance()) return this;
-        if (other.hasTime()) {
-          setTime(other.getTime());
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.getDefaultInstance()) return this;
+        if (other.hasMapId()) {
+          setMapId(other.getMapId());
+        }
+        if (other.hasVotes()) {
+          setVotes(other.getVotes());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasTime()) {
+        if (!hasMapId()) {
+          
+          return false;
+        }
+        if (!hasVotes()) {
           
           return false;
         }
@@ -2271,11 +4433,11 @@ public final class Lobby {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.TimeState parsedMessage = null;
+        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.TimeState) e.getUnfinishedMessage();
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -2286,51 +4448,83 @@ public final class Lobby {
       }
       private int bitField0_;
 
-      private int time_ ;
+      private int mapId_ ;
       /**
-       * <code>required int32 time = 1;</code>
+       * <code>required int32 mapId = 1;</code>
        */
-      public boolean hasTime() {
+      public boolean hasMapId() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required int32 time = 1;</code>
+       * <code>required int32 mapId = 1;</code>
        */
-      public int getTime() {
-        return time_;
+      public int getMapId() {
+        return mapId_;
       }
       /**
-       * <code>required int32 time = 1;</code>
+       * <code>required int32 mapId = 1;</code>
        */
-      public Builder setTime(int value) {
+      public Builder setMapId(int value) {
         bitField0_ |= 0x00000001;
-        time_ = value;
+        mapId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required int32 time = 1;</code>
+       * <code>required int32 mapId = 1;</code>
        */
-      public Builder clearTime() {
+      public Builder clearMapId() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        time_ = 0;
+        mapId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int votes_ ;
+      /**
+       * <code>required int32 votes = 2;</code>
+       */
+      public boolean hasVotes() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required int32 votes = 2;</code>
+       */
+      public int getVotes() {
+        return votes_;
+      }
+      /**
+       * <code>required int32 votes = 2;</code>
+       */
+      public Builder setVotes(int value) {
+        bitField0_ |= 0x00000002;
+        votes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 votes = 2;</code>
+       */
+      public Builder clearVotes() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        votes_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.TimeState)
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.MapSlot)
     }
 
     static {
-      defaultInstance = new TimeState(true);
+      defaultInstance = new MapSlot(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.TimeState)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.MapSlot)
   }
 
-  public interface MapSlotOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.MapSlot)
+  public interface MapSlotSetOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -2341,36 +4535,27 @@ public final class Lobby {
      * <code>required int32 mapId = 1;</code>
      */
     int getMapId();
-
-    /**
-     * <code>required int32 votes = 2;</code>
-     */
-    boolean hasVotes();
-    /**
-     * <code>required int32 votes = 2;</code>
-     */
-    int getVotes();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.MapSlot}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.MapSlotSet}
    */
-  public static final class MapSlot extends
+  public static final class MapSlotSet extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.MapSlot)
-      MapSlotOrBuilder {
-    // Use MapSlot.newBuilder() to construct.
-    private MapSlot(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
+      MapSlotSetOrBuilder {
+    // Use MapSlotSet.newBuilder() to construct.
+    private MapSlotSet(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private MapSlot(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private MapSlotSet(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final MapSlot defaultInstance;
-    public static MapSlot getDefaultInstance() {
+    private static final MapSlotSet defaultInstance;
+    public static MapSlotSet getDefaultInstance() {
       return defaultInstance;
     }
 
-    public MapSlot getDefaultInstanceForType() {
+    public MapSlotSet getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -2380,7 +4565,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private MapSlot(
+    private MapSlotSet(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2408,11 +4593,6 @@ public final class Lobby {
               mapId_ = input.readInt32();
               break;
             }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              votes_ = input.readInt32();
-              break;
-            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2427,28 +4607,28 @@ public final class Lobby {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_fieldAccessorTable
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.class, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder.class);
+              com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.class, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<MapSlot> PARSER =
-        new com.google.protobuf.AbstractParser<MapSlot>() {
-      public MapSlot parsePartialFrom(
+    public static com.google.protobuf.Parser<MapSlotSet> PARSER =
+        new com.google.protobuf.AbstractParser<MapSlotSet>() {
+      public MapSlotSet parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new MapSlot(input, extensionRegistry);
+        return new MapSlotSet(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<MapSlot> getParserForType() {
+    public com.google.protobuf.Parser<MapSlotSet> getParserForType() {
       return PARSER;
     }
 
@@ -2468,24 +4648,8 @@ public final class Lobby {
       return mapId_;
     }
 
-    public static final int VOTES_FIELD_NUMBER = 2;
-    private int votes_;
-    /**
-     * <code>required int32 votes = 2;</code>
-     */
-    public boolean hasVotes() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required int32 votes = 2;</code>
-     */
-    public int getVotes() {
-      return votes_;
-    }
-
     private void initFields() {
       mapId_ = 0;
-      votes_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2497,10 +4661,6 @@ public final class Lobby {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasVotes()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -2511,9 +4671,6 @@ public final class Lobby {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeInt32(1, mapId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, votes_);
-      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2527,10 +4684,6 @@ public final class Lobby {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(1, mapId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, votes_);
-      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2543,53 +4696,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2598,7 +4751,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -2610,25 +4763,25 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.MapSlot}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.MapSlotSet}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.MapSlot)
-        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
+        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSetOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.class, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.class, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2650,8 +4803,6 @@ public final class Lobby {
         super.clear();
         mapId_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        votes_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -2661,55 +4812,48 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot result = new com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot(this);
+      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet result = new com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
         result.mapId_ = mapId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.votes_ = votes_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot)other);
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.getDefaultInstance()) return this;
         if (other.hasMapId()) {
           setMapId(other.getMapId());
         }
-        if (other.hasVotes()) {
-          setVotes(other.getVotes());
-        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -2719,10 +4863,6 @@ public final class Lobby {
           
           return false;
         }
-        if (!hasVotes()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -2730,11 +4870,11 @@ public final class Lobby {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot parsedMessage = null;
+        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.MapSlot) e.getUnfinishedMessage();
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -2777,82 +4917,50 @@ public final class Lobby {
         return this;
       }
 
-      private int votes_ ;
-      /**
-       * <code>required int32 votes = 2;</code>
-       */
-      public boolean hasVotes() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>required int32 votes = 2;</code>
-       */
-      public int getVotes() {
-        return votes_;
-      }
-      /**
-       * <code>required int32 votes = 2;</code>
-       */
-      public Builder setVotes(int value) {
-        bitField0_ |= 0x00000002;
-        votes_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required int32 votes = 2;</code>
-       */
-      public Builder clearVotes() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        votes_ = 0;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.MapSlot)
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
     }
 
     static {
-      defaultInstance = new MapSlot(true);
+      defaultInstance = new MapSlotSet(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.MapSlot)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
   }
 
-  public interface MapSlotSetOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
+  public interface ReadySetOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.ReadySet)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required int32 mapId = 1;</code>
+     * <code>required bool ready = 1;</code>
      */
-    boolean hasMapId();
+    boolean hasReady();
     /**
-     * <code>required int32 mapId = 1;</code>
+     * <code>required bool ready = 1;</code>
      */
-    int getMapId();
+    boolean getReady();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.MapSlotSet}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.ReadySet}
    */
-  public static final class MapSlotSet extends
+  public static final class ReadySet extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
-      MapSlotSetOrBuilder {
-    // Use MapSlotSet.newBuilder() to construct.
-    private MapSlotSet(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.ReadySet)
+      ReadySetOrBuilder {
+    // Use ReadySet.newBuilder() to construct.
+    private ReadySet(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private MapSlotSet(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private ReadySet(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final MapSlotSet defaultInstance;
-    public static MapSlotSet getDefaultInstance() {
+    private static final ReadySet defaultInstance;
+    public static ReadySet getDefaultInstance() {
       return defaultInstance;
     }
 
-    public MapSlotSet getDefaultInstanceForType() {
+    public ReadySet getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -2862,7 +4970,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private MapSlotSet(
+    private ReadySet(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2887,7 +4995,7 @@ public final class Lobby {
             }
             case 8: {
               bitField0_ |= 0x00000001;
-              mapId_ = input.readInt32();
+              ready_ = input.readBool();
               break;
             }
           }
@@ -2904,49 +5012,49 @@ public final class Lobby {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_fieldAccessorTable
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.class, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.Builder.class);
+              com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.class, com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<MapSlotSet> PARSER =
-        new com.google.protobuf.AbstractParser<MapSlotSet>() {
-      public MapSlotSet parsePartialFrom(
+    public static com.google.protobuf.Parser<ReadySet> PARSER =
+        new com.google.protobuf.AbstractParser<ReadySet>() {
+      public ReadySet parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new MapSlotSet(input, extensionRegistry);
+        return new ReadySet(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<MapSlotSet> getParserForType() {
+    public com.google.protobuf.Parser<ReadySet> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int MAPID_FIELD_NUMBER = 1;
-    private int mapId_;
+    public static final int READY_FIELD_NUMBER = 1;
+    private boolean ready_;
     /**
-     * <code>required int32 mapId = 1;</code>
+     * <code>required bool ready = 1;</code>
      */
-    public boolean hasMapId() {
+    public boolean hasReady() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required int32 mapId = 1;</code>
+     * <code>required bool ready = 1;</code>
      */
-    public int getMapId() {
-      return mapId_;
+    public boolean getReady() {
+      return ready_;
     }
 
     private void initFields() {
-      mapId_ = 0;
+      ready_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2954,7 +5062,7 @@ public final class Lobby {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasMapId()) {
+      if (!hasReady()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -2966,7 +5074,7 @@ public final class Lobby {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeInt32(1, mapId_);
+        output.writeBool(1, ready_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -2979,7 +5087,7 @@ public final class Lobby {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, mapId_);
+          .computeBoolSize(1, ready_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -2993,53 +5101,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3048,7 +5156,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -3060,25 +5168,25 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.MapSlotSet}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.ReadySet}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
-        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSetOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.ReadySet)
+        com.fuzzjump.server.common.messages.lobby.Lobby.ReadySetOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.class, com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.class, com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3098,7 +5206,7 @@ public final class Lobby {
 
       public Builder clear() {
         super.clear();
-        mapId_ = 0;
+        ready_ = false;
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
@@ -3109,54 +5217,54 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet result = new com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet(this);
+      public com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet result = new com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.mapId_ = mapId_;
+        result.ready_ = ready_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet)other);
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet.getDefaultInstance()) return this;
-        if (other.hasMapId()) {
-          setMapId(other.getMapId());
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.getDefaultInstance()) return this;
+        if (other.hasReady()) {
+          setReady(other.getReady());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasMapId()) {
+        if (!hasReady()) {
           
           return false;
         }
@@ -3167,11 +5275,11 @@ public final class Lobby {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet parsedMessage = null;
+        com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.MapSlotSet) e.getUnfinishedMessage();
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -3182,82 +5290,113 @@ public final class Lobby {
       }
       private int bitField0_;
 
-      private int mapId_ ;
+      private boolean ready_ ;
       /**
-       * <code>required int32 mapId = 1;</code>
+       * <code>required bool ready = 1;</code>
        */
-      public boolean hasMapId() {
+      public boolean hasReady() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required int32 mapId = 1;</code>
+       * <code>required bool ready = 1;</code>
        */
-      public int getMapId() {
-        return mapId_;
+      public boolean getReady() {
+        return ready_;
       }
       /**
-       * <code>required int32 mapId = 1;</code>
+       * <code>required bool ready = 1;</code>
        */
-      public Builder setMapId(int value) {
+      public Builder setReady(boolean value) {
         bitField0_ |= 0x00000001;
-        mapId_ = value;
+        ready_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required int32 mapId = 1;</code>
+       * <code>required bool ready = 1;</code>
        */
-      public Builder clearMapId() {
+      public Builder clearReady() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        mapId_ = 0;
+        ready_ = false;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.ReadySet)
     }
 
     static {
-      defaultInstance = new MapSlotSet(true);
+      defaultInstance = new ReadySet(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.MapSlotSet)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.ReadySet)
   }
 
-  public interface ReadySetOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.ReadySet)
+  public interface LoadedOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.Loaded)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required bool ready = 1;</code>
+     * <code>optional string gameId = 1;</code>
      */
-    boolean hasReady();
+    boolean hasGameId();
     /**
-     * <code>required bool ready = 1;</code>
+     * <code>optional string gameId = 1;</code>
      */
-    boolean getReady();
+    java.lang.String getGameId();
+    /**
+     * <code>optional string gameId = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getGameIdBytes();
+
+    /**
+     * <code>optional bool private = 2;</code>
+     */
+    boolean hasPrivate();
+    /**
+     * <code>optional bool private = 2;</code>
+     */
+    boolean getPrivate();
+
+    /**
+     * <code>optional int32 rank = 3;</code>
+     *
+     * <pre>
+     * the player's level, used to group players when matchmaking in batches
+     * </pre>
+     */
+    boolean hasRank();
+    /**
+     * <code>optional int32 rank = 3;</code>
+     *
+     * <pre>
+     * the player's level, used to group players when matchmaking in batches
+     * </pre>
+     */
+    int getRank();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.ReadySet}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.Loaded}
    */
-  public static final class ReadySet extends
+  public static final class Loaded extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.ReadySet)
-      ReadySetOrBuilder {
-    // Use ReadySet.newBuilder() to construct.
-    private ReadySet(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.Loaded)
+      LoadedOrBuilder {
+    // Use Loaded.newBuilder() to construct.
+    private Loaded(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private ReadySet(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Loaded(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final ReadySet defaultInstance;
-    public static ReadySet getDefaultInstance() {
+    private static final Loaded defaultInstance;
+    public static Loaded getDefaultInstance() {
       return defaultInstance;
     }
 
-    public ReadySet getDefaultInstanceForType() {
+    public Loaded getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -3267,7 +5406,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private ReadySet(
+    private Loaded(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3290,9 +5429,20 @@ public final class Lobby {
               }
               break;
             }
-            case 8: {
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              ready_ = input.readBool();
+              gameId_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              private_ = input.readBool();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              rank_ = input.readInt32();
               break;
             }
           }
@@ -3309,49 +5459,116 @@ public final class Lobby {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.class, com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Loaded> PARSER =
+        new com.google.protobuf.AbstractParser<Loaded>() {
+      public Loaded parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Loaded(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Loaded> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int GAMEID_FIELD_NUMBER = 1;
+    private java.lang.Object gameId_;
+    /**
+     * <code>optional string gameId = 1;</code>
+     */
+    public boolean hasGameId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string gameId = 1;</code>
+     */
+    public java.lang.String getGameId() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          gameId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string gameId = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getGameIdBytes() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        gameId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.class, com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.Builder.class);
+    public static final int PRIVATE_FIELD_NUMBER = 2;
+    private boolean private_;
+    /**
+     * <code>optional bool private = 2;</code>
+     */
+    public boolean hasPrivate() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
-    public static com.google.protobuf.Parser<ReadySet> PARSER =
-        new com.google.protobuf.AbstractParser<ReadySet>() {
-      public ReadySet parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ReadySet(input, extensionRegistry);
-      }
-    };
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<ReadySet> getParserForType() {
-      return PARSER;
+    /**
+     * <code>optional bool private = 2;</code>
+     */
+    public boolean getPrivate() {
+      return private_;
     }
 
-    private int bitField0_;
-    public static final int READY_FIELD_NUMBER = 1;
-    private boolean ready_;
+    public static final int RANK_FIELD_NUMBER = 3;
+    private int rank_;
     /**
-     * <code>required bool ready = 1;</code>
+     * <code>optional int32 rank = 3;</code>
+     *
+     * <pre>
+     * the player's level, used to group players when matchmaking in batches
+     * </pre>
      */
-    public boolean hasReady() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public boolean hasRank() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required bool ready = 1;</code>
+     * <code>optional int32 rank = 3;</code>
+     *
+     * <pre>
+     * the player's level, used to group players when matchmaking in batches
+     * </pre>
      */
-    public boolean getReady() {
-      return ready_;
+    public int getRank() {
+      return rank_;
     }
 
     private void initFields() {
-      ready_ = false;
+      gameId_ = "";
+      private_ = false;
+      rank_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -3359,10 +5576,6 @@ public final class Lobby {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasReady()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -3371,7 +5584,13 @@ public final class Lobby {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBool(1, ready_);
+        output.writeBytes(1, getGameIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, private_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, rank_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -3384,7 +5603,15 @@ public final class Lobby {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, ready_);
+          .computeBytesSize(1, getGameIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, private_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, rank_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -3398,53 +5625,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3453,7 +5680,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.Loaded prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -3465,25 +5692,25 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.ReadySet}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.Loaded}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.ReadySet)
-        com.fuzzjump.server.common.messages.lobby.Lobby.ReadySetOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.Loaded)
+        com.fuzzjump.server.common.messages.lobby.Lobby.LoadedOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.class, com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.class, com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3503,8 +5730,12 @@ public final class Lobby {
 
       public Builder clear() {
         super.clear();
-        ready_ = false;
+        gameId_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        private_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        rank_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -3514,169 +5745,319 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Loaded getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Loaded build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.Loaded result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet result = new com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.ready_ = ready_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+      public com.fuzzjump.server.common.messages.lobby.Lobby.Loaded buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.Loaded result = new com.fuzzjump.server.common.messages.lobby.Lobby.Loaded(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.gameId_ = gameId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.private_ = private_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.rank_ = rank_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.Loaded) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.Loaded)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.Loaded other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.getDefaultInstance()) return this;
+        if (other.hasGameId()) {
+          bitField0_ |= 0x00000001;
+          gameId_ = other.gameId_;
+          onChanged();
+        }
+        if (other.hasPrivate()) {
+          setPrivate(other.getPrivate());
+        }
+        if (other.hasRank()) {
+          setRank(other.getRank());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.Loaded) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object gameId_ = "";
+      /**
+       * <code>optional string gameId = 1;</code>
+       */
+      public boolean hasGameId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string gameId = 1;</code>
+       */
+      public java.lang.String getGameId() {
+        java.lang.Object ref = gameId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            gameId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string gameId = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getGameIdBytes() {
+        java.lang.Object ref = gameId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          gameId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string gameId = 1;</code>
+       */
+      public Builder setGameId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        gameId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string gameId = 1;</code>
+       */
+      public Builder clearGameId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        gameId_ = getDefaultInstance().getGameId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string gameId = 1;</code>
+       */
+      public Builder setGameIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        gameId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean private_ ;
+      /**
+       * <code>optional bool private = 2;</code>
+       */
+      public boolean hasPrivate() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+      /**
+       * <code>optional bool private = 2;</code>
+       */
+      public boolean getPrivate() {
+        return private_;
       }
-
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet.getDefaultInstance()) return this;
-        if (other.hasReady()) {
-          setReady(other.getReady());
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
+      /**
+       * <code>optional bool private = 2;</code>
+       */
+      public Builder setPrivate(boolean value) {
+        bitField0_ |= 0x00000002;
+        private_ = value;
+        onChanged();
         return this;
       }
-
-      public final boolean isInitialized() {
-        if (!hasReady()) {
-          
-          return false;
-        }
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.ReadySet) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+      /**
+       * <code>optional bool private = 2;</code>
+       */
+      public Builder clearPrivate() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        private_ = false;
+        onChanged();
         return this;
       }
-      private int bitField0_;
 
-      private boolean ready_ ;
+      private int rank_ ;
       /**
-       * <code>required bool ready = 1;</code>
+       * <code>optional int32 rank = 3;</code>
+       *
+       * <pre>
+       * the player's level, used to group players when matchmaking in batches
+       * </pre>
        */
-      public boolean hasReady() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasRank() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required bool ready = 1;</code>
+       * <code>optional int32 rank = 3;</code>
+       *
+       * <pre>
+       * the player's level, used to group players when matchmaking in batches
+       * </pre>
        */
-      public boolean getReady() {
-        return ready_;
+      public int getRank() {
+        return rank_;
       }
       /**
-       * <code>required bool ready = 1;</code>
+       * <code>optional int32 rank = 3;</code>
+       *
+       * <pre>
+       * the player's level, used to group players when matchmaking in batches
+       * </pre>
        */
-      public Builder setReady(boolean value) {
-        bitField0_ |= 0x00000001;
-        ready_ = value;
+      public Builder setRank(int value) {
+        bitField0_ |= 0x00000004;
+        rank_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required bool ready = 1;</code>
+       * <code>optional int32 rank = 3;</code>
+       *
+       * <pre>
+       * the player's level, used to group players when matchmaking in batches
+       * </pre>
        */
-      public Builder clearReady() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        ready_ = false;
+      public Builder clearRank() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        rank_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.ReadySet)
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.Loaded)
     }
 
     static {
-      defaultInstance = new ReadySet(true);
+      defaultInstance = new Loaded(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.ReadySet)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.Loaded)
   }
 
-  public interface LoadedOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.Loaded)
+  public interface GameFoundOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.GameFound)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string gameId = 1;</code>
+     * <code>required bool found = 1;</code>
      */
-    boolean hasGameId();
+    boolean hasFound();
     /**
-     * <code>optional string gameId = 1;</code>
+     * <code>required bool found = 1;</code>
      */
-    java.lang.String getGameId();
+    boolean getFound();
+
     /**
-     * <code>optional string gameId = 1;</code>
+     * <code>optional string gameName = 2;</code>
+     */
+    boolean hasGameName();
+    /**
+     * <code>optional string gameName = 2;</code>
+     */
+    java.lang.String getGameName();
+    /**
+     * <code>optional string gameName = 2;</code>
      */
     com.google.protobuf.ByteString
-        getGameIdBytes();
+        getGameNameBytes();
 
     /**
-     * <code>optional bool private = 2;</code>
+     * <code>optional string gameId = 3;</code>
      */
-    boolean hasPrivate();
+    boolean hasGameId();
     /**
-     * <code>optional bool private = 2;</code>
+     * <code>optional string gameId = 3;</code>
      */
-    boolean getPrivate();
+    java.lang.String getGameId();
+    /**
+     * <code>optional string gameId = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getGameIdBytes();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.Loaded}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameFound}
    */
-  public static final class Loaded extends
+  public static final class GameFound extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.Loaded)
-      LoadedOrBuilder {
-    // Use Loaded.newBuilder() to construct.
-    private Loaded(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.GameFound)
+      GameFoundOrBuilder {
+    // Use GameFound.newBuilder() to construct.
+    private GameFound(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Loaded(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private GameFound(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Loaded defaultInstance;
-    public static Loaded getDefaultInstance() {
+    private static final GameFound defaultInstance;
+    public static GameFound getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Loaded getDefaultInstanceForType() {
+    public GameFound getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -3686,7 +6067,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Loaded(
+    private GameFound(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3709,15 +6090,21 @@ public final class Lobby {
               }
               break;
             }
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 8: {
               bitField0_ |= 0x00000001;
-              gameId_ = bs;
+              found_ = input.readBool();
               break;
             }
-            case 16: {
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000002;
-              private_ = input.readBool();
+              gameName_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              gameId_ = bs;
               break;
             }
           }
@@ -3734,42 +6121,99 @@ public final class Lobby {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_fieldAccessorTable
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.class, com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.Builder.class);
+              com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Loaded> PARSER =
-        new com.google.protobuf.AbstractParser<Loaded>() {
-      public Loaded parsePartialFrom(
+    public static com.google.protobuf.Parser<GameFound> PARSER =
+        new com.google.protobuf.AbstractParser<GameFound>() {
+      public GameFound parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Loaded(input, extensionRegistry);
+        return new GameFound(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GameFound> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int FOUND_FIELD_NUMBER = 1;
+    private boolean found_;
+    /**
+     * <code>required bool found = 1;</code>
+     */
+    public boolean hasFound() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bool found = 1;</code>
+     */
+    public boolean getFound() {
+      return found_;
+    }
+
+    public static final int GAMENAME_FIELD_NUMBER = 2;
+    private java.lang.Object gameName_;
+    /**
+     * <code>optional string gameName = 2;</code>
+     */
+    public boolean hasGameName() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string gameName = 2;</code>
+     */
+    public java.lang.String getGameName() {
+      java.lang.Object ref = gameName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          gameName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string gameName = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getGameNameBytes() {
+      java.lang.Object ref = gameName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        gameName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-    };
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<Loaded> getParserForType() {
-      return PARSER;
     }
 
-    private int bitField0_;
-    public static final int GAMEID_FIELD_NUMBER = 1;
+    public static final int GAMEID_FIELD_NUMBER = 3;
     private java.lang.Object gameId_;
     /**
-     * <code>optional string gameId = 1;</code>
+     * <code>optional string gameId = 3;</code>
      */
     public boolean hasGameId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>optional string gameId = 1;</code>
+     * <code>optional string gameId = 3;</code>
      */
     public java.lang.String getGameId() {
       java.lang.Object ref = gameId_;
@@ -3786,7 +6230,7 @@ public final class Lobby {
       }
     }
     /**
-     * <code>optional string gameId = 1;</code>
+     * <code>optional string gameId = 3;</code>
      */
     public com.google.protobuf.ByteString
         getGameIdBytes() {
@@ -3802,24 +6246,10 @@ public final class Lobby {
       }
     }
 
-    public static final int PRIVATE_FIELD_NUMBER = 2;
-    private boolean private_;
-    /**
-     * <code>optional bool private = 2;</code>
-     */
-    public boolean hasPrivate() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional bool private = 2;</code>
-     */
-    public boolean getPrivate() {
-      return private_;
-    }
-
     private void initFields() {
+      found_ = false;
+      gameName_ = "";
       gameId_ = "";
-      private_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -3827,6 +6257,10 @@ public final class Lobby {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      if (!hasFound()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -3835,10 +6269,13 @@ public final class Lobby {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getGameIdBytes());
+        output.writeBool(1, found_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBool(2, private_);
+        output.writeBytes(2, getGameNameBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getGameIdBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -3851,11 +6288,15 @@ public final class Lobby {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getGameIdBytes());
+          .computeBoolSize(1, found_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, private_);
+          .computeBytesSize(2, getGameNameBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getGameIdBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -3869,53 +6310,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3924,7 +6365,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.Loaded prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.GameFound prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -3936,25 +6377,25 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.Loaded}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameFound}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.Loaded)
-        com.fuzzjump.server.common.messages.lobby.Lobby.LoadedOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.GameFound)
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameFoundOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.class, com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3974,10 +6415,12 @@ public final class Lobby {
 
       public Builder clear() {
         super.clear();
-        gameId_ = "";
+        found_ = false;
         bitField0_ = (bitField0_ & ~0x00000001);
-        private_ = false;
+        gameName_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
+        gameId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -3987,93 +6430,214 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.Loaded getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameFound getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.Loaded build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.Loaded result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameFound build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameFound result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.Loaded buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.Loaded result = new com.fuzzjump.server.common.messages.lobby.Lobby.Loaded(this);
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameFound buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameFound result = new com.fuzzjump.server.common.messages.lobby.Lobby.GameFound(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.gameId_ = gameId_;
+        result.found_ = found_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.private_ = private_;
+        result.gameName_ = gameName_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.gameId_ = gameId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.Loaded) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.Loaded)other);
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.GameFound) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.GameFound)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.Loaded other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.Loaded.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.GameFound other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.getDefaultInstance()) return this;
+        if (other.hasFound()) {
+          setFound(other.getFound());
+        }
+        if (other.hasGameName()) {
+          bitField0_ |= 0x00000002;
+          gameName_ = other.gameName_;
+          onChanged();
+        }
         if (other.hasGameId()) {
-          bitField0_ |= 0x00000001;
+          bitField0_ |= 0x00000004;
           gameId_ = other.gameId_;
           onChanged();
         }
-        if (other.hasPrivate()) {
-          setPrivate(other.getPrivate());
-        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.Loaded parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.Loaded) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+
+      public final boolean isInitialized() {
+        if (!hasFound()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.GameFound) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean found_ ;
+      /**
+       * <code>required bool found = 1;</code>
+       */
+      public boolean hasFound() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required bool found = 1;</code>
+       */
+      public boolean getFound() {
+        return found_;
+      }
+      /**
+       * <code>required bool found = 1;</code>
+       */
+      public Builder setFound(boolean value) {
+        bitField0_ |= 0x00000001;
+        found_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool found = 1;</code>
+       */
+      public Builder clearFound() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        found_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object gameName_ = "";
+      /**
+       * <code>optional string gameName = 2;</code>
+       */
+      public boolean hasGameName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string gameName = 2;</code>
+       */
+      public java.lang.String getGameName() {
+        java.lang.Object ref = gameName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            gameName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string gameName = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getGameNameBytes() {
+        java.lang.Object ref = gameName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          gameName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string gameName = 2;</code>
+       */
+      public Builder setGameName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        gameName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string gameName = 2;</code>
+       */
+      public Builder clearGameName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        gameName_ = getDefaultInstance().getGameName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string gameName = 2;</code>
+       */
+      public Builder setGameNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        gameName_ = value;
+        onChanged();
         return this;
       }
-      private int bitField0_;
 
       private java.lang.Object gameId_ = "";
       /**
-       * <code>optional string gameId = 1;</code>
+       * <code>optional string gameId = 3;</code>
        */
       public boolean hasGameId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional string gameId = 1;</code>
+       * <code>optional string gameId = 3;</code>
        */
       public java.lang.String getGameId() {
         java.lang.Object ref = gameId_;
@@ -4090,7 +6654,7 @@ public final class Lobby {
         }
       }
       /**
-       * <code>optional string gameId = 1;</code>
+       * <code>optional string gameId = 3;</code>
        */
       public com.google.protobuf.ByteString
           getGameIdBytes() {
@@ -4106,86 +6670,54 @@ public final class Lobby {
         }
       }
       /**
-       * <code>optional string gameId = 1;</code>
+       * <code>optional string gameId = 3;</code>
        */
       public Builder setGameId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
+  bitField0_ |= 0x00000004;
         gameId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string gameId = 1;</code>
+       * <code>optional string gameId = 3;</code>
        */
       public Builder clearGameId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000004);
         gameId_ = getDefaultInstance().getGameId();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string gameId = 1;</code>
+       * <code>optional string gameId = 3;</code>
        */
       public Builder setGameIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
+  bitField0_ |= 0x00000004;
         gameId_ = value;
         onChanged();
         return this;
       }
 
-      private boolean private_ ;
-      /**
-       * <code>optional bool private = 2;</code>
-       */
-      public boolean hasPrivate() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional bool private = 2;</code>
-       */
-      public boolean getPrivate() {
-        return private_;
-      }
-      /**
-       * <code>optional bool private = 2;</code>
-       */
-      public Builder setPrivate(boolean value) {
-        bitField0_ |= 0x00000002;
-        private_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional bool private = 2;</code>
-       */
-      public Builder clearPrivate() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        private_ = false;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.Loaded)
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameFound)
     }
 
     static {
-      defaultInstance = new Loaded(true);
+      defaultInstance = new GameFound(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.Loaded)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.GameFound)
   }
 
-  public interface GameFoundOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.GameFound)
+  public interface GameServerFoundOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.GameServerFound)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -4196,55 +6728,27 @@ public final class Lobby {
      * <code>required bool found = 1;</code>
      */
     boolean getFound();
-
-    /**
-     * <code>optional string gameName = 2;</code>
-     */
-    boolean hasGameName();
-    /**
-     * <code>optional string gameName = 2;</code>
-     */
-    java.lang.String getGameName();
-    /**
-     * <code>optional string gameName = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getGameNameBytes();
-
-    /**
-     * <code>optional string gameId = 3;</code>
-     */
-    boolean hasGameId();
-    /**
-     * <code>optional string gameId = 3;</code>
-     */
-    java.lang.String getGameId();
-    /**
-     * <code>optional string gameId = 3;</code>
-     */
-    com.google.protobuf.ByteString
-        getGameIdBytes();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameFound}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerFound}
    */
-  public static final class GameFound extends
+  public static final class GameServerFound extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.GameFound)
-      GameFoundOrBuilder {
-    // Use GameFound.newBuilder() to construct.
-    private GameFound(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.GameServerFound)
+      GameServerFoundOrBuilder {
+    // Use GameServerFound.newBuilder() to construct.
+    private GameServerFound(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private GameFound(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private GameServerFound(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final GameFound defaultInstance;
-    public static GameFound getDefaultInstance() {
+    private static final GameServerFound defaultInstance;
+    public static GameServerFound getDefaultInstance() {
       return defaultInstance;
     }
 
-    public GameFound getDefaultInstanceForType() {
+    public GameServerFound getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -4254,7 +6758,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private GameFound(
+    private GameServerFound(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4282,18 +6786,6 @@ public final class Lobby {
               found_ = input.readBool();
               break;
             }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              gameName_ = bs;
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              gameId_ = bs;
-              break;
-            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4308,135 +6800,49 @@ public final class Lobby {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_fieldAccessorTable
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.Builder.class);
+              com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<GameFound> PARSER =
-        new com.google.protobuf.AbstractParser<GameFound>() {
-      public GameFound parsePartialFrom(
+    public static com.google.protobuf.Parser<GameServerFound> PARSER =
+        new com.google.protobuf.AbstractParser<GameServerFound>() {
+      public GameServerFound parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GameFound(input, extensionRegistry);
+        return new GameServerFound(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GameFound> getParserForType() {
+    public com.google.protobuf.Parser<GameServerFound> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
     public static final int FOUND_FIELD_NUMBER = 1;
     private boolean found_;
-    /**
-     * <code>required bool found = 1;</code>
-     */
-    public boolean hasFound() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>required bool found = 1;</code>
-     */
-    public boolean getFound() {
-      return found_;
-    }
-
-    public static final int GAMENAME_FIELD_NUMBER = 2;
-    private java.lang.Object gameName_;
-    /**
-     * <code>optional string gameName = 2;</code>
-     */
-    public boolean hasGameName() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional string gameName = 2;</code>
-     */
-    public java.lang.String getGameName() {
-      java.lang.Object ref = gameName_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          gameName_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string gameName = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getGameNameBytes() {
-      java.lang.Object ref = gameName_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        gameName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int GAMEID_FIELD_NUMBER = 3;
-    private java.lang.Object gameId_;
-    /**
-     * <code>optional string gameId = 3;</code>
-     */
-    public boolean hasGameId() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>optional string gameId = 3;</code>
-     */
-    public java.lang.String getGameId() {
-      java.lang.Object ref = gameId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          gameId_ = s;
-        }
-        return s;
-      }
+    /**
+     * <code>required bool found = 1;</code>
+     */
+    public boolean hasFound() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional string gameId = 3;</code>
+     * <code>required bool found = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getGameIdBytes() {
-      java.lang.Object ref = gameId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        gameId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean getFound() {
+      return found_;
     }
 
     private void initFields() {
       found_ = false;
-      gameName_ = "";
-      gameId_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4458,12 +6864,6 @@ public final class Lobby {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBool(1, found_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getGameNameBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(3, getGameIdBytes());
-      }
       getUnknownFields().writeTo(output);
     }
 
@@ -4477,14 +6877,6 @@ public final class Lobby {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(1, found_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getGameNameBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getGameIdBytes());
-      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -4497,53 +6889,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4552,7 +6944,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.GameFound prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -4564,25 +6956,25 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameFound}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerFound}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.GameFound)
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameFoundOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.GameServerFound)
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFoundOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4604,10 +6996,6 @@ public final class Lobby {
         super.clear();
         found_ = false;
         bitField0_ = (bitField0_ & ~0x00000001);
-        gameName_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
-        gameId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -4617,325 +7005,181 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameFound getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameFound build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameFound result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameFound buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameFound result = new com.fuzzjump.server.common.messages.lobby.Lobby.GameFound(this);
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound result = new com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
         result.found_ = found_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.gameName_ = gameName_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.gameId_ = gameId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.GameFound) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.GameFound)other);
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.GameFound other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.GameFound.getDefaultInstance()) return this;
-        if (other.hasFound()) {
-          setFound(other.getFound());
-        }
-        if (other.hasGameName()) {
-          bitField0_ |= 0x00000002;
-          gameName_ = other.gameName_;
-          onChanged();
-        }
-        if (other.hasGameId()) {
-          bitField0_ |= 0x00000004;
-          gameId_ = other.gameId_;
-          onChanged();
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        if (!hasFound()) {
-          
-          return false;
-        }
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameFound parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.GameFound) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
-
-      private boolean found_ ;
-      /**
-       * <code>required bool found = 1;</code>
-       */
-      public boolean hasFound() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>required bool found = 1;</code>
-       */
-      public boolean getFound() {
-        return found_;
-      }
-      /**
-       * <code>required bool found = 1;</code>
-       */
-      public Builder setFound(boolean value) {
-        bitField0_ |= 0x00000001;
-        found_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required bool found = 1;</code>
-       */
-      public Builder clearFound() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        found_ = false;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object gameName_ = "";
-      /**
-       * <code>optional string gameName = 2;</code>
-       */
-      public boolean hasGameName() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional string gameName = 2;</code>
-       */
-      public java.lang.String getGameName() {
-        java.lang.Object ref = gameName_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            gameName_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string gameName = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getGameNameBytes() {
-        java.lang.Object ref = gameName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          gameName_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string gameName = 2;</code>
-       */
-      public Builder setGameName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        gameName_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string gameName = 2;</code>
-       */
-      public Builder clearGameName() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        gameName_ = getDefaultInstance().getGameName();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string gameName = 2;</code>
-       */
-      public Builder setGameNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        gameName_ = value;
-        onChanged();
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.getDefaultInstance()) return this;
+        if (other.hasFound()) {
+          setFound(other.getFound());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
-      private java.lang.Object gameId_ = "";
-      /**
-       * <code>optional string gameId = 3;</code>
-       */
-      public boolean hasGameId() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public final boolean isInitialized() {
+        if (!hasFound()) {
+          
+          return false;
+        }
+        return true;
       }
-      /**
-       * <code>optional string gameId = 3;</code>
-       */
-      public java.lang.String getGameId() {
-        java.lang.Object ref = gameId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            gameId_ = s;
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          return s;
-        } else {
-          return (java.lang.String) ref;
         }
+        return this;
       }
+      private int bitField0_;
+
+      private boolean found_ ;
       /**
-       * <code>optional string gameId = 3;</code>
+       * <code>required bool found = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getGameIdBytes() {
-        java.lang.Object ref = gameId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          gameId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public boolean hasFound() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional string gameId = 3;</code>
+       * <code>required bool found = 1;</code>
        */
-      public Builder setGameId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        gameId_ = value;
-        onChanged();
-        return this;
+      public boolean getFound() {
+        return found_;
       }
       /**
-       * <code>optional string gameId = 3;</code>
+       * <code>required bool found = 1;</code>
        */
-      public Builder clearGameId() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        gameId_ = getDefaultInstance().getGameId();
+      public Builder setFound(boolean value) {
+        bitField0_ |= 0x00000001;
+        found_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string gameId = 3;</code>
+       * <code>required bool found = 1;</code>
        */
-      public Builder setGameIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        gameId_ = value;
+      public Builder clearFound() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        found_ = false;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameFound)
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameServerFound)
     }
 
     static {
-      defaultInstance = new GameFound(true);
+      defaultInstance = new GameServerFound(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.GameFound)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.GameServerFound)
   }
 
-  public interface GameServerFoundOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.GameServerFound)
+  public interface GameServerSetupOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required bool found = 1;</code>
+     * <code>required int32 playerCount = 1;</code>
      */
-    boolean hasFound();
+    boolean hasPlayerCount();
     /**
-     * <code>required bool found = 1;</code>
+     * <code>required int32 playerCount = 1;</code>
      */
-    boolean getFound();
+    int getPlayerCount();
+
+    /**
+     * <code>required int32 mapId = 2;</code>
+     */
+    boolean hasMapId();
+    /**
+     * <code>required int32 mapId = 2;</code>
+     */
+    int getMapId();
+
+    /**
+     * <code>optional int32 requestId = 3;</code>
+     *
+     * <pre>
+     * echoed back in the response, so many setups can be in flight on one connection
+     * </pre>
+     */
+    boolean hasRequestId();
+    /**
+     * <code>optional int32 requestId = 3;</code>
+     *
+     * <pre>
+     * echoed back in the response, so many setups can be in flight on one connection
+     * </pre>
+     */
+    int getRequestId();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerFound}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerSetup}
    */
-  public static final class GameServerFound extends
+  public static final class GameServerSetup extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.GameServerFound)
-      GameServerFoundOrBuilder {
-    // Use GameServerFound.newBuilder() to construct.
-    private GameServerFound(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
+      GameServerSetupOrBuilder {
+    // Use GameServerSetup.newBuilder() to construct.
+    private GameServerSetup(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private GameServerFound(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private GameServerSetup(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final GameServerFound defaultInstance;
-    public static GameServerFound getDefaultInstance() {
+    private static final GameServerSetup defaultInstance;
+    public static GameServerSetup getDefaultInstance() {
       return defaultInstance;
     }
 
-    public GameServerFound getDefaultInstanceForType() {
+    public GameServerSetup getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -4945,7 +7189,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private GameServerFound(
+    private GameServerSetup(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4970,7 +7214,17 @@ public final class Lobby {
             }
             case 8: {
               bitField0_ |= 0x00000001;
-              found_ = input.readBool();
+              playerCount_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              mapId_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              requestId_ = input.readInt32();
               break;
             }
           }
@@ -4987,49 +7241,89 @@ public final class Lobby {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_fieldAccessorTable
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.Builder.class);
+              com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<GameServerFound> PARSER =
-        new com.google.protobuf.AbstractParser<GameServerFound>() {
-      public GameServerFound parsePartialFrom(
+    public static com.google.protobuf.Parser<GameServerSetup> PARSER =
+        new com.google.protobuf.AbstractParser<GameServerSetup>() {
+      public GameServerSetup parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GameServerFound(input, extensionRegistry);
+        return new GameServerSetup(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GameServerFound> getParserForType() {
+    public com.google.protobuf.Parser<GameServerSetup> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int FOUND_FIELD_NUMBER = 1;
-    private boolean found_;
+    public static final int PLAYERCOUNT_FIELD_NUMBER = 1;
+    private int playerCount_;
     /**
-     * <code>required bool found = 1;</code>
+     * <code>required int32 playerCount = 1;</code>
      */
-    public boolean hasFound() {
+    public boolean hasPlayerCount() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required bool found = 1;</code>
+     * <code>required int32 playerCount = 1;</code>
      */
-    public boolean getFound() {
-      return found_;
+    public int getPlayerCount() {
+      return playerCount_;
+    }
+
+    public static final int MAPID_FIELD_NUMBER = 2;
+    private int mapId_;
+    /**
+     * <code>required int32 mapId = 2;</code>
+     */
+    public boolean hasMapId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required int32 mapId = 2;</code>
+     */
+    public int getMapId() {
+      return mapId_;
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 3;
+    private int requestId_;
+    /**
+     * <code>optional int32 requestId = 3;</code>
+     *
+     * <pre>
+     * echoed back in the response, so many setups can be in flight on one connection
+     * </pre>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int32 requestId = 3;</code>
+     *
+     * <pre>
+     * echoed back in the response, so many setups can be in flight on one connection
+     * </pre>
+     */
+    public int getRequestId() {
+      return requestId_;
     }
 
     private void initFields() {
-      found_ = false;
+      playerCount_ = 0;
+      mapId_ = 0;
+      requestId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5037,7 +7331,11 @@ public final class Lobby {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasFound()) {
+      if (!hasPlayerCount()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMapId()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -5049,7 +7347,13 @@ public final class Lobby {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBool(1, found_);
+        output.writeInt32(1, playerCount_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, mapId_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, requestId_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -5062,7 +7366,15 @@ public final class Lobby {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, found_);
+          .computeInt32Size(1, playerCount_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, mapId_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, requestId_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -5076,53 +7388,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5131,7 +7443,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5143,25 +7455,25 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerFound}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerSetup}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.GameServerFound)
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFoundOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5181,8 +7493,12 @@ public final class Lobby {
 
       public Builder clear() {
         super.clear();
-        found_ = false;
+        playerCount_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
+        mapId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        requestId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -5192,54 +7508,72 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound result = new com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound(this);
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup result = new com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.found_ = found_;
+        result.playerCount_ = playerCount_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.mapId_ = mapId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.requestId_ = requestId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound)other);
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound.getDefaultInstance()) return this;
-        if (other.hasFound()) {
-          setFound(other.getFound());
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.getDefaultInstance()) return this;
+        if (other.hasPlayerCount()) {
+          setPlayerCount(other.getPlayerCount());
+        }
+        if (other.hasMapId()) {
+          setMapId(other.getMapId());
+        }
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasFound()) {
+        if (!hasPlayerCount()) {
+          
+          return false;
+        }
+        if (!hasMapId()) {
           
           return false;
         }
@@ -5250,11 +7584,11 @@ public final class Lobby {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound parsedMessage = null;
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.GameServerFound) e.getUnfinishedMessage();
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -5265,91 +7599,218 @@ public final class Lobby {
       }
       private int bitField0_;
 
-      private boolean found_ ;
+      private int playerCount_ ;
       /**
-       * <code>required bool found = 1;</code>
+       * <code>required int32 playerCount = 1;</code>
        */
-      public boolean hasFound() {
+      public boolean hasPlayerCount() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required bool found = 1;</code>
+       * <code>required int32 playerCount = 1;</code>
        */
-      public boolean getFound() {
-        return found_;
+      public int getPlayerCount() {
+        return playerCount_;
       }
       /**
-       * <code>required bool found = 1;</code>
+       * <code>required int32 playerCount = 1;</code>
        */
-      public Builder setFound(boolean value) {
+      public Builder setPlayerCount(int value) {
         bitField0_ |= 0x00000001;
-        found_ = value;
+        playerCount_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required bool found = 1;</code>
+       * <code>required int32 playerCount = 1;</code>
        */
-      public Builder clearFound() {
+      public Builder clearPlayerCount() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        found_ = false;
+        playerCount_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameServerFound)
+      private int mapId_ ;
+      /**
+       * <code>required int32 mapId = 2;</code>
+       */
+      public boolean hasMapId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required int32 mapId = 2;</code>
+       */
+      public int getMapId() {
+        return mapId_;
+      }
+      /**
+       * <code>required int32 mapId = 2;</code>
+       */
+      public Builder setMapId(int value) {
+        bitField0_ |= 0x00000002;
+        mapId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 mapId = 2;</code>
+       */
+      public Builder clearMapId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        mapId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int requestId_ ;
+      /**
+       * <code>optional int32 requestId = 3;</code>
+       *
+       * <pre>
+       * echoed back in the response, so many setups can be in flight on one connection
+       * </pre>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int32 requestId = 3;</code>
+       *
+       * <pre>
+       * echoed back in the response, so many setups can be in flight on one connection
+       * </pre>
+       */
+      public int getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>optional int32 requestId = 3;</code>
+       *
+       * <pre>
+       * echoed back in the response, so many setups can be in flight on one connection
+       * </pre>
+       */
+      public Builder setRequestId(int value) {
+        bitField0_ |= 0x00000004;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 requestId = 3;</code>
+       *
+       * <pre>
+       * echoed back in the response, so many setups can be in flight on one connection
+       * </pre>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        requestId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
     }
 
     static {
-      defaultInstance = new GameServerFound(true);
+      defaultInstance = new GameServerSetup(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.GameServerFound)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
   }
 
-  public interface GameServerSetupOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
+  public interface GameServerSetupResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required int32 playerCount = 1;</code>
+     * <code>required string gameId = 1;</code>
      */
-    boolean hasPlayerCount();
+    boolean hasGameId();
     /**
-     * <code>required int32 playerCount = 1;</code>
+     * <code>required string gameId = 1;</code>
      */
-    int getPlayerCount();
+    java.lang.String getGameId();
+    /**
+     * <code>required string gameId = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getGameIdBytes();
 
     /**
-     * <code>required int32 mapId = 2;</code>
+     * <code>repeated string keys = 2;</code>
+     */
+    com.google.protobuf.ProtocolStringList
+        getKeysList();
+    /**
+     * <code>repeated string keys = 2;</code>
+     */
+    int getKeysCount();
+    /**
+     * <code>repeated string keys = 2;</code>
+     */
+    java.lang.String getKeys(int index);
+    /**
+     * <code>repeated string keys = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getKeysBytes(int index);
+
+    /**
+     * <code>required string seed = 3;</code>
+     */
+    boolean hasSeed();
+    /**
+     * <code>required string seed = 3;</code>
+     */
+    java.lang.String getSeed();
+    /**
+     * <code>required string seed = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getSeedBytes();
+
+    /**
+     * <code>required int32 mapId = 4;</code>
      */
     boolean hasMapId();
     /**
-     * <code>required int32 mapId = 2;</code>
+     * <code>required int32 mapId = 4;</code>
      */
     int getMapId();
+
+    /**
+     * <code>optional int32 requestId = 5;</code>
+     */
+    boolean hasRequestId();
+    /**
+     * <code>optional int32 requestId = 5;</code>
+     */
+    int getRequestId();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerSetup}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse}
    */
-  public static final class GameServerSetup extends
+  public static final class GameServerSetupResponse extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
-      GameServerSetupOrBuilder {
-    // Use GameServerSetup.newBuilder() to construct.
-    private GameServerSetup(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
+      GameServerSetupResponseOrBuilder {
+    // Use GameServerSetupResponse.newBuilder() to construct.
+    private GameServerSetupResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private GameServerSetup(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private GameServerSetupResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final GameServerSetup defaultInstance;
-    public static GameServerSetup getDefaultInstance() {
+    private static final GameServerSetupResponse defaultInstance;
+    public static GameServerSetupResponse getDefaultInstance() {
       return defaultInstance;
     }
 
-    public GameServerSetup getDefaultInstanceForType() {
+    public GameServerSetupResponse getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -5359,7 +7820,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private GameServerSetup(
+    private GameServerSetupResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5382,16 +7843,37 @@ public final class Lobby {
               }
               break;
             }
-            case 8: {
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              playerCount_ = input.readInt32();
+              gameId_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                keys_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              keys_.add(bs);
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              seed_ = bs;
               break;
             }
-            case 16: {
-              bitField0_ |= 0x00000002;
+            case 32: {
+              bitField0_ |= 0x00000004;
               mapId_ = input.readInt32();
               break;
             }
+            case 40: {
+              bitField0_ |= 0x00000008;
+              requestId_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -5400,71 +7882,190 @@ public final class Lobby {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          keys_ = keys_.getUnmodifiableView();
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_fieldAccessorTable
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.Builder.class);
+              com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<GameServerSetup> PARSER =
-        new com.google.protobuf.AbstractParser<GameServerSetup>() {
-      public GameServerSetup parsePartialFrom(
+    public static com.google.protobuf.Parser<GameServerSetupResponse> PARSER =
+        new com.google.protobuf.AbstractParser<GameServerSetupResponse>() {
+      public GameServerSetupResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GameServerSetup(input, extensionRegistry);
+        return new GameServerSetupResponse(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GameServerSetup> getParserForType() {
+    public com.google.protobuf.Parser<GameServerSetupResponse> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int PLAYERCOUNT_FIELD_NUMBER = 1;
-    private int playerCount_;
+    public static final int GAMEID_FIELD_NUMBER = 1;
+    private java.lang.Object gameId_;
     /**
-     * <code>required int32 playerCount = 1;</code>
+     * <code>required string gameId = 1;</code>
      */
-    public boolean hasPlayerCount() {
+    public boolean hasGameId() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required int32 playerCount = 1;</code>
+     * <code>required string gameId = 1;</code>
      */
-    public int getPlayerCount() {
-      return playerCount_;
+    public java.lang.String getGameId() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          gameId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string gameId = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getGameIdBytes() {
+      java.lang.Object ref = gameId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        gameId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static final int MAPID_FIELD_NUMBER = 2;
+    public static final int KEYS_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList keys_;
+    /**
+     * <code>repeated string keys = 2;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getKeysList() {
+      return keys_;
+    }
+    /**
+     * <code>repeated string keys = 2;</code>
+     */
+    public int getKeysCount() {
+      return keys_.size();
+    }
+    /**
+     * <code>repeated string keys = 2;</code>
+     */
+    public java.lang.String getKeys(int index) {
+      return keys_.get(index);
+    }
+    /**
+     * <code>repeated string keys = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeysBytes(int index) {
+      return keys_.getByteString(index);
+    }
+
+    public static final int SEED_FIELD_NUMBER = 3;
+    private java.lang.Object seed_;
+    /**
+     * <code>required string seed = 3;</code>
+     */
+    public boolean hasSeed() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string seed = 3;</code>
+     */
+    public java.lang.String getSeed() {
+      java.lang.Object ref = seed_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          seed_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string seed = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSeedBytes() {
+      java.lang.Object ref = seed_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        seed_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MAPID_FIELD_NUMBER = 4;
     private int mapId_;
     /**
-     * <code>required int32 mapId = 2;</code>
+     * <code>required int32 mapId = 4;</code>
      */
     public boolean hasMapId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required int32 mapId = 2;</code>
+     * <code>required int32 mapId = 4;</code>
      */
     public int getMapId() {
       return mapId_;
     }
 
+    public static final int REQUESTID_FIELD_NUMBER = 5;
+    private int requestId_;
+    /**
+     * <code>optional int32 requestId = 5;</code>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int32 requestId = 5;</code>
+     */
+    public int getRequestId() {
+      return requestId_;
+    }
+
     private void initFields() {
-      playerCount_ = 0;
+      gameId_ = "";
+      keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      seed_ = "";
       mapId_ = 0;
+      requestId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5472,7 +8073,11 @@ public final class Lobby {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasPlayerCount()) {
+      if (!hasGameId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSeed()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -5488,10 +8093,19 @@ public final class Lobby {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeInt32(1, playerCount_);
+        output.writeBytes(1, getGameIdBytes());
+      }
+      for (int i = 0; i < keys_.size(); i++) {
+        output.writeBytes(2, keys_.getByteString(i));
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, mapId_);
+        output.writeBytes(3, getSeedBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(4, mapId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(5, requestId_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -5504,11 +8118,28 @@ public final class Lobby {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, playerCount_);
+          .computeBytesSize(1, getGameIdBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < keys_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(keys_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getKeysList().size();
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, mapId_);
+          .computeBytesSize(3, getSeedBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, mapId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, requestId_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -5522,53 +8153,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5577,7 +8208,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5589,25 +8220,25 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerSetup}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5627,10 +8258,16 @@ public final class Lobby {
 
       public Builder clear() {
         super.clear();
-        playerCount_ = 0;
+        gameId_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        mapId_ = 0;
+        keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000002);
+        seed_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        mapId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        requestId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -5640,61 +8277,98 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup result = new com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup(this);
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse result = new com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.playerCount_ = playerCount_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        result.gameId_ = gameId_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          keys_ = keys_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.keys_ = keys_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000002;
         }
+        result.seed_ = seed_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
         result.mapId_ = mapId_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.requestId_ = requestId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup)other);
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup.getDefaultInstance()) return this;
-        if (other.hasPlayerCount()) {
-          setPlayerCount(other.getPlayerCount());
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.getDefaultInstance()) return this;
+        if (other.hasGameId()) {
+          bitField0_ |= 0x00000001;
+          gameId_ = other.gameId_;
+          onChanged();
+        }
+        if (!other.keys_.isEmpty()) {
+          if (keys_.isEmpty()) {
+            keys_ = other.keys_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureKeysIsMutable();
+            keys_.addAll(other.keys_);
+          }
+          onChanged();
+        }
+        if (other.hasSeed()) {
+          bitField0_ |= 0x00000004;
+          seed_ = other.seed_;
+          onChanged();
         }
         if (other.hasMapId()) {
           setMapId(other.getMapId());
         }
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasPlayerCount()) {
+        if (!hasGameId()) {
+          
+          return false;
+        }
+        if (!hasSeed()) {
           
           return false;
         }
@@ -5709,11 +8383,11 @@ public final class Lobby {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup parsedMessage = null;
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetup) e.getUnfinishedMessage();
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -5724,161 +8398,389 @@ public final class Lobby {
       }
       private int bitField0_;
 
-      private int playerCount_ ;
+      private java.lang.Object gameId_ = "";
       /**
-       * <code>required int32 playerCount = 1;</code>
+       * <code>required string gameId = 1;</code>
        */
-      public boolean hasPlayerCount() {
+      public boolean hasGameId() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required int32 playerCount = 1;</code>
+       * <code>required string gameId = 1;</code>
+       */
+      public java.lang.String getGameId() {
+        java.lang.Object ref = gameId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            gameId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string gameId = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getGameIdBytes() {
+        java.lang.Object ref = gameId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          gameId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string gameId = 1;</code>
+       */
+      public Builder setGameId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        gameId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string gameId = 1;</code>
+       */
+      public Builder clearGameId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        gameId_ = getDefaultInstance().getGameId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string gameId = 1;</code>
+       */
+      public Builder setGameIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        gameId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureKeysIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          keys_ = new com.google.protobuf.LazyStringArrayList(keys_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string keys = 2;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getKeysList() {
+        return keys_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string keys = 2;</code>
+       */
+      public int getKeysCount() {
+        return keys_.size();
+      }
+      /**
+       * <code>repeated string keys = 2;</code>
+       */
+      public java.lang.String getKeys(int index) {
+        return keys_.get(index);
+      }
+      /**
+       * <code>repeated string keys = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeysBytes(int index) {
+        return keys_.getByteString(index);
+      }
+      /**
+       * <code>repeated string keys = 2;</code>
+       */
+      public Builder setKeys(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeysIsMutable();
+        keys_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string keys = 2;</code>
+       */
+      public Builder addKeys(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeysIsMutable();
+        keys_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string keys = 2;</code>
+       */
+      public Builder addAllKeys(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureKeysIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, keys_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string keys = 2;</code>
+       */
+      public Builder clearKeys() {
+        keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string keys = 2;</code>
+       */
+      public Builder addKeysBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeysIsMutable();
+        keys_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object seed_ = "";
+      /**
+       * <code>required string seed = 3;</code>
+       */
+      public boolean hasSeed() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required string seed = 3;</code>
+       */
+      public java.lang.String getSeed() {
+        java.lang.Object ref = seed_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            seed_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string seed = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSeedBytes() {
+        java.lang.Object ref = seed_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          seed_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string seed = 3;</code>
        */
-      public int getPlayerCount() {
-        return playerCount_;
+      public Builder setSeed(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        seed_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>required int32 playerCount = 1;</code>
+       * <code>required string seed = 3;</code>
        */
-      public Builder setPlayerCount(int value) {
-        bitField0_ |= 0x00000001;
-        playerCount_ = value;
+      public Builder clearSeed() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        seed_ = getDefaultInstance().getSeed();
         onChanged();
         return this;
       }
       /**
-       * <code>required int32 playerCount = 1;</code>
+       * <code>required string seed = 3;</code>
        */
-      public Builder clearPlayerCount() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        playerCount_ = 0;
+      public Builder setSeedBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        seed_ = value;
         onChanged();
         return this;
       }
 
       private int mapId_ ;
       /**
-       * <code>required int32 mapId = 2;</code>
+       * <code>required int32 mapId = 4;</code>
        */
       public boolean hasMapId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>required int32 mapId = 2;</code>
+       * <code>required int32 mapId = 4;</code>
        */
       public int getMapId() {
         return mapId_;
       }
       /**
-       * <code>required int32 mapId = 2;</code>
+       * <code>required int32 mapId = 4;</code>
        */
       public Builder setMapId(int value) {
-        bitField0_ |= 0x00000002;
+        bitField0_ |= 0x00000008;
         mapId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required int32 mapId = 2;</code>
+       * <code>required int32 mapId = 4;</code>
        */
       public Builder clearMapId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
+        bitField0_ = (bitField0_ & ~0x00000008);
         mapId_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
+      private int requestId_ ;
+      /**
+       * <code>optional int32 requestId = 5;</code>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional int32 requestId = 5;</code>
+       */
+      public int getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>optional int32 requestId = 5;</code>
+       */
+      public Builder setRequestId(int value) {
+        bitField0_ |= 0x00000010;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 requestId = 5;</code>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        requestId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
     }
 
     static {
-      defaultInstance = new GameServerSetup(true);
+      defaultInstance = new GameServerSetupResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.GameServerSetup)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
   }
 
-  public interface GameServerSetupResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
+  public interface GameServerHeartbeatOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.fuzzjump.server.common.messages.lobby.GameServerHeartbeat)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string gameId = 1;</code>
-     */
-    boolean hasGameId();
-    /**
-     * <code>required string gameId = 1;</code>
-     */
-    java.lang.String getGameId();
-    /**
-     * <code>required string gameId = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getGameIdBytes();
-
-    /**
-     * <code>repeated string keys = 2;</code>
-     */
-    com.google.protobuf.ProtocolStringList
-        getKeysList();
-    /**
-     * <code>repeated string keys = 2;</code>
-     */
-    int getKeysCount();
-    /**
-     * <code>repeated string keys = 2;</code>
+     * <code>required int32 sessions = 1;</code>
      */
-    java.lang.String getKeys(int index);
+    boolean hasSessions();
     /**
-     * <code>repeated string keys = 2;</code>
+     * <code>required int32 sessions = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getKeysBytes(int index);
+    int getSessions();
 
     /**
-     * <code>required string seed = 3;</code>
-     */
-    boolean hasSeed();
-    /**
-     * <code>required string seed = 3;</code>
+     * <code>required int32 players = 2;</code>
      */
-    java.lang.String getSeed();
+    boolean hasPlayers();
     /**
-     * <code>required string seed = 3;</code>
+     * <code>required int32 players = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getSeedBytes();
+    int getPlayers();
 
     /**
-     * <code>required int32 mapId = 4;</code>
+     * <code>required int32 tickOverrunRate = 3;</code>
+     *
+     * <pre>
+     * ticks that ran over their budget since the last heartbeat, per thousand ticks
+     * </pre>
      */
-    boolean hasMapId();
+    boolean hasTickOverrunRate();
     /**
-     * <code>required int32 mapId = 4;</code>
+     * <code>required int32 tickOverrunRate = 3;</code>
+     *
+     * <pre>
+     * ticks that ran over their budget since the last heartbeat, per thousand ticks
+     * </pre>
      */
-    int getMapId();
+    int getTickOverrunRate();
   }
   /**
-   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse}
+   * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerHeartbeat}
+   *
+   * <pre>
+   * sent by a game server to every matchmaker connected to it, so they can place games by load
+   * </pre>
    */
-  public static final class GameServerSetupResponse extends
+  public static final class GameServerHeartbeat extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
-      GameServerSetupResponseOrBuilder {
-    // Use GameServerSetupResponse.newBuilder() to construct.
-    private GameServerSetupResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.fuzzjump.server.common.messages.lobby.GameServerHeartbeat)
+      GameServerHeartbeatOrBuilder {
+    // Use GameServerHeartbeat.newBuilder() to construct.
+    private GameServerHeartbeat(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private GameServerSetupResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private GameServerHeartbeat(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final GameServerSetupResponse defaultInstance;
-    public static GameServerSetupResponse getDefaultInstance() {
+    private static final GameServerHeartbeat defaultInstance;
+    public static GameServerHeartbeat getDefaultInstance() {
       return defaultInstance;
     }
 
-    public GameServerSetupResponse getDefaultInstanceForType() {
+    public GameServerHeartbeat getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -5888,7 +8790,7 @@ public final class Lobby {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private GameServerSetupResponse(
+    private GameServerHeartbeat(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5911,30 +8813,19 @@ public final class Lobby {
               }
               break;
             }
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 8: {
               bitField0_ |= 0x00000001;
-              gameId_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                keys_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000002;
-              }
-              keys_.add(bs);
+              sessions_ = input.readInt32();
               break;
             }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 16: {
               bitField0_ |= 0x00000002;
-              seed_ = bs;
+              players_ = input.readInt32();
               break;
             }
-            case 32: {
+            case 24: {
               bitField0_ |= 0x00000004;
-              mapId_ = input.readInt32();
+              tickOverrunRate_ = input.readInt32();
               break;
             }
           }
@@ -5945,174 +8836,95 @@ public final class Lobby {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          keys_ = keys_.getUnmodifiableView();
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_descriptor;
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_fieldAccessorTable
+      return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.Builder.class);
+              com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<GameServerSetupResponse> PARSER =
-        new com.google.protobuf.AbstractParser<GameServerSetupResponse>() {
-      public GameServerSetupResponse parsePartialFrom(
+    public static com.google.protobuf.Parser<GameServerHeartbeat> PARSER =
+        new com.google.protobuf.AbstractParser<GameServerHeartbeat>() {
+      public GameServerHeartbeat parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GameServerSetupResponse(input, extensionRegistry);
+        return new GameServerHeartbeat(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GameServerSetupResponse> getParserForType() {
+    public com.google.protobuf.Parser<GameServerHeartbeat> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int GAMEID_FIELD_NUMBER = 1;
-    private java.lang.Object gameId_;
+    public static final int SESSIONS_FIELD_NUMBER = 1;
+    private int sessions_;
     /**
-     * <code>required string gameId = 1;</code>
+     * <code>required int32 sessions = 1;</code>
      */
-    public boolean hasGameId() {
+    public boolean hasSessions() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-    /**
-     * <code>required string gameId = 1;</code>
-     */
-    public java.lang.String getGameId() {
-      java.lang.Object ref = gameId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          gameId_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>required string gameId = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getGameIdBytes() {
-      java.lang.Object ref = gameId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        gameId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int KEYS_FIELD_NUMBER = 2;
-    private com.google.protobuf.LazyStringList keys_;
-    /**
-     * <code>repeated string keys = 2;</code>
-     */
-    public com.google.protobuf.ProtocolStringList
-        getKeysList() {
-      return keys_;
-    }
-    /**
-     * <code>repeated string keys = 2;</code>
-     */
-    public int getKeysCount() {
-      return keys_.size();
-    }
-    /**
-     * <code>repeated string keys = 2;</code>
-     */
-    public java.lang.String getKeys(int index) {
-      return keys_.get(index);
-    }
-    /**
-     * <code>repeated string keys = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getKeysBytes(int index) {
-      return keys_.getByteString(index);
-    }
-
-    public static final int SEED_FIELD_NUMBER = 3;
-    private java.lang.Object seed_;
-    /**
-     * <code>required string seed = 3;</code>
-     */
-    public boolean hasSeed() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required string seed = 3;</code>
-     */
-    public java.lang.String getSeed() {
-      java.lang.Object ref = seed_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          seed_ = s;
-        }
-        return s;
-      }
+    /**
+     * <code>required int32 sessions = 1;</code>
+     */
+    public int getSessions() {
+      return sessions_;
     }
+
+    public static final int PLAYERS_FIELD_NUMBER = 2;
+    private int players_;
     /**
-     * <code>required string seed = 3;</code>
+     * <code>required int32 players = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getSeedBytes() {
-      java.lang.Object ref = seed_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        seed_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean hasPlayers() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required int32 players = 2;</code>
+     */
+    public int getPlayers() {
+      return players_;
     }
 
-    public static final int MAPID_FIELD_NUMBER = 4;
-    private int mapId_;
+    public static final int TICKOVERRUNRATE_FIELD_NUMBER = 3;
+    private int tickOverrunRate_;
     /**
-     * <code>required int32 mapId = 4;</code>
+     * <code>required int32 tickOverrunRate = 3;</code>
+     *
+     * <pre>
+     * ticks that ran over their budget since the last heartbeat, per thousand ticks
+     * </pre>
      */
-    public boolean hasMapId() {
+    public boolean hasTickOverrunRate() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required int32 mapId = 4;</code>
+     * <code>required int32 tickOverrunRate = 3;</code>
+     *
+     * <pre>
+     * ticks that ran over their budget since the last heartbeat, per thousand ticks
+     * </pre>
      */
-    public int getMapId() {
-      return mapId_;
+    public int getTickOverrunRate() {
+      return tickOverrunRate_;
     }
 
     private void initFields() {
-      gameId_ = "";
-      keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      seed_ = "";
-      mapId_ = 0;
+      sessions_ = 0;
+      players_ = 0;
+      tickOverrunRate_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -6120,15 +8932,15 @@ public final class Lobby {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasGameId()) {
+      if (!hasSessions()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasSeed()) {
+      if (!hasPlayers()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasMapId()) {
+      if (!hasTickOverrunRate()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -6140,16 +8952,13 @@ public final class Lobby {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getGameIdBytes());
-      }
-      for (int i = 0; i < keys_.size(); i++) {
-        output.writeBytes(2, keys_.getByteString(i));
+        output.writeInt32(1, sessions_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(3, getSeedBytes());
+        output.writeInt32(2, players_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeInt32(4, mapId_);
+        output.writeInt32(3, tickOverrunRate_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -6162,24 +8971,15 @@ public final class Lobby {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getGameIdBytes());
-      }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < keys_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(keys_.getByteString(i));
-        }
-        size += dataSize;
-        size += 1 * getKeysList().size();
+          .computeInt32Size(1, sessions_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getSeedBytes());
+          .computeInt32Size(2, players_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(4, mapId_);
+          .computeInt32Size(3, tickOverrunRate_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -6193,53 +8993,53 @@ public final class Lobby {
       return super.writeReplace();
     }
 
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(byte[] data)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseDelimitedFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parseFrom(
+    public static com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6248,7 +9048,7 @@ public final class Lobby {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse prototype) {
+    public static Builder newBuilder(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -6260,25 +9060,29 @@ public final class Lobby {
       return builder;
     }
     /**
-     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse}
+     * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerHeartbeat}
+     *
+     * <pre>
+     * sent by a game server to every matchmaker connected to it, so they can place games by load
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.fuzzjump.server.common.messages.lobby.GameServerHeartbeat)
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeatOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_fieldAccessorTable
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.Builder.class);
+                com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat.class, com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat.Builder.class);
       }
 
-      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.newBuilder()
+      // Construct using com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6298,14 +9102,12 @@ public final class Lobby {
 
       public Builder clear() {
         super.clear();
-        gameId_ = "";
+        sessions_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        players_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
-        seed_ = "";
+        tickOverrunRate_ = 0;
         bitField0_ = (bitField0_ & ~0x00000004);
-        mapId_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -6315,95 +9117,76 @@ public final class Lobby {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_descriptor;
+        return com.fuzzjump.server.common.messages.lobby.Lobby.internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_descriptor;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse getDefaultInstanceForType() {
-        return com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.getDefaultInstance();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat getDefaultInstanceForType() {
+        return com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat.getDefaultInstance();
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse build() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse result = buildPartial();
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat build() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse buildPartial() {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse result = new com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse(this);
+      public com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat buildPartial() {
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat result = new com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.gameId_ = gameId_;
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          keys_ = keys_.getUnmodifiableView();
-          bitField0_ = (bitField0_ & ~0x00000002);
-        }
-        result.keys_ = keys_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+        result.sessions_ = sessions_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.seed_ = seed_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+        result.players_ = players_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.mapId_ = mapId_;
+        result.tickOverrunRate_ = tickOverrunRate_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse) {
-          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse)other);
+        if (other instanceof com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat) {
+          return mergeFrom((com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse other) {
-        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse.getDefaultInstance()) return this;
-        if (other.hasGameId()) {
-          bitField0_ |= 0x00000001;
-          gameId_ = other.gameId_;
-          onChanged();
-        }
-        if (!other.keys_.isEmpty()) {
-          if (keys_.isEmpty()) {
-            keys_ = other.keys_;
-            bitField0_ = (bitField0_ & ~0x00000002);
-          } else {
-            ensureKeysIsMutable();
-            keys_.addAll(other.keys_);
-          }
-          onChanged();
+      public Builder mergeFrom(com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat other) {
+        if (other == com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat.getDefaultInstance()) return this;
+        if (other.hasSessions()) {
+          setSessions(other.getSessions());
         }
-        if (other.hasSeed()) {
-          bitField0_ |= 0x00000004;
-          seed_ = other.seed_;
-          onChanged();
+        if (other.hasPlayers()) {
+          setPlayers(other.getPlayers());
         }
-        if (other.hasMapId()) {
-          setMapId(other.getMapId());
+        if (other.hasTickOverrunRate()) {
+          setTickOverrunRate(other.getTickOverrunRate());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasGameId()) {
+        if (!hasSessions()) {
           
           return false;
         }
-        if (!hasSeed()) {
+        if (!hasPlayers()) {
           
           return false;
         }
-        if (!hasMapId()) {
+        if (!hasTickOverrunRate()) {
           
           return false;
         }
@@ -6414,307 +9197,142 @@ public final class Lobby {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse parsedMessage = null;
+        com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.GameServerSetupResponse) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
-
-      private java.lang.Object gameId_ = "";
-      /**
-       * <code>required string gameId = 1;</code>
-       */
-      public boolean hasGameId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>required string gameId = 1;</code>
-       */
-      public java.lang.String getGameId() {
-        java.lang.Object ref = gameId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            gameId_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>required string gameId = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getGameIdBytes() {
-        java.lang.Object ref = gameId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          gameId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>required string gameId = 1;</code>
-       */
-      public Builder setGameId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        gameId_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string gameId = 1;</code>
-       */
-      public Builder clearGameId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        gameId_ = getDefaultInstance().getGameId();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string gameId = 1;</code>
-       */
-      public Builder setGameIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        gameId_ = value;
-        onChanged();
-        return this;
-      }
-
-      private com.google.protobuf.LazyStringList keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureKeysIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          keys_ = new com.google.protobuf.LazyStringArrayList(keys_);
-          bitField0_ |= 0x00000002;
-         }
-      }
-      /**
-       * <code>repeated string keys = 2;</code>
-       */
-      public com.google.protobuf.ProtocolStringList
-          getKeysList() {
-        return keys_.getUnmodifiableView();
-      }
-      /**
-       * <code>repeated string keys = 2;</code>
-       */
-      public int getKeysCount() {
-        return keys_.size();
-      }
-      /**
-       * <code>repeated string keys = 2;</code>
-       */
-      public java.lang.String getKeys(int index) {
-        return keys_.get(index);
-      }
-      /**
-       * <code>repeated string keys = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getKeysBytes(int index) {
-        return keys_.getByteString(index);
-      }
-      /**
-       * <code>repeated string keys = 2;</code>
-       */
-      public Builder setKeys(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureKeysIsMutable();
-        keys_.set(index, value);
-        onChanged();
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.fuzzjump.server.common.messages.lobby.Lobby.GameServerHeartbeat) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
+      private int bitField0_;
+
+      private int sessions_ ;
       /**
-       * <code>repeated string keys = 2;</code>
+       * <code>required int32 sessions = 1;</code>
        */
-      public Builder addKeys(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureKeysIsMutable();
-        keys_.add(value);
-        onChanged();
-        return this;
+      public boolean hasSessions() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated string keys = 2;</code>
+       * <code>required int32 sessions = 1;</code>
        */
-      public Builder addAllKeys(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureKeysIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, keys_);
-        onChanged();
-        return this;
+      public int getSessions() {
+        return sessions_;
       }
       /**
-       * <code>repeated string keys = 2;</code>
+       * <code>required int32 sessions = 1;</code>
        */
-      public Builder clearKeys() {
-        keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000002);
+      public Builder setSessions(int value) {
+        bitField0_ |= 0x00000001;
+        sessions_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated string keys = 2;</code>
+       * <code>required int32 sessions = 1;</code>
        */
-      public Builder addKeysBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureKeysIsMutable();
-        keys_.add(value);
+      public Builder clearSessions() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessions_ = 0;
         onChanged();
         return this;
       }
 
-      private java.lang.Object seed_ = "";
-      /**
-       * <code>required string seed = 3;</code>
-       */
-      public boolean hasSeed() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>required string seed = 3;</code>
-       */
-      public java.lang.String getSeed() {
-        java.lang.Object ref = seed_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            seed_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private int players_ ;
       /**
-       * <code>required string seed = 3;</code>
+       * <code>required int32 players = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getSeedBytes() {
-        java.lang.Object ref = seed_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          seed_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public boolean hasPlayers() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required string seed = 3;</code>
+       * <code>required int32 players = 2;</code>
        */
-      public Builder setSeed(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        seed_ = value;
-        onChanged();
-        return this;
+      public int getPlayers() {
+        return players_;
       }
       /**
-       * <code>required string seed = 3;</code>
+       * <code>required int32 players = 2;</code>
        */
-      public Builder clearSeed() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        seed_ = getDefaultInstance().getSeed();
+      public Builder setPlayers(int value) {
+        bitField0_ |= 0x00000002;
+        players_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string seed = 3;</code>
+       * <code>required int32 players = 2;</code>
        */
-      public Builder setSeedBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        seed_ = value;
+      public Builder clearPlayers() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        players_ = 0;
         onChanged();
         return this;
       }
 
-      private int mapId_ ;
+      private int tickOverrunRate_ ;
       /**
-       * <code>required int32 mapId = 4;</code>
+       * <code>required int32 tickOverrunRate = 3;</code>
+       *
+       * <pre>
+       * ticks that ran over their budget since the last heartbeat, per thousand ticks
+       * </pre>
        */
-      public boolean hasMapId() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public boolean hasTickOverrunRate() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required int32 mapId = 4;</code>
+       * <code>required int32 tickOverrunRate = 3;</code>
+       *
+       * <pre>
+       * ticks that ran over their budget since the last heartbeat, per thousand ticks
+       * </pre>
        */
-      public int getMapId() {
-        return mapId_;
+      public int getTickOverrunRate() {
+        return tickOverrunRate_;
       }
       /**
-       * <code>required int32 mapId = 4;</code>
+       * <code>required int32 tickOverrunRate = 3;</code>
+       *
+       * <pre>
+       * ticks that ran over their budget since the last heartbeat, per thousand ticks
+       * </pre>
        */
-      public Builder setMapId(int value) {
-        bitField0_ |= 0x00000008;
-        mapId_ = value;
+      public Builder setTickOverrunRate(int value) {
+        bitField0_ |= 0x00000004;
+        tickOverrunRate_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required int32 mapId = 4;</code>
+       * <code>required int32 tickOverrunRate = 3;</code>
+       *
+       * <pre>
+       * ticks that ran over their budget since the last heartbeat, per thousand ticks
+       * </pre>
        */
-      public Builder clearMapId() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        mapId_ = 0;
+      public Builder clearTickOverrunRate() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        tickOverrunRate_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
+      // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameServerHeartbeat)
     }
 
     static {
-      defaultInstance = new GameServerSetupResponse(true);
+      defaultInstance = new GameServerHeartbeat(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.GameServerSetupResponse)
+    // @@protoc_insertion_point(class_scope:com.fuzzjump.server.common.messages.lobby.GameServerHeartbeat)
   }
 
   public interface GameServerSetupDataOrBuilder extends
@@ -6794,6 +9412,32 @@ public final class Lobby {
      * <code>required int32 port = 6;</code>
      */
     int getPort();
+
+    /**
+     * <code>optional string traceId = 7;</code>
+     *
+     * <pre>
+     *the player's join trace, sent to the game server in their JoinPacket
+     * </pre>
+     */
+    boolean hasTraceId();
+    /**
+     * <code>optional string traceId = 7;</code>
+     *
+     * <pre>
+     *the player's join trace, sent to the game server in their JoinPacket
+     * </pre>
+     */
+    java.lang.String getTraceId();
+    /**
+     * <code>optional string traceId = 7;</code>
+     *
+     * <pre>
+     *the player's join trace, sent to the game server in their JoinPacket
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getTraceIdBytes();
   }
   /**
    * Protobuf type {@code com.fuzzjump.server.common.messages.lobby.GameServerSetupData}
@@ -6881,6 +9525,12 @@ public final class Lobby {
               port_ = input.readInt32();
               break;
             }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000040;
+              traceId_ = bs;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -7119,6 +9769,60 @@ public final class Lobby {
       return port_;
     }
 
+    public static final int TRACEID_FIELD_NUMBER = 7;
+    private java.lang.Object traceId_;
+    /**
+     * <code>optional string traceId = 7;</code>
+     *
+     * <pre>
+     *the player's join trace, sent to the game server in their JoinPacket
+     * </pre>
+     */
+    public boolean hasTraceId() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string traceId = 7;</code>
+     *
+     * <pre>
+     *the player's join trace, sent to the game server in their JoinPacket
+     * </pre>
+     */
+    public java.lang.String getTraceId() {
+      java.lang.Object ref = traceId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          traceId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string traceId = 7;</code>
+     *
+     * <pre>
+     *the player's join trace, sent to the game server in their JoinPacket
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getTraceIdBytes() {
+      java.lang.Object ref = traceId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        traceId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
       gameId_ = "";
       key_ = "";
@@ -7126,6 +9830,7 @@ public final class Lobby {
       mapId_ = 0;
       ip_ = "";
       port_ = 0;
+      traceId_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -7182,6 +9887,9 @@ public final class Lobby {
       if (((bitField0_ & 0x00000020) == 0x00000020)) {
         output.writeInt32(6, port_);
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getTraceIdBytes());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -7215,6 +9923,10 @@ public final class Lobby {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(6, port_);
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getTraceIdBytes());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -7344,6 +10056,8 @@ public final class Lobby {
         bitField0_ = (bitField0_ & ~0x00000010);
         port_ = 0;
         bitField0_ = (bitField0_ & ~0x00000020);
+        traceId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -7396,6 +10110,10 @@ public final class Lobby {
           to_bitField0_ |= 0x00000020;
         }
         result.port_ = port_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.traceId_ = traceId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7438,6 +10156,11 @@ public final class Lobby {
         if (other.hasPort()) {
           setPort(other.getPort());
         }
+        if (other.hasTraceId()) {
+          bitField0_ |= 0x00000040;
+          traceId_ = other.traceId_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -7857,6 +10580,106 @@ public final class Lobby {
         return this;
       }
 
+      private java.lang.Object traceId_ = "";
+      /**
+       * <code>optional string traceId = 7;</code>
+       *
+       * <pre>
+       *the player's join trace, sent to the game server in their JoinPacket
+       * </pre>
+       */
+      public boolean hasTraceId() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string traceId = 7;</code>
+       *
+       * <pre>
+       *the player's join trace, sent to the game server in their JoinPacket
+       * </pre>
+       */
+      public java.lang.String getTraceId() {
+        java.lang.Object ref = traceId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            traceId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string traceId = 7;</code>
+       *
+       * <pre>
+       *the player's join trace, sent to the game server in their JoinPacket
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getTraceIdBytes() {
+        java.lang.Object ref = traceId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          traceId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string traceId = 7;</code>
+       *
+       * <pre>
+       *the player's join trace, sent to the game server in their JoinPacket
+       * </pre>
+       */
+      public Builder setTraceId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        traceId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string traceId = 7;</code>
+       *
+       * <pre>
+       *the player's join trace, sent to the game server in their JoinPacket
+       * </pre>
+       */
+      public Builder clearTraceId() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        traceId_ = getDefaultInstance().getTraceId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string traceId = 7;</code>
+       *
+       * <pre>
+       *the player's join trace, sent to the game server in their JoinPacket
+       * </pre>
+       */
+      public Builder setTraceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        traceId_ = value;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:com.fuzzjump.server.common.messages.lobby.GameServerSetupData)
     }
 
@@ -8278,6 +11101,11 @@ public final class Lobby {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_com_fuzzjump_server_common_messages_lobby_LobbyState_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor;
   private static
@@ -8328,6 +11156,11 @@ public final class Lobby {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupData_descriptor;
   private static
@@ -8353,24 +11186,34 @@ public final class Lobby {
       "essages.lobby.MapSlot\022B\n\007players\030\002 \003(\01321" +
       ".com.fuzzjump.server.common.messages.lob" +
       "by.Player\022B\n\004time\030\003 \002(\01324.com.fuzzjump.s" +
-      "erver.common.messages.lobby.TimeState\"<\n" +
-      "\006Player\022\016\n\006userId\030\001 \001(\t\022\023\n\013playerIndex\030\002" +
-      " \002(\005\022\r\n\005ready\030\003 \002(\010\"\031\n\tTimeState\022\014\n\004time" +
-      "\030\001 \002(\005\"\'\n\007MapSlot\022\r\n\005mapId\030\001 \002(\005\022\r\n\005vote",
-      "s\030\002 \002(\005\"\033\n\nMapSlotSet\022\r\n\005mapId\030\001 \002(\005\"\031\n\010" +
-      "ReadySet\022\r\n\005ready\030\001 \002(\010\")\n\006Loaded\022\016\n\006gam" +
-      "eId\030\001 \001(\t\022\017\n\007private\030\002 \001(\010\"<\n\tGameFound\022" +
-      "\r\n\005found\030\001 \002(\010\022\020\n\010gameName\030\002 \001(\t\022\016\n\006game" +
-      "Id\030\003 \001(\t\" \n\017GameServerFound\022\r\n\005found\030\001 \002" +
-      "(\010\"5\n\017GameServerSetup\022\023\n\013playerCount\030\001 \002" +
-      "(\005\022\r\n\005mapId\030\002 \002(\005\"T\n\027GameServerSetupResp" +
-      "onse\022\016\n\006gameId\030\001 \002(\t\022\014\n\004keys\030\002 \003(\t\022\014\n\004se" +
-      "ed\030\003 \002(\t\022\r\n\005mapId\030\004 \002(\005\"i\n\023GameServerSet" +
-      "upData\022\016\n\006gameId\030\001 \002(\t\022\013\n\003key\030\002 \002(\t\022\014\n\004s",
-      "eed\030\003 \002(\t\022\r\n\005mapId\030\004 \002(\005\022\n\n\002ip\030\005 \002(\t\022\014\n\004" +
-      "port\030\006 \002(\005\"\036\n\013FindingGame\022\017\n\007finding\030\001 \002" +
-      "(\010B+\n)com.fuzzjump.server.common.message" +
-      "s.lobby"
+      "erver.common.messages.lobby.TimeState\"\362\001" +
+      "\n\nLobbyDelta\022B\n\007players\030\001 \003(\01321.com.fuzz" +
+      "jump.server.common.messages.lobby.Player" +
+      "\022\026\n\016removedPlayers\030\002 \003(\005\022D\n\010mapSlots\030\003 \003",
+      "(\01322.com.fuzzjump.server.common.messages" +
+      ".lobby.MapSlot\022B\n\004time\030\004 \001(\01324.com.fuzzj" +
+      "ump.server.common.messages.lobby.TimeSta" +
+      "te\"<\n\006Player\022\016\n\006userId\030\001 \001(\t\022\023\n\013playerIn" +
+      "dex\030\002 \002(\005\022\r\n\005ready\030\003 \002(\010\"\031\n\tTimeState\022\014\n" +
+      "\004time\030\001 \002(\005\"\'\n\007MapSlot\022\r\n\005mapId\030\001 \002(\005\022\r\n" +
+      "\005votes\030\002 \002(\005\"\033\n\nMapSlotSet\022\r\n\005mapId\030\001 \002(" +
+      "\005\"\031\n\010ReadySet\022\r\n\005ready\030\001 \002(\010\"7\n\006Loaded\022\016" +
+      "\n\006gameId\030\001 \001(\t\022\017\n\007private\030\002 \001(\010\022\014\n\004rank\030" +
+      "\003 \001(\005\"<\n\tGameFound\022\r\n\005found\030\001 \002(\010\022\020\n\010gam",
+      "eName\030\002 \001(\t\022\016\n\006gameId\030\003 \001(\t\" \n\017GameServe" +
+      "rFound\022\r\n\005found\030\001 \002(\010\"H\n\017GameServerSetup" +
+      "\022\023\n\013playerCount\030\001 \002(\005\022\r\n\005mapId\030\002 \002(\005\022\021\n\t" +
+      "requestId\030\003 \001(\005\"g\n\027GameServerSetupRespon" +
+      "se\022\016\n\006gameId\030\001 \002(\t\022\014\n\004keys\030\002 \003(\t\022\014\n\004seed" +
+      "\030\003 \002(\t\022\r\n\005mapId\030\004 \002(\005\022\021\n\trequestId\030\005 \001(\005" +
+      "\"Q\n\023GameServerHeartbeat\022\020\n\010sessions\030\001 \002(" +
+      "\005\022\017\n\007players\030\002 \002(\005\022\027\n\017tickOverrunRate\030\003 " +
+      "\002(\005\"z\n\023GameServerSetupData\022\016\n\006gameId\030\001 \002" +
+      "(\t\022\013\n\003key\030\002 \002(\t\022\014\n\004seed\030\003 \002(\t\022\r\n\005mapId\030\004",
+      " \002(\005\022\n\n\002ip\030\005 \002(\t\022\014\n\004port\030\006 \002(\005\022\017\n\007traceI" +
+      "d\030\007 \001(\t\"\036\n\013FindingGame\022\017\n\007finding\030\001 \002(\010B" +
+      "+\n)com.fuzzjump.server.common.messages.l" +
+      "obby"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -8390,74 +11233,86 @@ public final class Lobby {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_LobbyState_descriptor,
         new java.lang.String[] { "MapSlots", "Players", "Time", });
-    internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor =
+    internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_fuzzjump_server_common_messages_lobby_LobbyDelta_descriptor,
+        new java.lang.String[] { "Players", "RemovedPlayers", "MapSlots", "Time", });
+    internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor =
+      getDescriptor().getMessageTypes().get(2);
     internal_static_com_fuzzjump_server_common_messages_lobby_Player_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_Player_descriptor,
         new java.lang.String[] { "UserId", "PlayerIndex", "Ready", });
     internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(3);
     internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_TimeState_descriptor,
         new java.lang.String[] { "Time", });
     internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(4);
     internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_MapSlot_descriptor,
         new java.lang.String[] { "MapId", "Votes", });
     internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_MapSlotSet_descriptor,
         new java.lang.String[] { "MapId", });
     internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_ReadySet_descriptor,
         new java.lang.String[] { "Ready", });
     internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_Loaded_descriptor,
-        new java.lang.String[] { "GameId", "Private", });
+        new java.lang.String[] { "GameId", "Private", "Rank", });
     internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_GameFound_descriptor,
         new java.lang.String[] { "Found", "GameName", "GameId", });
     internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_GameServerFound_descriptor,
         new java.lang.String[] { "Found", });
     internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetup_descriptor,
-        new java.lang.String[] { "PlayerCount", "MapId", });
+        new java.lang.String[] { "PlayerCount", "MapId", "RequestId", });
     internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupResponse_descriptor,
-        new java.lang.String[] { "GameId", "Keys", "Seed", "MapId", });
+        new java.lang.String[] { "GameId", "Keys", "Seed", "MapId", "RequestId", });
+    internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_fuzzjump_server_common_messages_lobby_GameServerHeartbeat_descriptor,
+        new java.lang.String[] { "Sessions", "Players", "TickOverrunRate", });
     internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupData_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_GameServerSetupData_descriptor,
-        new java.lang.String[] { "GameId", "Key", "Seed", "MapId", "Ip", "Port", });
+        new java.lang.String[] { "GameId", "Key", "Seed", "MapId", "Ip", "Port", "TraceId", });
     internal_static_com_fuzzjump_server_common_messages_lobby_FindingGame_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_com_fuzzjump_server_common_messages_lobby_FindingGame_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_fuzzjump_server_common_messages_lobby_FindingGame_descriptor,
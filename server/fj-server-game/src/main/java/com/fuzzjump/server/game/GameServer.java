@@ -6,24 +6,36 @@ import com.fuzzjump.server.common.messages.game.Game;
 import com.fuzzjump.server.common.messages.lobby.Lobby;
 import com.fuzzjump.server.game.game.GamePlayer;
 import com.fuzzjump.server.game.game.GameSession;
+import com.steveadoo.server.base.TickEngine;
+import com.steveadoo.server.base.trace.Tracer;
 import com.steveadoo.server.common.packets.PacketProcessor;
 
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.util.concurrent.GlobalEventExecutor;
 
 public class GameServer extends FuzzJumpServer<GamePlayer, GameServerConfig> {
 
     private static final int TICK = 100;
+    private static final int HEARTBEAT_INTERVAL = 1000;
 
     private final GameServerPlayerValidator gameServerValidator;
-    private final ScheduledExecutorService gameService = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+    private final TickEngine tickEngine = new TickEngine(TICK, TimeUnit.MILLISECONDS);
 
     private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    //matchmaker control connections, they get our heartbeats
+    private final ChannelGroup controlChannels = new DefaultChannelGroup("matchmakers", GlobalEventExecutor.INSTANCE);
+
+    //only touched by the heartbeat task
+    private long lastTicks;
+    private long lastOverruns;
+    private volatile int tickOverrunRate;
 
 
     public GameServer(GameServerConfig serverInfo) {
@@ -34,18 +46,53 @@ public class GameServer extends FuzzJumpServer<GamePlayer, GameServerConfig> {
         getPacketProcessor().addListener(Lobby.GameServerSetup.class, this::onGameServerSetup);
         getPacketProcessor().addListener(Game.JoinGame.class, this::onJoinGame);
         getPacketProcessor().addListener(Game.Loaded.class, this::onGameLoaded);
+        getExecutorService().scheduleAtFixedRate(this::sendHeartbeat, HEARTBEAT_INTERVAL, HEARTBEAT_INTERVAL, TimeUnit.MILLISECONDS);
+        getMetrics().register("game.tick", tickEngine);
+        getMetrics().gauge("game.sessions", sessions::size);
+    }
+
+    private void sendHeartbeat() {
+        try {
+            TickEngine.Stats stats = tickEngine.getStats();
+            long ticks = stats.ticks - lastTicks;
+            long overruns = stats.overruns - lastOverruns;
+            lastTicks = stats.ticks;
+            lastOverruns = stats.overruns;
+            tickOverrunRate = ticks == 0 ? 0 : (int) (overruns * 1000 / ticks);
+            if (!controlChannels.isEmpty()) {
+                controlChannels.writeAndFlush(buildHeartbeat());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private Lobby.GameServerHeartbeat buildHeartbeat() {
+        return Lobby.GameServerHeartbeat.newBuilder()
+                .setSessions(sessions.size())
+                .setPlayers(Math.max(0, getConnectionCount() - controlChannels.size()))
+                .setTickOverrunRate(tickOverrunRate)
+                .build();
     }
 
     private void onJoinGame(GamePlayer player, Game.JoinGame message) {
         try {
+            Tracer.span(player, "joinGame");
             String key = message.getGameId();
             if (!sessions.containsKey(key)) {
                 player.getChannel().writeAndFlush(Game.JoinGameResponse.newBuilder().setFound(false).buildPartial());
             } else {
                 player.getChannel().writeAndFlush(Game.JoinGameResponse.newBuilder().setFound(true).buildPartial());
                 GameSession session = sessions.get(key);
-                session.addPlayer(player);
-                checkSessionStart(session, false);
+                session.execute(() -> {
+                    try {
+                        session.addPlayer(player);
+                        checkSessionStart(session, false);
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                        player.getChannel().disconnect();
+                    }
+                });
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -54,13 +101,21 @@ public class GameServer extends FuzzJumpServer<GamePlayer, GameServerConfig> {
     }
 
     private void onGameLoaded(GamePlayer player, Game.Loaded message) {
-        try {
-            player.setLoaded(true);
-            checkSessionLoaded((GameSession) player.getSession(), false);
-        } catch (Exception e) {
-            e.printStackTrace();
+        GameSession session = (GameSession) player.getSession();
+        if (session == null) {
             player.getChannel().disconnect();
+            return;
         }
+        session.execute(() -> {
+            try {
+                Tracer.span(player, "loaded");
+                player.setLoaded(true);
+                checkSessionLoaded(session, false);
+            } catch (Exception e) {
+                e.printStackTrace();
+                player.getChannel().disconnect();
+            }
+        });
     }
 
     private void onGameServerSetup(GamePlayer player, Lobby.GameServerSetup message) {
@@ -71,62 +126,73 @@ public class GameServer extends FuzzJumpServer<GamePlayer, GameServerConfig> {
         int keyCount = message.getPlayerCount();
         String[] keys = gameServerValidator.generateSessionKeys(keyCount);
         String gameId = UUID.randomUUID().toString();
-        GameSession session = new GameSession(message.getMapId(), gameId, message.getPlayerCount());
+        //any of the worker loops, not the control connection's. a matchmaker only has a couple of those, and every
+        //game it set up would tick on them
+        EventLoop eventLoop = player.getChannel().eventLoop().parent().next();
+        GameSession session = new GameSession(message.getMapId(), gameId, message.getPlayerCount(), getBroadcaster(), eventLoop);
         sessions.put(gameId, session);
         Lobby.GameServerSetupResponse.Builder builder = Lobby.GameServerSetupResponse.newBuilder();
         builder.setGameId(gameId);
         builder.setSeed(session.seed);
         builder.setMapId(session.mapId);
+        //the matchmaker can have several setups in flight on this connection
+        if (message.hasRequestId()) {
+            builder.setRequestId(message.getRequestId());
+        }
         for (int i = 0; i < keys.length; i++) {
             builder.addKeys(keys[i]);
         }
         player.getChannel().writeAndFlush(builder.buildPartial());
 
         //everybody has 10 seconds to connect. it will force start then
-        getExecutorService().schedule(() -> {
+        getTimerService().schedule(() -> {
             checkSessionStart(session, true);
-        }, 10000, TimeUnit.MILLISECONDS);
+        }, 10000, TimeUnit.MILLISECONDS, session.getEventLoop());
     }
 
+    //these run on the session's event loop, so they don't need to lock it
     private void checkSessionStart(GameSession session, boolean forceStart) {
-        synchronized (session) {
-            if (session.isStarted()) {
-                session.sendPlayers();
-                return;
-            }
-            if (session.isDestroyed() || !session.checkStart(forceStart)) {
-                return;
-            }
-            if (session.getPlayers().size() <= 0) {
-                session.destroy();
-                sessions.remove(session.id);
-            } else {
-                session.sendPlayers();
-                getExecutorService().schedule(() -> {
-                    checkSessionLoaded(session, true);
-                }, 5000, TimeUnit.MILLISECONDS);
+        if (session.isStarted()) {
+            session.sendPlayers();
+            return;
+        }
+        if (session.isDestroyed() || !session.checkStart(forceStart)) {
+            return;
+        }
+        if (session.getPlayers().size() <= 0) {
+            session.destroy();
+            sessions.remove(session.id);
+        } else {
+            //everyone's here, or the rest ran out of time
+            for (GamePlayer player : session.getPlayers()) {
+                Tracer.waited(player, "ready");
             }
+            session.sendPlayers();
+            getTimerService().schedule(() -> {
+                checkSessionLoaded(session, true);
+            }, 5000, TimeUnit.MILLISECONDS, session.getEventLoop());
         }
     }
 
     private void checkSessionLoaded(GameSession session, boolean forceStart) {
-        synchronized (session) {
-            if (session.isDestroyed() || session.isLoaded() || !session.checkLoaded(forceStart)) {
-                return;
-            }
-            if (session.getPlayers().size() <= 0) {
-                session.destroy();
-                sessions.remove(session.id);
-            } else {
-                session.setFuture(gameService.scheduleAtFixedRate(() -> processSession(session), TICK, TICK, TimeUnit.MILLISECONDS));
+        if (session.isDestroyed() || session.isLoaded() || !session.checkLoaded(forceStart)) {
+            return;
+        }
+        if (session.getPlayers().size() <= 0) {
+            session.destroy();
+            sessions.remove(session.id);
+        } else {
+            for (GamePlayer player : session.getPlayers()) {
+                getTracer().finish(player, "countdown");
             }
+            session.startTicking(tickEngine, () -> processSession(session));
         }
     }
 
     private void processSession(GameSession session) {
         try {
-            if (session.update()) {
-                session.getFuture().cancel(true);
+            if (session.tick()) {
+                session.stopTicking();
                 session.destroy();
                 sessions.remove(session.id);
             }
@@ -143,6 +209,12 @@ public class GameServer extends FuzzJumpServer<GamePlayer, GameServerConfig> {
     @Override
     public void connected(GamePlayer player) {
         System.out.println("Channel connected");
+        if (player.isServer()) {
+            //a matchmaker's control connection. it gets a heartbeat now so it can start placing games here
+            controlChannels.add(player.getChannel());
+            player.getChannel().writeAndFlush(buildHeartbeat());
+            return;
+        }
         //TODO add timer to remove player in 10 seconds if they havent send the game id packet.
         //check player count
     }
@@ -152,10 +224,17 @@ public class GameServer extends FuzzJumpServer<GamePlayer, GameServerConfig> {
         if (player.getSession() == null)
             return;
         GameSession session = (GameSession) player.getSession();
-        session.removePlayer(player);
-        if (!session.isStarted() && !session.isLoaded()) {
-            session.destroy();
-            sessions.remove(session.id);
-        }
+        session.execute(() -> {
+            session.removePlayer(player);
+            if (!session.isStarted() && !session.isLoaded()) {
+                session.destroy();
+                sessions.remove(session.id);
+            }
+        });
     }
+
+    public TickEngine getTickEngine() {
+        return tickEngine;
+    }
+
 }
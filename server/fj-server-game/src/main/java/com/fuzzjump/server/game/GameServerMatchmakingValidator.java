@@ -2,6 +2,7 @@ package com.fuzzjump.server.game;
 
 
 import com.fuzzjump.server.base.FuzzJumpPlayer;
+import com.fuzzjump.server.base.SessionTokens;
 import com.fuzzjump.server.common.messages.join.Join;
 import com.steveadoo.server.base.Player;
 import com.steveadoo.server.base.validation.Validator;
@@ -12,9 +13,13 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class GameServerMatchmakingValidator implements Validator {
 
+    private static Logger logger = Logger.getLogger("GameServerMatchmakingValidator");
+
     private final GameServer gameServer;
 
     private ConcurrentHashMap<String, Long> sessionKeys = new ConcurrentHashMap<>();
@@ -34,6 +39,11 @@ public class GameServerMatchmakingValidator implements Validator {
 
     /**
      * The game server only lets you connect w/ game server session keys(eg, not keys generated by the web api).
+     * Signed keys are checked locally, anything else is checked with the api.
+     *
+     * A matchmaker that signs with a different token key than ours, or only one of us having one, is refused straight
+     * away. Every token it signs would be refused anyway, so it's logged as a config problem instead of looking like a
+     * bad token on every reconnect. The response says which key we have, so the matchmaker can stop trying too.
      */
     @Override
     public CompletableFuture<Boolean> validate(Player player, Object message) {
@@ -44,11 +54,35 @@ public class GameServerMatchmakingValidator implements Validator {
         }
         FuzzJumpPlayer fjPlayer = (FuzzJumpPlayer) player;
         fjPlayer.setServer(true);
+        SessionTokens tokens = gameServer.getSessionTokens();
+        String keyId = tokens == null ? "" : tokens.getKeyId();
+        if (!keyId.equals(packet.getTokenKeyId())) {
+            logger.log(Level.SEVERE, "Matchmaker " + packet.getMachineName() + " has token key "
+                    + describeKey(packet.getTokenKeyId()) + " but we have " + describeKey(keyId)
+                    + ", set the same FUZZ_TOKEN_KEY on both or on neither");
+            player.getChannel().writeAndFlush(getJoinResponse(false));
+            return CompletableFuture.completedFuture(false);
+        }
+        if (tokens != null && SessionTokens.isSigned(packet.getSessionKey())) {
+            SessionTokens.Result result = tokens.check(packet.getSessionKey(), packet.getMachineName(), SessionTokens.MATCH_TO_GAME);
+            if (result != SessionTokens.Result.VALID) {
+                logger.log(Level.WARNING, "Refused the session token for matchmaker " + packet.getMachineName() + ": " + result);
+            }
+            boolean validated = result == SessionTokens.Result.VALID;
+            player.getChannel().writeAndFlush(getJoinResponse(validated));
+            return CompletableFuture.completedFuture(validated);
+        }
         CompletableFuture<Boolean> future = new CompletableFuture<>();
-        gameServer.getApi().getSessionService().verifyServer(packet.getMachineName(), "MATCH->GAME", packet.getSessionKey())
+        gameServer.getApi().getSessionService().verifyServer(packet.getMachineName(), SessionTokens.MATCH_TO_GAME, packet.getSessionKey())
                 .map(response -> response != null && response.getBody())
-                .onErrorReturn(err -> false)
+                .onErrorReturn(err -> {
+                    logger.log(Level.WARNING, "Couldn't check the session token for matchmaker " + packet.getMachineName() + " with the api", err);
+                    return false;
+                })
                 .subscribe(validated -> {
+                    if (!validated) {
+                        logger.log(Level.WARNING, "The api refused the session token for matchmaker " + packet.getMachineName());
+                    }
                     player.getChannel().writeAndFlush(getJoinResponse(validated));
                     future.complete(validated);
                 });
@@ -57,12 +91,20 @@ public class GameServerMatchmakingValidator implements Validator {
     }
 
     private Join.JoinResponsePacket getJoinResponse(boolean valid) {
-        return Join.JoinResponsePacket.newBuilder()
+        Join.JoinResponsePacket.Builder builder = Join.JoinResponsePacket.newBuilder()
                 .setRedirect(false)
                 .setServerIp(gameServer.getServerInfo().ip)
                 .setServerPort(gameServer.getServerInfo().port)
-                .setStatus(valid ? Validation.AUTHORIZED : Validation.UNAUTHORIZED)
-                .build();
+                .setStatus(valid ? Validation.AUTHORIZED : Validation.UNAUTHORIZED);
+        SessionTokens tokens = gameServer.getSessionTokens();
+        if (tokens != null) {
+            builder.setTokenKeyId(tokens.getKeyId());
+        }
+        return builder.build();
+    }
+
+    private static String describeKey(String keyId) {
+        return keyId.isEmpty() ? "(none)" : keyId;
     }
 
 }
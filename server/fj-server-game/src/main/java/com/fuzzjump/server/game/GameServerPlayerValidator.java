@@ -4,25 +4,24 @@ package com.fuzzjump.server.game;
 import com.fuzzjump.server.base.FuzzJumpPlayer;
 import com.fuzzjump.server.common.messages.join.Join;
 import com.steveadoo.server.base.Player;
+import com.steveadoo.server.base.trace.Tracer;
 import com.steveadoo.server.base.validation.Validator;
 import com.steveadoo.server.common.packets.Validation;
 
-import java.math.BigInteger;
-import java.security.SecureRandom;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import io.netty.util.Timeout;
+
 public class GameServerPlayerValidator implements Validator {
 
-    private static final long PURGE_RATE = 5000;
     private static final long KEY_DURATION = 30000;
 
     private final GameServer gameServer;
 
-    private ConcurrentHashMap<String, Long> sessionKeys = new ConcurrentHashMap<>();
+    //each key has a timeout that removes it once it expires
+    private ConcurrentHashMap<String, Timeout> sessionKeys = new ConcurrentHashMap<>();
 
     public GameServerPlayerValidator(GameServer gameServer) {
         this.gameServer = gameServer;
@@ -30,21 +29,6 @@ public class GameServerPlayerValidator implements Validator {
 
     @Override
     public void init() {
-        this.gameServer.getExecutorService().scheduleAtFixedRate(this::purgeOldKeys, 0, PURGE_RATE, TimeUnit.MILLISECONDS);
-    }
-
-    /**
-     * Removes old session keys from the map (eg someone fails to make a connection to the game
-     */
-    private void purgeOldKeys() {
-        Iterator<Map.Entry<String, Long>> entries = sessionKeys.entrySet().iterator();
-        while(entries.hasNext()) {
-            Map.Entry<String, Long> entry = entries.next();
-            long time = entry.getValue();
-            if (System.currentTimeMillis() - time > KEY_DURATION) {
-                entries.remove();
-            }
-        }
     }
 
     @Override
@@ -59,18 +43,24 @@ public class GameServerPlayerValidator implements Validator {
     public CompletableFuture<Boolean> validate(Player player, Object message) {
         FuzzJumpPlayer fuzzJumpPlayer = (FuzzJumpPlayer) player;
         Join.JoinPacket joinPacket = (Join.JoinPacket) message;
-        if (!sessionKeys.containsKey(joinPacket.getServerSessionKey())) {
+        //carries on the trace the matchmaker started
+        gameServer.getTracer().start(player, joinPacket.hasTraceId() ? joinPacket.getTraceId() : null).span("join");
+        Timeout expiry = sessionKeys.remove(joinPacket.getServerSessionKey());
+        if (expiry == null) {
+            gameServer.getTracer().finish(player, "unauthorized");
             player.getChannel().writeAndFlush(getJoinResponse(false));
             return CompletableFuture.completedFuture(false);
         }
+        expiry.cancel();
+        Tracer.span(player, "validated");
         fuzzJumpPlayer.setUserId(joinPacket.getUserId());
-        sessionKeys.remove(joinPacket.getServerSessionKey());
         player.getChannel().writeAndFlush(getJoinResponse(true));
         return CompletableFuture.completedFuture(true);
     }
 
     /**
-     * Generates and stores sessionKeys for joining this server
+     * Generates and stores sessionKeys for joining this server. Keys expire after KEY_DURATION
+     * (eg someone fails to make a connection to the game)
      * TODO should we attach profile id to this?
      */
     public String[] generateSessionKeys(int keyCount) {
@@ -78,7 +68,7 @@ public class GameServerPlayerValidator implements Validator {
         for(int i = 0; i < keyCount; i++) {
             String key = gameServer.generateKey();
             keys[i] = key;
-            sessionKeys.put(key, System.currentTimeMillis());
+            sessionKeys.put(key, gameServer.getTimerService().schedule(() -> sessionKeys.remove(key), KEY_DURATION, TimeUnit.MILLISECONDS));
         }
         return keys;
     }
@@ -4,7 +4,6 @@ import com.fuzzjump.server.base.FuzzJumpServerConfig;
 import com.steveadoo.server.base.ServerBootstrapper;
 
 import java.io.IOException;
-import java.net.InetSocketAddress;
 
 import io.netty.bootstrap.ServerBootstrap;
 
@@ -13,11 +12,11 @@ public class Main {
     public static void main(String[] args) throws IOException {
         GameServerConfig config = loadConfig(args);
         GameServer server = new GameServer(config);
-        ServerBootstrapper bootstrapper = new ServerBootstrapper();
+        server.exportMetrics(FuzzJumpServerConfig.loadMetricsAddress());
+        ServerBootstrapper bootstrapper = new ServerBootstrapper(FuzzJumpServerConfig.loadTransportConfig());
         ServerBootstrap bootstrap = bootstrapper.bootstrap(server);
         if (config.port != config.privatePort) {
-            bootstrap.bind(new InetSocketAddress(config.privatePort));
-            System.out.println("Listening on port " + config.privatePort);
+            bootstrapper.bind(bootstrap, config.privatePort);
         }
     }
 
@@ -2,9 +2,11 @@ package com.fuzzjump.server.game.game;
 
 import com.fuzzjump.server.base.FuzzJumpSession;
 import com.fuzzjump.server.common.messages.game.Game;
+import com.steveadoo.server.base.net.Broadcaster;
 
 import java.util.UUID;
-import java.util.concurrent.ScheduledFuture;
+
+import io.netty.channel.EventLoop;
 
 public class GameSession extends FuzzJumpSession<GamePlayer> {
 
@@ -18,10 +20,8 @@ public class GameSession extends FuzzJumpSession<GamePlayer> {
     private long lastTime;
     private float remainingTime = 2;
 
-    private ScheduledFuture<?> future;
-
-    public GameSession(int mapId, String gameId, int max) {
-        super(gameId, max);
+    public GameSession(int mapId, String gameId, int max, Broadcaster broadcaster, EventLoop eventLoop) {
+        super(gameId, max, broadcaster, eventLoop);
         this.mapId = mapId;
         this.seed = UUID.randomUUID().toString();
     }
@@ -32,9 +32,7 @@ public class GameSession extends FuzzJumpSession<GamePlayer> {
         for (GamePlayer player : players) {
             readyBuilder.addPlayers(Game.Player.newBuilder().setPlayerIndex(player.getIndex()).setUserId(player.getUserId()).buildPartial());
         }
-        for (GamePlayer player : players) {
-            player.getChannel().writeAndFlush(readyBuilder.buildPartial());
-        }
+        broadcast(readyBuilder.buildPartial());
     }
 
     @Override
@@ -55,9 +53,7 @@ public class GameSession extends FuzzJumpSession<GamePlayer> {
     private void sendCountdown(float remainingTime) {
         Game.Countdown.Builder countdownBuilder = Game.Countdown.newBuilder();
         countdownBuilder.setTime((int) remainingTime);
-        for (GamePlayer player : players) {
-            player.getChannel().writeAndFlush(countdownBuilder.buildPartial());
-        }
+        broadcast(countdownBuilder.buildPartial());
     }
 
     @Override
@@ -94,14 +90,6 @@ public class GameSession extends FuzzJumpSession<GamePlayer> {
         return loaded = true;
     }
 
-    public ScheduledFuture<?> getFuture() {
-        return future;
-    }
-
-    public void setFuture(ScheduledFuture<?> tickFuture) {
-        this.future = tickFuture;
-    }
-
     public boolean isDestroyed() {
         return destroyed;
     }
@@ -0,0 +1,164 @@
+package com.fuzzjump.server.loadgen;
+
+import com.fuzzjump.server.base.SessionTokens;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.steveadoo.server.base.TimerService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Just enough of the web api for the servers to run against: logging in, and handing out and checking session
+ * tokens. Tokens are signed with the key the servers are given, so with FUZZ_TOKEN_KEY set they never call back here
+ * to check one. Any username and password logs in, and the access token is the username, so a request's bearer token
+ * says who made it.
+ */
+public class ApiStandIn {
+
+    private static final long TOKEN_TTL_SECONDS = 60;
+
+    private final HttpServer server;
+    private final SessionTokens tokens;
+    private final TimerService timerService = new TimerService();
+    private final LongAdder requests = new LongAdder();
+
+    public ApiStandIn(InetSocketAddress address, String tokenKey) throws IOException {
+        this.tokens = new SessionTokens(Base64.getDecoder().decode(tokenKey), timerService);
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/connect/token", this::login);
+        server.createContext("/session/server", exchange -> session(exchange, true));
+        server.createContext("/session", exchange -> session(exchange, false));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        timerService.stop();
+    }
+
+    /**
+     * @return the url to give the servers as FUZZ_API
+     */
+    public String getUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort() + "/";
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Signs a token the way GET session does, without going over http
+     */
+    public String issue(String subject, String feature) {
+        return tokens.sign(subject, feature, TOKEN_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        Map<String, String> form = parseQuery(read(exchange));
+        JsonObject response = new JsonObject();
+        response.addProperty("access_token", form.get("username"));
+        respond(exchange, 200, response);
+    }
+
+    private void session(HttpExchange exchange, boolean server) throws IOException {
+        if (exchange.getRequestMethod().equals("GET")) {
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String subject = server ? query.get("machineName") : getBearer(exchange);
+            if (subject == null || query.get("feature") == null) {
+                respond(exchange, 400, null);
+                return;
+            }
+            JsonObject response = new JsonObject();
+            response.addProperty("success", true);
+            response.addProperty("body", issue(subject, query.get("feature")));
+            respond(exchange, 200, response);
+            return;
+        }
+        JsonObject request;
+        try {
+            request = new JsonParser().parse(read(exchange)).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            respond(exchange, 400, null);
+            return;
+        }
+        boolean verified = request.has("userId") && request.has("feature") && request.has("token")
+                && tokens.verify(request.get("token").getAsString(), request.get("userId").getAsString(), request.get("feature").getAsString());
+        JsonObject response = new JsonObject();
+        response.addProperty("success", true);
+        response.addProperty("body", verified);
+        respond(exchange, 200, response);
+    }
+
+    private static String getBearer(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+        return authorization.substring("Bearer ".length());
+    }
+
+    private static Map<String, String> parseQuery(String query) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        if (query == null || query.equals("")) {
+            return values;
+        }
+        for (String pair : query.split("&")) {
+            int split = pair.indexOf('=');
+            if (split > 0) {
+                values.put(URLDecoder.decode(pair.substring(0, split), "UTF-8"), URLDecoder.decode(pair.substring(split + 1), "UTF-8"));
+            }
+        }
+        return values;
+    }
+
+    private static String read(HttpExchange exchange) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        try (InputStreamReader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            char[] buffer = new char[1024];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                builder.append(buffer, 0, read);
+            }
+        }
+        return builder.toString();
+    }
+
+    private void respond(HttpExchange exchange, int status, JsonObject response) throws IOException {
+        requests.increment();
+        try {
+            if (response == null) {
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            byte[] body = response.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+package com.fuzzjump.server.loadgen;
+
+import com.fuzzjump.server.base.SessionTokens;
+import com.fuzzjump.server.common.messages.game.Game;
+import com.fuzzjump.server.common.messages.join.Join;
+import com.fuzzjump.server.common.messages.lobby.Lobby;
+import com.steveadoo.server.common.packets.Validation;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+
+/**
+ * One headless player going through a join the way the game does: join matchmaking, vote for a map and ready up in a
+ * lobby, follow the setup data to the game server, join the game and load. The join is done at the first countdown.
+ *
+ * It's only ever connected to one server at a time. Messages from any channel but the current one are ignored, and
+ * everything is synchronized since the channels can be on different event loops.
+ */
+public class Bot {
+
+    //a lobby can wait a minute for players, then the game server gives them 5 seconds to load
+    private static final long JOIN_TIMEOUT_SECONDS = 90;
+
+    public final String userId;
+
+    private final BotSwarm swarm;
+    private final int rank;
+
+    private Channel channel;
+    private boolean inGame;
+    private boolean done = true;
+    private long startNanos;
+    private ScheduledFuture<?> timeout;
+    //joins in a row that failed, so the swarm can back off
+    private int failedInARow;
+
+    private String traceId;
+    private String gameId;
+    private String serverSessionKey;
+    private boolean voted;
+    private boolean loaded;
+
+    public Bot(BotSwarm swarm, int id) {
+        this.swarm = swarm;
+        this.userId = "bot-" + id;
+        this.rank = 1 + id % 50;
+    }
+
+    /**
+     * Starts a new join. Does nothing if one is still going
+     */
+    public synchronized void start() {
+        if (!done) {
+            return;
+        }
+        done = false;
+        inGame = false;
+        traceId = null;
+        gameId = null;
+        serverSessionKey = null;
+        voted = false;
+        loaded = false;
+        startNanos = System.nanoTime();
+        timeout = swarm.schedule(this::timedOut, JOIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        connect(swarm.getMatchmaking());
+    }
+
+    /**
+     * Gives up on the join without counting it, eg when the swarm stops
+     */
+    public synchronized void stop() {
+        if (done) {
+            return;
+        }
+        done = true;
+        timeout.cancel(false);
+        close();
+    }
+
+    private void connect(InetSocketAddress address) {
+        Channel previous = channel;
+        ChannelFuture future = swarm.connect(address, this);
+        Channel current = future.channel();
+        channel = current;
+        if (previous != null) {
+            previous.close();
+        }
+        future.addListener(f -> connected(current, f.isSuccess()));
+    }
+
+    private synchronized void connected(Channel sender, boolean success) {
+        if (sender != channel || done) {
+            return;
+        }
+        if (!success) {
+            finish("connectFailed");
+            return;
+        }
+        Join.JoinPacket.Builder builder = Join.JoinPacket.newBuilder()
+                .setVersion(1)
+                .setUserId(userId);
+        if (inGame) {
+            builder.setServerSessionKey(serverSessionKey);
+        } else {
+            builder.setSessionKey(swarm.getApi().issue(userId, SessionTokens.MATCHMAKING));
+        }
+        if (traceId != null) {
+            builder.setTraceId(traceId);
+        }
+        sender.writeAndFlush(builder.build());
+    }
+
+    synchronized void joinResponse(Channel sender, Join.JoinResponsePacket message) {
+        if (sender != channel || done) {
+            return;
+        }
+        if (message.hasTraceId()) {
+            traceId = message.getTraceId();
+        }
+        if (message.getStatus() != Validation.AUTHORIZED) {
+            finish("unauthorized");
+            return;
+        }
+        if (message.getRedirect()) {
+            swarm.redirected();
+            connect(new InetSocketAddress(message.getServerIp(), message.getServerPort()));
+            return;
+        }
+        if (inGame) {
+            sender.writeAndFlush(Game.JoinGame.newBuilder().setGameId(gameId).build());
+        } else {
+            sender.writeAndFlush(Lobby.Loaded.newBuilder().setRank(rank).build());
+        }
+    }
+
+    synchronized void gameFound(Channel sender, Lobby.GameFound message) {
+        if (sender == channel && !done && !message.getFound()) {
+            finish("noLobby");
+        }
+    }
+
+    synchronized void lobbyState(Channel sender, Lobby.LobbyState message) {
+        if (sender != channel || done || voted || message.getMapSlotsCount() == 0) {
+            return;
+        }
+        voted = true;
+        int slot = ThreadLocalRandom.current().nextInt(message.getMapSlotsCount());
+        sender.write(Lobby.MapSlotSet.newBuilder().setMapId(message.getMapSlots(slot).getMapId()).build());
+        sender.writeAndFlush(Lobby.ReadySet.newBuilder().setReady(true).build());
+    }
+
+    synchronized void gameServerFound(Channel sender, Lobby.GameServerFound message) {
+        if (sender == channel && !done && !message.getFound()) {
+            finish("noGameServer");
+        }
+    }
+
+    synchronized void gameServerSetupData(Channel sender, Lobby.GameServerSetupData message) {
+        if (sender != channel || done) {
+            return;
+        }
+        inGame = true;
+        gameId = message.getGameId();
+        serverSessionKey = message.getKey();
+        if (message.hasTraceId()) {
+            traceId = message.getTraceId();
+        }
+        connect(new InetSocketAddress(message.getIp(), message.getPort()));
+    }
+
+    synchronized void joinGameResponse(Channel sender, Game.JoinGameResponse message) {
+        if (sender == channel && !done && !message.getFound()) {
+            finish("noGame");
+        }
+    }
+
+    synchronized void gameReady(Channel sender, Game.GameReady message) {
+        if (sender != channel || done || loaded || !message.getSendLoaded()) {
+            return;
+        }
+        loaded = true;
+        sender.writeAndFlush(Game.Loaded.getDefaultInstance());
+    }
+
+    synchronized void countdown(Channel sender, Game.Countdown message) {
+        if (sender != channel || done) {
+            return;
+        }
+        finish(null);
+    }
+
+    synchronized void closed(Channel sender) {
+        if (sender == channel && !done) {
+            finish("disconnected");
+        }
+    }
+
+    private synchronized void timedOut() {
+        if (!done) {
+            finish(inGame ? "gameTimeout" : "lobbyTimeout");
+        }
+    }
+
+    /**
+     * @param failure why the join failed, or null if it made it to the countdown
+     */
+    private void finish(String failure) {
+        done = true;
+        timeout.cancel(false);
+        close();
+        failedInARow = failure == null ? 0 : failedInARow + 1;
+        swarm.finished(this, failure, failedInARow, System.nanoTime() - startNanos);
+    }
+
+    private void close() {
+        Channel current = channel;
+        channel = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+}
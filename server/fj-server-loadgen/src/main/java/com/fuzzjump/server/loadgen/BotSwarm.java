@@ -0,0 +1,266 @@
+package com.fuzzjump.server.loadgen;
+
+import com.fuzzjump.server.common.FuzzJumpMessageHandlers;
+import com.fuzzjump.server.common.messages.game.Game;
+import com.fuzzjump.server.common.messages.join.Join;
+import com.fuzzjump.server.common.messages.lobby.Lobby;
+import com.steveadoo.server.base.metrics.Histogram;
+import com.steveadoo.server.base.net.GamePacketDecoder;
+import com.steveadoo.server.base.net.GamePacketEncoder;
+import com.steveadoo.server.common.packets.Packet;
+import com.steveadoo.server.common.packets.PacketProcessor;
+import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
+import com.steveadoo.server.common.packets.exceptions.MissingHandlerException;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.AttributeKey;
+
+/**
+ * Runs a fixed number of bots, each one starting a new join as soon as its last one is done, so there are always that
+ * many joins in flight. A bot whose join failed waits a little before trying again, longer each time it fails in a
+ * row, so a stack that's down or refusing connections isn't hammered with connects. Every bot shares one event loop group and one PacketProcessor, and the bot a message is for
+ * is found from the channel it came in on.
+ */
+public class BotSwarm {
+
+    private static final AttributeKey<Bot> BOT_KEY = AttributeKey.valueOf("BotSwarm.bot");
+    //backoff after a failed join, doubled for every failure in a row up to the cap
+    private static final long BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5000;
+
+    private final InetSocketAddress matchmaking;
+    private final ApiStandIn api;
+    private final List<Bot> bots = new ArrayList<>();
+    private final EventLoopGroup group = new NioEventLoopGroup();
+    private final PacketProcessor packetProcessor = new PacketProcessor(FuzzJumpMessageHandlers.HANDLERS);
+    private final Bootstrap bootstrap;
+
+    private final LongAdder finished = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder redirects = new LongAdder();
+    //failed joins that were themselves a retry after a failure
+    private final LongAdder retryFailures = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> failures = new ConcurrentHashMap<>();
+    //join to countdown of completed joins, swapped out by resetLatency
+    private volatile Histogram latencyNanos = new Histogram();
+
+    private volatile boolean running;
+
+    public BotSwarm(int count, InetSocketAddress matchmaking, ApiStandIn api) {
+        this.matchmaking = matchmaking;
+        this.api = api;
+        for (int i = 0; i < count; i++) {
+            bots.add(new Bot(this, i));
+        }
+        BotHandler handler = new BotHandler();
+        GamePacketEncoder encoder = new GamePacketEncoder(packetProcessor);
+        bootstrap = new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline().addLast(new GamePacketDecoder(), encoder, handler);
+                    }
+                });
+        packetProcessor.addListener(Join.JoinResponsePacket.class, (Channel sender, Join.JoinResponsePacket message) -> bot(sender).joinResponse(sender, message))
+                .addListener(Lobby.GameFound.class, (Channel sender, Lobby.GameFound message) -> bot(sender).gameFound(sender, message))
+                .addListener(Lobby.LobbyState.class, (Channel sender, Lobby.LobbyState message) -> bot(sender).lobbyState(sender, message))
+                .addListener(Lobby.GameServerFound.class, (Channel sender, Lobby.GameServerFound message) -> bot(sender).gameServerFound(sender, message))
+                .addListener(Lobby.GameServerSetupData.class, (Channel sender, Lobby.GameServerSetupData message) -> bot(sender).gameServerSetupData(sender, message))
+                .addListener(Game.JoinGameResponse.class, (Channel sender, Game.JoinGameResponse message) -> bot(sender).joinGameResponse(sender, message))
+                .addListener(Game.GameReady.class, (Channel sender, Game.GameReady message) -> bot(sender).gameReady(sender, message))
+                .addListener(Game.Countdown.class, (Channel sender, Game.Countdown message) -> bot(sender).countdown(sender, message));
+    }
+
+    /**
+     * Starts the bots, spread evenly over the ramp
+     */
+    public void start(long ramp, TimeUnit unit) {
+        running = true;
+        long rampNanos = unit.toNanos(ramp);
+        for (int i = 0; i < bots.size(); i++) {
+            Bot bot = bots.get(i);
+            group.schedule(bot::start, rampNanos * i / bots.size(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stops starting joins, drops the ones in flight and closes every connection
+     */
+    public void stop() {
+        running = false;
+        for (Bot bot : bots) {
+            bot.stop();
+        }
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    ChannelFuture connect(InetSocketAddress address, Bot bot) {
+        ChannelFuture future = bootstrap.connect(address);
+        future.channel().attr(BOT_KEY).set(bot);
+        return future;
+    }
+
+    ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return group.schedule(task, delay, unit);
+    }
+
+    /**
+     * @param failedInARow how many of the bot's joins have failed in a row, including this one
+     */
+    void finished(Bot bot, String failure, int failedInARow, long nanos) {
+        if (!running) {
+            return;
+        }
+        if (failure == null) {
+            completed.increment();
+            latencyNanos.record(nanos);
+        } else {
+            LongAdder count = failures.get(failure);
+            if (count == null) {
+                failures.putIfAbsent(failure, new LongAdder());
+                count = failures.get(failure);
+            }
+            count.increment();
+            if (failedInARow > 1) {
+                retryFailures.increment();
+            }
+        }
+        finished.increment();
+        if (failedInARow == 0) {
+            //not straight away, this is called with the bot locked
+            group.execute(bot::start);
+        } else {
+            group.schedule(bot::start, backoffMillis(failedInARow), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Somewhere between half and all of the backoff, so bots that failed together don't all come back together
+     */
+    private static long backoffMillis(int failedInARow) {
+        long backoff = BACKOFF_MILLIS << Math.min(failedInARow - 1, 16);
+        backoff = Math.min(backoff, MAX_BACKOFF_MILLIS);
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    void redirected() {
+        redirects.increment();
+    }
+
+    InetSocketAddress getMatchmaking() {
+        return matchmaking;
+    }
+
+    ApiStandIn getApi() {
+        return api;
+    }
+
+    /**
+     * Starts recording latency from scratch, eg once the ramp is over
+     * @return the latency recorded until now
+     */
+    public Histogram resetLatency() {
+        Histogram previous = latencyNanos;
+        latencyNanos = new Histogram();
+        return previous;
+    }
+
+    public Histogram getLatency() {
+        return latencyNanos;
+    }
+
+    /**
+     * @return joins that finished, either way
+     */
+    public long getFinishedCount() {
+        return finished.sum();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRedirectCount() {
+        return redirects.sum();
+    }
+
+    /**
+     * @return failed joins from bots that were already backing off, ie their last join failed too
+     */
+    public long getRetryFailureCount() {
+        return retryFailures.sum();
+    }
+
+    /**
+     * @return failed joins by why they failed
+     */
+    public Map<String, Long> getFailures() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : failures.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return counts;
+    }
+
+    private static Bot bot(Channel channel) {
+        return channel.attr(BOT_KEY).get();
+    }
+
+    @ChannelHandler.Sharable
+    private class BotHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            Packet packet = (Packet) msg;
+            try {
+                packetProcessor.processPacket(ctx.channel(), packet);
+            } catch (MissingHandlerException | MessageHandlerException e) {
+                e.printStackTrace();
+            } finally {
+                packet.release();
+            }
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            Bot bot = bot(ctx.channel());
+            if (bot != null) {
+                bot.closed(ctx.channel());
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            ctx.close();
+        }
+
+    }
+
+}
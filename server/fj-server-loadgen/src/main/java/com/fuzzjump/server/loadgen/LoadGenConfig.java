@@ -0,0 +1,89 @@
+package com.fuzzjump.server.loadgen;
+
+import java.net.InetSocketAddress;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+public class LoadGenConfig {
+
+    //bots connected at once. each one starts a new join as soon as its last one is done
+    public final int bots;
+    //seconds to bring all the bots up over
+    public final int rampSeconds;
+    //seconds to run for once they're all up
+    public final int durationSeconds;
+    //seconds between progress reports
+    public final int reportSeconds;
+    //matchmaking server to join, null to run the servers in this process
+    public final InetSocketAddress matchmaking;
+    //metrics pages of servers running elsewhere, eg http://10.0.0.5:9100/metrics
+    public final List<String> metricsUrls;
+    //port for the api stand-in, 0 for any
+    public final int apiPort;
+    //base64 key the api stand-in signs tokens with, the servers need the same one
+    public final String tokenKey;
+
+    public LoadGenConfig(int bots, int rampSeconds, int durationSeconds, int reportSeconds, InetSocketAddress matchmaking,
+                         List<String> metricsUrls, int apiPort, String tokenKey) {
+        this.bots = bots;
+        this.rampSeconds = rampSeconds;
+        this.durationSeconds = durationSeconds;
+        this.reportSeconds = reportSeconds;
+        this.matchmaking = matchmaking;
+        this.metricsUrls = metricsUrls;
+        this.apiPort = apiPort;
+        this.tokenKey = tokenKey;
+    }
+
+    /**
+     * Loads the setup from FUZZ_LOADGEN_BOTS, FUZZ_LOADGEN_RAMP, FUZZ_LOADGEN_DURATION, FUZZ_LOADGEN_REPORT,
+     * FUZZ_LOADGEN_MATCHMAKING(host:port), FUZZ_LOADGEN_METRICS(url,url), FUZZ_LOADGEN_API_PORT and FUZZ_TOKEN_KEY.
+     * A token key is made up if there isn't one, which only works when the servers run in this process.
+     */
+    public static LoadGenConfig load() {
+        String matchmakingStr = System.getenv("FUZZ_LOADGEN_MATCHMAKING");
+        InetSocketAddress matchmaking = null;
+        if (matchmakingStr != null && !matchmakingStr.equals("")) {
+            int separator = matchmakingStr.lastIndexOf(':');
+            matchmaking = InetSocketAddress.createUnresolved(matchmakingStr.substring(0, separator).trim(),
+                    Integer.parseInt(matchmakingStr.substring(separator + 1).trim()));
+        }
+        List<String> metricsUrls = new ArrayList<>();
+        String metricsStr = System.getenv("FUZZ_LOADGEN_METRICS");
+        if (metricsStr != null && !metricsStr.equals("")) {
+            for (String url : metricsStr.split(",")) {
+                metricsUrls.add(url.trim());
+            }
+        }
+        String tokenKey = System.getenv("FUZZ_TOKEN_KEY");
+        if (tokenKey == null || tokenKey.equals("")) {
+            if (matchmaking != null) {
+                throw new IllegalArgumentException("FUZZ_TOKEN_KEY has to be set to the servers' key when they run elsewhere");
+            }
+            byte[] key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            tokenKey = Base64.getEncoder().encodeToString(key);
+        }
+        return new LoadGenConfig(
+                getIntEnv("FUZZ_LOADGEN_BOTS", 1000),
+                getIntEnv("FUZZ_LOADGEN_RAMP", 10),
+                getIntEnv("FUZZ_LOADGEN_DURATION", 60),
+                getIntEnv("FUZZ_LOADGEN_REPORT", 5),
+                matchmaking,
+                metricsUrls,
+                getIntEnv("FUZZ_LOADGEN_API_PORT", 0),
+                tokenKey
+        );
+    }
+
+    private static int getIntEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.equals("")) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.fuzzjump.server.loadgen;
+
+import com.fuzzjump.server.base.FuzzJumpServerConfig;
+import com.fuzzjump.server.game.GameServer;
+import com.fuzzjump.server.game.GameServerConfig;
+import com.fuzzjump.server.matchmaking.MatchmakingServer;
+import com.fuzzjump.server.matchmaking.MatchmakingServerConfig;
+import com.steveadoo.server.base.ServerBootstrapper;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A game server and a matchmaking server in this process, on free localhost ports, logging in to the api stand-in and
+ * checking tokens with its key. Each gets its own event loops like it would running on its own.
+ *
+ * FUZZ_MATCHMAKING_BATCH and the transport settings are read the same way the servers' own mains read them.
+ */
+public class LocalStack {
+
+    private static final String HOST = "127.0.0.1";
+    private static final String API_LOGIN = "loadgen";
+
+    private final GameServer gameServer;
+    private final MatchmakingServer matchmakingServer;
+    private final InetSocketAddress matchmaking;
+
+    public LocalStack(ApiStandIn api, String tokenKey) throws IOException {
+        int gamePort = freePort();
+        int matchmakingPort = freePort();
+
+        //the game server has to be up before matchmaking tries to hand it lobbies
+        gameServer = new GameServer(new GameServerConfig(config(gamePort, api, tokenKey)));
+        new ServerBootstrapper(FuzzJumpServerConfig.loadTransportConfig()).bootstrap(gameServer);
+
+        MatchmakingServerConfig matchmakingConfig = new MatchmakingServerConfig(config(matchmakingPort, api, tokenKey),
+                Collections.singletonList(InetSocketAddress.createUnresolved(HOST, gamePort)),
+                Boolean.parseBoolean(System.getenv("FUZZ_MATCHMAKING_BATCH")));
+        matchmakingServer = new MatchmakingServer(matchmakingConfig);
+        new ServerBootstrapper(FuzzJumpServerConfig.loadTransportConfig()).bootstrap(matchmakingServer);
+
+        matchmaking = new InetSocketAddress(HOST, matchmakingPort);
+    }
+
+    public InetSocketAddress getMatchmaking() {
+        return matchmaking;
+    }
+
+    public List<ServerMetrics> getMetrics() {
+        return Arrays.asList(ServerMetrics.local("matchmaking", matchmakingServer.getMetrics()),
+                ServerMetrics.local("game", gameServer.getMetrics()));
+    }
+
+    private static FuzzJumpServerConfig config(int port, ApiStandIn api, String tokenKey) {
+        return new FuzzJumpServerConfig(port, port, HOST, api.getUrl(), API_LOGIN, API_LOGIN,
+                FuzzJumpServerConfig.DEFAULT_WRITE_BUFFER_LOW_WATER_MARK,
+                FuzzJumpServerConfig.DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK,
+                FuzzJumpServerConfig.DEFAULT_MAX_PENDING_WRITE_BYTES,
+                tokenKey);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.fuzzjump.server.loadgen;
+
+import com.steveadoo.server.base.metrics.Histogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Brings FUZZ_LOADGEN_BOTS bots up over the ramp and keeps them joining for the duration, printing progress as it
+ * goes and a report at the end: join to countdown latency, joins per second, and what the servers used to get there.
+ * Latency in the report only counts joins that finished after the ramp.
+ *
+ * With FUZZ_LOADGEN_MATCHMAKING unset the servers run in this process, so the jvm numbers include the bots too.
+ */
+public class Main {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double BYTES_PER_MB = 1024 * 1024;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadGenConfig config = LoadGenConfig.load();
+
+        ApiStandIn api = new ApiStandIn(new InetSocketAddress("127.0.0.1", config.apiPort), config.tokenKey);
+        api.start();
+        System.out.println("api stand-in at " + api.getUrl());
+
+        List<ServerMetrics> servers = new ArrayList<>();
+        InetSocketAddress matchmaking = config.matchmaking;
+        if (matchmaking == null) {
+            LocalStack stack = new LocalStack(api, config.tokenKey);
+            matchmaking = stack.getMatchmaking();
+            servers.addAll(stack.getMetrics());
+            System.out.println("running the servers in process, the jvm numbers include the bots");
+        } else {
+            matchmaking = new InetSocketAddress(matchmaking.getHostString(), matchmaking.getPort());
+        }
+        for (String url : config.metricsUrls) {
+            servers.add(ServerMetrics.remote(url));
+        }
+
+        BotSwarm swarm = new BotSwarm(config.bots, matchmaking, api);
+        System.out.println(config.bots + " bots joining " + matchmaking + ", ramping up over " + config.rampSeconds + "s");
+        long startNanos = System.nanoTime();
+        swarm.start(config.rampSeconds, TimeUnit.SECONDS);
+
+        long rampEndNanos = startNanos + TimeUnit.SECONDS.toNanos(config.rampSeconds);
+        long endNanos = rampEndNanos + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+        long reportNanos = TimeUnit.SECONDS.toNanos(config.reportSeconds);
+        long nextReportNanos = startNanos + reportNanos;
+        Progress last = new Progress(swarm, servers);
+        //everything before this is warm up
+        Progress ramped = null;
+        while (true) {
+            long now = System.nanoTime();
+            if (ramped == null && now >= rampEndNanos) {
+                swarm.resetLatency();
+                ramped = new Progress(swarm, servers);
+                System.out.println("ramp done");
+            }
+            if (now >= endNanos) {
+                break;
+            }
+            if (now >= nextReportNanos) {
+                Progress current = new Progress(swarm, servers);
+                printProgress(last, current, startNanos);
+                last = current;
+                nextReportNanos += reportNanos;
+                continue;
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.min(nextReportNanos, ramped == null ? rampEndNanos : endNanos) - now);
+        }
+
+        Progress end = new Progress(swarm, servers);
+        long completed = end.completed - ramped.completed;
+        long failed = end.finished - ramped.finished - completed;
+        System.out.println();
+        System.out.println("=== " + config.bots + " bots for " + config.durationSeconds + "s after a " + config.rampSeconds + "s ramp ===");
+        System.out.printf("joins       %d completed, %d failed, %.1f completed/s%n",
+                completed, failed, completed / ((end.nanos - ramped.nanos) / 1e9));
+        System.out.println("latency     " + formatLatency(end.latency));
+        System.out.println("failures    " + end.failures + " (whole run)");
+        System.out.println("retried     " + swarm.getRetryFailureCount() + " of those failed again after backing off (whole run)");
+        System.out.println("redirects   " + swarm.getRedirectCount() + " (whole run)");
+        System.out.println("api calls   " + api.getRequestCount() + " (whole run)");
+        for (int i = 0; i < end.values.size(); i++) {
+            System.out.println(end.names.get(i) + "  " + formatServer(ramped.values.get(i), end.values.get(i), end.nanos - ramped.nanos));
+        }
+
+        swarm.stop();
+        api.stop();
+        System.exit(0);
+    }
+
+    private static void printProgress(Progress last, Progress current, long startNanos) {
+        double seconds = (current.nanos - last.nanos) / 1e9;
+        System.out.printf("[%4ds] %.1f finished/s, %.1f completed/s, latency %s, failures %s%n",
+                TimeUnit.NANOSECONDS.toSeconds(current.nanos - startNanos),
+                (current.finished - last.finished) / seconds,
+                (current.completed - last.completed) / seconds,
+                formatLatency(current.latency),
+                current.failures);
+        for (int i = 0; i < current.values.size(); i++) {
+            System.out.println("       " + current.names.get(i) + "  "
+                    + formatServer(last.values.get(i), current.values.get(i), current.nanos - last.nanos));
+        }
+    }
+
+    private static String formatLatency(Histogram.Snapshot latency) {
+        if (latency.count == 0) {
+            return "none yet";
+        }
+        return String.format("p50 %.0fms p90 %.0fms p99 %.0fms max %.0fms (%d joins)",
+                latency.getPercentile(50) / NANOS_PER_MILLI,
+                latency.getPercentile(90) / NANOS_PER_MILLI,
+                latency.getPercentile(99) / NANOS_PER_MILLI,
+                latency.max / NANOS_PER_MILLI,
+                latency.count);
+    }
+
+    /**
+     * cpu as cores used over the window, heap and threads as they are now, counters as how much they went up by
+     */
+    private static String formatServer(Map<String, Long> before, Map<String, Long> after, long windowNanos) {
+        if (after.isEmpty()) {
+            return "no metrics";
+        }
+        return String.format("cpu %.2f cores, heap %.0fMB, threads %d, connections %d, max pending tasks %d, tick overruns %d, gc %dms",
+                delta(before, after, "jvm.cpuNanos") / (double) windowNanos,
+                after.getOrDefault("jvm.heapUsed", 0L) / BYTES_PER_MB,
+                after.getOrDefault("jvm.threads", 0L),
+                after.getOrDefault("connections", 0L),
+                after.getOrDefault("eventLoop.maxPendingTasks", 0L),
+                delta(before, after, "lobby.tick.overruns") + delta(before, after, "game.tick.overruns"),
+                delta(before, after, "jvm.gcMillis"));
+    }
+
+    private static long delta(Map<String, Long> before, Map<String, Long> after, String name) {
+        return after.getOrDefault(name, 0L) - before.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Everything the swarm and the servers had counted at one point in time
+     */
+    private static class Progress {
+
+        final long nanos = System.nanoTime();
+        final long finished;
+        final long completed;
+        final Map<String, Long> failures;
+        final Histogram.Snapshot latency;
+        final List<String> names = new ArrayList<>();
+        final List<Map<String, Long>> values = new ArrayList<>();
+
+        Progress(BotSwarm swarm, List<ServerMetrics> servers) {
+            finished = swarm.getFinishedCount();
+            completed = swarm.getCompletedCount();
+            failures = swarm.getFailures();
+            latency = swarm.getLatency().snapshot();
+            for (ServerMetrics server : servers) {
+                names.add(server.name);
+                values.add(server.read());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.fuzzjump.server.loadgen;
+
+import com.steveadoo.server.base.metrics.MetricsRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * A server's metrics, read straight from its registry when it runs in this process or from its /metrics page when it
+ * doesn't.
+ */
+public class ServerMetrics {
+
+    private static final int TIMEOUT_MILLIS = 2000;
+
+    public final String name;
+
+    private final Supplier<Map<String, Long>> source;
+
+    private ServerMetrics(String name, Supplier<Map<String, Long>> source) {
+        this.name = name;
+        this.source = source;
+    }
+
+    public static ServerMetrics local(String name, MetricsRegistry registry) {
+        return new ServerMetrics(name, registry::snapshot);
+    }
+
+    public static ServerMetrics remote(String url) {
+        return new ServerMetrics(url, () -> fetch(url));
+    }
+
+    /**
+     * @return every metric by name, empty if they couldn't be read
+     */
+    public Map<String, Long> read() {
+        return source.get();
+    }
+
+    private static Map<String, Long> fetch(String url) {
+        Map<String, Long> values = new TreeMap<>();
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int split = line.lastIndexOf(' ');
+                    if (split > 0) {
+                        values.put(line.substring(0, split), Long.parseLong(line.substring(split + 1)));
+                    }
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return Collections.emptyMap();
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+        return values;
+    }
+
+}
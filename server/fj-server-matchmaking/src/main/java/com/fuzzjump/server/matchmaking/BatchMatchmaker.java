@@ -0,0 +1,389 @@
+package com.fuzzjump.server.matchmaking;
+
+import com.fuzzjump.server.matchmaking.lobby.LobbyPlayer;
+import com.steveadoo.server.base.TickEngine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+/**
+ * Forms lobbies from a pool of waiting players, instead of putting each player in an open lobby as they join.
+ *
+ * Players are pooled by rank. Every tick, each rank bucket is made into as many full lobbies as it can fill, oldest
+ * players first, so every lobby it makes starts full. A player's reach starts at their own bucket and grows by one
+ * bucket each way every widenAfter they wait. Leftovers are then grouped across buckets, oldest first: a group can
+ * take anyone whose bucket is in reach of the oldest player's, and whose own reach covers the oldest player's bucket.
+ * Players never leave their own bucket, so the range of ranks they can be matched with only widens. Anyone who waits
+ * longer than maxWait is handed back to be put in an open lobby.
+ *
+ * Joins go into lock free queues and the tick runs on its own thread. A tick takes at most maxPerTick players out of
+ * the queues, so a spike spreads over several ticks instead of making one run long. Players that disconnect while
+ * waiting are dropped when they're reached.
+ */
+public class BatchMatchmaker {
+
+    public static final int DEFAULT_RANK_BUCKET_WIDTH = 10;
+    public static final int DEFAULT_RANK_BUCKETS = 32;
+    public static final int DEFAULT_MAX_PER_TICK = 8192;
+    public static final long DEFAULT_WIDEN_AFTER_MILLIS = 5000;
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 30000;
+
+    private static final int SAMPLE_COUNT = 1024;
+
+    private final int lobbySize;
+    private final int rankBucketWidth;
+    private final int maxPerTick;
+    private final long widenAfterNanos;
+    private final long maxWaitNanos;
+    private final Consumer<List<LobbyPlayer>> matched;
+    private final Consumer<LobbyPlayer> timedOut;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentLinkedQueue<Waiting>[] queues;
+    //only touched on the matcher thread. after each tick no bucket has a full lobby's worth left
+    private final ArrayDeque<Waiting>[] waiting;
+
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicLong matchedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+
+    //recent time to match in millis, guarded by itself
+    private final long[] samples = new long[SAMPLE_COUNT];
+    private int sampleCount;
+    private int sampleIndex;
+
+    private EventExecutorGroup executorGroup;
+    private TickEngine.Handle tickHandle;
+
+    /**
+     * @param matched called on the matcher thread with each full lobby's worth of players
+     * @param timedOut called on the matcher thread with players that waited too long to be matched
+     */
+    public BatchMatchmaker(int lobbySize, Consumer<List<LobbyPlayer>> matched, Consumer<LobbyPlayer> timedOut) {
+        this(lobbySize, DEFAULT_RANK_BUCKET_WIDTH, DEFAULT_RANK_BUCKETS, DEFAULT_MAX_PER_TICK,
+                DEFAULT_WIDEN_AFTER_MILLIS, DEFAULT_MAX_WAIT_MILLIS, matched, timedOut);
+    }
+
+    public BatchMatchmaker(int lobbySize, int rankBucketWidth, int rankBuckets, int maxPerTick,
+                           long widenAfterMillis, long maxWaitMillis,
+                           Consumer<List<LobbyPlayer>> matched, Consumer<LobbyPlayer> timedOut) {
+        this(lobbySize, rankBucketWidth, rankBuckets, maxPerTick, widenAfterMillis, maxWaitMillis, matched, timedOut,
+                System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock what wait times are measured with, System.nanoTime outside of tests
+     */
+    BatchMatchmaker(int lobbySize, int rankBucketWidth, int rankBuckets, int maxPerTick,
+                    long widenAfterMillis, long maxWaitMillis,
+                    Consumer<List<LobbyPlayer>> matched, Consumer<LobbyPlayer> timedOut, LongSupplier nanoClock) {
+        this.lobbySize = lobbySize;
+        this.rankBucketWidth = rankBucketWidth;
+        this.maxPerTick = Math.max(maxPerTick, lobbySize * rankBuckets);
+        this.widenAfterNanos = TimeUnit.MILLISECONDS.toNanos(widenAfterMillis);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.matched = matched;
+        this.timedOut = timedOut;
+        this.nanoClock = nanoClock;
+        @SuppressWarnings("unchecked")
+        ConcurrentLinkedQueue<Waiting>[] queues = new ConcurrentLinkedQueue[rankBuckets];
+        @SuppressWarnings("unchecked")
+        ArrayDeque<Waiting>[] waiting = new ArrayDeque[rankBuckets];
+        for (int i = 0; i < rankBuckets; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+            waiting[i] = new ArrayDeque<>();
+        }
+        this.queues = queues;
+        this.waiting = waiting;
+    }
+
+    /**
+     * Starts matching on its own thread, once per tick of the engine
+     */
+    public void start(TickEngine engine) {
+        executorGroup = new DefaultEventExecutorGroup(1, new DefaultThreadFactory("matchmaker", true));
+        EventExecutor executor = executorGroup.next();
+        tickHandle = engine.register(executor, this::tick);
+    }
+
+    public void stop() {
+        if (tickHandle != null) {
+            tickHandle.cancel();
+            executorGroup.shutdownGracefully();
+        }
+    }
+
+    /**
+     * Puts the player in the pool. Does nothing if they're already in it
+     */
+    public void add(LobbyPlayer player) {
+        if (player.isWaiting()) {
+            return;
+        }
+        player.setWaiting(true);
+        depth.incrementAndGet();
+        int bucket = bucket(player.getRank());
+        queues[bucket].offer(new Waiting(player, bucket, nanoClock.getAsLong()));
+    }
+
+    private int bucket(int rank) {
+        return Math.max(0, Math.min(rank / rankBucketWidth, queues.length - 1));
+    }
+
+    /**
+     * Drains the join queues and forms what lobbies it can. start() runs this on the matcher thread every tick, it's
+     * only called directly by tests and benchmarks, and never from more than one thread at a time
+     */
+    public void tick() {
+        long now = nanoClock.getAsLong();
+        //each bucket gets an even share of what's left, so budget quiet buckets don't use goes to busy ones
+        int budget = maxPerTick;
+        for (int i = 0; i < queues.length; i++) {
+            budget -= drain(i, budget / (queues.length - i), now);
+        }
+        for (int i = 0; i < waiting.length; i++) {
+            form(i, now);
+        }
+        widen(now);
+    }
+
+    /**
+     * @return how many were taken off the queue
+     */
+    private int drain(int bucket, int max, long now) {
+        ConcurrentLinkedQueue<Waiting> queue = queues[bucket];
+        ArrayDeque<Waiting> pool = waiting[bucket];
+        Waiting entry;
+        int count = 0;
+        while (count < max && (entry = queue.poll()) != null) {
+            count++;
+            if (keep(entry, now)) {
+                pool.addLast(entry);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Makes full lobbies out of the bucket. Leftovers are checked for disconnects and timeouts since they'll wait
+     */
+    private void form(int bucket, long now) {
+        ArrayDeque<Waiting> pool = waiting[bucket];
+        while (pool.size() >= lobbySize) {
+            List<Waiting> group = new ArrayList<>(lobbySize);
+            while (group.size() < lobbySize && !pool.isEmpty()) {
+                Waiting entry = pool.pollFirst();
+                if (keep(entry, now)) {
+                    group.add(entry);
+                }
+            }
+            if (group.size() < lobbySize) {
+                //someone dropped while we were filling it, put the rest back at the front
+                for (int i = group.size() - 1; i >= 0; i--) {
+                    pool.addFirst(group.get(i));
+                }
+                break;
+            }
+            match(group, now);
+        }
+        int size = pool.size();
+        for (int i = 0; i < size; i++) {
+            Waiting entry = pool.pollFirst();
+            if (keep(entry, now)) {
+                pool.addLast(entry);
+            }
+        }
+    }
+
+    /**
+     * Groups the leftovers across buckets, for players that have waited long enough to reach past their own. Every
+     * bucket has less than a lobby's worth left after form, so there are never many to look through
+     */
+    private void widen(long now) {
+        List<Waiting> leftovers = new ArrayList<>();
+        for (ArrayDeque<Waiting> pool : waiting) {
+            leftovers.addAll(pool);
+        }
+        if (leftovers.size() < lobbySize) {
+            return;
+        }
+        //oldest first, they've the widest reach and have waited the longest
+        leftovers.sort((a, b) -> Long.signum(a.since - b.since));
+        Set<Waiting> taken = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Waiting> group = new ArrayList<>(lobbySize);
+        for (Waiting oldest : leftovers) {
+            int reach = reach(oldest, now);
+            if (reach == 0) {
+                //everyone after this has waited less, so they can't reach out either
+                break;
+            }
+            if (taken.contains(oldest)) {
+                continue;
+            }
+            group.clear();
+            group.add(oldest);
+            //nearest buckets first, and oldest first in each
+            for (int distance = 0; distance <= reach && group.size() < lobbySize; distance++) {
+                gather(oldest.bucket - distance, distance, now, taken, group);
+                if (distance > 0) {
+                    gather(oldest.bucket + distance, distance, now, taken, group);
+                }
+            }
+            if (group.size() < lobbySize) {
+                continue;
+            }
+            for (Waiting entry : group) {
+                taken.add(entry);
+                waiting[entry.bucket].remove(entry);
+            }
+            match(group, now);
+        }
+    }
+
+    /**
+     * Adds players from the bucket to the group, if it's in range and their reach covers the distance back
+     */
+    private void gather(int bucket, int distance, long now, Set<Waiting> taken, List<Waiting> group) {
+        if (bucket < 0 || bucket >= waiting.length) {
+            return;
+        }
+        for (Waiting entry : waiting[bucket]) {
+            if (group.size() == lobbySize) {
+                return;
+            }
+            if (entry != group.get(0) && !taken.contains(entry) && reach(entry, now) >= distance) {
+                group.add(entry);
+            }
+        }
+    }
+
+    /**
+     * @return how many buckets away from their own the player can be matched, one more for every widenAfter waited
+     */
+    private int reach(Waiting entry, long now) {
+        return (int) Math.min(waiting.length - 1, (now - entry.since) / widenAfterNanos);
+    }
+
+    /**
+     * Takes the group out of the pool and hands them off as a lobby
+     */
+    private void match(List<Waiting> group, long now) {
+        List<LobbyPlayer> players = new ArrayList<>(group.size());
+        for (Waiting entry : group) {
+            entry.player.setWaiting(false);
+            players.add(entry.player);
+            record(now - entry.since);
+        }
+        depth.addAndGet(-group.size());
+        matchedCount.addAndGet(group.size());
+        matched.accept(players);
+    }
+
+    /**
+     * @return false if the entry was dropped, because the player left or waited too long
+     */
+    private boolean keep(Waiting entry, long now) {
+        LobbyPlayer player = entry.player;
+        if (!player.getChannel().isActive()) {
+            player.setWaiting(false);
+            depth.decrementAndGet();
+            return false;
+        }
+        if (now - entry.since >= maxWaitNanos) {
+            player.setWaiting(false);
+            depth.decrementAndGet();
+            timedOutCount.incrementAndGet();
+            record(now - entry.since);
+            timedOut.accept(player);
+            return false;
+        }
+        return true;
+    }
+
+    private void record(long waitNanos) {
+        synchronized (samples) {
+            samples[sampleIndex] = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+            sampleIndex = (sampleIndex + 1) % samples.length;
+            if (sampleCount < samples.length) {
+                sampleCount++;
+            }
+        }
+    }
+
+    public Stats getStats() {
+        long[] sorted;
+        synchronized (samples) {
+            sorted = Arrays.copyOf(samples, sampleCount);
+        }
+        Arrays.sort(sorted);
+        return new Stats(depth.get(), matchedCount.get(), timedOutCount.get(),
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private static final class Waiting {
+
+        final LobbyPlayer player;
+        //their own rank bucket, they're only ever pooled in this one
+        final int bucket;
+        final long since;
+
+        Waiting(LobbyPlayer player, int bucket, long since) {
+            this.player = player;
+            this.bucket = bucket;
+            this.since = since;
+        }
+
+    }
+
+    public static final class Stats {
+
+        //players waiting, including any that left and haven't been dropped yet
+        public final int depth;
+        public final long matched;
+        public final long timedOut;
+        //time to match in millis over the last SAMPLE_COUNT players matched or timed out
+        public final long p50;
+        public final long p90;
+        public final long p99;
+
+        public Stats(int depth, long matched, long timedOut, long p50, long p90, long p99) {
+            this.depth = depth;
+            this.matched = matched;
+            this.timedOut = timedOut;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+        }
+
+        @Override
+        public String toString() {
+            return "depth=" + depth + " matched=" + matched + " timedOut=" + timedOut
+                    + " p50=" + p50 + "ms p90=" + p90 + "ms p99=" + p99 + "ms";
+        }
+
+    }
+
+}
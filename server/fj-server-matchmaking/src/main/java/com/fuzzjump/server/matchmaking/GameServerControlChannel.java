@@ -0,0 +1,330 @@
+package com.fuzzjump.server.matchmaking;
+
+import com.fuzzjump.server.common.messages.join.Join;
+import com.fuzzjump.server.common.messages.lobby.Lobby;
+import com.steveadoo.server.common.packets.Validation;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.util.AttributeKey;
+import io.netty.util.Timeout;
+
+/**
+ * A pool of long lived connections to one game server, used to set up games. Each connection is authenticated once
+ * when it's opened, and then carries any number of setup requests at the same time. Requests are tagged with an id
+ * that the game server echoes back, so responses can arrive in any order.
+ *
+ * Connections that drop are reopened after a delay, and requests that were waiting on them fail. If the game server
+ * has a different token key than ours, nothing we sign will be accepted, so it's logged and the pool stops for good.
+ *
+ * The game server sends a heartbeat with its load over every connection. It's only healthy, and only gets games, while
+ * those keep coming. If they stop, the connections are closed and reopened, see GameServerRegistry.
+ */
+public class GameServerControlChannel {
+
+    static final AttributeKey<GameServerControlChannel> CONTROL_KEY = AttributeKey.newInstance("GameServerControlChannel.control");
+    private static final AttributeKey<Integer> SLOT_KEY = AttributeKey.newInstance("GameServerControlChannel.slot");
+
+    public static final int DEFAULT_CONNECTIONS = 2;
+
+    private static final long RECONNECT_DELAY = 1000;
+    private static final long REQUEST_TIMEOUT = 5000;
+    public static final long HEARTBEAT_TIMEOUT = 5000;
+
+    private static Logger logger = Logger.getLogger("GameServerControlChannel");
+
+    private final GameServerTransferer transferer;
+    private final Bootstrap bootstrap;
+    public final String ip;
+    public final int port;
+
+    //authenticated connections, null while a slot is connecting
+    private final AtomicReferenceArray<Channel> connections;
+    private final AtomicInteger nextConnection = new AtomicInteger();
+    private final AtomicInteger nextRequestId = new AtomicInteger();
+    private final ConcurrentHashMap<Integer, PendingSetup> pending = new ConcurrentHashMap<>();
+
+    //where players connect to, as the game server reports it
+    private volatile String serverIp;
+    private volatile int serverPort;
+    private volatile boolean stopped;
+
+    private volatile Lobby.GameServerHeartbeat heartbeat;
+    private volatile long heartbeatTime;
+    private volatile long connectTime;
+    //games placed here since the last heartbeat, which it doesn't know about yet
+    private final AtomicInteger placed = new AtomicInteger();
+
+    GameServerControlChannel(GameServerTransferer transferer, Bootstrap bootstrap, String ip, int port, int connections) {
+        this.transferer = transferer;
+        this.bootstrap = bootstrap;
+        this.ip = ip;
+        this.port = port;
+        this.connections = new AtomicReferenceArray<>(connections);
+    }
+
+    public void start() {
+        for (int i = 0; i < connections.length(); i++) {
+            connect(i);
+        }
+    }
+
+    public void stop() {
+        stopped = true;
+        for (int i = 0; i < connections.length(); i++) {
+            Channel channel = connections.getAndSet(i, null);
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Asks the game server to set up a game
+     * @return the response, or null if there's no connection or it didn't answer in time
+     */
+    public CompletableFuture<Lobby.GameServerSetupResponse> setup(Lobby.GameServerSetup setup) {
+        CompletableFuture<Lobby.GameServerSetupResponse> future = new CompletableFuture<>();
+        Channel channel = nextConnection();
+        if (channel == null) {
+            future.complete(null);
+            return future;
+        }
+        int requestId = nextRequestId.incrementAndGet();
+        Timeout timeout = transferer.getTimerService().schedule(() -> fail(requestId), REQUEST_TIMEOUT, TimeUnit.MILLISECONDS);
+        pending.put(requestId, new PendingSetup(channel, future, timeout));
+        //closed() may have gone through pending before we put this in, so it'd wait out the whole timeout
+        if (!channel.isActive()) {
+            fail(requestId);
+            return future;
+        }
+        channel.writeAndFlush(setup.toBuilder().setRequestId(requestId).buildPartial()).addListener(f -> {
+            if (!f.isSuccess()) {
+                fail(requestId);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * @return true if at least one connection is ready for requests
+     */
+    public boolean isConnected() {
+        for (int i = 0; i < connections.length(); i++) {
+            if (connections.get(i) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if it's connected and its heartbeats are up to date
+     */
+    public boolean isHealthy() {
+        return heartbeat != null && isConnected() && System.nanoTime() - heartbeatTime < TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_TIMEOUT);
+    }
+
+    /**
+     * @return sessions on the server, counting ones placed since its last heartbeat
+     */
+    public int getLoad() {
+        Lobby.GameServerHeartbeat heartbeat = this.heartbeat;
+        return (heartbeat == null ? 0 : heartbeat.getSessions()) + placed.get();
+    }
+
+    /**
+     * @return ticks that ran over budget per thousand, as of the last heartbeat
+     */
+    public int getTickOverrunRate() {
+        Lobby.GameServerHeartbeat heartbeat = this.heartbeat;
+        return heartbeat == null ? 0 : heartbeat.getTickOverrunRate();
+    }
+
+    public Lobby.GameServerHeartbeat getHeartbeat() {
+        return heartbeat;
+    }
+
+    /**
+     * Counts a game against this server's load until its next heartbeat
+     */
+    void placed() {
+        placed.incrementAndGet();
+    }
+
+    /**
+     * Closes the connections if they're up but heartbeats have stopped, so the server gets no games until it recovers
+     */
+    void checkHeartbeat() {
+        if (!isConnected()) {
+            return;
+        }
+        long last = Math.max(heartbeatTime, connectTime);
+        if (System.nanoTime() - last < TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_TIMEOUT)) {
+            return;
+        }
+        logger.log(Level.WARNING, "No heartbeat from game server " + ip + ":" + port + ", reconnecting");
+        heartbeat = null;
+        for (int i = 0; i < connections.length(); i++) {
+            Channel channel = connections.get(i);
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    public String getServerIp() {
+        return serverIp;
+    }
+
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    private Channel nextConnection() {
+        int count = connections.length();
+        int start = nextConnection.getAndIncrement();
+        for (int i = 0; i < count; i++) {
+            Channel channel = connections.get(Math.floorMod(start + i, count));
+            if (channel != null && channel.isActive()) {
+                return channel;
+            }
+        }
+        return null;
+    }
+
+    private void connect(int slot) {
+        if (stopped) {
+            return;
+        }
+        ChannelFuture future = bootstrap.connect(ip, port);
+        Channel channel = future.channel();
+        channel.attr(CONTROL_KEY).set(this);
+        channel.attr(SLOT_KEY).set(slot);
+        future.addListener(f -> {
+            if (!f.isSuccess()) {
+                reconnect(slot);
+                return;
+            }
+            authenticate(channel);
+        });
+    }
+
+    private void reconnect(int slot) {
+        if (stopped) {
+            return;
+        }
+        transferer.getTimerService().schedule(() -> connect(slot), RECONNECT_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    private void authenticate(Channel channel) {
+        transferer.getServerSessionToken().subscribe(token -> {
+            Join.JoinServerPacket.Builder builder = Join.JoinServerPacket.newBuilder();
+            builder.setVersion(1);
+            builder.setSessionKey(token);
+            builder.setMachineName(transferer.getMachineName());
+            String keyId = transferer.getTokenKeyId();
+            if (!keyId.isEmpty()) {
+                builder.setTokenKeyId(keyId);
+            }
+            channel.writeAndFlush(builder.buildPartial());
+        }, err -> {
+            logger.log(Level.WARNING, "Couldn't get a session token for " + ip + ":" + port, err);
+            channel.close();
+        });
+    }
+
+    void joinResponse(Channel channel, Join.JoinResponsePacket message) {
+        String keyId = transferer.getTokenKeyId();
+        if (!keyId.equals(message.getTokenKeyId())) {
+            logger.log(Level.SEVERE, "Game server " + ip + ":" + port + " has token key "
+                    + describeKey(message.getTokenKeyId()) + " but we have " + describeKey(keyId)
+                    + ", set the same FUZZ_TOKEN_KEY on both or on neither. Not connecting to it again");
+            stop();
+            return;
+        }
+        if (message.getStatus() != Validation.AUTHORIZED) {
+            logger.log(Level.WARNING, "Game server " + ip + ":" + port + " refused the control connection");
+            channel.close();
+            return;
+        }
+        serverIp = message.getServerIp();
+        serverPort = message.getServerPort();
+        connectTime = System.nanoTime();
+        connections.set(channel.attr(SLOT_KEY).get(), channel);
+    }
+
+    void heartbeat(Channel channel, Lobby.GameServerHeartbeat message) {
+        heartbeat = message;
+        heartbeatTime = System.nanoTime();
+        placed.set(0);
+    }
+
+    void setupResponse(Channel channel, Lobby.GameServerSetupResponse message) {
+        PendingSetup request = pending.remove(message.getRequestId());
+        if (request == null) {
+            return;
+        }
+        request.timeout.cancel();
+        request.future.complete(message);
+    }
+
+    void closed(Channel channel) {
+        Integer slot = channel.attr(SLOT_KEY).get();
+        if (slot == null) {
+            return;
+        }
+        connections.compareAndSet(slot, channel, null);
+        Iterator<Map.Entry<Integer, PendingSetup>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, PendingSetup> entry = iterator.next();
+            if (entry.getValue().channel == channel) {
+                iterator.remove();
+                entry.getValue().timeout.cancel();
+                entry.getValue().future.complete(null);
+            }
+        }
+        reconnect(slot);
+    }
+
+    /**
+     * Completes the request with null, if it's still waiting
+     */
+    private void fail(int requestId) {
+        PendingSetup request = pending.remove(requestId);
+        if (request != null) {
+            request.timeout.cancel();
+            request.future.complete(null);
+        }
+    }
+
+    private static String describeKey(String keyId) {
+        return keyId.isEmpty() ? "(none)" : keyId;
+    }
+
+    private static final class PendingSetup {
+
+        final Channel channel;
+        final CompletableFuture<Lobby.GameServerSetupResponse> future;
+        final Timeout timeout;
+
+        PendingSetup(Channel channel, CompletableFuture<Lobby.GameServerSetupResponse> future, Timeout timeout) {
+            this.channel = channel;
+            this.future = future;
+            this.timeout = timeout;
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.fuzzjump.server.matchmaking;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The game servers games can be placed on. Each game goes on the healthy server with the fewest sessions, skipping
+ * servers whose ticks are running over budget unless every server is. Servers whose heartbeats stop are closed and
+ * get no games until they reconnect and send one again.
+ */
+public class GameServerRegistry {
+
+    //ticks over budget per thousand before a server is treated as overloaded
+    public static final int OVERRUN_LIMIT = 50;
+
+    private final List<GameServerControlChannel> servers;
+
+    public GameServerRegistry(List<GameServerControlChannel> servers) {
+        this.servers = Collections.unmodifiableList(servers);
+    }
+
+    public void start() {
+        for (GameServerControlChannel server : servers) {
+            server.start();
+        }
+    }
+
+    public void stop() {
+        for (GameServerControlChannel server : servers) {
+            server.stop();
+        }
+    }
+
+    /**
+     * Picks the least loaded healthy server and counts the game against it
+     * @param exclude servers that already failed this game
+     * @return the server, or null if none are healthy
+     */
+    public GameServerControlChannel place(Set<GameServerControlChannel> exclude) {
+        GameServerControlChannel best = null;
+        boolean bestOverloaded = true;
+        int bestLoad = Integer.MAX_VALUE;
+        for (GameServerControlChannel server : servers) {
+            if (exclude.contains(server) || !server.isHealthy()) {
+                continue;
+            }
+            boolean overloaded = server.getTickOverrunRate() > OVERRUN_LIMIT;
+            int load = server.getLoad();
+            if (best == null || (bestOverloaded && !overloaded) || (overloaded == bestOverloaded && load < bestLoad)) {
+                best = server;
+                bestOverloaded = overloaded;
+                bestLoad = load;
+            }
+        }
+        if (best != null) {
+            best.placed();
+        }
+        return best;
+    }
+
+    /**
+     * Drops servers that have stopped sending heartbeats. Called periodically
+     */
+    void checkHeartbeats() {
+        for (GameServerControlChannel server : servers) {
+            server.checkHeartbeat();
+        }
+    }
+
+    public List<GameServerControlChannel> getServers() {
+        return servers;
+    }
+
+}
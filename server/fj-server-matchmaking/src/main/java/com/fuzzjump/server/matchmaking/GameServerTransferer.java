@@ -1,27 +1,34 @@
 package com.fuzzjump.server.matchmaking;
 
+import com.fuzzjump.api.session.model.SessionResponse;
 import com.fuzzjump.server.base.FuzzJumpPlayer;
+import com.fuzzjump.server.base.SessionTokens;
 import com.fuzzjump.server.common.FuzzJumpMessageHandlers;
 import com.fuzzjump.server.common.messages.join.Join;
 import com.fuzzjump.server.common.messages.lobby.Lobby;
 import com.fuzzjump.server.matchmaking.lobby.LobbyPlayer;
 import com.fuzzjump.server.matchmaking.lobby.LobbySession;
+import com.steveadoo.server.base.TimerService;
 import com.steveadoo.server.base.net.GamePacketDecoder;
 import com.steveadoo.server.base.net.GamePacketEncoder;
+import com.steveadoo.server.base.trace.Trace;
+import com.steveadoo.server.base.trace.Tracer;
 import com.steveadoo.server.common.packets.Packet;
 import com.steveadoo.server.common.packets.PacketProcessor;
-import com.steveadoo.server.common.packets.Validation;
 import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
 import com.steveadoo.server.common.packets.exceptions.MissingHandlerException;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
-import java.util.concurrent.CompletableFuture;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
-import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
@@ -31,14 +38,20 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.util.Attribute;
-import io.netty.util.AttributeKey;
+import io.reactivex.Observable;
 
+/**
+ * Moves players from a finished lobby to a game server. Games are set up over a GameServerControlChannel, which keeps
+ * authenticated connections open, so a lobby ending doesn't wait on a new connection, an api token or a validation.
+ * The registry picks the least loaded server, and if setting up fails there it's tried on the next one.
+ */
 public class GameServerTransferer {
 
-    private static final AttributeKey<LobbySession> SESSION_ATTRIBUTE_KEY = AttributeKey.newInstance("GameServerTransfer.session");
-    private static final AttributeKey<String> SERVER_IP_KEY = AttributeKey.newInstance("GameServerTransfer.ip");
-    private static final AttributeKey<Integer> SERVER_PORT_KEY = AttributeKey.newInstance("GameServerTransfer.port");
+    //how long players are kept after they've been sent where to go, so they can disconnect on their own
+    private static final long DISCONNECT_DELAY = 5000;
+    private static final int PLACEMENT_ATTEMPTS = 3;
+    //control connections authenticate as soon as they're signed, so this only has to cover the trip
+    private static final long SERVER_TOKEN_TTL = 60000;
 
     private final MatchmakingServer matchmakingServer;
     private final PacketProcessor packetProcessor;
@@ -46,6 +59,7 @@ public class GameServerTransferer {
     private String machineName;
 
     private Bootstrap bootstrap;
+    private GameServerRegistry registry;
 
     public GameServerTransferer(MatchmakingServer matchmakingServer) {
         this.matchmakingServer = matchmakingServer;
@@ -68,6 +82,7 @@ public class GameServerTransferer {
         bootstrap.group(workerGroup);
         bootstrap.channel(NioSocketChannel.class);
         bootstrap.option(ChannelOption.SO_KEEPALIVE, true);
+        bootstrap.option(ChannelOption.TCP_NODELAY, true);
         bootstrap.handler(new ChannelInitializer<SocketChannel>() {
             @Override
             public void initChannel(SocketChannel ch) throws Exception {
@@ -80,89 +95,148 @@ public class GameServerTransferer {
 
         packetProcessor.addListener(Join.JoinResponsePacket.class, this::joinResponse);
         packetProcessor.addListener(Lobby.GameServerSetupResponse.class, this::onServerSetupResponse);
+        packetProcessor.addListener(Lobby.GameServerHeartbeat.class, this::onHeartbeat);
+
+        List<GameServerControlChannel> servers = new ArrayList<>();
+        for (InetSocketAddress address : matchmakingServer.getServerInfo().gameServers) {
+            servers.add(new GameServerControlChannel(this, bootstrap, address.getHostString(), address.getPort(),
+                    GameServerControlChannel.DEFAULT_CONNECTIONS));
+        }
+        registry = new GameServerRegistry(servers);
+        registry.start();
+        matchmakingServer.getExecutorService().scheduleAtFixedRate(registry::checkHeartbeats,
+                GameServerControlChannel.HEARTBEAT_TIMEOUT, 1000, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Sets up a game for the session's players and tells them where to go. Call it on the session's event loop
+     */
     public void transfer(LobbySession session) {
-        connect(5).thenAccept(channel -> {
-            if (channel == null) {
-                Lobby.GameServerFound serverFoundMessage = Lobby.GameServerFound.newBuilder().setFound(false).build();
-                for(FuzzJumpPlayer player : session.getPlayers()) {
-                    player.getChannel().writeAndFlush(serverFoundMessage);
-                    player.getChannel().disconnect();
-                }
-                return;
-            }
-            channel.attr(SESSION_ATTRIBUTE_KEY).set(session);
-            sendJoinPacket(channel);
-            session.setListener(channel::disconnect);
-        });
+        for (LobbyPlayer player : session.getPlayers()) {
+            Tracer.waited(player, "lobbyEnded");
+        }
+        Lobby.GameServerSetup setup = Lobby.GameServerSetup.newBuilder()
+                .setMapId(session.getWinningMapId())
+                .setPlayerCount(session.getPlayers().size())
+                .buildPartial();
+        place(session, setup, new HashSet<>(), PLACEMENT_ATTEMPTS);
     }
 
-    private CompletableFuture<Channel> connect(int retryCount) {
-        CompletableFuture<Channel> channelFuture = new CompletableFuture<>();
-        ChannelFuture future = bootstrap.connect(matchmakingServer.getServerInfo().gameServerIp, matchmakingServer.getServerInfo().gameServerPort);
-        int[] retries = new int[1];
-        future.addListener(f -> {
-            if (!f.isSuccess()) {
-                if (retries[0] >= retryCount) {
-                    channelFuture.complete(null);
-                }
-                retries[0]++;
+    /**
+     * Sets the game up on the least loaded server that hasn't been tried yet, moving on to another if it fails
+     */
+    private void place(LobbySession session, Lobby.GameServerSetup setup, Set<GameServerControlChannel> tried, int attempts) {
+        GameServerControlChannel server = registry.place(tried);
+        if (server == null) {
+            session.execute(() -> finish(session, null, null));
+            return;
+        }
+        tried.add(server);
+        server.setup(setup).thenAccept(response -> {
+            if (response == null && attempts > 1) {
+                place(session, setup, tried, attempts - 1);
                 return;
             }
-            channelFuture.complete(future.channel());
+            session.execute(() -> finish(session, server, response));
         });
-        return channelFuture;
     }
 
-    private void sendJoinPacket(Channel channel) {
-        matchmakingServer.getApi().getSessionService().getServerSessionToken(machineName, "MATCH->GAME").subscribe(response -> {
-            try {
-                Join.JoinServerPacket.Builder builder = Join.JoinServerPacket.newBuilder();
-                builder.setVersion(1);
-                builder.setSessionKey(response.getBody());
-                builder.setMachineName(machineName);
-                channel.writeAndFlush(builder.buildPartial());
-            } catch (Exception e) {
-                e.printStackTrace();
-                //TODO retry count here.
-                matchmakingServer.getExecutorService().schedule(() -> sendJoinPacket(channel), 5000, TimeUnit.MILLISECONDS);
+    private void finish(LobbySession session, GameServerControlChannel server, Lobby.GameServerSetupResponse response) {
+        if (response == null) {
+            session.broadcast(Lobby.GameServerFound.newBuilder().setFound(false).build());
+            for (LobbyPlayer player : session.getPlayers()) {
+                matchmakingServer.getTracer().finish(player, "noGameServer");
             }
-        }, err -> matchmakingServer.getExecutorService().schedule(() -> sendJoinPacket(channel), 1000, TimeUnit.MILLISECONDS));
-    }
-
-    private void joinResponse(Channel channel, Join.JoinResponsePacket message) {
-        LobbySession session = channel.attr(SESSION_ATTRIBUTE_KEY).get();
-        Lobby.GameServerFound serverFoundMessage;
-        if (message.getStatus() == Validation.AUTHORIZED) {
-            serverFoundMessage = Lobby.GameServerFound.newBuilder().setFound(true).buildPartial();
-            channel.attr(SERVER_IP_KEY).set(message.getServerIp());
-            channel.attr(SERVER_PORT_KEY).set(message.getServerPort());
-            channel.writeAndFlush(Lobby.GameServerSetup.newBuilder().setMapId(session.getWinningMapId()).setPlayerCount(session.getPlayers().size()).buildPartial());
         } else {
-            serverFoundMessage = Lobby.GameServerFound.newBuilder().setFound(false).buildPartial();
-        }
-        for(LobbyPlayer player : session.getPlayers()) {
-            player.getChannel().writeAndFlush(serverFoundMessage);
+            sendSetupData(session, server, response);
         }
+        session.schedule(() -> disconnectPlayers(session), DISCONNECT_DELAY, TimeUnit.MILLISECONDS);
     }
 
-    private void onServerSetupResponse(Channel channel, Lobby.GameServerSetupResponse message) {
-        LobbySession session = channel.attr(SESSION_ATTRIBUTE_KEY).get();
-        String serverIp = channel.attr(SERVER_IP_KEY).get();
-        int port = channel.attr(SERVER_PORT_KEY).get();
+    private void sendSetupData(LobbySession session, GameServerControlChannel server, Lobby.GameServerSetupResponse message) {
+        session.broadcast(Lobby.GameServerFound.newBuilder().setFound(true).build());
         Lobby.GameServerSetupData.Builder builder = Lobby.GameServerSetupData.newBuilder();
         builder.setGameId(message.getGameId());
         builder.setSeed(message.getSeed());
         builder.setMapId(message.getMapId());
-        builder.setIp(serverIp);
-        builder.setPort(port);
-        for(int i = 0; i < session.getPlayers().size(); i++) {
+        builder.setIp(server.getServerIp());
+        builder.setPort(server.getServerPort());
+        //keys are in the order players were counted, anyone that left since just doesn't use theirs
+        int count = Math.min(session.getPlayers().size(), message.getKeysCount());
+        for (int i = 0; i < count; i++) {
             LobbyPlayer player = session.getPlayers().get(i);
-            player.getChannel().writeAndFlush(builder.setKey(message.getKeys(i)).buildPartial());
+            builder.setKey(message.getKeys(i));
+            Trace trace = player.getTrace();
+            if (trace != null) {
+                builder.setTraceId(trace.id);
+            } else {
+                builder.clearTraceId();
+            }
+            player.getChannel().writeAndFlush(builder.buildPartial());
+            matchmakingServer.getTracer().finish(player, "gameServerFound");
+        }
+    }
+
+    private void disconnectPlayers(LobbySession session) {
+        for (FuzzJumpPlayer player : session.getPlayers()) {
+            if (player.getChannel().isOpen()) {
+                player.getChannel().disconnect();
+            }
+        }
+    }
+
+    private void joinResponse(Channel channel, Join.JoinResponsePacket message) {
+        GameServerControlChannel control = channel.attr(GameServerControlChannel.CONTROL_KEY).get();
+        if (control != null) {
+            control.joinResponse(channel, message);
+        }
+    }
+
+    private void onServerSetupResponse(Channel channel, Lobby.GameServerSetupResponse message) {
+        GameServerControlChannel control = channel.attr(GameServerControlChannel.CONTROL_KEY).get();
+        if (control != null) {
+            control.setupResponse(channel, message);
+        }
+    }
+
+    private void onHeartbeat(Channel channel, Lobby.GameServerHeartbeat message) {
+        GameServerControlChannel control = channel.attr(GameServerControlChannel.CONTROL_KEY).get();
+        if (control != null) {
+            control.heartbeat(channel, message);
         }
-        channel.attr(SESSION_ATTRIBUTE_KEY).set(null);
-        channel.disconnect();
+    }
+
+    public GameServerRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Signs the token locally if there's a shared key, otherwise asks the api for one
+     */
+    Observable<String> getServerSessionToken() {
+        SessionTokens tokens = matchmakingServer.getSessionTokens();
+        if (tokens != null) {
+            return Observable.just(tokens.sign(machineName, SessionTokens.MATCH_TO_GAME, SERVER_TOKEN_TTL, TimeUnit.MILLISECONDS));
+        }
+        return matchmakingServer.getApi().getSessionService()
+                .getServerSessionToken(machineName, SessionTokens.MATCH_TO_GAME)
+                .map(SessionResponse::getBody);
+    }
+
+    String getMachineName() {
+        return machineName;
+    }
+
+    /**
+     * @return the id of the key server tokens are signed with, empty if they come from the api
+     */
+    String getTokenKeyId() {
+        SessionTokens tokens = matchmakingServer.getSessionTokens();
+        return tokens == null ? "" : tokens.getKeyId();
+    }
+
+    TimerService getTimerService() {
+        return matchmakingServer.getTimerService();
     }
 
     public class ClientHandler extends ChannelInboundHandlerAdapter {
@@ -174,8 +248,11 @@ public class GameServerTransferer {
         }
 
         @Override
-        public void channelUnregistered(ChannelHandlerContext ctx) {
-            disconnectPlayers(ctx.channel());
+        public void channelInactive(ChannelHandlerContext ctx) {
+            GameServerControlChannel control = ctx.channel().attr(GameServerControlChannel.CONTROL_KEY).get();
+            if (control != null) {
+                control.closed(ctx.channel());
+            }
         }
 
         @Override
@@ -185,42 +262,15 @@ public class GameServerTransferer {
                 transferer.packetProcessor.processPacket(ctx.channel(), packet);
             } catch (MissingHandlerException | MessageHandlerException e) {
                 e.printStackTrace();
+            } finally {
+                packet.release();
             }
         }
 
         @Override
         public void exceptionCaught(ChannelHandlerContext ctx, Throwable throwable) {
             throwable.printStackTrace();
-            disconnectPlayers(ctx.channel());
-        }
-
-        public void disconnectPlayers(Channel channel) {
-            Attribute<LobbySession> attrib = channel.attr(SESSION_ATTRIBUTE_KEY);
-            if (attrib == null)
-                return;
-            LobbySession session = attrib.get();
-            //if the session is null, then disconnect in 5 seconds. it means we found a server
-            if (session == null) {
-                matchmakingServer.getExecutorService().schedule(() -> {
-                    for(FuzzJumpPlayer player : session.getPlayers()) {
-                        if (player.getChannel().isOpen()) {
-                            player.getChannel().disconnect();
-                        }
-                    }
-                }, 5000, TimeUnit.MILLISECONDS);
-                return;
-            }
-            Lobby.GameServerFound serverFoundMessage = Lobby.GameServerFound.newBuilder().setFound(false).build();
-            for(FuzzJumpPlayer player : session.getPlayers()) {
-                player.getChannel().writeAndFlush(serverFoundMessage);
-            }
-            matchmakingServer.getExecutorService().schedule(() -> {
-                for(FuzzJumpPlayer player : session.getPlayers()) {
-                    if (player.getChannel().isOpen()) {
-                        player.getChannel().disconnect();
-                    }
-                }
-            }, 5000, TimeUnit.MILLISECONDS);
+            ctx.close();
         }
 
     }
@@ -5,6 +5,8 @@ import com.steveadoo.server.base.ServerBootstrapper;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 
 import io.netty.bootstrap.ServerBootstrap;
 
@@ -13,18 +15,50 @@ public class Main {
     public static void main(String[] args) throws IOException {
         MatchmakingServerConfig serverConfig = loadServerInfo(args);
         MatchmakingServer server = new MatchmakingServer(serverConfig);
-        ServerBootstrapper bootstrapper = new ServerBootstrapper();
+        server.exportMetrics(FuzzJumpServerConfig.loadMetricsAddress());
+        ServerBootstrapper bootstrapper = new ServerBootstrapper(FuzzJumpServerConfig.loadTransportConfig());
         ServerBootstrap bootstrap = bootstrapper.bootstrap(server);
         if (serverConfig.port != serverConfig.privatePort) {
-            bootstrap.bind(new InetSocketAddress(serverConfig.privatePort));
-            System.out.println("Listening on port " + serverConfig.privatePort);
+            bootstrapper.bind(bootstrap, serverConfig.privatePort);
         }
     }
 
+    /**
+     * Game servers are listed in FUZZ_MATCHMAKING_GAMESERVERS as host:port,host:port. If that isn't set there's just
+     * the one in FUZZ_MATCHMAKING_GAMESERVER_IP and FUZZ_MATCHMAKING_GAMESERVER_PORT.
+     *
+     * Matchmaking nodes are listed the same way in FUZZ_MATCHMAKING_CLUSTER, and FUZZ_MATCHMAKING_NODE is this node's
+     * entry in it, defaulting to its ip and port.
+     */
     private static MatchmakingServerConfig loadServerInfo(String[] args) throws IOException {
-        String gameServerIp = System.getenv("FUZZ_MATCHMAKING_GAMESERVER_IP");
-        String gameServerPort = System.getenv("FUZZ_MATCHMAKING_GAMESERVER_PORT");
-        return new MatchmakingServerConfig(FuzzJumpServerConfig.loadConfig(args), gameServerIp, Integer.parseInt(gameServerPort));
+        FuzzJumpServerConfig config = FuzzJumpServerConfig.loadConfig(args);
+        List<InetSocketAddress> gameServers = parseAddresses(System.getenv("FUZZ_MATCHMAKING_GAMESERVERS"));
+        if (gameServers.isEmpty()) {
+            String gameServerIp = System.getenv("FUZZ_MATCHMAKING_GAMESERVER_IP");
+            String gameServerPort = System.getenv("FUZZ_MATCHMAKING_GAMESERVER_PORT");
+            gameServers.add(InetSocketAddress.createUnresolved(gameServerIp, Integer.parseInt(gameServerPort)));
+        }
+        boolean batchMatchmaking = Boolean.parseBoolean(System.getenv("FUZZ_MATCHMAKING_BATCH"));
+        List<InetSocketAddress> nodes = parseAddresses(System.getenv("FUZZ_MATCHMAKING_CLUSTER"));
+        List<InetSocketAddress> self = parseAddresses(System.getenv("FUZZ_MATCHMAKING_NODE"));
+        InetSocketAddress node = self.isEmpty() ? InetSocketAddress.createUnresolved(config.ip, config.port) : self.get(0);
+        return new MatchmakingServerConfig(config, gameServers, batchMatchmaking, node, nodes);
+    }
+
+    /**
+     * @return the addresses in a host:port,host:port list, or none if it's empty
+     */
+    private static List<InetSocketAddress> parseAddresses(String list) {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        if (list == null || list.equals("")) {
+            return addresses;
+        }
+        for (String address : list.split(",")) {
+            int separator = address.lastIndexOf(':');
+            addresses.add(InetSocketAddress.createUnresolved(address.substring(0, separator).trim(),
+                    Integer.parseInt(address.substring(separator + 1).trim())));
+        }
+        return addresses;
     }
 
 }
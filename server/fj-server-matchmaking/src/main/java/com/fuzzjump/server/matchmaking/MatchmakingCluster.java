@@ -0,0 +1,105 @@
+package com.fuzzjump.server.matchmaking;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * The matchmaking nodes lobbies are spread over. Lobby ids are mapped to nodes with a consistent hash ring, and every
+ * node only creates lobbies with ids that map to itself, so any node can tell who owns a lobby from its id alone. A
+ * player asking a node for a lobby it doesn't own is redirected to the owner.
+ *
+ * Public matchmaking doesn't need an id, so players can be spread over the nodes any way, eg round robin dns.
+ *
+ * Every node has to be configured with the same list, or they'll disagree about owners.
+ */
+public class MatchmakingCluster {
+
+    //points per node on the ring, so ids spread evenly and adding a node only moves its share of them
+    private static final int VIRTUAL_NODES = 128;
+
+    private final InetSocketAddress self;
+    private final List<InetSocketAddress> nodes;
+    private final TreeMap<Long, InetSocketAddress> ring = new TreeMap<>();
+
+    /**
+     * @param self this node, as it appears in nodes
+     * @param nodes every node in the cluster. Empty if this node is on its own
+     */
+    public MatchmakingCluster(InetSocketAddress self, List<InetSocketAddress> nodes) {
+        this.self = self;
+        List<InetSocketAddress> all = new ArrayList<>(nodes);
+        if (all.isEmpty()) {
+            all.add(self);
+        } else if (!all.contains(self)) {
+            throw new IllegalArgumentException("This node (" + key(self) + ") isn't one of the cluster's nodes " + nodes);
+        }
+        this.nodes = Collections.unmodifiableList(all);
+        for (InetSocketAddress node : all) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(key(node) + "#" + i), node);
+            }
+        }
+    }
+
+    /**
+     * @return the node that owns the lobby with this id
+     */
+    public InetSocketAddress ownerOf(String gameId) {
+        Map.Entry<Long, InetSocketAddress> entry = ring.ceilingEntry(hash(gameId));
+        if (entry == null) {
+            entry = ring.firstEntry();
+        }
+        return entry.getValue();
+    }
+
+    public boolean owns(String gameId) {
+        return nodes.size() == 1 || ownerOf(gameId).equals(self);
+    }
+
+    /**
+     * @return a new lobby id that this node owns. Takes about as many tries as there are nodes
+     */
+    public String newGameId() {
+        while (true) {
+            String id = UUID.randomUUID().toString();
+            if (owns(id)) {
+                return id;
+            }
+        }
+    }
+
+    public InetSocketAddress getSelf() {
+        return self;
+    }
+
+    public List<InetSocketAddress> getNodes() {
+        return nodes;
+    }
+
+    private static String key(InetSocketAddress address) {
+        return address.getHostString() + ":" + address.getPort();
+    }
+
+    /**
+     * 64 bit FNV-1a, with a final mix so similar keys land far apart
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
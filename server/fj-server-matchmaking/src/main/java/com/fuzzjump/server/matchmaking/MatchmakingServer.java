@@ -2,20 +2,23 @@ package com.fuzzjump.server.matchmaking;
 
 import com.fuzzjump.server.base.FuzzJumpServer;
 import com.fuzzjump.server.common.FuzzJumpMessageHandlers;
+import com.fuzzjump.server.common.messages.join.Join;
 import com.fuzzjump.server.common.messages.lobby.Lobby;
 import com.fuzzjump.server.matchmaking.lobby.LobbyPlayer;
 import com.fuzzjump.server.matchmaking.lobby.LobbySession;
+import com.fuzzjump.server.matchmaking.lobby.OpenLobbyIndex;
+import com.steveadoo.server.base.TickEngine;
+import com.steveadoo.server.base.metrics.MetricsRegistry;
+import com.steveadoo.server.base.trace.Trace;
+import com.steveadoo.server.base.trace.Tracer;
 import com.steveadoo.server.common.packets.PacketProcessor;
+import com.steveadoo.server.common.packets.Validation;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.net.InetSocketAddress;
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import io.netty.channel.Channel;
 
@@ -23,40 +26,78 @@ public class MatchmakingServer extends FuzzJumpServer<LobbyPlayer, MatchmakingSe
 
     private static final int MAX_PLAYERS = 4;
     private static final int TICK = 500;
+    //how often stale open lobby entries are dropped
+    private static final int OPEN_LOBBY_PURGE_INTERVAL = 1000;
 
     private final GameServerTransferer gameServerTransferer;
-
-    private ScheduledExecutorService matchService = Executors.newScheduledThreadPool(4);
+    private final MatchmakingCluster cluster;
+    private final TickEngine tickEngine = new TickEngine(TICK, TimeUnit.MILLISECONDS);
 
     private ConcurrentHashMap<String, LobbySession> sessions = new ConcurrentHashMap<>();
-    private ConcurrentLinkedQueue<LobbySession> openSessions = new ConcurrentLinkedQueue<>();
-
-    private List<LobbySession> sessionsToRemove = new ArrayList<>();
+    private final OpenLobbyIndex openLobbies = new OpenLobbyIndex(MAX_PLAYERS);
+    //null unless batch matchmaking is on
+    private final BatchMatchmaker batchMatchmaker;
 
     public MatchmakingServer(MatchmakingServerConfig serverInfo) {
         super(serverInfo, new PacketProcessor(FuzzJumpMessageHandlers.HANDLERS));
         addValidator(new MatchmakingValidator(this));
+        this.cluster = new MatchmakingCluster(serverInfo.clusterNode, serverInfo.clusterNodes);
         this.gameServerTransferer = new GameServerTransferer(this);
+        if (serverInfo.batchMatchmaking) {
+            batchMatchmaker = new BatchMatchmaker(MAX_PLAYERS, this::createLobby, this::findOpenSession);
+            batchMatchmaker.start(tickEngine);
+        } else {
+            batchMatchmaker = null;
+        }
 
         getPacketProcessor().addListener(Lobby.Loaded.class, this::lobbyLoaded)
                 .addListener(Lobby.ReadySet.class, this::readySet)
                 .addListener(Lobby.MapSlotSet.class, this::mapSlotSet);
+        getExecutorService().scheduleAtFixedRate(openLobbies::purge,
+                OPEN_LOBBY_PURGE_INTERVAL, OPEN_LOBBY_PURGE_INTERVAL, TimeUnit.MILLISECONDS);
+        registerMetrics();
+    }
+
+    private void registerMetrics() {
+        MetricsRegistry metrics = getMetrics();
+        metrics.register("lobby.tick", tickEngine);
+        metrics.gauge("lobby.sessions", sessions::size);
+        metrics.gauge("lobby.open", () -> sessions.values().stream().filter(openLobbies::isOpen).count());
+        metrics.gauge("lobby.filled", openLobbies::getFilledCount);
+        metrics.gauge("lobby.queued", openLobbies::getQueuedCount);
+        metrics.gauge("gameServers.healthy", () -> gameServerTransferer.getRegistry().getServers().stream()
+                .filter(GameServerControlChannel::isHealthy).count());
+        if (batchMatchmaker != null) {
+            //getStats sorts the wait samples, so it's read once per snapshot for all of these
+            Supplier<BatchMatchmaker.Stats> stats = metrics.perSnapshot(batchMatchmaker::getStats);
+            metrics.gauge("batch.depth", () -> stats.get().depth);
+            metrics.gauge("batch.matched", () -> stats.get().matched);
+            metrics.gauge("batch.timedOut", () -> stats.get().timedOut);
+            metrics.gauge("batch.waitMillis.p50", () -> stats.get().p50);
+            metrics.gauge("batch.waitMillis.p99", () -> stats.get().p99);
+        }
     }
 
     private void readySet(LobbyPlayer player, Lobby.ReadySet message) {
         if (!checkSession(player)) {
             return;
         }
-        player.setReady(message.getReady());
-        player.getSession().setUpdate(true);
+        LobbySession session = (LobbySession) player.getSession();
+        session.execute(() -> {
+            player.setReady(message.getReady());
+            session.setUpdate(true);
+        });
     }
 
     private void mapSlotSet(LobbyPlayer player, Lobby.MapSlotSet message) {
         if (!checkSession(player)) {
             return;
         }
-        player.setSelectedMap(message.getMapId());
-        player.getSession().setUpdate(true);
+        LobbySession session = (LobbySession) player.getSession();
+        session.execute(() -> {
+            player.setSelectedMap(message.getMapId());
+            session.setUpdate(true);
+        });
     }
 
     private void lobbyLoaded(LobbyPlayer player, Lobby.Loaded message) {
@@ -65,70 +106,154 @@ public class MatchmakingServer extends FuzzJumpServer<LobbyPlayer, MatchmakingSe
         if (player.getSession() != null)
             return;
         if (message.hasGameId()) {
+            if (!cluster.owns(message.getGameId())) {
+                redirect(player, cluster.ownerOf(message.getGameId()));
+                return;
+            }
             LobbySession session = sessions.get(message.getGameId());
-            if (session == null) {
+            if (session == null || !openLobbies.reserve(session)) {
                 player.getChannel().writeAndFlush(Lobby.GameFound.newBuilder().setFound(false).buildPartial()).addListener((f) -> player.getChannel().disconnect());
             } else {
-                session.addPlayer(player);
+                session.execute(() -> {
+                    if (!player.getChannel().isActive()) {
+                        openLobbies.release(session);
+                        return;
+                    }
+                    seat(player, session);
+                });
             }
         } else if (message.hasPrivate() && message.getPrivate()) {
-            LobbySession session = new LobbySession(UUID.randomUUID().toString(), MAX_PLAYERS);
-            session.addPlayer(player);
+            LobbySession session = createSession(player);
+            openLobbies.reserve(session);
+            session.execute(() -> seat(player, session));
             sessions.put(session.id, session);
+        } else if (batchMatchmaker != null) {
+            player.setRank(message.getRank());
+            Tracer.span(player, "queued");
+            batchMatchmaker.add(player);
         } else {
             findOpenSession(player);
         }
     }
 
+    /**
+     * Sends the player to the node that owns the lobby they asked for. They join there and ask again
+     */
+    private void redirect(LobbyPlayer player, InetSocketAddress owner) {
+        Join.JoinResponsePacket.Builder builder = Join.JoinResponsePacket.newBuilder()
+                .setRedirect(true)
+                .setServerIp(owner.getHostString())
+                .setServerPort(owner.getPort())
+                .setStatus(Validation.AUTHORIZED);
+        Trace trace = player.getTrace();
+        if (trace != null) {
+            //the owner carries on the same trace
+            builder.setTraceId(trace.id);
+        }
+        getTracer().finish(player, "redirected");
+        player.getChannel().writeAndFlush(builder.buildPartial()).addListener((f) -> player.getChannel().disconnect());
+    }
+
+    /**
+     * Takes a seat in the fullest open lobby, or creates one if they're all full
+     */
     private void findOpenSession(LobbyPlayer player) {
-        synchronized (openSessions) {
-            LobbySession session = null;
-            Iterator<LobbySession> iterator = openSessions.iterator();
-            while (true) {
-                session = iterator.hasNext() ? iterator.next() : null;
-                if (session == null) {
-                    session = new LobbySession(UUID.randomUUID().toString(), MAX_PLAYERS);
-                    openSessions.add(session);
-                    sessions.put(session.id, session);
-                    final LobbySession lobbySession = session;
-                    lobbySession.future = matchService.scheduleAtFixedRate(() -> updateSession(lobbySession), TICK, TICK, TimeUnit.MILLISECONDS);
-                    break;
-                }
-                if (session.getRemainingTime() <= 0) {
-                    sessionsToRemove.add(session);
-                    continue;
-                }
-                if (!session.filled()) {
-                    break;
-                }
-            }
+        LobbySession session = openLobbies.reserve();
+        if (session == null) {
+            session = openSession(player, 1);
+        }
 
-            for (int i = 0; i < sessionsToRemove.size(); i++) {
-                LobbySession sessionToRemove = sessionsToRemove.get(i);
-                openSessions.remove(sessionToRemove);
-                sessions.remove(sessionToRemove.id);
-            }
-            sessionsToRemove.clear();
+        System.out.println("Found session for player " + player.getUserId());
+        final LobbySession lobbySession = session;
+        lobbySession.execute(() -> joinOpenSession(player, lobbySession));
+    }
+
+    /**
+     * Puts a full lobby's worth of players from the batch matchmaker in a new lobby
+     */
+    private void createLobby(List<LobbyPlayer> players) {
+        LobbySession session = openSession(players.get(0), players.size());
+        for (LobbyPlayer player : players) {
+            Tracer.waited(player, "matched");
+            session.execute(() -> joinOpenSession(player, session));
+        }
+    }
+
+    /**
+     * Creates a public lobby with the given number of seats already taken, and starts ticking it
+     */
+    private LobbySession openSession(LobbyPlayer player, int seats) {
+        LobbySession session = createSession(player);
+        for (int i = 0; i < seats; i++) {
+            openLobbies.reserve(session);
+        }
+        sessions.put(session.id, session);
+        openLobbies.add(session);
+        session.startTicking(tickEngine, () -> updateSession(session));
+        return session;
+    }
 
-            System.out.println("Found session for player " + player.getUserId());
-            session.addPlayer(player);
-            System.out.println("Lobby should update? " + session.getUpdate());
-            if (session.filled())
-                openSessions.remove(session);
-            player.getChannel().writeAndFlush(Lobby.GameFound.newBuilder()
-                    .setFound(true)
-                    .setGameId(session.id)
-                    .setGameName("GAME")
-                    .buildPartial());
+    private void joinOpenSession(LobbyPlayer player, LobbySession session) {
+        //the seat is ours, but the session can start or end before we get here, so look again
+        if (openLobbies.isClosed(session)) {
+            findOpenSession(player);
+            return;
+        }
+        if (!player.getChannel().isActive()) {
+            openLobbies.release(session);
+            return;
+        }
+        if (!seat(player, session)) {
+            return;
+        }
+        player.getChannel().writeAndFlush(Lobby.GameFound.newBuilder()
+                .setFound(true)
+                .setGameId(session.id)
+                .setGameName("GAME")
+                .buildPartial());
+    }
+
+    /**
+     * Adds a player that holds a seat to the session. Must be called on the session's loop.
+     * disconnected() does nothing until the player has a session, so if they dropped while being added they're taken
+     * back out here
+     * @return false if the player dropped and was taken back out
+     */
+    private boolean seat(LobbyPlayer player, LobbySession session) {
+        session.addPlayer(player);
+        if (!player.getChannel().isActive()) {
+            leave(player, session);
+            return false;
+        }
+        Tracer.span(player, "lobby");
+        return true;
+    }
+
+    /**
+     * Takes the player out of the session and gives their seat back. Must be called on the session's loop.
+     * Both seat() and disconnected() can get here for the same player, so only the first one does anything
+     */
+    private void leave(LobbyPlayer player, LobbySession session) {
+        if (!session.getPlayers().contains(player)) {
+            return;
         }
+        session.removePlayer(player);
+        openLobbies.release(session);
+    }
+
+    /**
+     * Creates a session pinned to the player's event loop
+     */
+    private LobbySession createSession(LobbyPlayer player) {
+        return new LobbySession(cluster.newGameId(), MAX_PLAYERS, getBroadcaster(), player.getChannel().eventLoop());
     }
 
     private void updateSession(LobbySession lobbySession) {
         try {
-            if (lobbySession.update()) {
-                openSessions.remove(lobbySession);
+            if (lobbySession.tick()) {
+                openLobbies.close(lobbySession);
                 sessions.remove(lobbySession.id);
-                lobbySession.future.cancel(true);
+                lobbySession.stopTicking();
                 if (lobbySession.getListener() != null) {
                     lobbySession.getListener().ended();
                 }
@@ -137,11 +262,11 @@ public class MatchmakingServer extends FuzzJumpServer<LobbyPlayer, MatchmakingSe
                 gameServerTransferer.transfer(lobbySession);
             }
             if (lobbySession.end()) {
-                lobbySession.future.cancel(true);
+                lobbySession.stopTicking();
                 if (lobbySession.getListener() != null) {
                     lobbySession.getListener().ended();
                 }
-                openSessions.remove(lobbySession);
+                openLobbies.close(lobbySession);
                 sessions.remove(lobbySession.id);
             }
         } catch (Exception e) {
@@ -175,10 +300,19 @@ public class MatchmakingServer extends FuzzJumpServer<LobbyPlayer, MatchmakingSe
         if (player.getSession() == null)
             return;
         LobbySession session = (LobbySession) player.getSession();
-        session.removePlayer(player);
-        if (session.getRemainingTime() > 0 && !player.getSession().filled() && !openSessions.contains(player.getSession())) {
-            openSessions.offer((LobbySession) player.getSession());
-        }
+        session.execute(() -> leave(player, session));
+    }
+
+    public TickEngine getTickEngine() {
+        return tickEngine;
+    }
+
+    public MatchmakingCluster getCluster() {
+        return cluster;
+    }
+
+    public BatchMatchmaker getBatchMatchmaker() {
+        return batchMatchmaker;
     }
 
 }
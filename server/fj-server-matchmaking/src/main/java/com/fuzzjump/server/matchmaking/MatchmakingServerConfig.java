@@ -2,15 +2,37 @@ package com.fuzzjump.server.matchmaking;
 
 import com.fuzzjump.server.base.FuzzJumpServerConfig;
 
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+
 public class MatchmakingServerConfig extends FuzzJumpServerConfig {
 
-    public final String gameServerIp;
-    public final int gameServerPort;
+    //the game servers games are placed on
+    public final List<InetSocketAddress> gameServers;
+    //form lobbies in batches from a pool of waiting players, instead of filling open lobbies as players join
+    public final boolean batchMatchmaking;
+    //this node's address, as players connect to it and as it's listed in clusterNodes
+    public final InetSocketAddress clusterNode;
+    //every matchmaking node lobbies are spread over. empty if this node is on its own
+    public final List<InetSocketAddress> clusterNodes;
 
     public MatchmakingServerConfig(FuzzJumpServerConfig config, String gameServerIp, int gameServerPort) {
+        this(config, Collections.singletonList(InetSocketAddress.createUnresolved(gameServerIp, gameServerPort)), false);
+    }
+
+    public MatchmakingServerConfig(FuzzJumpServerConfig config, List<InetSocketAddress> gameServers, boolean batchMatchmaking) {
+        this(config, gameServers, batchMatchmaking, InetSocketAddress.createUnresolved(config.ip, config.port),
+                Collections.<InetSocketAddress>emptyList());
+    }
+
+    public MatchmakingServerConfig(FuzzJumpServerConfig config, List<InetSocketAddress> gameServers, boolean batchMatchmaking,
+                                   InetSocketAddress clusterNode, List<InetSocketAddress> clusterNodes) {
         super(config);
-        this.gameServerIp = gameServerIp;
-        this.gameServerPort = gameServerPort;
+        this.gameServers = Collections.unmodifiableList(gameServers);
+        this.batchMatchmaking = batchMatchmaking;
+        this.clusterNode = clusterNode;
+        this.clusterNodes = Collections.unmodifiableList(clusterNodes);
     }
 
 }
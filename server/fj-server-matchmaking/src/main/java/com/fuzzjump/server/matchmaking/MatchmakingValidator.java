@@ -1,12 +1,17 @@
 package com.fuzzjump.server.matchmaking;
 
 import com.fuzzjump.server.base.FuzzJumpPlayer;
+import com.fuzzjump.server.base.SessionTokens;
 import com.fuzzjump.server.common.messages.join.Join;
 import com.steveadoo.server.base.Player;
+import com.steveadoo.server.base.trace.Trace;
+import com.steveadoo.server.base.trace.Tracer;
 import com.steveadoo.server.base.validation.Validator;
 import com.steveadoo.server.common.packets.Validation;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Created by Steveadoo on 6/24/2017.
@@ -14,6 +19,8 @@ import java.util.concurrent.CompletableFuture;
 
 class MatchmakingValidator implements Validator {
 
+    private static Logger logger = Logger.getLogger("MatchmakingValidator");
+
     private final MatchmakingServer server;
 
     public MatchmakingValidator(MatchmakingServer server) {
@@ -45,26 +52,66 @@ class MatchmakingValidator implements Validator {
         String sessionKey = server.generateKey();
         fjPlayer.setServerSessionKey(sessionKey);
         fjPlayer.setUserId(packet.getUserId());
+        //a redirected join carries on the trace it started with
+        server.getTracer().start(player, packet.hasTraceId() ? packet.getTraceId() : null).span("join");
+
+        //signed tokens are checked here, anything else still goes to the api
+        SessionTokens tokens = server.getSessionTokens();
+        boolean signed = SessionTokens.isSigned(packet.getSessionKey());
+        if (tokens != null && signed) {
+            SessionTokens.Result result = tokens.check(packet.getSessionKey(), packet.getUserId(), SessionTokens.MATCHMAKING);
+            if (result != SessionTokens.Result.VALID) {
+                //a bad signature on every join means the api signs with a different key than ours
+                logger.log(result == SessionTokens.Result.BAD_SIGNATURE ? Level.WARNING : Level.INFO,
+                        "Refused the session token for " + packet.getUserId() + ": " + result);
+            }
+            boolean validated = result == SessionTokens.Result.VALID;
+            validated(fjPlayer, validated);
+            return CompletableFuture.completedFuture(validated);
+        }
+        if (signed) {
+            logger.log(Level.WARNING, "Got a signed session token from " + packet.getUserId()
+                    + " but no token key is configured, asking the api instead");
+        }
 
         CompletableFuture<Boolean> future = new CompletableFuture<>();
-        server.getApi().getSessionService().verify(packet.getUserId(), "MATCHMAKING", packet.getSessionKey())
+        server.getApi().getSessionService().verify(packet.getUserId(), SessionTokens.MATCHMAKING, packet.getSessionKey())
                 .map(response -> response != null && response.getBody())
-                .onErrorReturn(err -> false)
+                .onErrorReturn(err -> {
+                    logger.log(Level.WARNING, "Couldn't check the session token for " + packet.getUserId() + " with the api", err);
+                    return false;
+                })
                 .subscribe(validated -> {
-                    player.getChannel().writeAndFlush(getJoinResponse(fjPlayer, validated));
+                    if (!validated) {
+                        logger.log(Level.INFO, "The api refused the session token for " + packet.getUserId());
+                    }
+                    validated(fjPlayer, validated);
                     future.complete(validated);
                 });
         return future;
     }
 
+    private void validated(FuzzJumpPlayer fjPlayer, boolean validated) {
+        if (validated) {
+            Tracer.span(fjPlayer, "validated");
+        } else {
+            server.getTracer().finish(fjPlayer, "unauthorized");
+        }
+        fjPlayer.getChannel().writeAndFlush(getJoinResponse(fjPlayer, validated));
+    }
+
     private Join.JoinResponsePacket getJoinResponse(FuzzJumpPlayer fjPlayer, boolean validated) {
-        return Join.JoinResponsePacket.newBuilder()
+        Join.JoinResponsePacket.Builder builder = Join.JoinResponsePacket.newBuilder()
                 .setServerSessionKey(fjPlayer.getServerSessionKey())
                 .setRedirect(false)
                 .setServerIp(server.getServerInfo().ip)
                 .setServerPort(server.getServerInfo().port)
-                .setStatus(validated ? Validation.AUTHORIZED : Validation.UNAUTHORIZED)
-                .build();
+                .setStatus(validated ? Validation.AUTHORIZED : Validation.UNAUTHORIZED);
+        Trace trace = fjPlayer.getTrace();
+        if (trace != null) {
+            builder.setTraceId(trace.id);
+        }
+        return builder.build();
     }
 
 }
@@ -8,7 +8,11 @@ public class LobbyPlayer extends FuzzJumpPlayer {
 
     private boolean ready;
     private int selectedMap = -1;
-    private boolean synced;
+    //version of the lobby state this player was last sent, -1 if they haven't been sent one
+    private int stateVersion = -1;
+    private int rank;
+    //true while they're in the batch matchmaker's pool
+    private volatile boolean waiting;
 
     public LobbyPlayer(Channel channel) {
         super(channel);
@@ -30,11 +34,27 @@ public class LobbyPlayer extends FuzzJumpPlayer {
         this.selectedMap = selectedMap;
     }
 
-    public boolean isSynced() {
-        return synced;
+    public int getStateVersion() {
+        return stateVersion;
     }
 
-    public void setSynced(boolean synced) {
-        this.synced = synced;
+    public void setStateVersion(int stateVersion) {
+        this.stateVersion = stateVersion;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public boolean isWaiting() {
+        return waiting;
+    }
+
+    public void setWaiting(boolean waiting) {
+        this.waiting = waiting;
     }
 }
@@ -3,11 +3,14 @@ package com.fuzzjump.server.matchmaking.lobby;
 import com.fuzzjump.server.base.FuzzJumpSession;
 import com.fuzzjump.server.common.Maps;
 import com.fuzzjump.server.common.messages.lobby.Lobby;
+import com.steveadoo.server.base.net.Broadcaster;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.channel.EventLoop;
 
 
 public class LobbySession extends FuzzJumpSession<LobbyPlayer> {
@@ -20,12 +23,22 @@ public class LobbySession extends FuzzJumpSession<LobbyPlayer> {
     private Lobby.MapSlot.Builder mapSlotBuilder = Lobby.MapSlot.newBuilder();
     private Lobby.Player.Builder playerBuilder = Lobby.Player.newBuilder();
     private Lobby.TimeState.Builder timeStateBuilder = Lobby.TimeState.newBuilder();
+    private Lobby.LobbyDelta.Builder deltaBuilder = Lobby.LobbyDelta.newBuilder();
+
+    //the last state sent, and its version. players on this version only get deltas from it
+    private Lobby.LobbyState state;
+    private int stateVersion = 0;
 
-    public ScheduledFuture<?> future;
     private final long waitPeriodEnd;
 
-    public LobbySession(String id, int maxPlayers) {
-        super(id, maxPlayers);
+    //seats taken, kept by OpenLobbyIndex
+    final AtomicInteger seats = new AtomicInteger();
+    volatile boolean listed;
+    //buckets it's queued in, a bit per seat count
+    final AtomicInteger queued = new AtomicInteger();
+
+    public LobbySession(String id, int maxPlayers, Broadcaster broadcaster, EventLoop eventLoop) {
+        super(id, maxPlayers, broadcaster, eventLoop);
         update = true;
         setMaps();
         this.waitPeriodEnd = System.currentTimeMillis() + LOBBY_WAIT_PERIOD * 1000L;
@@ -46,11 +59,11 @@ public class LobbySession extends FuzzJumpSession<LobbyPlayer> {
     @Override
     public boolean update() {
         int remainingTime = getRemainingTime();
+        boolean changed = update || state == null || state.getTime().getTime() != remainingTime;
         if (update) {
             update = false;
             stateBuilder.clearPlayers();
             for (LobbyPlayer player : players) {
-                player.setSynced(false);
                 playerBuilder.clear();
                 playerBuilder.setPlayerIndex(player.getIndex());
                 playerBuilder.setUserId(player.getUserId());
@@ -68,23 +81,94 @@ public class LobbySession extends FuzzJumpSession<LobbyPlayer> {
                 stateBuilder.setMapSlots(i, bldr.buildPartial());
             }
         }
-        timeStateBuilder.setTime(Math.round(remainingTime));
-        Lobby.TimeState timeState = timeStateBuilder.build();
-        stateBuilder.setTime(timeState);
+        if (changed) {
+            stateBuilder.setTime(timeStateBuilder.setTime(remainingTime));
+            sendState();
+        }
         int readyCount = 0;
         for (LobbyPlayer player : players) {
             readyCount += player.isReady() ? 1 : 0;
-            if (!player.isSynced()) {
-                player.getChannel().write(stateBuilder.buildPartial());
-                player.setSynced(true);
-            } else {
-                player.getChannel().write(timeState);
-            }
-            player.getChannel().flush();
         }
         return readyCount == 4 || remainingTime <= 0;
     }
 
+    /**
+     * Players that have the last state get a delta with what changed since, everyone else gets the whole state.
+     * Either way it is encoded once for all of them.
+     *
+     * Deltas build on each other, so they're reliable and a slow client queues them. That's fine as long as they only
+     * go out when a player joins, leaves, readies or votes. When just the time changed it goes out as a TimeState
+     * instead, which supersedes, so a client that isn't reading only ever has the newest one waiting.
+     */
+    private void sendState() {
+        Lobby.LobbyState previous = state;
+        int previousVersion = stateVersion;
+        state = stateBuilder.buildPartial();
+        stateVersion++;
+        if (previous != null) {
+            Lobby.LobbyDelta delta = buildDelta(previous, state);
+            if (delta.getPlayersCount() > 0 || delta.getRemovedPlayersCount() > 0 || delta.getMapSlotsCount() > 0) {
+                broadcast(delta, player -> player.getStateVersion() != previousVersion);
+            } else if (delta.hasTime()) {
+                broadcast(delta.getTime(), player -> player.getStateVersion() != previousVersion);
+            }
+        }
+        boolean unsynced = false;
+        for (LobbyPlayer player : players) {
+            if (player.getStateVersion() != previousVersion) {
+                unsynced = true;
+                break;
+            }
+        }
+        if (unsynced) {
+            broadcast(state, player -> player.getStateVersion() == previousVersion);
+        }
+        for (LobbyPlayer player : players) {
+            player.setStateVersion(stateVersion);
+        }
+    }
+
+    private Lobby.LobbyDelta buildDelta(Lobby.LobbyState from, Lobby.LobbyState to) {
+        deltaBuilder.clear();
+        for (Lobby.Player player : to.getPlayersList()) {
+            Lobby.Player old = findPlayer(from, player.getPlayerIndex());
+            if (old == null || old.getReady() != player.getReady() || !old.getUserId().equals(player.getUserId())) {
+                deltaBuilder.addPlayers(player);
+            }
+        }
+        for (Lobby.Player player : from.getPlayersList()) {
+            if (findPlayer(to, player.getPlayerIndex()) == null) {
+                deltaBuilder.addRemovedPlayers(player.getPlayerIndex());
+            }
+        }
+        //the map slots are picked once, so they're always in the same order
+        for (int i = 0; i < to.getMapSlotsCount(); i++) {
+            if (to.getMapSlots(i).getVotes() != from.getMapSlots(i).getVotes()) {
+                deltaBuilder.addMapSlots(to.getMapSlots(i));
+            }
+        }
+        if (to.getTime().getTime() != from.getTime().getTime()) {
+            deltaBuilder.setTime(to.getTime());
+        }
+        return deltaBuilder.buildPartial();
+    }
+
+    private static Lobby.Player findPlayer(Lobby.LobbyState state, int playerIndex) {
+        for (int i = 0; i < state.getPlayersCount(); i++) {
+            Lobby.Player player = state.getPlayers(i);
+            if (player.getPlayerIndex() == playerIndex) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void addPlayer(LobbyPlayer player) {
+        player.setStateVersion(-1);
+        super.addPlayer(player);
+    }
+
     @Override
     public void destroy() {
 
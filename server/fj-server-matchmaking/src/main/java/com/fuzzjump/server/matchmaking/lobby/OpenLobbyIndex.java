@@ -0,0 +1,201 @@
+package com.fuzzjump.server.matchmaking.lobby;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The open public lobbies, bucketed by how many seats are taken. A player gets a seat in the fullest lobby that has
+ * one, so lobbies fill up and start instead of everyone being spread thin. Within a bucket lobbies are handed out in
+ * the order they reached that count, not by age. A lobby that moves away and comes back before its entry is polled
+ * keeps its old place.
+ *
+ * Seats are counted on the lobby with a CAS, and the buckets are lock free queues, so there's no global lock. When a
+ * lobby's seat count changes it's offered to the bucket for its new count, and the entry in the old bucket is left
+ * behind. Entries that don't match their lobby anymore, or whose lobby has closed or run out of time, are dropped when
+ * they reach the head of their queue. So placing a player is O(1), plus whatever stale entries it drops on the way.
+ *
+ * A lobby is only ever queued once per bucket, so it has at most maxPlayers - 1 entries. Emptier buckets may not be
+ * polled for a long time while fuller ones have lobbies, so purge() has to be called periodically to drop their stale
+ * entries, otherwise they keep ended lobbies and their players around.
+ *
+ * Every player in a lobby holds a seat, including ones that joined by game id or created a private lobby. Only lobbies
+ * that were added are ever handed out by reserve().
+ */
+public class OpenLobbyIndex {
+
+    static final int CLOSED = -1;
+
+    private final int maxPlayers;
+    private final ConcurrentLinkedQueue<LobbySession>[] buckets;
+    //reservations that took a lobby's last seat
+    private final LongAdder filled = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public OpenLobbyIndex(int maxPlayers) {
+        this.maxPlayers = maxPlayers;
+        this.buckets = new ConcurrentLinkedQueue[maxPlayers];
+        for (int i = 0; i < maxPlayers; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Lists the lobby, so reserve() can hand out its free seats
+     */
+    public void add(LobbySession session) {
+        session.listed = true;
+        offer(session, session.seats.get());
+    }
+
+    /**
+     * Takes a seat in the fullest open lobby
+     * @return the lobby, or null if none have a free seat
+     */
+    public LobbySession reserve() {
+        for (int taken = maxPlayers - 1; taken > 0; taken--) {
+            ConcurrentLinkedQueue<LobbySession> bucket = buckets[taken];
+            LobbySession session;
+            while ((session = bucket.poll()) != null) {
+                //cleared before the count is read, so a change after this queues the lobby again
+                dequeued(session, taken);
+                if (session.seats.get() != taken) {
+                    //moved to another bucket since this entry was added
+                    continue;
+                }
+                if (session.getRemainingTime() <= 0) {
+                    close(session);
+                    continue;
+                }
+                if (session.seats.compareAndSet(taken, taken + 1)) {
+                    reserved(session, taken + 1);
+                    return session;
+                }
+                //lost a race, whoever changed the count offered it again
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes a seat in the given lobby
+     * @return false if it's full or closed
+     */
+    public boolean reserve(LobbySession session) {
+        while (true) {
+            int taken = session.seats.get();
+            if (taken == CLOSED || taken >= maxPlayers) {
+                return false;
+            }
+            if (session.seats.compareAndSet(taken, taken + 1)) {
+                reserved(session, taken + 1);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives a seat back, when a player leaves or never made it in
+     */
+    public void release(LobbySession session) {
+        while (true) {
+            int taken = session.seats.get();
+            if (taken == CLOSED || taken == 0) {
+                return;
+            }
+            if (session.seats.compareAndSet(taken, taken - 1)) {
+                offer(session, taken - 1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops entries that don't match their lobby anymore, and closes lobbies that have run out of time. Call it
+     * periodically, it walks every bucket
+     */
+    public void purge() {
+        for (int taken = 1; taken < maxPlayers; taken++) {
+            int bucket = taken;
+            buckets[taken].removeIf(session -> isStale(session, bucket));
+        }
+    }
+
+    /**
+     * Stops handing out seats in the lobby, once it's started or ended. Its entries are dropped lazily
+     */
+    public void close(LobbySession session) {
+        session.seats.set(CLOSED);
+    }
+
+    public boolean isClosed(LobbySession session) {
+        return session.seats.get() == CLOSED;
+    }
+
+    /**
+     * @return true if it's listed and reserve() could hand out one of its seats
+     */
+    public boolean isOpen(LobbySession session) {
+        int taken = session.seats.get();
+        return session.listed && taken > 0 && taken < maxPlayers;
+    }
+
+    /**
+     * @return entries in every bucket, stale ones included. Counting walks the buckets
+     */
+    public int getQueuedCount() {
+        int count = 0;
+        for (ConcurrentLinkedQueue<LobbySession> bucket : buckets) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * @return how many times a lobby's last seat was taken
+     */
+    public long getFilledCount() {
+        return filled.sum();
+    }
+
+    private void reserved(LobbySession session, int taken) {
+        if (taken == maxPlayers) {
+            filled.increment();
+        }
+        offer(session, taken);
+    }
+
+    private void offer(LobbySession session, int taken) {
+        //empty lobbies end on their next tick, so they aren't offered
+        if (!session.listed || taken <= 0 || taken >= maxPlayers) {
+            return;
+        }
+        int bit = 1 << taken;
+        if ((session.queued.getAndAccumulate(bit, (queued, add) -> queued | add) & bit) != 0) {
+            //it already has an entry there, which is checked against the count when it's polled
+            return;
+        }
+        buckets[taken].offer(session);
+    }
+
+    private void dequeued(LobbySession session, int taken) {
+        session.queued.getAndAccumulate(~(1 << taken), (queued, keep) -> queued & keep);
+    }
+
+    private boolean isStale(LobbySession session, int taken) {
+        int seats = session.seats.get();
+        if (seats == taken) {
+            if (session.getRemainingTime() > 0) {
+                return false;
+            }
+            close(session);
+        }
+        dequeued(session, taken);
+        if (session.seats.get() == taken) {
+            //moved back here before the bit was cleared, so whoever moved it didn't queue it again
+            session.queued.getAndAccumulate(1 << taken, (queued, add) -> queued | add);
+            return false;
+        }
+        return true;
+    }
+
+}
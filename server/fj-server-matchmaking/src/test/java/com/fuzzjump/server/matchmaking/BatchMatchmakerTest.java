@@ -0,0 +1,298 @@
+package com.fuzzjump.server.matchmaking;
+
+import com.fuzzjump.server.matchmaking.lobby.LobbyPlayer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BatchMatchmakerTest {
+
+    private static final int LOBBY_SIZE = 4;
+    private static final int BUCKET_WIDTH = 10;
+    private static final int BUCKETS = 4;
+    private static final long WIDEN_AFTER_MILLIS = 1000;
+    private static final long MAX_WAIT_MILLIS = 10000;
+
+    private final List<List<LobbyPlayer>> lobbies = new ArrayList<>();
+    private final List<LobbyPlayer> timedOut = new ArrayList<>();
+    private final List<EmbeddedChannel> channels = new ArrayList<>();
+    private long nanos;
+    private BatchMatchmaker matchmaker;
+
+    @Before
+    public void setUp() {
+        matchmaker = matchmaker(BatchMatchmaker.DEFAULT_MAX_PER_TICK);
+    }
+
+    @After
+    public void tearDown() {
+        for (EmbeddedChannel channel : channels) {
+            channel.finish();
+        }
+    }
+
+    @Test
+    public void fullBucketMakesALobbyOldestFirst() {
+        LobbyPlayer first = join(5);
+        advance(1);
+        LobbyPlayer second = join(5);
+        LobbyPlayer third = join(5);
+        LobbyPlayer fourth = join(5);
+        LobbyPlayer fifth = join(5);
+        matchmaker.tick();
+
+        assertEquals(1, lobbies.size());
+        assertEquals(Arrays.asList(first, second, third, fourth), lobbies.get(0));
+        assertFalse(first.isWaiting());
+        assertTrue(fifth.isWaiting());
+        assertEquals(1, matchmaker.getStats().depth);
+    }
+
+    @Test
+    public void lessThanALobbyWaits() {
+        join(5);
+        join(5);
+        join(5);
+        matchmaker.tick();
+
+        assertTrue(lobbies.isEmpty());
+        assertEquals(3, matchmaker.getStats().depth);
+    }
+
+    @Test
+    public void addingTwiceIsIgnored() {
+        LobbyPlayer player = join(5);
+        matchmaker.add(player);
+
+        assertEquals(1, matchmaker.getStats().depth);
+    }
+
+    @Test
+    public void ranksAreBucketedAndClamped() {
+        //-5 goes in the first bucket and 1000 in the last, so neither matches with the middle ones
+        join(-5);
+        join(9);
+        join(15);
+        join(1000);
+        matchmaker.tick();
+
+        assertTrue(lobbies.isEmpty());
+    }
+
+    @Test
+    public void neighbouringBucketsMatchOnceTheyveWaited() {
+        join(5);
+        join(5);
+        join(15);
+        join(15);
+        matchmaker.tick();
+        assertTrue(lobbies.isEmpty());
+
+        advance(WIDEN_AFTER_MILLIS);
+        matchmaker.tick();
+        assertEquals(1, lobbies.size());
+        assertEquals(0, matchmaker.getStats().depth);
+    }
+
+    @Test
+    public void reachGrowsTheLongerTheyWait() {
+        join(5);
+        join(5);
+        join(25);
+        join(25);
+
+        advance(WIDEN_AFTER_MILLIS);
+        matchmaker.tick();
+        assertTrue(lobbies.isEmpty());
+
+        advance(WIDEN_AFTER_MILLIS);
+        matchmaker.tick();
+        assertEquals(1, lobbies.size());
+    }
+
+    @Test
+    public void reachHasToCoverBothWays() {
+        LobbyPlayer old = join(5);
+        advance(WIDEN_AFTER_MILLIS);
+        //these just joined, so they won't reach down to the old player even though the old player reaches up to them
+        join(15);
+        join(15);
+        join(15);
+        matchmaker.tick();
+        assertTrue(lobbies.isEmpty());
+        assertTrue(old.isWaiting());
+
+        advance(WIDEN_AFTER_MILLIS);
+        matchmaker.tick();
+        assertEquals(1, lobbies.size());
+        assertEquals(old, lobbies.get(0).get(0));
+    }
+
+    @Test
+    public void widenedPlayersStillMatchTheirOwnBucket() {
+        join(15);
+        join(15);
+        join(15);
+        //long enough to reach both neighbours, which are empty
+        advance(WIDEN_AFTER_MILLIS * 2);
+        matchmaker.tick();
+        assertTrue(lobbies.isEmpty());
+
+        //their own bucket fills up, and they're still in it
+        join(15);
+        matchmaker.tick();
+        assertEquals(1, lobbies.size());
+    }
+
+    @Test
+    public void widenedGroupsTakeTheOldestAndNearest() {
+        LobbyPlayer oldest = join(15);
+        advance(1);
+        LobbyPlayer near1 = join(5);
+        LobbyPlayer near2 = join(25);
+        LobbyPlayer far = join(35);
+        LobbyPlayer near3 = join(25);
+        advance(WIDEN_AFTER_MILLIS * 2);
+        matchmaker.tick();
+
+        assertEquals(1, lobbies.size());
+        List<LobbyPlayer> lobby = lobbies.get(0);
+        assertEquals(oldest, lobby.get(0));
+        assertTrue(lobby.containsAll(Arrays.asList(near1, near2, near3)));
+        assertTrue(far.isWaiting());
+    }
+
+    @Test
+    public void everyBucketIsWidenedInTheSameTick() {
+        //two separate groups that each need to reach a neighbour, both ready on the same tick
+        join(5);
+        join(5);
+        join(15);
+        join(15);
+        join(25);
+        join(25);
+        join(35);
+        join(35);
+        advance(WIDEN_AFTER_MILLIS);
+        matchmaker.tick();
+
+        assertEquals(2, lobbies.size());
+        assertEquals(0, matchmaker.getStats().depth);
+    }
+
+    @Test
+    public void playersThatWaitTooLongAreHandedBack() {
+        LobbyPlayer player = join(5);
+        advance(MAX_WAIT_MILLIS);
+        matchmaker.tick();
+
+        assertEquals(Arrays.asList(player), timedOut);
+        assertFalse(player.isWaiting());
+        BatchMatchmaker.Stats stats = matchmaker.getStats();
+        assertEquals(0, stats.depth);
+        assertEquals(1, stats.timedOut);
+        assertEquals(MAX_WAIT_MILLIS, stats.p50);
+    }
+
+    @Test
+    public void disconnectedPlayersAreDropped() {
+        LobbyPlayer gone = join(5);
+        join(5);
+        join(5);
+        join(5);
+        gone.getChannel().close();
+        matchmaker.tick();
+
+        assertTrue(lobbies.isEmpty());
+        assertTrue(timedOut.isEmpty());
+        assertFalse(gone.isWaiting());
+        assertEquals(3, matchmaker.getStats().depth);
+
+        LobbyPlayer late = join(5);
+        matchmaker.tick();
+        assertEquals(1, lobbies.size());
+        assertTrue(lobbies.get(0).contains(late));
+        assertFalse(lobbies.get(0).contains(gone));
+    }
+
+    @Test
+    public void spikesAreSpreadOverTicks() {
+        //the budget is one lobby's worth per bucket per tick
+        matchmaker = matchmaker(LOBBY_SIZE * BUCKETS);
+        for (int i = 0; i < LOBBY_SIZE * 3; i++) {
+            join(5);
+        }
+        matchmaker.tick();
+        assertEquals(1, lobbies.size());
+        matchmaker.tick();
+        assertEquals(2, lobbies.size());
+        matchmaker.tick();
+        assertEquals(3, lobbies.size());
+    }
+
+    @Test
+    public void quietBucketsLeaveTheirBudgetToBusyOnes() {
+        matchmaker = matchmaker(LOBBY_SIZE * BUCKETS);
+        //the last bucket drains last, so it gets everything the empty ones didn't use
+        for (int i = 0; i < LOBBY_SIZE * BUCKETS; i++) {
+            join(35);
+        }
+        matchmaker.tick();
+
+        assertEquals(BUCKETS, lobbies.size());
+    }
+
+    @Test
+    public void statsCountMatchesAndWaitPercentiles() {
+        for (int i = 0; i < LOBBY_SIZE; i++) {
+            join(5);
+        }
+        advance(100);
+        matchmaker.tick();
+        for (int i = 0; i < LOBBY_SIZE; i++) {
+            join(5);
+        }
+        advance(300);
+        matchmaker.tick();
+
+        BatchMatchmaker.Stats stats = matchmaker.getStats();
+        assertEquals(0, stats.depth);
+        assertEquals(LOBBY_SIZE * 2, stats.matched);
+        assertEquals(0, stats.timedOut);
+        //four waited 100ms and four waited 300ms
+        assertEquals(300, stats.p50);
+        assertEquals(300, stats.p99);
+        assertEquals(0, new BatchMatchmaker(LOBBY_SIZE, lobbies::add, timedOut::add).getStats().p50);
+    }
+
+    private BatchMatchmaker matchmaker(int maxPerTick) {
+        return new BatchMatchmaker(LOBBY_SIZE, BUCKET_WIDTH, BUCKETS, maxPerTick, WIDEN_AFTER_MILLIS, MAX_WAIT_MILLIS,
+                lobbies::add, timedOut::add, () -> nanos);
+    }
+
+    private LobbyPlayer join(int rank) {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channels.add(channel);
+        LobbyPlayer player = new LobbyPlayer(channel);
+        player.setRank(rank);
+        matchmaker.add(player);
+        return player;
+    }
+
+    private void advance(long millis) {
+        nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+}
@@ -0,0 +1,262 @@
+package com.fuzzjump.server.matchmaking.lobby;
+
+import com.fuzzjump.server.common.FuzzJumpMessageHandlers;
+import com.steveadoo.server.base.net.Broadcaster;
+import com.steveadoo.server.common.packets.PacketProcessor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class OpenLobbyIndexTest {
+
+    private static final int PLAYERS = 4;
+    private static final int THREADS = 8;
+
+    private final Broadcaster broadcaster = new Broadcaster(new PacketProcessor(FuzzJumpMessageHandlers.HANDLERS));
+    private EmbeddedChannel channel;
+    private OpenLobbyIndex index;
+    private int nextId;
+
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel();
+        index = new OpenLobbyIndex(PLAYERS);
+    }
+
+    @After
+    public void tearDown() {
+        channel.finish();
+    }
+
+    @Test
+    public void fullestLobbyIsPickedFirst() {
+        LobbySession one = lobby(1);
+        LobbySession three = lobby(3);
+        LobbySession two = lobby(2);
+        assertSame(three, index.reserve());
+        assertSame(two, index.reserve());
+        assertSame(two, index.reserve());
+        assertSame(one, index.reserve());
+    }
+
+    @Test
+    public void sameCountIsHandedOutInOrder() {
+        LobbySession first = lobby(2);
+        LobbySession second = lobby(2);
+        assertSame(first, index.reserve());
+        index.release(first);
+        assertSame(second, index.reserve());
+    }
+
+    @Test
+    public void fullLobbyIsNotHandedOut() {
+        LobbySession lobby = lobby(PLAYERS - 1);
+        assertSame(lobby, index.reserve());
+        assertFalse(index.isOpen(lobby));
+        assertNull(index.reserve());
+        assertFalse(index.reserve(lobby));
+        assertEquals(1, index.getFilledCount());
+    }
+
+    @Test
+    public void releasedSeatIsHandedOutAgain() {
+        LobbySession lobby = lobby(PLAYERS);
+        assertNull(index.reserve());
+        index.release(lobby);
+        assertTrue(index.isOpen(lobby));
+        assertSame(lobby, index.reserve());
+    }
+
+    @Test
+    public void closedLobbyIsNotHandedOut() {
+        LobbySession lobby = lobby(2);
+        index.close(lobby);
+        assertTrue(index.isClosed(lobby));
+        assertNull(index.reserve());
+        assertFalse(index.reserve(lobby));
+        index.release(lobby);
+        assertTrue(index.isClosed(lobby));
+    }
+
+    @Test
+    public void unlistedLobbyIsNotHandedOut() {
+        LobbySession lobby = new LobbySession(Integer.toString(nextId++), PLAYERS, broadcaster, channel.eventLoop());
+        assertTrue(index.reserve(lobby));
+        assertFalse(index.isOpen(lobby));
+        assertNull(index.reserve());
+    }
+
+    @Test
+    public void emptyLobbyIsNotHandedOut() {
+        LobbySession lobby = lobby(1);
+        index.release(lobby);
+        index.release(lobby);
+        assertEquals(0, lobby.seats.get());
+        assertNull(index.reserve());
+    }
+
+    @Test
+    public void churnQueuesEachLobbyOncePerBucket() {
+        List<LobbySession> lobbies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            lobbies.add(lobby(1));
+        }
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            LobbySession lobby = lobbies.get(random.nextInt(lobbies.size()));
+            if (random.nextBoolean()) {
+                index.reserve(lobby);
+            } else if (lobby.seats.get() > 1) {
+                index.release(lobby);
+            }
+            assertTrue(index.getQueuedCount() <= lobbies.size() * (PLAYERS - 1));
+        }
+    }
+
+    @Test
+    public void purgeDropsClosedAndMovedEntries() {
+        LobbySession closed = lobby(2);
+        LobbySession moved = lobby(1);
+        index.reserve(moved);
+        LobbySession open = lobby(3);
+        index.close(closed);
+        assertEquals(4, index.getQueuedCount());
+
+        index.purge();
+        assertEquals(2, index.getQueuedCount());
+        assertSame(open, index.reserve());
+        assertSame(moved, index.reserve());
+    }
+
+    @Test
+    public void concurrentReservesNeverOverfill() throws Exception {
+        List<LobbySession> lobbies = new ArrayList<>();
+        int free = 0;
+        for (int i = 0; i < 1000; i++) {
+            LobbySession lobby = lobby(1 + i % (PLAYERS - 1));
+            lobbies.add(lobby);
+            free += PLAYERS - lobby.seats.get();
+        }
+        int seats = 0;
+        for (Future<Integer> result : runConcurrently(() -> {
+            int reserved = 0;
+            while (index.reserve() != null) {
+                reserved++;
+            }
+            return reserved;
+        })) {
+            seats += result.get();
+        }
+        assertEquals(free, seats);
+        for (LobbySession lobby : lobbies) {
+            assertEquals(PLAYERS, lobby.seats.get());
+        }
+        assertEquals(lobbies.size(), index.getFilledCount());
+    }
+
+    @Test
+    public void concurrentReserveAndReleaseKeepCountsRight() throws Exception {
+        List<LobbySession> lobbies = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            lobbies.add(lobby(1 + i % (PLAYERS - 1)));
+        }
+        int[] before = seats(lobbies);
+        for (Future<Integer> result : runConcurrently(() -> {
+            for (int i = 0; i < 20000; i++) {
+                LobbySession lobby = index.reserve();
+                if (lobby != null) {
+                    int taken = lobby.seats.get();
+                    if (taken < 2 || taken > PLAYERS) {
+                        return taken;
+                    }
+                    index.release(lobby);
+                }
+            }
+            return -1;
+        })) {
+            assertEquals(-1, (int) result.get());
+        }
+        assertEquals(Arrays.toString(before), Arrays.toString(seats(lobbies)));
+        index.purge();
+        assertTrue(index.getQueuedCount() <= lobbies.size());
+    }
+
+    @Test
+    public void concurrentJoinsByIdNeverOverfill() throws Exception {
+        LobbySession lobby = lobby(1);
+        int joined = 0;
+        for (Future<Integer> result : runConcurrently(() -> index.reserve(lobby) ? 1 : 0)) {
+            joined += result.get();
+        }
+        assertEquals(PLAYERS - 1, joined);
+        assertEquals(PLAYERS, lobby.seats.get());
+    }
+
+    private LobbySession lobby(int seats) {
+        LobbySession lobby = new LobbySession(Integer.toString(nextId++), PLAYERS, broadcaster, channel.eventLoop());
+        for (int i = 0; i < seats; i++) {
+            index.reserve(lobby);
+        }
+        index.add(lobby);
+        return lobby;
+    }
+
+    private static int[] seats(List<LobbySession> lobbies) {
+        int[] seats = new int[lobbies.size()];
+        for (int i = 0; i < seats.length; i++) {
+            seats[i] = lobbies.get(i).seats.get();
+        }
+        return seats;
+    }
+
+    /**
+     * Runs the task on every thread at once
+     */
+    private static List<Future<Integer>> runConcurrently(Callable<Integer> task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                tasks.add(() -> {
+                    start.await();
+                    return task.call();
+                });
+            }
+            List<Future<Integer>> results = new ArrayList<>();
+            for (Callable<Integer> each : tasks) {
+                results.add(executor.submit(each));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                result.get();
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new AssertionError(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -1,10 +1,14 @@
 package com.steveadoo.server.base;
 
+import com.steveadoo.server.base.trace.Trace;
+
 import io.netty.channel.Channel;
 
 public abstract class Player {
 
     private Channel channel;
+    //the trace of this player's join, null if they aren't being traced
+    private volatile Trace trace;
 
     public Player(Channel channel) {
         this.channel = channel;
@@ -18,4 +22,12 @@ public abstract class Player {
         this.channel = channel;
     }
 
+    public Trace getTrace() {
+        return trace;
+    }
+
+    public void setTrace(Trace trace) {
+        this.trace = trace;
+    }
+
 }
@@ -1,33 +1,67 @@
 package com.steveadoo.server.base;
 
+import com.steveadoo.server.base.metrics.Histogram;
+import com.steveadoo.server.base.metrics.MetricsHttpServer;
+import com.steveadoo.server.base.metrics.MetricsMBean;
+import com.steveadoo.server.base.metrics.MetricsRegistry;
+import com.steveadoo.server.base.metrics.OpcodeCounters;
+import com.steveadoo.server.base.net.Broadcaster;
+import com.steveadoo.server.base.net.OutboundPolicy;
+import com.steveadoo.server.base.trace.Trace;
+import com.steveadoo.server.base.trace.Tracer;
 import com.steveadoo.server.base.validation.Validator;
 import com.steveadoo.server.common.packets.Packet;
 import com.steveadoo.server.common.packets.PacketProcessor;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.util.LinkedList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
 
 import io.netty.channel.Channel;
 import io.netty.util.AttributeKey;
+import io.netty.util.Timeout;
 
 public abstract class Server<TInfo extends ServerConfig> implements PacketProcessor.ProcessPipeline {
 
     public static final AttributeKey<Player> PLAYER_ATTRIBUTE_KEY = AttributeKey.newInstance("Channel.player");
     public static final AttributeKey<Boolean> VALIDATED_ATTR_KEY = AttributeKey.newInstance("Channel.validated");
+    private static final AttributeKey<Timeout> VALIDATION_TIMEOUT_KEY = AttributeKey.newInstance("Channel.validationTimeout");
 
     protected final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
+    protected final TimerService timerService = new TimerService();
 
     private final LinkedList<Validator> validators;
     private final PacketProcessor packetProcessor;
+    private final Broadcaster broadcaster;
+    private final OutboundPolicy outboundPolicy;
     private final TInfo serverInfo;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final Histogram validationNanos = metrics.histogram("validation.nanos");
+    private final LongAdder validationFailures = metrics.counter("validation.failures");
+    private final LongAdder validationTimeouts = metrics.counter("validation.timeouts");
+    private final Tracer tracer = new Tracer(metrics.histogram("trace.activeNanos"));
+    private MetricsHttpServer metricsHttpServer;
 
     public Server(TInfo serverInfo, PacketProcessor packetProcessor) {
         this.serverInfo = serverInfo;
         this.packetProcessor = packetProcessor;
         this.packetProcessor.setProcessPipeline(this);
+        this.packetProcessor.setProcessListener(new PacketMetrics(metrics));
+        this.broadcaster = new Broadcaster(packetProcessor, metrics.opcodes("messages.out"));
+        this.outboundPolicy = new OutboundPolicy(serverInfo.maxPendingWriteBytes);
         this.validators = new LinkedList<>();
+        metrics.gauge("connections", connectionCount::get);
+        metrics.gauge("trace.slow", tracer::getSlowCount);
+        metrics.registerJvm("jvm");
     }
 
     public void addValidator(Validator validator) {
@@ -53,31 +87,41 @@ public abstract class Server<TInfo extends ServerConfig> implements PacketProces
     }
 
     public final void onConnect(Channel channel) {
+        connectionCount.incrementAndGet();
         Player player = createPlayer(channel);
         channel.attr(PLAYER_ATTRIBUTE_KEY).set(player);
         if (serverInfo.validate) {
             System.out.println("Validations are on. Waiting " + serverInfo.validationTimeout + "ms for validation packet until removing the player");
-            executorService.schedule(() -> {
+            Timeout timeout = timerService.schedule(() -> {
                 System.out.println("Checking if player sent validation packet.");
                 Boolean validated = player.getChannel().attr(VALIDATED_ATTR_KEY).get();
                 if (validated == null || !validated) {
                     System.out.println("Player did not send validation packet. Disconnecting them.");
+                    validationTimeouts.increment();
                     player.getChannel().attr(Server.PLAYER_ATTRIBUTE_KEY).remove();
                     player.getChannel().close();
                 } else {
                     System.out.println("Player is validated.");
                 }
             }, serverInfo.validationTimeout, TimeUnit.MILLISECONDS);
+            channel.attr(VALIDATION_TIMEOUT_KEY).set(timeout);
         } else {
             connected(player);
         }
     }
 
     public final void onDisconnect(Channel channel) {
+        connectionCount.decrementAndGet();
+        cancelValidationTimeout(channel);
         Player player = channel.attr(PLAYER_ATTRIBUTE_KEY).get();
         if (player == null) {
             return;
         }
+        Trace trace = player.getTrace();
+        if (trace != null) {
+            trace.span("disconnected");
+            tracer.finish(trace);
+        }
         disconnected(player);
     }
 
@@ -87,9 +131,12 @@ public abstract class Server<TInfo extends ServerConfig> implements PacketProces
                 continue;
             }
             System.out.println(validator.getClass().getSimpleName() + " is validating player");
+            long start = System.nanoTime();
             validator.validate(player, message).thenAccept(validated -> {
+                validationNanos.record(System.nanoTime() - start);
                 System.out.println(validator.getClass().getSimpleName() + " validator validation complete. Player valid? " + validated);
                 if (!validated) {
+                    validationFailures.increment();
                     return;
                 }
                 onValidated(player);
@@ -100,13 +147,35 @@ public abstract class Server<TInfo extends ServerConfig> implements PacketProces
 
     private void onValidated(Player player) {
         player.getChannel().attr(VALIDATED_ATTR_KEY).set(true);
+        cancelValidationTimeout(player.getChannel());
         connected(player);
     }
 
+    private void cancelValidationTimeout(Channel channel) {
+        Timeout timeout = channel.attr(VALIDATION_TIMEOUT_KEY).getAndRemove();
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
     public final PacketProcessor getPacketProcessor() {
         return packetProcessor;
     }
 
+    /**
+     * @return the broadcaster for sending one message to many players
+     */
+    public final Broadcaster getBroadcaster() {
+        return broadcaster;
+    }
+
+    /**
+     * @return the policy for messages to clients that aren't reading fast enough. mark superseding messages on it
+     */
+    public final OutboundPolicy getOutboundPolicy() {
+        return outboundPolicy;
+    }
+
     public final TInfo getServerInfo() {
         return serverInfo;
     }
@@ -115,6 +184,58 @@ public abstract class Server<TInfo extends ServerConfig> implements PacketProces
         return executorService;
     }
 
+    /**
+     * @return the shared timer for timeouts
+     */
+    public final TimerService getTimerService() {
+        return timerService;
+    }
+
+    /**
+     * @return how many channels are connected, validated or not
+     */
+    public final int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * @return the server's metrics. Subclasses add their own to it
+     */
+    public final MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the tracer for player joins
+     */
+    public final Tracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * Registers the metrics with JMX, and serves them and the slow traces over http too if there's an address. Call
+     * it once
+     * @param httpAddress where to serve them, or null to only use JMX
+     */
+    public void exportMetrics(InetSocketAddress httpAddress) {
+        try {
+            MetricsMBean.register(metrics, getClass().getSimpleName());
+        } catch (JMException e) {
+            e.printStackTrace();
+        }
+        if (httpAddress == null) {
+            return;
+        }
+        try {
+            metricsHttpServer = new MetricsHttpServer(metrics, httpAddress);
+            metricsHttpServer.addPage("/traces", tracer::dump);
+            metricsHttpServer.start();
+            System.out.println("Serving metrics on http://" + httpAddress.getHostString() + ":" + metricsHttpServer.getAddress().getPort() + "/metrics");
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
     /**
      * Called when a player connects
      * TODO move this out into some sort of PlayerHandler?
@@ -139,4 +260,28 @@ public abstract class Server<TInfo extends ServerConfig> implements PacketProces
      */
     protected abstract Player createPlayer(Channel channel);
 
+    /**
+     * Counts received messages and times decoding and dispatching them
+     */
+    private static final class PacketMetrics implements PacketProcessor.ProcessListener {
+
+        private final OpcodeCounters received;
+        private final Histogram decodeNanos;
+        private final Histogram dispatchNanos;
+
+        PacketMetrics(MetricsRegistry metrics) {
+            this.received = metrics.opcodes("messages.in");
+            this.decodeNanos = metrics.histogram("packets.decodeNanos");
+            this.dispatchNanos = metrics.histogram("packets.dispatchNanos");
+        }
+
+        @Override
+        public void processed(int opcode, int length, long decodeNanos, long dispatchNanos) {
+            received.record(opcode, length);
+            this.decodeNanos.record(decodeNanos);
+            this.dispatchNanos.record(dispatchNanos);
+        }
+
+    }
+
 }
@@ -3,54 +3,168 @@ package com.steveadoo.server.base;
 import com.steveadoo.server.base.net.GamePacketDecoder;
 import com.steveadoo.server.base.net.GamePacketEncoder;
 import com.steveadoo.server.base.net.GameServerHandler;
+import com.steveadoo.server.base.net.OutboundPolicyHandler;
+import com.steveadoo.server.base.net.WriteBatch;
 
 import java.net.InetSocketAddress;
 import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 
 public class ServerBootstrapper {
 
+    private static Logger logger = Logger.getLogger("ServerBootstrapper");
+
+    private final TransportConfig transportConfig;
+    private final boolean epoll;
+    private final int acceptors;
+    private final ByteBufAllocator allocator;
+    private final EventLoopGroup bossGroup;
+    private final EventLoopGroup workerGroup;
+
     public ServerBootstrapper() {
+        this(TransportConfig.DEFAULT);
+    }
 
+    public ServerBootstrapper(TransportConfig transportConfig) {
+        this.transportConfig = transportConfig;
+        this.allocator = transportConfig.pooledAllocator ? PooledByteBufAllocator.DEFAULT : UnpooledByteBufAllocator.DEFAULT;
+        EventLoopGroup[] groups = useEpoll(transportConfig.transport) ? createEpollGroups(transportConfig) : null;
+        this.epoll = groups != null;
+        if (!epoll && transportConfig.acceptors > 1) {
+            logger.log(Level.WARNING, "SO_REUSEPORT needs epoll, only binding one acceptor");
+        }
+        this.acceptors = epoll ? transportConfig.acceptors : 1;
+        if (!epoll) {
+            groups = new EventLoopGroup[] {
+                    new NioEventLoopGroup(transportConfig.bossThreads),
+                    new NioEventLoopGroup(transportConfig.workerThreads)
+            };
+        }
+        this.bossGroup = groups[0];
+        this.workerGroup = groups[1];
+        System.out.println("Using " + (epoll ? "epoll" : "nio") + " transport");
     }
 
+    /**
+     * @return the boss and worker groups, or null if the native transport can't be loaded on this platform
+     */
+    private static EventLoopGroup[] createEpollGroups(TransportConfig transportConfig) {
+        EventLoopGroup bossGroup = null;
+        try {
+            //each acceptor gets its own boss thread
+            bossGroup = new EpollEventLoopGroup(Math.max(transportConfig.bossThreads, transportConfig.acceptors));
+            return new EventLoopGroup[] { bossGroup, new EpollEventLoopGroup(transportConfig.workerThreads) };
+        } catch (Throwable t) {
+            logger.log(Level.WARNING, "Couldn't start the epoll transport, falling back to nio", t);
+            if (bossGroup != null) {
+                bossGroup.shutdownGracefully();
+            }
+            return null;
+        }
+    }
+
+    private static boolean useEpoll(TransportConfig.Transport transport) {
+        if (transport == TransportConfig.Transport.NIO) {
+            return false;
+        }
+        if (Epoll.isAvailable()) {
+            return true;
+        }
+        if (transport == TransportConfig.Transport.EPOLL) {
+            logger.log(Level.WARNING, "epoll isn't available, falling back to nio", Epoll.unavailabilityCause());
+        }
+        return false;
+    }
+
+    /**
+     * Sets up the server and binds it to its port
+     * @return the bootstrap, pass it to bind for any other ports
+     */
     public ServerBootstrap bootstrap(final Server server) {
         ServerConfig serverConfig = server.getServerInfo();
+        server.getBroadcaster().setAllocator(allocator);
+        server.getMetrics().register("eventLoop", workerGroup);
+        //these don't keep any per channel state, so every channel shares them
+        final GamePacketEncoder encoder = new GamePacketEncoder(server);
+        final GameServerHandler handler = new GameServerHandler(server);
         ServerBootstrap bootstrap = new ServerBootstrap();
-        EventLoopGroup bossGroup = new NioEventLoopGroup();
-        EventLoopGroup workerGroup = new NioEventLoopGroup();
         bootstrap.group(bossGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
                 .childHandler(new ChannelInitializer<Channel>() {
 
                     @Override
                     protected void initChannel(Channel ch) {
+                        setWaterMarks(ch.config(), serverConfig);
                         ChannelPipeline pipeline = ch.pipeline();
+                        pipeline.addLast(WriteBatch.FlushHandler.INSTANCE);
+                        pipeline.addLast(new OutboundPolicyHandler(server.getOutboundPolicy()));
                         pipeline.addLast(new GamePacketDecoder());
-                        pipeline.addLast(new GamePacketEncoder(server));
-                        pipeline.addLast(new GameServerHandler(server));
+                        pipeline.addLast(encoder);
+                        pipeline.addLast(handler);
                     }
 
                 })
-                .option(ChannelOption.TCP_NODELAY, true)
-                .option(ChannelOption.SO_KEEPALIVE, true);
+                .option(ChannelOption.ALLOCATOR, allocator)
+                .childOption(ChannelOption.ALLOCATOR, allocator)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.SO_KEEPALIVE, true);
+        if (acceptors > 1) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+        bind(bootstrap, serverConfig.port);
+        return bootstrap;
+    }
+
+    /**
+     * Binds the bootstrap to the port. With SO_REUSEPORT this binds every acceptor
+     */
+    public void bind(ServerBootstrap bootstrap, int port) {
         try {
-            bootstrap.bind(new InetSocketAddress(serverConfig.port)).get();
-            System.out.println("Listening on port " + serverConfig.port);
+            for (int i = 0; i < acceptors; i++) {
+                bootstrap.bind(new InetSocketAddress(port)).get();
+            }
+            System.out.println("Listening on port " + port + (acceptors > 1 ? " with " + acceptors + " acceptors" : ""));
         } catch (InterruptedException | ExecutionException e) {
             e.printStackTrace();
             System.exit(1);
         }
-        return bootstrap;
     }
 
+    public TransportConfig getTransportConfig() {
+        return transportConfig;
+    }
+
+    public EventLoopGroup getWorkerGroup() {
+        return workerGroup;
+    }
+
+    private static void setWaterMarks(ChannelConfig config, ServerConfig serverConfig) {
+        //netty checks each mark against the other one's current value, so the order matters
+        if (serverConfig.writeBufferLowWaterMark > config.getWriteBufferHighWaterMark()) {
+            config.setWriteBufferHighWaterMark(serverConfig.writeBufferHighWaterMark);
+            config.setWriteBufferLowWaterMark(serverConfig.writeBufferLowWaterMark);
+        } else {
+            config.setWriteBufferLowWaterMark(serverConfig.writeBufferLowWaterMark);
+            config.setWriteBufferHighWaterMark(serverConfig.writeBufferHighWaterMark);
+        }
+    }
 
 }
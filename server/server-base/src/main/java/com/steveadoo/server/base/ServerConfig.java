@@ -2,24 +2,43 @@ package com.steveadoo.server.base;
 
 public class ServerConfig {
 
+    public static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 32 * 1024;
+    public static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 64 * 1024;
+    public static final int DEFAULT_MAX_PENDING_WRITE_BYTES = 256 * 1024;
+
     public final int port;
     public final boolean validate;
     public final int validationTimeout;
+    //a channel stops being writable when more than the high water mark is waiting to be sent,
+    //and is writable again once it drops below the low water mark
+    public final int writeBufferLowWaterMark;
+    public final int writeBufferHighWaterMark;
+    //how many bytes of reliable messages are held back for a channel that isn't writable before it's disconnected
+    public final int maxPendingWriteBytes;
 
     /**
      * Constructs a ServerInfo that will tell the server listen on the provided port
      * @param port The port to listen on
      */
     public ServerConfig(int port) {
-        this.port = port;
-        this.validate = false;
-        this.validationTimeout = 0;
+        this(port, false, 0, DEFAULT_WRITE_BUFFER_LOW_WATER_MARK, DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK, DEFAULT_MAX_PENDING_WRITE_BYTES);
     }
 
     public ServerConfig(int port, int validationTimeout) {
+        this(port, true, validationTimeout, DEFAULT_WRITE_BUFFER_LOW_WATER_MARK, DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK, DEFAULT_MAX_PENDING_WRITE_BYTES);
+    }
+
+    public ServerConfig(int port, boolean validate, int validationTimeout,
+                        int writeBufferLowWaterMark, int writeBufferHighWaterMark, int maxPendingWriteBytes) {
+        if (writeBufferLowWaterMark > writeBufferHighWaterMark) {
+            throw new IllegalArgumentException("writeBufferLowWaterMark can't be more than writeBufferHighWaterMark");
+        }
         this.port = port;
-        this.validate = true;
+        this.validate = validate;
         this.validationTimeout = validationTimeout;
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+        this.maxPendingWriteBytes = maxPendingWriteBytes;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,271 @@
+package com.steveadoo.server.base;
+
+import com.steveadoo.server.base.metrics.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Steps tasks at a fixed rate, like session ticks. Tasks are sharded by the event loop they're registered on, and
+ * each shard is one task on its loop that steps every entry in a single pass per tick. So a loop with a thousand
+ * sessions wakes up once per tick instead of a thousand times, and entries still only ever run on their own loop.
+ *
+ * Ticks are scheduled against a fixed start time instead of the end of the last pass, so they don't drift. If a pass
+ * runs so long that whole ticks are missed, those ticks are skipped rather than run back to back.
+ *
+ * Registering and cancelling are O(1). Shards stop scheduling themselves when they're empty.
+ */
+public class TickEngine {
+
+    private static Logger logger = Logger.getLogger("TickEngine");
+
+    private final long periodNanos;
+    private final ConcurrentHashMap<EventExecutor, Shard> shards = new ConcurrentHashMap<>();
+    //how long each pass took, over every shard
+    private final Histogram passNanos = new Histogram();
+
+    public TickEngine(long period, TimeUnit unit) {
+        this.periodNanos = unit.toNanos(period);
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+    }
+
+    /**
+     * Runs the task on the executor once per tick, starting one tick from now
+     * @return the handle, cancel it to stop the task
+     */
+    public Handle register(EventExecutor executor, Runnable task) {
+        Shard shard = shards.get(executor);
+        if (shard == null) {
+            Shard created = new Shard(executor);
+            shard = shards.putIfAbsent(executor, created);
+            if (shard == null) {
+                shard = created;
+            }
+        }
+        final Handle handle = new Handle(shard, task);
+        final Shard target = shard;
+        run(executor, () -> target.add(handle));
+        return handle;
+    }
+
+    /**
+     * @return the tick stats summed over every shard
+     */
+    public Stats getStats() {
+        int entries = 0;
+        long ticks = 0;
+        long overruns = 0;
+        long skipped = 0;
+        long totalNanos = 0;
+        long maxNanos = 0;
+        for (Shard shard : shards.values()) {
+            entries += shard.size;
+            ticks += shard.ticks;
+            overruns += shard.overruns;
+            skipped += shard.skipped;
+            totalNanos += shard.totalNanos;
+            maxNanos = Math.max(maxNanos, shard.maxNanos);
+        }
+        return new Stats(shards.size(), entries, ticks, overruns, skipped, totalNanos, maxNanos);
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    public Histogram getPassNanos() {
+        return passNanos;
+    }
+
+    private static void run(EventExecutor executor, Runnable task) {
+        if (executor.inEventLoop()) {
+            task.run();
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    public static final class Handle {
+
+        private final Shard shard;
+        private final Runnable task;
+
+        //only touched on the shard's loop
+        private int index = -1;
+
+        private volatile boolean cancelled;
+
+        private Handle(Shard shard, Runnable task) {
+            this.shard = shard;
+            this.task = task;
+        }
+
+        /**
+         * Stops the task. It won't run again once this returns, unless it's running right now
+         */
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            run(shard.executor, () -> shard.remove(this));
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+    }
+
+    /**
+     * The entries and tick loop for one executor. Everything but the stats is only touched on that executor
+     */
+    private final class Shard implements Runnable {
+
+        private final EventExecutor executor;
+        private final List<Handle> entries = new ArrayList<>();
+        private final List<Handle> removed = new ArrayList<>();
+
+        private boolean running;
+        private boolean ticking;
+        private long nextTick;
+
+        //written on the loop only, read by getStats
+        private volatile int size;
+        private volatile long ticks;
+        private volatile long overruns;
+        private volatile long skipped;
+        private volatile long totalNanos;
+        private volatile long maxNanos;
+
+        private Shard(EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        private void add(Handle handle) {
+            if (handle.cancelled || handle.index != -1) {
+                return;
+            }
+            handle.index = entries.size();
+            entries.add(handle);
+            size = entries.size();
+            if (!running) {
+                running = true;
+                nextTick = System.nanoTime() + periodNanos;
+                executor.schedule(this, periodNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void remove(Handle handle) {
+            if (handle.index == -1) {
+                return;
+            }
+            if (ticking) {
+                //swapping now would move an entry we haven't stepped behind the pass, so wait until it's done
+                removed.add(handle);
+                return;
+            }
+            int index = handle.index;
+            Handle last = entries.remove(entries.size() - 1);
+            if (last != handle) {
+                entries.set(index, last);
+                last.index = index;
+            }
+            handle.index = -1;
+            size = entries.size();
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            ticking = true;
+            try {
+                //entries registered during the pass are appended, and get stepped this pass too
+                for (int i = 0; i < entries.size(); i++) {
+                    Handle handle = entries.get(i);
+                    if (handle.cancelled) {
+                        continue;
+                    }
+                    try {
+                        handle.task.run();
+                    } catch (Throwable t) {
+                        logger.log(Level.SEVERE, "Tick task threw", t);
+                    }
+                }
+            } finally {
+                ticking = false;
+                for (int i = 0; i < removed.size(); i++) {
+                    remove(removed.get(i));
+                }
+                removed.clear();
+            }
+            long end = System.nanoTime();
+            long duration = end - start;
+            passNanos.record(duration);
+            ticks++;
+            totalNanos += duration;
+            if (duration > maxNanos) {
+                maxNanos = duration;
+            }
+            if (duration > periodNanos) {
+                overruns++;
+            }
+            if (entries.isEmpty()) {
+                running = false;
+                return;
+            }
+            nextTick += periodNanos;
+            if (nextTick - end < 0) {
+                long missed = (end - nextTick) / periodNanos + 1;
+                skipped += missed;
+                nextTick += missed * periodNanos;
+            }
+            executor.schedule(this, nextTick - end, TimeUnit.NANOSECONDS);
+        }
+
+    }
+
+    public static final class Stats {
+
+        public final int shards;
+        public final int entries;
+        public final long ticks;
+        //passes that took longer than the period
+        public final long overruns;
+        //ticks that were dropped because a pass ran past them
+        public final long skipped;
+        public final long totalNanos;
+        public final long maxNanos;
+
+        public Stats(int shards, int entries, long ticks, long overruns, long skipped, long totalNanos, long maxNanos) {
+            this.shards = shards;
+            this.entries = entries;
+            this.ticks = ticks;
+            this.overruns = overruns;
+            this.skipped = skipped;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getAverageNanos() {
+            return ticks == 0 ? 0 : totalNanos / ticks;
+        }
+
+        @Override
+        public String toString() {
+            return "shards=" + shards + " entries=" + entries + " ticks=" + ticks + " overruns=" + overruns
+                    + " skipped=" + skipped + " avg=" + TimeUnit.NANOSECONDS.toMicros(getAverageNanos()) + "us"
+                    + " max=" + TimeUnit.NANOSECONDS.toMicros(maxNanos) + "us";
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.steveadoo.server.base;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * A shared hashed wheel timer for timeouts, like validation deadlines and key expiry. Scheduling and cancelling are
+ * O(1), and timeouts fire within one tick of when they're due, which is plenty for timeouts measured in seconds.
+ *
+ * Tasks run on the timer's thread, so they have to be quick. Use the executor overload to run anything heavier, or
+ * anything that touches a session, somewhere else.
+ */
+public class TimerService {
+
+    public static final long DEFAULT_TICK_MILLIS = 100;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final HashedWheelTimer timer;
+
+    public TimerService() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    public TimerService(long tickMillis, int wheelSize) {
+        this.timer = new HashedWheelTimer(new DefaultThreadFactory("server-timer", true), tickMillis, TimeUnit.MILLISECONDS, wheelSize);
+    }
+
+    /**
+     * Runs the task on the timer thread after the delay
+     * @return the timeout, cancel it if the task isn't needed anymore
+     */
+    public Timeout schedule(final Runnable task, long delay, TimeUnit unit) {
+        return timer.newTimeout(timeout -> task.run(), delay, unit);
+    }
+
+    /**
+     * Hands the task to the executor after the delay
+     * @return the timeout, cancel it if the task isn't needed anymore
+     */
+    public Timeout schedule(final Runnable task, long delay, TimeUnit unit, final Executor executor) {
+        return timer.newTimeout(timeout -> executor.execute(task), delay, unit);
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.steveadoo.server.base;
+
+/**
+ * How ServerBootstrapper sets up netty
+ */
+public class TransportConfig {
+
+    public static final TransportConfig DEFAULT = new TransportConfig(Transport.AUTO, 1, 0, true, 1);
+
+    public final Transport transport;
+    //0 lets netty pick, which is twice the number of cores
+    public final int bossThreads;
+    public final int workerThreads;
+    //use netty's pooled buffer allocator instead of allocating a buffer for every read and write
+    public final boolean pooledAllocator;
+    //how many sockets to bind to each port with SO_REUSEPORT, so the kernel spreads accepts over them. epoll only
+    public final int acceptors;
+
+    public TransportConfig(Transport transport, int bossThreads, int workerThreads, boolean pooledAllocator, int acceptors) {
+        if (bossThreads < 0 || workerThreads < 0) {
+            throw new IllegalArgumentException("Thread counts can't be negative");
+        }
+        if (acceptors < 1) {
+            throw new IllegalArgumentException("Need at least one acceptor");
+        }
+        this.transport = transport;
+        this.bossThreads = bossThreads;
+        this.workerThreads = workerThreads;
+        this.pooledAllocator = pooledAllocator;
+        this.acceptors = acceptors;
+    }
+
+    public enum Transport {
+
+        //epoll when it's available, otherwise nio
+        AUTO,
+        EPOLL,
+        NIO
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.steveadoo.server.base.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Serves the metrics as plain text at /metrics, one "name value" per line, and any other text pages that are added.
+ * Meant to be bound to localhost or a private interface, there's no auth.
+ */
+public class MetricsHttpServer {
+
+    private final MetricsRegistry registry;
+    private final HttpServer server;
+
+    public MetricsHttpServer(MetricsRegistry registry, InetSocketAddress address) throws IOException {
+        this.registry = registry;
+        this.server = HttpServer.create(address, 0);
+        addPage("/metrics", this::renderMetrics);
+    }
+
+    /**
+     * Serves the text from page at the path. Call it before start
+     */
+    public void addPage(String path, Supplier<String> page) {
+        server.createContext(path, exchange -> handle(exchange, page));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private String renderMetrics() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Long> entry : registry.snapshot().entrySet()) {
+            builder.append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private void handle(HttpExchange exchange, Supplier<String> page) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = page.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+}
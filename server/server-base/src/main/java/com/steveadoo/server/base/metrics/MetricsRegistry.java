@@ -0,0 +1,213 @@
+package com.steveadoo.server.base.metrics;
+
+import com.steveadoo.server.base.TickEngine;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+/**
+ * Named counters, gauges and histograms for a server. Look metrics up once and keep them, recording on them is lock
+ * free. Gauges are only read when the metrics are, eg by MetricsHttpServer or over JMX.
+ *
+ * Names are dotted, like "messages.in". snapshot flattens everything into name to value, so a histogram named
+ * "packets.decodeNanos" shows up as "packets.decodeNanos.p99" and so on.
+ */
+public class MetricsRegistry {
+
+    private final ConcurrentSkipListMap<String, Object> metrics = new ConcurrentSkipListMap<>();
+    //bumped at the start of every snapshot
+    private final AtomicLong snapshots = new AtomicLong();
+
+    public LongAdder counter(String name) {
+        return get(name, LongAdder.class);
+    }
+
+    public Histogram histogram(String name) {
+        return get(name, Histogram.class);
+    }
+
+    public OpcodeCounters opcodes(String name) {
+        return get(name, OpcodeCounters.class);
+    }
+
+    /**
+     * Adds a gauge, replacing any metric with the same name. It's read on whatever thread reads the metrics
+     */
+    public void gauge(String name, LongSupplier gauge) {
+        metrics.put(name, gauge);
+    }
+
+    /**
+     * Wraps stats that several gauges read, so they're only read once per snapshot instead of once per gauge. Use it
+     * for stats that are expensive to get, like ones that sort their samples
+     */
+    public <S> Supplier<S> perSnapshot(Supplier<S> stats) {
+        AtomicReference<Cached<S>> cached = new AtomicReference<>();
+        return () -> {
+            long snapshot = snapshots.get();
+            Cached<S> current = cached.get();
+            if (current == null || current.snapshot != snapshot) {
+                current = new Cached<>(snapshot, stats.get());
+                cached.set(current);
+            }
+            return current.value;
+        };
+    }
+
+    /**
+     * Adds the engine's tick counts and its pass time histogram under the prefix
+     */
+    public void register(String prefix, TickEngine engine) {
+        gauge(prefix + ".entries", () -> engine.getStats().entries);
+        gauge(prefix + ".ticks", () -> engine.getStats().ticks);
+        gauge(prefix + ".overruns", () -> engine.getStats().overruns);
+        gauge(prefix + ".skipped", () -> engine.getStats().skipped);
+        metrics.put(prefix + ".passNanos", engine.getPassNanos());
+    }
+
+    /**
+     * Adds the total and the most tasks waiting on any one of the group's executors
+     */
+    public void register(String prefix, EventExecutorGroup group) {
+        gauge(prefix + ".pendingTasks", () -> {
+            long total = 0;
+            for (EventExecutor executor : group) {
+                if (executor instanceof SingleThreadEventExecutor) {
+                    total += ((SingleThreadEventExecutor) executor).pendingTasks();
+                }
+            }
+            return total;
+        });
+        gauge(prefix + ".maxPendingTasks", () -> {
+            long max = 0;
+            for (EventExecutor executor : group) {
+                if (executor instanceof SingleThreadEventExecutor) {
+                    max = Math.max(max, ((SingleThreadEventExecutor) executor).pendingTasks());
+                }
+            }
+            return max;
+        });
+    }
+
+    /**
+     * Adds the process's cpu time, heap, threads and gc totals under the prefix
+     */
+    public void registerJvm(String prefix) {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            com.sun.management.OperatingSystemMXBean sunOs = (com.sun.management.OperatingSystemMXBean) os;
+            gauge(prefix + ".cpuNanos", sunOs::getProcessCpuTime);
+        }
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        gauge(prefix + ".heapUsed", () -> memory.getHeapMemoryUsage().getUsed());
+        gauge(prefix + ".threads", ManagementFactory.getThreadMXBean()::getThreadCount);
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        gauge(prefix + ".gcCount", () -> {
+            long total = 0;
+            for (GarbageCollectorMXBean collector : collectors) {
+                total += Math.max(0, collector.getCollectionCount());
+            }
+            return total;
+        });
+        gauge(prefix + ".gcMillis", () -> {
+            long total = 0;
+            for (GarbageCollectorMXBean collector : collectors) {
+                total += Math.max(0, collector.getCollectionTime());
+            }
+            return total;
+        });
+    }
+
+    public void remove(String name) {
+        metrics.remove(name);
+    }
+
+    /**
+     * @return every metric's current value, sorted by name
+     */
+    public SortedMap<String, Long> snapshot() {
+        snapshots.incrementAndGet();
+        SortedMap<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : metrics.entrySet()) {
+            String name = entry.getKey();
+            Object metric = entry.getValue();
+            if (metric instanceof LongAdder) {
+                values.put(name, ((LongAdder) metric).sum());
+            } else if (metric instanceof LongSupplier) {
+                values.put(name, ((LongSupplier) metric).getAsLong());
+            } else if (metric instanceof Histogram) {
+                Histogram.Snapshot snapshot = ((Histogram) metric).snapshot();
+                values.put(name + ".count", snapshot.count);
+                values.put(name + ".mean", snapshot.getMean());
+                values.put(name + ".p50", snapshot.getPercentile(50));
+                values.put(name + ".p90", snapshot.getPercentile(90));
+                values.put(name + ".p99", snapshot.getPercentile(99));
+                values.put(name + ".max", snapshot.max);
+            } else if (metric instanceof OpcodeCounters) {
+                OpcodeCounters counters = (OpcodeCounters) metric;
+                for (int opcode = 0; opcode < counters.size(); opcode++) {
+                    long messages = counters.getMessages(opcode);
+                    if (messages == 0) {
+                        continue;
+                    }
+                    values.put(name + "." + opcode + ".messages", messages);
+                    values.put(name + "." + opcode + ".bytes", counters.getBytes(opcode));
+                }
+            }
+        }
+        return values;
+    }
+
+    private <T> T get(String name, Class<T> type) {
+        Object metric = metrics.get(name);
+        if (metric == null) {
+            Object created = create(type);
+            metric = metrics.putIfAbsent(name, created);
+            if (metric == null) {
+                metric = created;
+            }
+        }
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException(name + " is already registered as a " + metric.getClass().getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    private static Object create(Class<?> type) {
+        if (type == LongAdder.class) {
+            return new LongAdder();
+        } else if (type == Histogram.class) {
+            return new Histogram();
+        }
+        return new OpcodeCounters();
+    }
+
+    private static final class Cached<S> {
+
+        final long snapshot;
+        final S value;
+
+        Cached(long snapshot, S value) {
+            this.snapshot = snapshot;
+            this.value = value;
+        }
+
+    }
+
+}
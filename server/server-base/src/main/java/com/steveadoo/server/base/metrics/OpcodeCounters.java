@@ -0,0 +1,42 @@
+package com.steveadoo.server.base.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Message and byte counts per opcode. Opcodes are a single byte on the wire, so it's just two arrays
+ */
+public class OpcodeCounters {
+
+    private static final int MAX_OPCODES = 256;
+
+    private final LongAdder[] messages = new LongAdder[MAX_OPCODES];
+    private final LongAdder[] bytes = new LongAdder[MAX_OPCODES];
+
+    public OpcodeCounters() {
+        for (int i = 0; i < MAX_OPCODES; i++) {
+            messages[i] = new LongAdder();
+            bytes[i] = new LongAdder();
+        }
+    }
+
+    public void record(int opcode, int length) {
+        if (opcode < 0 || opcode >= MAX_OPCODES) {
+            return;
+        }
+        messages[opcode].increment();
+        bytes[opcode].add(length);
+    }
+
+    public long getMessages(int opcode) {
+        return messages[opcode].sum();
+    }
+
+    public long getBytes(int opcode) {
+        return bytes[opcode].sum();
+    }
+
+    public int size() {
+        return MAX_OPCODES;
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.steveadoo.server.base.net;
+
+import com.steveadoo.server.base.Player;
+import com.steveadoo.server.base.metrics.OpcodeCounters;
+import com.steveadoo.server.common.packets.PacketProcessor;
+import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
+import com.steveadoo.server.common.packets.exceptions.MissingHandlerException;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+
+/**
+ * Sends one message to many players. The message is encoded once, and every player gets a duplicate of the same
+ * reference counted buffer, so nothing is serialized or copied per player.
+ * Inside a WriteBatch the frames are flushed when the batch ends.
+ */
+public class Broadcaster {
+
+    private static Logger logger = Logger.getLogger("Broadcaster");
+
+    private final PacketProcessor packetProcessor;
+    //counts every copy of a frame that's sent, can be null
+    private final OpcodeCounters sent;
+    private volatile ByteBufAllocator allocator;
+
+    public Broadcaster(PacketProcessor packetProcessor) {
+        this(packetProcessor, ByteBufAllocator.DEFAULT, null);
+    }
+
+    public Broadcaster(PacketProcessor packetProcessor, ByteBufAllocator allocator) {
+        this(packetProcessor, allocator, null);
+    }
+
+    public Broadcaster(PacketProcessor packetProcessor, OpcodeCounters sent) {
+        this(packetProcessor, ByteBufAllocator.DEFAULT, sent);
+    }
+
+    public Broadcaster(PacketProcessor packetProcessor, ByteBufAllocator allocator, OpcodeCounters sent) {
+        this.packetProcessor = packetProcessor;
+        this.allocator = allocator;
+        this.sent = sent;
+    }
+
+    /**
+     * Sets the allocator frames are encoded into. ServerBootstrapper sets this to the one the channels use
+     */
+    public void setAllocator(ByteBufAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * Encodes the message into a frame that can be sent with send
+     * @return the frame. release it once you're done sending it
+     */
+    public ByteBuf encode(Object message) throws MissingHandlerException, MessageHandlerException {
+        ByteBuf frame = allocator.ioBuffer();
+        try {
+            GamePacketEncoder.writeFrame(packetProcessor, message, frame);
+            return frame;
+        } catch (MissingHandlerException | MessageHandlerException | RuntimeException e) {
+            frame.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a frame from encode to the player. The frame isn't released
+     */
+    public void send(Player player, ByteBuf frame) {
+        Channel channel = player.getChannel();
+        if (channel == null || !channel.isActive()) {
+            return;
+        }
+        if (sent != null) {
+            sent.record(frame.getUnsignedByte(frame.readerIndex()), frame.readableBytes());
+        }
+        WriteBatch.write(channel, frame.duplicate().retain());
+    }
+
+    public <T extends Player> void broadcast(Object message, List<T> players) {
+        broadcast(message, players, null);
+    }
+
+    /**
+     * Sends the message to every player
+     * @param message the message to send
+     * @param players the players to send to
+     * @param exclude players this returns true for are skipped. can be null
+     */
+    public <T extends Player> void broadcast(Object message, List<T> players, Predicate<? super T> exclude) {
+        if (players.isEmpty()) {
+            return;
+        }
+        ByteBuf frame;
+        try {
+            frame = encode(message);
+        } catch (MissingHandlerException | MessageHandlerException e) {
+            logger.log(Level.SEVERE, e.getMessage());
+            e.printStackTrace();
+            return;
+        }
+        try {
+            for (int i = 0; i < players.size(); i++) {
+                T player = players.get(i);
+                if (exclude != null && exclude.test(player)) {
+                    continue;
+                }
+                send(player, frame);
+            }
+        } finally {
+            frame.release();
+        }
+    }
+
+}
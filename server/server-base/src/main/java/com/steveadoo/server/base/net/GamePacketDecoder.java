@@ -1,37 +1,129 @@
 package com.steveadoo.server.base.net;
 
-import com.steveadoo.server.common.packets.Packet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
-import io.netty.util.ReferenceCountUtil;
-
+import io.netty.handler.codec.ByteToMessageDecoder;
 
+/**
+ * Splits the inbound stream into packets. A frame is the opcode byte, the body length as a varint, then the body.
+ * Every complete frame in a read is passed on, and a partial frame is kept until the rest of it arrives.
+ *
+ * Packets are pooled views over the read buffer, so they're passed on synchronously and only valid until the handler
+ * they're passed to returns, and that handler has to release them. That's why this doesn't extend ByteToMessageDecoder,
+ * which can fire its output after releasing the buffer.
+ *
+ * Each read is processed inside a WriteBatch, so replies to all the frames in it are flushed together.
+ */
 public class GamePacketDecoder extends ChannelInboundHandlerAdapter {
 
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 64 * 1024;
+
+    //a varint32 is never longer than 5 bytes
+    private static final int MAX_VARINT_LENGTH = 5;
+
+    private static Logger logger = Logger.getLogger("GamePacketDecoder");
+
+    private final int maxFrameLength;
+
+    private ByteBuf cumulation;
+
+    public GamePacketDecoder() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    public GamePacketDecoder(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+    }
+
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (!(msg instanceof ByteBuf)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+        ByteBuf buf = (ByteBuf) msg;
+        if (cumulation != null) {
+            buf = ByteToMessageDecoder.MERGE_CUMULATOR.cumulate(ctx.alloc(), cumulation, buf);
+            cumulation = null;
+        }
+        WriteBatch.begin();
         try {
-            ByteBuf buf = (ByteBuf) msg;
-            if (buf.isReadable()) {
-                if (buf.readableBytes() >= 512) {
-                    // Shouldn't happen unless there's huge lag or a player is spamming packets
-                    ctx.close();
-                    return;
-                }
-                int opcode = buf.readByte() & 0xFF;
-                int length = buf.readByte();
-
-                if (buf.readableBytes() >= length) {
-                    byte[] data = new byte[length];
-                    buf.readBytes(data, 0, length);
-                    Packet packet = new Packet(opcode, data);
-                    super.channelRead(ctx, packet);
-                }
+            while (!ctx.isRemoved() && readFrame(ctx, buf)) {
             }
         } finally {
-            ReferenceCountUtil.release(msg);
+            WriteBatch.end();
+            if (buf.isReadable() && !ctx.isRemoved() && ctx.channel().isOpen()) {
+                buf.discardSomeReadBytes();
+                cumulation = buf;
+            } else {
+                buf.release();
+            }
+        }
+    }
+
+    /**
+     * Reads one frame and passes it on
+     * @return false if there isn't a complete frame left in the buffer
+     */
+    private boolean readFrame(ChannelHandlerContext ctx, ByteBuf buf) throws Exception {
+        int start = buf.readerIndex();
+        int readable = buf.readableBytes();
+        if (readable < 2) {
+            return false;
+        }
+        int opcode = buf.getUnsignedByte(start);
+        int length = 0;
+        int headerLength = 1;
+        int shift = 0;
+        while (true) {
+            if (headerLength >= readable) {
+                return false;
+            }
+            byte b = buf.getByte(start + headerLength++);
+            length |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+            shift += 7;
+            if (headerLength > MAX_VARINT_LENGTH) {
+                logger.log(Level.WARNING, "Malformed frame length from " + ctx.channel().remoteAddress());
+                ctx.close();
+                return false;
+            }
+        }
+        if (length < 0 || length > maxFrameLength) {
+            logger.log(Level.WARNING, "Frame of " + length + " bytes from " + ctx.channel().remoteAddress() + " is over the limit of " + maxFrameLength);
+            ctx.close();
+            return false;
+        }
+        if (readable - headerLength < length) {
+            return false;
+        }
+        int bodyStart = start + headerLength;
+        buf.readerIndex(bodyStart + length);
+        ctx.fireChannelRead(RecyclerPacketPool.obtain().set(opcode, buf.nioBuffer(bodyStart, length)));
+        return true;
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        releaseCumulation();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        releaseCumulation();
+    }
+
+    private void releaseCumulation() {
+        if (cumulation != null) {
+            cumulation.release();
+            cumulation = null;
         }
     }
 
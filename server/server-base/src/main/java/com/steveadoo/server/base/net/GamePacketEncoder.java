@@ -2,44 +2,107 @@ package com.steveadoo.server.base.net;
 
 import com.google.protobuf.GeneratedMessage;
 import com.steveadoo.server.base.Server;
+import com.steveadoo.server.base.metrics.OpcodeCounters;
+import com.steveadoo.server.common.packets.MessageHandler;
 import com.steveadoo.server.common.packets.Packet;
 import com.steveadoo.server.common.packets.PacketProcessor;
 import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
 import com.steveadoo.server.common.packets.exceptions.MissingHandlerException;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Writes messages as the opcode byte, the body length as a varint, then the body. See GamePacketDecoder
+ */
+@ChannelHandler.Sharable
 public class GamePacketEncoder extends MessageToByteEncoder<Object> {
 
     private static Logger logger = Logger.getLogger("GamePacketEncoder");
 
     private final PacketProcessor packetProcessor;
+    //can be null
+    private final OpcodeCounters sent;
 
     public GamePacketEncoder(Server server) {
         this.packetProcessor = server.getPacketProcessor();
+        this.sent = server.getMetrics().opcodes("messages.out");
     }
 
     public GamePacketEncoder(PacketProcessor packetProcessor) {
         this.packetProcessor = packetProcessor;
+        this.sent = null;
+    }
+
+    /**
+     * Frames that were already encoded, eg by Broadcaster, are passed through untouched
+     */
+    @Override
+    public boolean acceptOutboundMessage(Object msg) throws Exception {
+        return !(msg instanceof ByteBuf);
     }
 
     @Override
     protected void encode(final ChannelHandlerContext ctx, final Object msg, final ByteBuf out) throws Exception {
         try {
-            Packet packet = packetProcessor.encodeMessage(msg);
-            out.writeByte(packet.opcode);
-            out.writeByte(packet.length);
-            if (packet.length > 0)
-                out.writeBytes(packet.data);
+            int start = out.writerIndex();
+            writeFrame(packetProcessor, msg, out);
+            if (sent != null && out.writerIndex() > start) {
+                sent.record(out.getUnsignedByte(start), out.writerIndex() - start);
+            }
         } catch (MissingHandlerException | MessageHandlerException e) {
             logger.log(Level.SEVERE, e.getMessage());
             e.printStackTrace();
         }
     }
 
+    /**
+     * Writes the message as a frame
+     * @param packetProcessor the processor with the message handlers
+     * @param msg the message to write
+     * @param out the buffer to write to
+     */
+    @SuppressWarnings("unchecked")
+    public static void writeFrame(PacketProcessor packetProcessor, Object msg, ByteBuf out) throws MissingHandlerException, MessageHandlerException {
+        MessageHandler handler = packetProcessor.getMessageHandler(msg);
+        if (handler.bufferEncoder == null) {
+            Packet packet = packetProcessor.encodeMessage(msg);
+            try {
+                out.writeByte(packet.opcode);
+                writeVarInt(out, packet.length);
+                if (packet.length > 0)
+                    out.writeBytes(packet.data);
+            } finally {
+                packet.release();
+            }
+            return;
+        }
+        //serialize straight into the outbound buffer
+        int length = handler.bufferEncoder.getEncodedSize(msg);
+        out.writeByte(handler.opcode);
+        writeVarInt(out, length);
+        if (length > 0) {
+            out.ensureWritable(length);
+            int index = out.writerIndex();
+            handler.bufferEncoder.encode(msg, out.nioBuffer(index, length));
+            out.writerIndex(index + length);
+        }
+    }
+
+    /**
+     * Writes the frame length the way GamePacketDecoder reads it
+     */
+    public static void writeVarInt(ByteBuf out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
 }
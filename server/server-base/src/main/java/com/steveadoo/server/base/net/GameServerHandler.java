@@ -5,12 +5,14 @@ import com.steveadoo.server.common.packets.Packet;
 import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
 import com.steveadoo.server.common.packets.exceptions.MissingHandlerException;
 
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+@ChannelHandler.Sharable
 public class GameServerHandler extends SimpleChannelInboundHandler<Packet> {
 
 	private static Logger logger = Logger.getLogger("GameServerHandler");
@@ -38,6 +40,8 @@ public class GameServerHandler extends SimpleChannelInboundHandler<Packet> {
 		} catch (MissingHandlerException | MessageHandlerException e) {
 			logger.log(Level.SEVERE, e.getMessage());
 			e.printStackTrace();
+		} finally {
+			packet.release();
 		}
 	}
 }
@@ -0,0 +1,40 @@
+package com.steveadoo.server.base.net;
+
+/**
+ * How OutboundPolicyHandler treats frames that can't be written yet because the client isn't reading fast enough.
+ *
+ * Superseding frames, like the time left in a lobby, only matter until a newer one is sent, so a pending one is
+ * replaced by the next frame with the same opcode. Everything else is reliable and queues, up to maxPendingBytes,
+ * after which the client is disconnected.
+ */
+public class OutboundPolicy {
+
+    //opcodes are a single byte on the wire
+    static final int MAX_OPCODES = 256;
+
+    public final int maxPendingBytes;
+
+    private final boolean[] superseding = new boolean[MAX_OPCODES];
+
+    public OutboundPolicy(int maxPendingBytes) {
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    /**
+     * Marks the opcodes as superseding. Do this before the server starts
+     */
+    public OutboundPolicy supersede(int... opcodes) {
+        for (int opcode : opcodes) {
+            if (opcode < 0 || opcode >= MAX_OPCODES) {
+                throw new IllegalArgumentException("Opcode " + opcode + " is out of range");
+            }
+            superseding[opcode] = true;
+        }
+        return this;
+    }
+
+    public boolean isSuperseding(int opcode) {
+        return superseding[opcode];
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.steveadoo.server.base.net;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Holds frames back while the channel isn't writable, following an OutboundPolicy, so a slow client can't make the
+ * server buffer an unbounded amount for it. Frames are written in order once the channel is writable again.
+ *
+ * This sits between GamePacketEncoder and the socket so it sees every frame, including the ones Broadcaster
+ * encoded, and reads the opcode from the first byte.
+ */
+public class OutboundPolicyHandler extends ChannelDuplexHandler {
+
+    private static Logger logger = Logger.getLogger("OutboundPolicyHandler");
+
+    private final OutboundPolicy policy;
+
+    private final ArrayDeque<PendingWrite> pending = new ArrayDeque<>();
+    //the pending write for each superseding opcode, created the first time one is held back
+    private PendingWrite[] latest;
+    //bytes of reliable frames held back
+    private long pendingBytes;
+
+    public OutboundPolicyHandler(OutboundPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (!(msg instanceof ByteBuf) || (pending.isEmpty() && ctx.channel().isWritable())) {
+            ctx.write(msg, promise);
+            return;
+        }
+        ByteBuf frame = (ByteBuf) msg;
+        int opcode = frame.isReadable() ? frame.getUnsignedByte(frame.readerIndex()) : -1;
+        if (opcode != -1 && policy.isSuperseding(opcode)) {
+            if (latest == null) {
+                latest = new PendingWrite[OutboundPolicy.MAX_OPCODES];
+            }
+            PendingWrite old = latest[opcode];
+            if (old != null) {
+                //the new frame takes its place, so as far as the sender cares it was sent
+                ReferenceCountUtil.release(old.msg);
+                old.msg = null;
+                old.promise.trySuccess();
+            }
+            PendingWrite write = new PendingWrite(frame, promise, opcode, 0);
+            latest[opcode] = write;
+            pending.add(write);
+            return;
+        }
+        int size = frame.readableBytes();
+        pending.add(new PendingWrite(frame, promise, -1, size));
+        pendingBytes += size;
+        if (pendingBytes > policy.maxPendingBytes) {
+            logger.log(Level.WARNING, ctx.channel().remoteAddress() + " has " + pendingBytes + " bytes waiting to be written, over the limit of " + policy.maxPendingBytes + ". Disconnecting them.");
+            releasePending(new IllegalStateException("Too many pending writes"));
+            ctx.close();
+        }
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        writePending(ctx);
+        ctx.flush();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable() && writePending(ctx)) {
+            ctx.flush();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    /**
+     * Writes held back frames until the channel stops being writable
+     * @return true if anything was written
+     */
+    private boolean writePending(ChannelHandlerContext ctx) {
+        boolean wrote = false;
+        while (!pending.isEmpty() && ctx.channel().isWritable()) {
+            PendingWrite write = pending.poll();
+            if (write.msg == null) {
+                //superseded
+                continue;
+            }
+            if (write.opcode != -1) {
+                latest[write.opcode] = null;
+            } else {
+                pendingBytes -= write.size;
+            }
+            ctx.write(write.msg, write.promise);
+            wrote = true;
+        }
+        return wrote;
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        releasePending(new ClosedChannelException());
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        releasePending(new ClosedChannelException());
+    }
+
+    private void releasePending(Throwable cause) {
+        PendingWrite write;
+        while ((write = pending.poll()) != null) {
+            if (write.msg != null) {
+                ReferenceCountUtil.release(write.msg);
+                write.promise.tryFailure(cause);
+            }
+        }
+        latest = null;
+        pendingBytes = 0;
+    }
+
+    private static final class PendingWrite {
+
+        private Object msg;
+        private final ChannelPromise promise;
+        private final int opcode;
+        private final int size;
+
+        private PendingWrite(Object msg, ChannelPromise promise, int opcode, int size) {
+            this.msg = msg;
+            this.promise = promise;
+            this.opcode = opcode;
+            this.size = size;
+        }
+
+    }
+
+}
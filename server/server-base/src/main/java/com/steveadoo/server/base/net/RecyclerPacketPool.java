@@ -0,0 +1,34 @@
+package com.steveadoo.server.base.net;
+
+import com.steveadoo.server.common.packets.Packet;
+
+import io.netty.util.Recycler;
+
+/**
+ * Packets backed by netty's Recycler. Obtaining and releasing on the same event loop doesn't lock or allocate.
+ */
+public final class RecyclerPacketPool {
+
+    private static final Recycler<Packet> RECYCLER = new Recycler<Packet>() {
+        @Override
+        protected Packet newObject(final Handle handle) {
+            return new Packet(new Packet.Recycler() {
+                @Override
+                public void recycle(Packet packet) {
+                    RECYCLER.recycle(packet, handle);
+                }
+            });
+        }
+    };
+
+    private RecyclerPacketPool() {
+    }
+
+    /**
+     * @return a packet with a reference count of 1. release it when you're done with it
+     */
+    public static Packet obtain() {
+        return RECYCLER.get().reuse();
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.steveadoo.server.base.net;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+
+/**
+ * Coalesces flushes. While a batch is open on a thread, writes made on that thread are queued and every channel
+ * that was written to is flushed once when the batch ends, so a tick that sends several messages to a player
+ * costs one syscall instead of one per message.
+ *
+ * Session ticks write with write(Channel, Object), which skips the flush on the calling thread. Flushes made inside
+ * the pipeline, like a handler calling writeAndFlush while a read is being processed, are held back by FlushHandler.
+ * Batches can be nested, only the outermost end flushes.
+ */
+public final class WriteBatch {
+
+    private static final ThreadLocal<WriteBatch> CURRENT = new ThreadLocal<WriteBatch>() {
+        @Override
+        protected WriteBatch initialValue() {
+            return new WriteBatch();
+        }
+    };
+
+    private final List<Channel> channels = new ArrayList<>();
+    private int depth;
+
+    private WriteBatch() {
+    }
+
+    /**
+     * Opens a batch on this thread. Always pair with end in a finally block
+     */
+    public static void begin() {
+        CURRENT.get().depth++;
+    }
+
+    /**
+     * Closes the batch, flushing every channel written to if it was the outermost one
+     */
+    public static void end() {
+        WriteBatch batch = CURRENT.get();
+        if (batch.depth == 0) {
+            throw new IllegalStateException("No batch is open");
+        }
+        if (--batch.depth == 0) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * @return true if a batch is open on this thread
+     */
+    public static boolean isOpen() {
+        return CURRENT.get().depth > 0;
+    }
+
+    /**
+     * Writes the message, and flushes it now if there isn't a batch open on this thread
+     */
+    public static ChannelFuture write(Channel channel, Object message) {
+        WriteBatch batch = CURRENT.get();
+        if (batch.depth == 0) {
+            return channel.writeAndFlush(message);
+        }
+        ChannelFuture future = channel.write(message);
+        batch.add(channel);
+        return future;
+    }
+
+    private void add(Channel channel) {
+        for (int i = 0; i < channels.size(); i++) {
+            if (channels.get(i) == channel) {
+                return;
+            }
+        }
+        channels.add(channel);
+    }
+
+    private void flush() {
+        //a flush can run listeners that open a batch of their own, so don't iterate the list they'd add to
+        while (!channels.isEmpty()) {
+            Channel[] pending = channels.toArray(new Channel[channels.size()]);
+            channels.clear();
+            for (Channel channel : pending) {
+                channel.flush();
+            }
+        }
+    }
+
+    /**
+     * Holds back flushes made on the event loop while a batch is open, eg during GamePacketDecoder's read pass.
+     * Flushes from other threads run on the event loop later and go straight through.
+     */
+    @ChannelHandler.Sharable
+    public static class FlushHandler extends ChannelOutboundHandlerAdapter {
+
+        public static final FlushHandler INSTANCE = new FlushHandler();
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) throws Exception {
+            WriteBatch batch = CURRENT.get();
+            if (batch.depth > 0) {
+                batch.add(ctx.channel());
+                return;
+            }
+            ctx.flush();
+        }
+
+    }
+
+}
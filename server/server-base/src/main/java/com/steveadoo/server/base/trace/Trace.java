@@ -0,0 +1,111 @@
+package com.steveadoo.server.base.trace;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The steps one player's join took on this server, each stamped with when it happened. Steps can be recorded from
+ * any thread. A trace holds at most MAX_SPANS, anything after that is dropped.
+ *
+ * Some steps are just waiting, like a lobby filling up. Those are marked with waited, and the time leading up to them
+ * doesn't count towards the trace being slow.
+ */
+public final class Trace {
+
+    public static final int MAX_SPANS = 32;
+
+    public final String id;
+
+    private final long startMillis;
+    private final long startNanos;
+
+    //guarded by this
+    private final String[] names = new String[MAX_SPANS];
+    private final long[] offsets = new long[MAX_SPANS];
+    private final boolean[] waits = new boolean[MAX_SPANS];
+    private int spans;
+    private long waitedNanos;
+    private long durationNanos = -1;
+
+    Trace(String id) {
+        this.id = id;
+        this.startMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Records a step that just finished
+     */
+    public void span(String name) {
+        add(name, false);
+    }
+
+    /**
+     * Records a step that was only waiting on something outside the server, eg other players
+     */
+    public void waited(String name) {
+        add(name, true);
+    }
+
+    private synchronized void add(String name, boolean wait) {
+        if (durationNanos >= 0 || spans == MAX_SPANS) {
+            return;
+        }
+        long offset = System.nanoTime() - startNanos;
+        if (wait) {
+            waitedNanos += offset - (spans == 0 ? 0 : offsets[spans - 1]);
+        }
+        names[spans] = name;
+        offsets[spans] = offset;
+        waits[spans] = wait;
+        spans++;
+    }
+
+    /**
+     * @return false if it was already finished
+     */
+    synchronized boolean finish() {
+        if (durationNanos >= 0) {
+            return false;
+        }
+        durationNanos = System.nanoTime() - startNanos;
+        return true;
+    }
+
+    public synchronized boolean isFinished() {
+        return durationNanos >= 0;
+    }
+
+    /**
+     * @return how long it took from start to finish, or so far if it isn't finished
+     */
+    public synchronized long getDurationNanos() {
+        return durationNanos >= 0 ? durationNanos : System.nanoTime() - startNanos;
+    }
+
+    /**
+     * @return the duration, minus the time spent on steps that were only waiting
+     */
+    public synchronized long getActiveNanos() {
+        return getDurationNanos() - waitedNanos;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("trace ").append(id)
+                .append(" at ").append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(startMillis)))
+                .append(" took ").append(TimeUnit.NANOSECONDS.toMillis(getDurationNanos())).append("ms")
+                .append(" (").append(TimeUnit.NANOSECONDS.toMillis(getActiveNanos())).append("ms active)");
+        long last = 0;
+        for (int i = 0; i < spans; i++) {
+            builder.append("\n  ").append(names[i])
+                    .append(" +").append(TimeUnit.NANOSECONDS.toMillis(offsets[i] - last)).append("ms")
+                    .append(waits[i] ? " waiting" : "");
+            last = offsets[i];
+        }
+        return builder.toString();
+    }
+
+}
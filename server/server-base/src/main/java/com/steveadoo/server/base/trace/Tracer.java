@@ -0,0 +1,146 @@
+package com.steveadoo.server.base.trace;
+
+import com.steveadoo.server.base.Player;
+import com.steveadoo.server.base.metrics.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Starts and finishes traces of player joins. A trace can be started with the id of one from another server, eg the
+ * matchmaker, so the two halves of a join can be matched up.
+ *
+ * Finished traces whose active time is over the slow threshold are kept in a ring buffer, newest replacing oldest, so
+ * there's always a recent sample to look at. Nothing else is kept.
+ */
+public class Tracer {
+
+    public static final long DEFAULT_SLOW_MILLIS = 1000;
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final AtomicReferenceArray<Trace> slow;
+    private final AtomicLong slowCount = new AtomicLong();
+    //active time of every finished trace, can be null
+    private final Histogram activeNanos;
+
+    private volatile long slowNanos;
+
+    public Tracer(Histogram activeNanos) {
+        this(DEFAULT_SLOW_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_CAPACITY, activeNanos);
+    }
+
+    public Tracer(long slowThreshold, TimeUnit unit, int capacity, Histogram activeNanos) {
+        this.slowNanos = unit.toNanos(slowThreshold);
+        this.slow = new AtomicReferenceArray<>(capacity);
+        this.activeNanos = activeNanos;
+    }
+
+    /**
+     * @param id the id of the trace this continues, or null to start a new one
+     */
+    public Trace start(String id) {
+        if (id == null || id.isEmpty()) {
+            id = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        }
+        return new Trace(id);
+    }
+
+    /**
+     * Starts a trace for the player, replacing any they had
+     */
+    public Trace start(Player player, String id) {
+        Trace trace = start(id);
+        player.setTrace(trace);
+        return trace;
+    }
+
+    /**
+     * Records a step on the player's trace, if they have one
+     */
+    public static void span(Player player, String name) {
+        Trace trace = player.getTrace();
+        if (trace != null) {
+            trace.span(name);
+        }
+    }
+
+    /**
+     * Records a waiting step on the player's trace, if they have one
+     */
+    public static void waited(Player player, String name) {
+        Trace trace = player.getTrace();
+        if (trace != null) {
+            trace.waited(name);
+        }
+    }
+
+    /**
+     * Records the last step on the player's trace and finishes it, if they have one that isn't finished
+     */
+    public void finish(Player player, String name) {
+        Trace trace = player.getTrace();
+        if (trace != null) {
+            trace.span(name);
+            finish(trace);
+        }
+    }
+
+    /**
+     * Finishes the trace, and keeps it if it was slow. Does nothing if it's already finished
+     */
+    public void finish(Trace trace) {
+        if (!trace.finish()) {
+            return;
+        }
+        long active = trace.getActiveNanos();
+        if (activeNanos != null) {
+            activeNanos.record(active);
+        }
+        if (active >= slowNanos) {
+            slow.set((int) (slowCount.getAndIncrement() % slow.length()), trace);
+        }
+    }
+
+    public void setSlowThreshold(long slowThreshold, TimeUnit unit) {
+        this.slowNanos = unit.toNanos(slowThreshold);
+    }
+
+    /**
+     * @return how many slow traces there have been, including ones pushed out of the buffer
+     */
+    public long getSlowCount() {
+        return slowCount.get();
+    }
+
+    /**
+     * @return the slow traces still in the buffer, newest first
+     */
+    public List<Trace> getSlowTraces() {
+        List<Trace> traces = new ArrayList<>();
+        long count = slowCount.get();
+        int capacity = slow.length();
+        for (long i = count - 1; i >= 0 && i >= count - capacity; i--) {
+            Trace trace = slow.get((int) (i % capacity));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    /**
+     * @return the slow traces as text, newest first
+     */
+    public String dump() {
+        StringBuilder builder = new StringBuilder();
+        for (Trace trace : getSlowTraces()) {
+            builder.append(trace).append("\n\n");
+        }
+        return builder.toString();
+    }
+
+}
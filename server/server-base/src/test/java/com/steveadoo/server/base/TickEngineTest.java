@@ -0,0 +1,177 @@
+package com.steveadoo.server.base;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TickEngineTest {
+
+    private static final long PERIOD_MILLIS = 5;
+    private static final long WAIT_SECONDS = 5;
+
+    private TickEngine engine;
+    private EventExecutorGroup group;
+    private EventExecutor executor;
+    private EventExecutor otherExecutor;
+
+    @Before
+    public void setUp() {
+        engine = new TickEngine(PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+        group = new DefaultEventExecutorGroup(2);
+        executor = group.next();
+        otherExecutor = group.next();
+    }
+
+    @After
+    public void tearDown() {
+        group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void periodMustBePositive() {
+        new TickEngine(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void tasksRunEveryTickOnTheirOwnExecutor() throws InterruptedException {
+        CountDownLatch ticks = new CountDownLatch(5);
+        AtomicInteger offLoop = new AtomicInteger();
+        engine.register(executor, () -> {
+            if (!executor.inEventLoop()) {
+                offLoop.incrementAndGet();
+            }
+            ticks.countDown();
+        });
+
+        assertTrue(ticks.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(0, offLoop.get());
+    }
+
+    @Test
+    public void tasksAreShardedByExecutor() throws InterruptedException {
+        CountDownLatch ticks = new CountDownLatch(6);
+        engine.register(executor, ticks::countDown);
+        engine.register(executor, ticks::countDown);
+        engine.register(otherExecutor, ticks::countDown);
+
+        assertTrue(ticks.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        TickEngine.Stats stats = engine.getStats();
+        assertEquals(2, stats.shards);
+        assertEquals(3, stats.entries);
+    }
+
+    @Test
+    public void cancelledTaskStopsRunning() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch ticked = new CountDownLatch(1);
+        TickEngine.Handle handle = engine.register(executor, () -> {
+            runs.incrementAndGet();
+            ticked.countDown();
+        });
+        assertTrue(ticked.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+        handle.cancel();
+        assertTrue(handle.isCancelled());
+        //the removal is queued on the loop, so wait for it before counting
+        executor.submit(() -> { }).get(WAIT_SECONDS, TimeUnit.SECONDS);
+        int cancelledAt = runs.get();
+        Thread.sleep(PERIOD_MILLIS * 10);
+
+        assertEquals(cancelledAt, runs.get());
+        assertEquals(0, engine.getStats().entries);
+    }
+
+    @Test
+    public void cancellingDuringAPassStillStepsTheRest() throws InterruptedException {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch passes = new CountDownLatch(2);
+        List<TickEngine.Handle> handles = new ArrayList<>();
+        //the first task cancels itself, which would swap the last task into its slot if it were removed mid pass
+        handles.add(engine.register(executor, () -> {
+            order.add("a");
+            handles.get(0).cancel();
+        }));
+        handles.add(engine.register(executor, () -> order.add("b")));
+        handles.add(engine.register(executor, () -> {
+            order.add("c");
+            passes.countDown();
+        }));
+
+        assertTrue(passes.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        handles.get(1).cancel();
+        handles.get(2).cancel();
+
+        assertEquals("a", order.get(0));
+        assertEquals("b", order.get(1));
+        assertEquals("c", order.get(2));
+        assertEquals(1, Collections.frequency(order, "a"));
+    }
+
+    @Test
+    public void throwingTaskDoesNotStopTheOthers() throws InterruptedException {
+        CountDownLatch ticks = new CountDownLatch(3);
+        engine.register(executor, () -> {
+            throw new IllegalStateException("tick task failure");
+        });
+        engine.register(executor, ticks::countDown);
+
+        assertTrue(ticks.await(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void emptyShardStopsTicking() throws Exception {
+        CountDownLatch ticked = new CountDownLatch(1);
+        TickEngine.Handle handle = engine.register(executor, ticked::countDown);
+        assertTrue(ticked.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        handle.cancel();
+        executor.submit(() -> { }).get(WAIT_SECONDS, TimeUnit.SECONDS);
+        //let any pass that was already scheduled run and see the shard is empty
+        Thread.sleep(PERIOD_MILLIS * 4);
+        long ticks = engine.getStats().ticks;
+
+        Thread.sleep(PERIOD_MILLIS * 10);
+        assertEquals(ticks, engine.getStats().ticks);
+    }
+
+    @Test
+    public void shardStartsAgainAfterEmptying() throws Exception {
+        CountDownLatch first = new CountDownLatch(1);
+        TickEngine.Handle handle = engine.register(executor, first::countDown);
+        assertTrue(first.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        handle.cancel();
+        executor.submit(() -> { }).get(WAIT_SECONDS, TimeUnit.SECONDS);
+        Thread.sleep(PERIOD_MILLIS * 4);
+
+        CountDownLatch second = new CountDownLatch(3);
+        engine.register(executor, second::countDown);
+        assertTrue(second.await(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancelBeforeTheFirstTickNeverRuns() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch other = new CountDownLatch(3);
+        //registered and cancelled in the same loop task, so it's gone before its first tick
+        executor.submit(() -> engine.register(executor, runs::incrementAndGet).cancel()).get(WAIT_SECONDS, TimeUnit.SECONDS);
+        engine.register(executor, other::countDown);
+
+        assertTrue(other.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertEquals(1, engine.getStats().entries);
+    }
+
+}
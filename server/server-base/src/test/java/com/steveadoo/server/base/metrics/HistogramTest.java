@@ -0,0 +1,142 @@
+package com.steveadoo.server.base.metrics;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HistogramTest {
+
+    //four sub buckets per power of two, up to 2^40
+    private static final int LAST_BUCKET = 40 * 4 - 1;
+
+    @Test
+    public void smallValuesGetABucketEach() {
+        for (int value = 0; value < 4; value++) {
+            assertEquals(value, Histogram.index(value));
+            assertEquals(value, Histogram.lowerBound(value));
+        }
+    }
+
+    @Test
+    public void bucketBoundaries() {
+        assertEquals(4, Histogram.index(4));
+        assertEquals(7, Histogram.index(7));
+        assertEquals(8, Histogram.index(8));
+        assertEquals(8, Histogram.index(9));
+        assertEquals(9, Histogram.index(10));
+        assertEquals(11, Histogram.index(15));
+        assertEquals(12, Histogram.index(16));
+        assertEquals(12, Histogram.index(19));
+        assertEquals(13, Histogram.index(20));
+        assertEquals(8, Histogram.lowerBound(8));
+        assertEquals(10, Histogram.lowerBound(9));
+        assertEquals(16, Histogram.lowerBound(12));
+        assertEquals(20, Histogram.lowerBound(13));
+    }
+
+    @Test
+    public void everyValueFallsBetweenItsBucketsBounds() {
+        Random random = new Random(0);
+        for (int exponent = 2; exponent < 40; exponent++) {
+            long power = 1L << exponent;
+            check(power - 1);
+            check(power);
+            check(power + 1);
+            check(power + (long) (random.nextDouble() * power));
+        }
+    }
+
+    @Test
+    public void bucketsAreNeverMoreThanAQuarterWide() {
+        for (int index = 4; index < LAST_BUCKET; index++) {
+            long lower = Histogram.lowerBound(index);
+            long width = Histogram.lowerBound(index + 1) - lower;
+            assertTrue("bucket " + index, width * 4 <= lower);
+        }
+    }
+
+    @Test
+    public void hugeValuesGoInTheLastBucket() {
+        assertEquals(LAST_BUCKET - 3, Histogram.index(1L << 40));
+        assertEquals(LAST_BUCKET, Histogram.index((1L << 41) - 1));
+        assertEquals(LAST_BUCKET, Histogram.index(1L << 41));
+        assertEquals(LAST_BUCKET, Histogram.index(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void hugeValuesReportTheMax() {
+        Histogram histogram = new Histogram();
+        histogram.record(1L << 50);
+        histogram.record(Long.MAX_VALUE);
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(Long.MAX_VALUE, snapshot.max);
+        assertEquals(Long.MAX_VALUE, snapshot.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, snapshot.getPercentile(100));
+    }
+
+    @Test
+    public void negativeValuesCountAsZero() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.count);
+        assertEquals(0, snapshot.sum);
+        assertEquals(0, snapshot.getPercentile(100));
+    }
+
+    @Test
+    public void emptySnapshotIsAllZero() {
+        Histogram.Snapshot snapshot = new Histogram().snapshot();
+        assertEquals(0, snapshot.count);
+        assertEquals(0, snapshot.getMean());
+        assertEquals(0, snapshot.getPercentile(50));
+        assertEquals(0, snapshot.max);
+    }
+
+    @Test
+    public void percentilesAreTheTopOfTheirBucket() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.count);
+        assertEquals(5050, snapshot.sum);
+        assertEquals(50, snapshot.getMean());
+        //50 is in [48, 56), 90 is in [80, 96), 99 is in [96, 112) which the max cuts off at 100
+        assertEquals(55, snapshot.getPercentile(50));
+        assertEquals(95, snapshot.getPercentile(90));
+        assertEquals(100, snapshot.getPercentile(99));
+        assertEquals(100, snapshot.getPercentile(100));
+        assertEquals(1, snapshot.getPercentile(0));
+    }
+
+    @Test
+    public void percentilesAreWithinAQuarterOfTheRealValue() {
+        Histogram histogram = new Histogram();
+        Random random = new Random(0);
+        long[] values = new long[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1000 + random.nextInt(1000000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        for (int percentile : new int[]{50, 90, 99}) {
+            long real = values[values.length * percentile / 100 - 1];
+            long reported = snapshot.getPercentile(percentile);
+            assertTrue(percentile + ": " + reported + " vs " + real, reported >= real && reported <= real * 5 / 4);
+        }
+    }
+
+    private static void check(long value) {
+        int index = Histogram.index(value);
+        assertTrue(value + " is under its bucket", Histogram.lowerBound(index) <= value);
+        assertTrue(value + " is over its bucket", value < Histogram.lowerBound(index + 1));
+    }
+
+}
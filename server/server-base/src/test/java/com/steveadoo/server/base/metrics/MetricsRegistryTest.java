@@ -0,0 +1,60 @@
+package com.steveadoo.server.base.metrics;
+
+import org.junit.Test;
+
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.management.ReflectionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MetricsRegistryTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    public void snapshotFlattensEveryMetric() {
+        registry.counter("messages.in").add(3);
+        registry.gauge("sessions", () -> 7);
+        registry.histogram("decodeNanos").record(10);
+        SortedMap<String, Long> snapshot = registry.snapshot();
+        assertEquals(3L, (long) snapshot.get("messages.in"));
+        assertEquals(7L, (long) snapshot.get("sessions"));
+        assertEquals(1L, (long) snapshot.get("decodeNanos.count"));
+        assertEquals(10L, (long) snapshot.get("decodeNanos.max"));
+    }
+
+    @Test
+    public void perSnapshotStatsAreReadOncePerSnapshot() {
+        AtomicInteger reads = new AtomicInteger();
+        Supplier<Integer> stats = registry.perSnapshot(reads::incrementAndGet);
+        registry.gauge("a", () -> stats.get());
+        registry.gauge("b", () -> stats.get());
+        registry.gauge("c", () -> stats.get());
+
+        SortedMap<String, Long> first = registry.snapshot();
+        assertEquals(1, reads.get());
+        assertEquals(1L, (long) first.get("c"));
+
+        SortedMap<String, Long> second = registry.snapshot();
+        assertEquals(2, reads.get());
+        assertEquals(2L, (long) second.get("a"));
+        assertEquals(2L, (long) second.get("c"));
+    }
+
+    @Test
+    public void mbeanHasNoOperations() {
+        try {
+            new MetricsMBean(registry).invoke("reset", new Object[0], new String[0]);
+            fail();
+        } catch (ReflectionException e) {
+            assertTrue(e.getTargetException() instanceof NoSuchMethodException);
+            assertEquals("reset", e.getTargetException().getMessage());
+        }
+    }
+
+}
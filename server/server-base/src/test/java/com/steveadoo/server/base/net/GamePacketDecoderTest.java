@@ -0,0 +1,164 @@
+package com.steveadoo.server.base.net;
+
+import com.steveadoo.server.common.packets.Packet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GamePacketDecoderTest {
+
+    private static final int MAX_FRAME_LENGTH = 1024;
+
+    private final List<Integer> opcodes = new ArrayList<>();
+    private final List<byte[]> bodies = new ArrayList<>();
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUp() {
+        opcodes.clear();
+        bodies.clear();
+        channel = new EmbeddedChannel(new GamePacketDecoder(MAX_FRAME_LENGTH), new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                //packets are only valid until this returns, so they're copied
+                Packet packet = (Packet) msg;
+                ByteBuffer body = packet.buffer.duplicate();
+                byte[] bytes = new byte[body.remaining()];
+                body.get(bytes);
+                opcodes.add(packet.opcode);
+                bodies.add(bytes);
+                packet.release();
+            }
+        });
+    }
+
+    @Test
+    public void wholeFrameIsPassedOn() {
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(7, body(10))));
+        assertFrames(7);
+        assertArrayEquals(body(10), bodies.get(0));
+    }
+
+    @Test
+    public void emptyBodyIsAFrame() {
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(3, new byte[0])));
+        assertFrames(3);
+        assertEquals(0, bodies.get(0).length);
+    }
+
+    @Test
+    public void everyFrameInOneReadIsPassedOn() {
+        channel.writeInbound(Unpooled.wrappedBuffer(concat(frame(1, body(5)), frame(2, body(300)), frame(3, body(0)))));
+        assertFrames(1, 2, 3);
+        assertArrayEquals(body(300), bodies.get(1));
+    }
+
+    @Test
+    public void frameSplitAnywhereIsCarriedOver() {
+        //a 300 byte body has a two byte length, so this splits the opcode, the length and the body
+        byte[] frames = concat(frame(1, body(300)), frame(2, body(4)));
+        for (int split = 1; split < frames.length; split++) {
+            setUp();
+            channel.writeInbound(Unpooled.wrappedBuffer(Arrays.copyOfRange(frames, 0, split)));
+            channel.writeInbound(Unpooled.wrappedBuffer(Arrays.copyOfRange(frames, split, frames.length)));
+            assertFrames(1, 2);
+            assertArrayEquals("split at " + split, body(300), bodies.get(0));
+            assertArrayEquals("split at " + split, body(4), bodies.get(1));
+        }
+    }
+
+    @Test
+    public void frameTrickledInAByteAtATimeIsCarriedOver() {
+        byte[] frames = concat(frame(5, body(200)), frame(6, body(1)));
+        for (byte b : frames) {
+            channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{b}));
+        }
+        assertFrames(5, 6);
+        assertArrayEquals(body(200), bodies.get(0));
+    }
+
+    @Test
+    public void frameOverTheLimitClosesTheChannel() {
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(1, body(MAX_FRAME_LENGTH + 1))));
+        assertFrames();
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void frameAtTheLimitIsPassedOn() {
+        channel.writeInbound(Unpooled.wrappedBuffer(frame(1, body(MAX_FRAME_LENGTH))));
+        assertFrames(1);
+        assertTrue(channel.isOpen());
+    }
+
+    @Test
+    public void overlongLengthClosesTheChannel() {
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0}));
+        assertFrames();
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void partialFrameIsReleasedOnClose() {
+        ByteBuf partial = Unpooled.buffer().writeBytes(Arrays.copyOf(frame(1, body(100)), 50));
+        channel.writeInbound(partial);
+        assertEquals(1, partial.refCnt());
+        channel.finish();
+        assertEquals(0, partial.refCnt());
+    }
+
+    private void assertFrames(int... expected) {
+        int[] actual = new int[opcodes.size()];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = opcodes.get(i);
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    private static byte[] frame(int opcode, byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(opcode);
+        int length = body.length;
+        while ((length & ~0x7F) != 0) {
+            out.write((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        out.write(length);
+        out.write(body, 0, body.length);
+        return out.toByteArray();
+    }
+
+    private static byte[] body(int length) {
+        byte[] body = new byte[length];
+        for (int i = 0; i < length; i++) {
+            body[i] = (byte) (i * 31 + length);
+        }
+        return body;
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+}
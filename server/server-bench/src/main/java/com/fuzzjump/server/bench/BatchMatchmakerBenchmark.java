@@ -0,0 +1,77 @@
+package com.fuzzjump.server.bench;
+
+import com.fuzzjump.server.matchmaking.BatchMatchmaker;
+import com.fuzzjump.server.matchmaking.lobby.LobbyPlayer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * One batch matchmaker tick with 100k players queued across every rank bucket, with the default settings. Matched and
+ * timed out players join again straight away, so the pool stays the same size for the whole run and every tick drains
+ * a full maxPerTick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchMatchmakerBenchmark {
+
+    @Param({"100000"})
+    public int players;
+
+    private BatchMatchmaker matchmaker;
+    private EmbeddedChannel channel;
+
+    @Setup
+    public void setup() {
+        channel = new EmbeddedChannel();
+        matchmaker = new BatchMatchmaker(Messages.PLAYERS, this::rejoinAll, this::rejoin);
+        int ranks = BatchMatchmaker.DEFAULT_RANK_BUCKET_WIDTH * BatchMatchmaker.DEFAULT_RANK_BUCKETS;
+        Random random = new Random(0);
+        for (int i = 0; i < players; i++) {
+            LobbyPlayer player = new LobbyPlayer(channel);
+            player.setRank(random.nextInt(ranks));
+            matchmaker.add(player);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finish();
+    }
+
+    @Benchmark
+    public void tick() {
+        matchmaker.tick();
+    }
+
+    private void rejoinAll(List<LobbyPlayer> lobby) {
+        for (LobbyPlayer player : lobby) {
+            matchmaker.add(player);
+        }
+    }
+
+    private void rejoin(LobbyPlayer player) {
+        matchmaker.add(player);
+    }
+
+}
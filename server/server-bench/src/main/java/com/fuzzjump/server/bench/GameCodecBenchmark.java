@@ -0,0 +1,119 @@
+package com.fuzzjump.server.bench;
+
+import com.fuzzjump.server.common.FuzzJumpMessageHandlers;
+import com.google.protobuf.GeneratedMessage;
+import com.steveadoo.server.base.net.GamePacketDecoder;
+import com.steveadoo.server.base.net.GamePacketEncoder;
+import com.steveadoo.server.common.packets.Packet;
+import com.steveadoo.server.common.packets.PacketProcessor;
+import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
+import com.steveadoo.server.common.packets.exceptions.MissingHandlerException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * GamePacketEncoder and GamePacketDecoder on an EmbeddedChannel, with the pooled allocator the servers use by default.
+ *
+ * decode feeds a read of framesPerRead frames through the decoder and into PacketProcessor, the same way
+ * GameServerHandler does, so it's per read rather than per message. encode writes one message and reads its frame back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameCodecBenchmark {
+
+    //the messages sent every tick or on every player action
+    @Param({"LobbyState", "LobbyDelta", "TimeState", "MapSlotSet", "ReadySet", "Countdown", "GameReady"})
+    public String message;
+
+    @Param({"1", "16"})
+    public int framesPerRead;
+
+    private GeneratedMessage sample;
+    private PacketProcessor processor;
+    private EmbeddedChannel encoderChannel;
+    private EmbeddedChannel decoderChannel;
+    private ByteBuf frames;
+
+    private Object received;
+
+    @Setup
+    public void setup() throws Throwable {
+        sample = Messages.get(message);
+        processor = new PacketProcessor(FuzzJumpMessageHandlers.HANDLERS);
+        processor.addListener(sample.getClass(), (sender, message) -> received = message);
+
+        encoderChannel = new EmbeddedChannel(new GamePacketEncoder(processor));
+        encoderChannel.config().setAllocator(PooledByteBufAllocator.DEFAULT);
+        decoderChannel = new EmbeddedChannel(new GamePacketDecoder(), new ProcessHandler());
+        decoderChannel.config().setAllocator(PooledByteBufAllocator.DEFAULT);
+
+        frames = PooledByteBufAllocator.DEFAULT.directBuffer();
+        for (int i = 0; i < framesPerRead; i++) {
+            GamePacketEncoder.writeFrame(processor, sample, frames);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        frames.release();
+        encoderChannel.finish();
+        decoderChannel.finish();
+    }
+
+    @Benchmark
+    public int encode() {
+        encoderChannel.writeOutbound(sample);
+        ByteBuf frame = (ByteBuf) encoderChannel.readOutbound();
+        int length = frame.readableBytes();
+        frame.release();
+        return length;
+    }
+
+    @Benchmark
+    public Object decode() {
+        //the decoder releases every read it's given, so hand it one more reference to the same frames
+        frames.readerIndex(0);
+        decoderChannel.writeInbound(frames.retain());
+        return received;
+    }
+
+    private class ProcessHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            Packet packet = (Packet) msg;
+            try {
+                processor.processPacket(ctx.channel(), packet);
+            } catch (MissingHandlerException | MessageHandlerException e) {
+                e.printStackTrace();
+            } finally {
+                packet.release();
+            }
+        }
+
+    }
+
+}
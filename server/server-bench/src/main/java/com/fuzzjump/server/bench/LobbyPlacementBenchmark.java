@@ -0,0 +1,96 @@
+package com.fuzzjump.server.bench;
+
+import com.fuzzjump.server.common.FuzzJumpMessageHandlers;
+import com.fuzzjump.server.matchmaking.lobby.LobbySession;
+import com.fuzzjump.server.matchmaking.lobby.OpenLobbyIndex;
+import com.steveadoo.server.base.net.Broadcaster;
+import com.steveadoo.server.common.packets.PacketProcessor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Placing players in open lobbies from 1, 8 and 64 threads at once, the way MatchmakingServer.findOpenSession does
+ * from every event loop. Each op takes a seat in the fullest open lobby and gives it back, like a player that joined
+ * and left, so the index stays the same size for the whole run. Lobbies start with a random number of seats taken.
+ *
+ * Lobbies close 60 seconds after they're made, so keep a run of each method under that.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LobbyPlacementBenchmark {
+
+    @Param({"10000"})
+    public int lobbies;
+
+    private OpenLobbyIndex index;
+    private EmbeddedChannel channel;
+
+    @Setup
+    public void setup() {
+        Broadcaster broadcaster = new Broadcaster(new PacketProcessor(FuzzJumpMessageHandlers.HANDLERS));
+        channel = new EmbeddedChannel();
+        index = new OpenLobbyIndex(Messages.PLAYERS);
+        Random random = new Random(0);
+        for (int i = 0; i < lobbies; i++) {
+            LobbySession session = new LobbySession(Integer.toString(i), Messages.PLAYERS, broadcaster, channel.eventLoop());
+            int seats = 1 + random.nextInt(Messages.PLAYERS - 1);
+            for (int seat = 0; seat < seats; seat++) {
+                index.reserve(session);
+            }
+            index.add(session);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finish();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public LobbySession place1() {
+        return place();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public LobbySession place8() {
+        return place();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public LobbySession place64() {
+        return place();
+    }
+
+    private LobbySession place() {
+        LobbySession session = index.reserve();
+        if (session != null) {
+            index.release(session);
+        }
+        return session;
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.fuzzjump.server.bench;
+
+import com.fuzzjump.server.common.messages.game.Game;
+import com.fuzzjump.server.common.messages.join.Join;
+import com.fuzzjump.server.common.messages.lobby.Lobby;
+import com.google.protobuf.GeneratedMessage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One message of every type in FuzzJumpMessageHandlers, filled in about as much as they are in a real 4 player game.
+ * Lobby and game Loaded share a name, so they're LobbyLoaded and GameLoaded here.
+ */
+public final class Messages {
+
+    public static final int PLAYERS = 4;
+
+    private static final Map<String, GeneratedMessage> SAMPLES = new LinkedHashMap<>();
+
+    static {
+        add("JoinPacket", Join.JoinPacket.newBuilder()
+                .setVersion(1)
+                .setUserId(userId(0))
+                .setSessionKey("fj1.c3ViamVjdApmZWF0dXJlCjE1MjcyODAwMDAKMTIzNDU2.bWFjbWFjbWFjbWFjbWFjbWFjbWFjbWFjbWFjbWFj")
+                .setTraceId("5f2c9a1e0b7d4c3a")
+                .build());
+        add("JoinResponsePacket", Join.JoinResponsePacket.newBuilder()
+                .setServerIp("10.0.12.34")
+                .setServerPort(7000)
+                .setStatus(1)
+                .setServerSessionKey("a8f3c1d9e2b74f6a9c0d1e2f3a4b5c6d")
+                .setRedirect(false)
+                .setTraceId("5f2c9a1e0b7d4c3a")
+                .build());
+        add("JoinServerPacket", Join.JoinServerPacket.newBuilder()
+                .setVersion(1)
+                .setSessionKey("a8f3c1d9e2b74f6a9c0d1e2f3a4b5c6d")
+                .setMachineName("game-server-01")
+                .build());
+
+        Lobby.LobbyState.Builder state = Lobby.LobbyState.newBuilder().setTime(time(30));
+        Lobby.LobbyDelta.Builder delta = Lobby.LobbyDelta.newBuilder().setTime(time(29));
+        for (int i = 0; i < 3; i++) {
+            state.addMapSlots(mapSlot(i));
+        }
+        for (int i = 0; i < PLAYERS; i++) {
+            state.addPlayers(lobbyPlayer(i));
+        }
+        delta.addPlayers(lobbyPlayer(1)).addMapSlots(mapSlot(2));
+        add("LobbyState", state.build());
+        add("LobbyDelta", delta.build());
+        add("TimeState", time(30));
+        add("MapSlot", mapSlot(1));
+        add("MapSlotSet", Lobby.MapSlotSet.newBuilder().setMapId(2).build());
+        add("ReadySet", Lobby.ReadySet.newBuilder().setReady(true).build());
+        add("LobbyLoaded", Lobby.Loaded.newBuilder().setRank(12).build());
+        add("GameFound", Lobby.GameFound.newBuilder()
+                .setFound(true)
+                .setGameName("Lobby 1")
+                .setGameId("b1946ac92492d2347c6235b4d2611184")
+                .build());
+        add("GameServerFound", Lobby.GameServerFound.newBuilder().setFound(true).build());
+        add("GameServerSetup", Lobby.GameServerSetup.newBuilder()
+                .setPlayerCount(PLAYERS)
+                .setMapId(2)
+                .setRequestId(1234)
+                .build());
+        Lobby.GameServerSetupResponse.Builder setupResponse = Lobby.GameServerSetupResponse.newBuilder()
+                .setGameId("b1946ac92492d2347c6235b4d2611184")
+                .setSeed("591d2b8e")
+                .setMapId(2)
+                .setRequestId(1234);
+        for (int i = 0; i < PLAYERS; i++) {
+            setupResponse.addKeys("a8f3c1d9e2b74f6a9c0d1e2f3a4b5c6" + i);
+        }
+        add("GameServerSetupResponse", setupResponse.build());
+        add("GameServerSetupData", Lobby.GameServerSetupData.newBuilder()
+                .setGameId("b1946ac92492d2347c6235b4d2611184")
+                .setKey("a8f3c1d9e2b74f6a9c0d1e2f3a4b5c6d")
+                .setSeed("591d2b8e")
+                .setMapId(2)
+                .setIp("10.0.12.35")
+                .setPort(7100)
+                .setTraceId("5f2c9a1e0b7d4c3a")
+                .build());
+        add("GameServerHeartbeat", Lobby.GameServerHeartbeat.newBuilder()
+                .setSessions(250)
+                .setPlayers(1000)
+                .setTickOverrunRate(3)
+                .build());
+
+        Game.GameReady.Builder ready = Game.GameReady.newBuilder().setSendLoaded(true);
+        for (int i = 0; i < PLAYERS; i++) {
+            ready.addPlayers(Game.Player.newBuilder().setUserId(userId(i)).setPlayerIndex(i));
+        }
+        add("Countdown", Game.Countdown.newBuilder().setTime(3).build());
+        add("JoinGame", Game.JoinGame.newBuilder().setGameId("b1946ac92492d2347c6235b4d2611184").build());
+        add("JoinGameResponse", Game.JoinGameResponse.newBuilder().setFound(true).build());
+        add("GameLoaded", Game.Loaded.getDefaultInstance());
+        add("GameReady", ready.build());
+    }
+
+    private Messages() {
+    }
+
+    /**
+     * @param name the message type, eg LobbyState
+     * @throws IllegalArgumentException if there's no sample of that type
+     */
+    public static GeneratedMessage get(String name) {
+        GeneratedMessage message = SAMPLES.get(name);
+        if (message == null) {
+            throw new IllegalArgumentException("No sample message named " + name);
+        }
+        return message;
+    }
+
+    private static void add(String name, GeneratedMessage message) {
+        SAMPLES.put(name, message);
+    }
+
+    private static String userId(int index) {
+        return "5b0a8e2c4f1d3a00000000" + index;
+    }
+
+    private static Lobby.TimeState time(int time) {
+        return Lobby.TimeState.newBuilder().setTime(time).build();
+    }
+
+    private static Lobby.MapSlot mapSlot(int mapId) {
+        return Lobby.MapSlot.newBuilder().setMapId(mapId).setVotes(mapId % 3).build();
+    }
+
+    private static Lobby.Player lobbyPlayer(int index) {
+        return Lobby.Player.newBuilder().setUserId(userId(index)).setPlayerIndex(index).setReady(index % 2 == 0).build();
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.fuzzjump.server.bench;
+
+import com.fuzzjump.server.common.FuzzJumpMessageHandlers;
+import com.google.protobuf.GeneratedMessage;
+import com.steveadoo.server.common.packets.Packet;
+import com.steveadoo.server.common.packets.PacketProcessor;
+import com.steveadoo.server.common.packets.coder.decoder.PacketDecoder;
+import com.steveadoo.server.common.packets.coder.encoder.PacketEncoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The packet codec without netty: encoding a message into a packet, decoding a packet from a byte[], a heap buffer
+ * and a direct buffer (what GamePacketDecoder hands over), and decoding plus dispatching it through PacketProcessor.
+ *
+ * Run with -prof gc to see how much each one allocates. Use -p message=LobbyState to run a single message type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketCodecBenchmark {
+
+    @Param({"JoinPacket", "JoinResponsePacket", "JoinServerPacket", "LobbyState", "LobbyDelta", "TimeState", "MapSlot",
+            "MapSlotSet", "ReadySet", "LobbyLoaded", "GameFound", "GameServerFound", "GameServerSetup",
+            "GameServerSetupResponse", "GameServerSetupData", "GameServerHeartbeat", "Countdown", "JoinGame",
+            "JoinGameResponse", "GameLoaded", "GameReady"})
+    public String message;
+
+    private GeneratedMessage sample;
+    private PacketDecoder decoder;
+    private PacketEncoder encoder;
+    private PacketProcessor processor;
+    //the same processor, but timing every packet for the metrics
+    private PacketProcessor timedProcessor;
+
+    private Packet arrayPacket;
+    private Packet heapPacket;
+    private Packet directPacket;
+
+    private Object received;
+    private long processed;
+
+    @Setup
+    public void setup() throws Throwable {
+        sample = Messages.get(message);
+        decoder = new PacketDecoder(FuzzJumpMessageHandlers.HANDLERS);
+        encoder = new PacketEncoder(FuzzJumpMessageHandlers.HANDLERS);
+        processor = createProcessor();
+        timedProcessor = createProcessor();
+        timedProcessor.setProcessListener((opcode, length, decodeNanos, dispatchNanos) -> processed += decodeNanos + dispatchNanos);
+
+        byte[] body = sample.toByteArray();
+        int opcode = encoder.getMessageHandler(sample).opcode;
+        ByteBuffer direct = ByteBuffer.allocateDirect(body.length);
+        direct.put(body).flip();
+        arrayPacket = new Packet(opcode, body);
+        heapPacket = new Packet(opcode, ByteBuffer.wrap(body));
+        directPacket = new Packet(opcode, direct);
+    }
+
+    private PacketProcessor createProcessor() {
+        PacketProcessor processor = new PacketProcessor(decoder, encoder);
+        processor.addListener(sample.getClass(), (sender, message) -> received = message);
+        return processor;
+    }
+
+    @Benchmark
+    public byte[] encodePacket() throws Throwable {
+        Packet packet = encoder.encodePacket(sample);
+        byte[] data = packet.data;
+        packet.release();
+        return data;
+    }
+
+    @Benchmark
+    public Object decodeArray() throws Throwable {
+        return decoder.decodePacket(arrayPacket);
+    }
+
+    @Benchmark
+    public Object decodeHeapBuffer() throws Throwable {
+        heapPacket.buffer.rewind();
+        return decoder.decodePacket(heapPacket);
+    }
+
+    @Benchmark
+    public Object decodeDirectBuffer() throws Throwable {
+        directPacket.buffer.rewind();
+        return decoder.decodePacket(directPacket);
+    }
+
+    @Benchmark
+    public Object processPacket() throws Throwable {
+        directPacket.buffer.rewind();
+        processor.processPacket(null, directPacket);
+        return received;
+    }
+
+    @Benchmark
+    public Object processPacketTimed() throws Throwable {
+        directPacket.buffer.rewind();
+        timedProcessor.processPacket(null, directPacket);
+        return received;
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.fuzzjump.server.bench;
+
+import com.fuzzjump.server.common.FuzzJumpMessageHandlers;
+import com.fuzzjump.server.game.game.GamePlayer;
+import com.fuzzjump.server.game.game.GameSession;
+import com.fuzzjump.server.matchmaking.lobby.LobbyPlayer;
+import com.fuzzjump.server.matchmaking.lobby.LobbySession;
+import com.steveadoo.server.base.net.Broadcaster;
+import com.steveadoo.server.base.net.GamePacketEncoder;
+import com.steveadoo.server.base.net.WriteBatch;
+import com.steveadoo.server.common.packets.PacketProcessor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * One tick of a full lobby and a full game, the way the tick engine runs them, with each player on an EmbeddedChannel
+ * that has the server's outbound handlers. Frames that reach the end of the pipeline are dropped, so the numbers are
+ * the session's own cost plus the encoding and writes. With -prof gc, B/op is the allocation per tick.
+ *
+ * lobbyTick is a tick where nothing changed, which only sends when the countdown second rolls over. lobbyTickChanged
+ * flips a player's ready state first, so every tick rebuilds the state and sends a delta.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionTickBenchmark {
+
+    private final List<EmbeddedChannel> channels = new ArrayList<>();
+
+    private Broadcaster broadcaster;
+    private GamePacketEncoder encoder;
+
+    private LobbySession lobby;
+    private LobbyPlayer readyPlayer;
+    private List<GamePlayer> gamePlayers = new ArrayList<>();
+    private GameSession game;
+
+    @Setup
+    public void setup() {
+        PacketProcessor processor = new PacketProcessor(FuzzJumpMessageHandlers.HANDLERS);
+        broadcaster = new Broadcaster(processor, PooledByteBufAllocator.DEFAULT);
+        encoder = new GamePacketEncoder(processor);
+
+        EmbeddedChannel first = createChannel();
+        lobby = new LobbySession("lobby", Messages.PLAYERS, broadcaster, first.eventLoop());
+        for (int i = 0; i < Messages.PLAYERS; i++) {
+            LobbyPlayer player = new LobbyPlayer(i == 0 ? first : createChannel());
+            player.setUserId("5b0a8e2c4f1d3a00000000" + i);
+            player.setSelectedMap(i % 2);
+            lobby.addPlayer(player);
+        }
+        readyPlayer = lobby.getPlayers().get(0);
+        //the first tick sends everyone the full state, after that it's deltas
+        lobby.tick();
+
+        for (int i = 0; i < Messages.PLAYERS; i++) {
+            GamePlayer player = new GamePlayer(createChannel());
+            player.setUserId("5b0a8e2c4f1d3a00000000" + i);
+            player.setLoaded(true);
+            gamePlayers.add(player);
+        }
+    }
+
+    /**
+     * The countdown runs out 2 seconds into a game, and it only sends while it's running, so each iteration gets a new one
+     */
+    @Setup(Level.Iteration)
+    public void createGame() {
+        game = new GameSession(1, "game", Messages.PLAYERS, broadcaster, channels.get(0).eventLoop());
+        for (GamePlayer player : gamePlayers) {
+            game.addPlayer(player);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (EmbeddedChannel channel : channels) {
+            channel.finish();
+        }
+    }
+
+    private EmbeddedChannel createChannel() {
+        EmbeddedChannel channel = new EmbeddedChannel(Sink.INSTANCE, WriteBatch.FlushHandler.INSTANCE, encoder);
+        channel.config().setAllocator(PooledByteBufAllocator.DEFAULT);
+        channels.add(channel);
+        return channel;
+    }
+
+    @Benchmark
+    public boolean lobbyTick() {
+        return lobby.tick();
+    }
+
+    @Benchmark
+    public boolean lobbyTickChanged() {
+        readyPlayer.setReady(!readyPlayer.isReady());
+        lobby.setUpdate(true);
+        return lobby.tick();
+    }
+
+    @Benchmark
+    public boolean gameTick() {
+        return game.tick();
+    }
+
+    @Benchmark
+    public void gameSendPlayers() {
+        WriteBatch.begin();
+        try {
+            game.sendPlayers();
+        } finally {
+            WriteBatch.end();
+        }
+    }
+
+    /**
+     * Drops everything written, in place of the socket
+     */
+    @ChannelHandler.Sharable
+    static class Sink extends ChannelOutboundHandlerAdapter {
+
+        static final Sink INSTANCE = new Sink();
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ReferenceCountUtil.release(msg);
+            promise.trySuccess();
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+        }
+
+    }
+
+}
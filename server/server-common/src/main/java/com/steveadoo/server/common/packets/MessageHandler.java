@@ -1,5 +1,7 @@
 package com.steveadoo.server.common.packets;
 
+import java.nio.ByteBuffer;
+
 /**
  * Handles encoding/decoding messages
  * @param <T> The class type to encode from and decode to
@@ -10,12 +12,21 @@ public class MessageHandler<T> {
     public final Class<T> messageType;
     public final Decoder<T> decoder;
     public final Encoder<T> encoder;
+    public final BufferDecoder<T> bufferDecoder;
+    public final BufferEncoder<T> bufferEncoder;
 
     public MessageHandler(Class<T> messageType, int opcode, Decoder<T> decoder, Encoder<T> encoder) {
+        this(messageType, opcode, decoder, encoder, null, null);
+    }
+
+    public MessageHandler(Class<T> messageType, int opcode, Decoder<T> decoder, Encoder<T> encoder,
+                          BufferDecoder<T> bufferDecoder, BufferEncoder<T> bufferEncoder) {
         this.opcode = opcode;
         this.messageType = messageType;
         this.decoder = decoder;
         this.encoder = encoder;
+        this.bufferDecoder = bufferDecoder;
+        this.bufferEncoder = bufferEncoder;
     }
 
     public interface Decoder<T> {
@@ -39,4 +50,39 @@ public class MessageHandler<T> {
         byte[] encode(T message);
 
     }
+
+    /**
+     * Optional decoder that reads straight out of a buffer instead of a copied byte[].
+     * The buffer is only valid for the duration of the call, so the decoded message must not keep a reference to it.
+     */
+    public interface BufferDecoder<T> {
+
+        /**
+         * Decode the body of the message(so dont look for the id)
+         * @param data the message body, from position to limit
+         * @return the decoded message
+         */
+        T decode(ByteBuffer data);
+
+    }
+
+    /**
+     * Optional encoder that writes straight into the outbound buffer instead of returning a byte[].
+     */
+    public interface BufferEncoder<T> {
+
+        /**
+         * @param message the message to encode
+         * @return the number of bytes encode will write for this message
+         */
+        int getEncodedSize(T message);
+
+        /**
+         * Encode the body of the message(so dont add the id) into the buffer, advancing its position
+         * @param message the message to encode
+         * @param out the buffer to write to. it will have at least getEncodedSize bytes remaining
+         */
+        void encode(T message, ByteBuffer out);
+
+    }
 }
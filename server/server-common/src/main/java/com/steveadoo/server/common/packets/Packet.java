@@ -1,15 +1,140 @@
 package com.steveadoo.server.common.packets;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A received or encoded packet.
+ *
+ * Packets can come from a pool. A pooled packet starts with a reference count of 1 and goes back to its pool when
+ * the count reaches 0, so whoever ends up owning it has to call release once they're done with it.
+ * Releasing a packet that isn't pooled is harmless, so code that handles packets should always release them.
+ */
 public class Packet {
 
-    public final int opcode;
-    public final int length;
-    public final byte[] data;
+    private static final AtomicIntegerFieldUpdater<Packet> REF_CNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Packet.class, "refCnt");
+
+    public int opcode;
+    public int length;
+    public byte[] data;
+    //set instead of data when the packet is a view over a network buffer
+    public ByteBuffer buffer;
+
+    private final Recycler recycler;
+    private volatile int refCnt = 1;
+
+    //body storage a pooled packet keeps between uses, see copyOf
+    private ByteBuffer storage;
 
     public Packet(int opcode, byte[] data) {
+        this.recycler = null;
+        set(opcode, data);
+    }
+
+    /**
+     * Creates a packet that reads its body straight out of the buffer.
+     * The buffer is not copied, so the packet is only valid while the buffer is.
+     * @param opcode the packet id
+     * @param buffer the packet body, from position to limit
+     */
+    public Packet(int opcode, ByteBuffer buffer) {
+        this.recycler = null;
+        set(opcode, buffer);
+    }
+
+    /**
+     * Creates an empty packet that goes back to the recycler when it is released
+     */
+    public Packet(Recycler recycler) {
+        this.recycler = recycler;
+    }
+
+    public Packet set(int opcode, byte[] data) {
         this.opcode = opcode;
         this.data = data;
+        this.buffer = null;
         this.length = data == null ? 0 : data.length;
+        return this;
+    }
+
+    /**
+     * Makes this packet a view over the buffer. See the ByteBuffer constructor.
+     */
+    public Packet set(int opcode, ByteBuffer buffer) {
+        this.opcode = opcode;
+        this.data = null;
+        this.buffer = buffer;
+        this.length = buffer.remaining();
+        return this;
+    }
+
+    /**
+     * Copies length bytes from src into storage this packet keeps, so the packet stays valid after src is reused.
+     * Pooled packets reuse the storage, so steady traffic doesn't allocate.
+     */
+    public Packet copyOf(int opcode, ByteBuffer src, int length) {
+        if (storage == null || storage.capacity() < length) {
+            storage = ByteBuffer.allocate(Math.max(length, 64));
+        }
+        src.get(storage.array(), storage.arrayOffset(), length);
+        storage.clear();
+        storage.limit(length);
+        return set(opcode, storage);
+    }
+
+    public int refCnt() {
+        return refCnt;
+    }
+
+    public Packet retain() {
+        while (true) {
+            int count = refCnt;
+            if (count == 0) {
+                throw new IllegalStateException("Packet was already released");
+            }
+            if (REF_CNT_UPDATER.compareAndSet(this, count, count + 1)) {
+                return this;
+            }
+        }
+    }
+
+    /**
+     * Decreases the reference count, and sends the packet back to its pool when it reaches 0
+     * @return true if the packet was recycled
+     */
+    public boolean release() {
+        if (recycler == null) {
+            return false;
+        }
+        while (true) {
+            int count = refCnt;
+            if (count == 0) {
+                throw new IllegalStateException("Packet was already released");
+            }
+            if (REF_CNT_UPDATER.compareAndSet(this, count, count - 1)) {
+                if (count != 1) {
+                    return false;
+                }
+                data = null;
+                buffer = null;
+                recycler.recycle(this);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Called by pools when handing out a recycled packet
+     */
+    public Packet reuse() {
+        refCnt = 1;
+        return this;
+    }
+
+    public interface Recycler {
+
+        void recycle(Packet packet);
+
     }
 
 }
@@ -0,0 +1,45 @@
+package com.steveadoo.server.common.packets;
+
+import java.util.ArrayDeque;
+
+/**
+ * A bounded pool of packets that can be obtained and released from any thread.
+ * Packets obtained from here go back to the pool when they are released.
+ */
+public class PacketPool implements Packet.Recycler {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final int maxSize;
+    private final ArrayDeque<Packet> free;
+
+    public PacketPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public PacketPool(int maxSize) {
+        this.maxSize = maxSize;
+        this.free = new ArrayDeque<>(Math.min(maxSize, 16));
+    }
+
+    public Packet obtain() {
+        Packet packet;
+        synchronized (free) {
+            packet = free.poll();
+        }
+        if (packet == null) {
+            packet = new Packet(this);
+        }
+        return packet.reuse();
+    }
+
+    @Override
+    public void recycle(Packet packet) {
+        synchronized (free) {
+            if (free.size() < maxSize) {
+                free.push(packet);
+            }
+        }
+    }
+
+}
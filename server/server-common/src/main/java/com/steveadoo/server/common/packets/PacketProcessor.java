@@ -5,20 +5,26 @@ import com.steveadoo.server.common.packets.coder.encoder.PacketEncoder;
 import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
 import com.steveadoo.server.common.packets.exceptions.MissingHandlerException;
 
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 
 public class PacketProcessor {
 
+    //opcodes are a single byte on the wire
+    private static final int MAX_OPCODES = 256;
+
     private final PacketDecoder decoder;
     private final PacketEncoder encoder;
 
-    private final List<ListenerWrapper> listeners;
+    //listeners indexed by the opcode of the message type they listen for
+    private final PacketListener[][] listeners;
 
     private ProcessPipeline pipeline;
+    private ProcessListener processListener;
 
     public PacketProcessor(PacketDecoder decoder, PacketEncoder encoder) {
-        this.listeners = new LinkedList<>();
+        this.listeners = new PacketListener[MAX_OPCODES][];
         this.decoder = decoder;
         this.encoder = encoder;
     }
@@ -31,10 +37,18 @@ public class PacketProcessor {
         return decoder.decodePacket(packet);
     }
 
+    public <T> T decodeMessage(int opcode, ByteBuffer data) throws MissingHandlerException, MessageHandlerException {
+        return decoder.decodeMessage(opcode, data);
+    }
+
     public Packet encodeMessage(Object message) throws MissingHandlerException, MessageHandlerException {
         return encoder.encodePacket(message);
     }
 
+    public MessageHandler getMessageHandler(Object message) throws MissingHandlerException, MessageHandlerException {
+        return encoder.getMessageHandler(message);
+    }
+
     /**
      * Processes a received packet
      * @param sender The sender(in Netty, this is the Channel)
@@ -42,9 +56,25 @@ public class PacketProcessor {
      * @throws MissingHandlerException If there is no message handler for this packet id
      * @throws MessageHandlerException If there is an error with the message handler for this packet id
      */
-    @SuppressWarnings("unchecked")
     public void processPacket(Object sender, Packet packet) throws MissingHandlerException, MessageHandlerException {
+        ProcessListener processListener = this.processListener;
+        if (processListener == null) {
+            dispatch(sender, packet, decodePacket(packet));
+            return;
+        }
+        long start = System.nanoTime();
         Object message = decodePacket(packet);
+        long decoded = System.nanoTime();
+        dispatch(sender, packet, message);
+        processListener.processed(packet.opcode, packet.length, decoded - start, System.nanoTime() - decoded);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(Object sender, Packet packet, Object message) {
+        if (message == null) {
+            //the decoder couldn't parse it
+            return;
+        }
         if (pipeline != null) {
             //if the sender transformer returns null then its an invalid session
             sender = pipeline.transformSender(sender, packet);
@@ -52,15 +82,37 @@ public class PacketProcessor {
                 return;
             }
         }
-        for (ListenerWrapper wrapper : listeners) {
-            if (message.getClass().equals(wrapper.clazz)) {
-                wrapper.listener.received(sender, message);
-            }
+        PacketListener[] opcodeListeners = listeners[packet.opcode];
+        if (opcodeListeners == null) {
+            return;
+        }
+        for (int i = 0; i < opcodeListeners.length; i++) {
+            opcodeListeners[i].received(sender, message);
         }
     }
 
+    /**
+     * Adds a listener for a message type. The type is resolved to its opcode here, so dispatching is just an array lookup.
+     * Listeners should be added before packets start being processed.
+     * @throws IllegalArgumentException if there is no message handler for this type
+     */
     public <TSender, TMessage> PacketProcessor addListener(Class<TMessage> mClass, PacketListener<TSender, TMessage> listener) {
-        listeners.add(new ListenerWrapper(mClass, listener));
+        MessageHandler handler = encoder.getHandlerForType(mClass);
+        if (handler == null) {
+            throw new IllegalArgumentException("No message handler for " + mClass.getName());
+        }
+        if (handler.opcode < 0 || handler.opcode >= MAX_OPCODES) {
+            throw new IllegalArgumentException("Opcode " + handler.opcode + " for " + mClass.getName() + " is out of range");
+        }
+        PacketListener[] current = listeners[handler.opcode];
+        PacketListener[] updated;
+        if (current == null) {
+            updated = new PacketListener[1];
+        } else {
+            updated = Arrays.copyOf(current, current.length + 1);
+        }
+        updated[updated.length - 1] = listener;
+        listeners[handler.opcode] = updated;
         return this;
     }
 
@@ -72,21 +124,32 @@ public class PacketProcessor {
         this.pipeline = pipeline;
     }
 
-    private class ListenerWrapper {
+    /**
+     * Sets the listener that's told how long each received packet took. Packets aren't timed without one
+     * @param processListener the listener, or null
+     */
+    public void setProcessListener(ProcessListener processListener) {
+        this.processListener = processListener;
+    }
 
-        public final Class<?> clazz;
-        public final PacketListener listener;
+    public interface PacketListener<TSender, TMessage> {
 
-        public ListenerWrapper(Class<?> clazz, PacketListener listener) {
-            this.clazz = clazz;
-            this.listener = listener;
-        }
+        void received(TSender sender, TMessage message);
 
     }
 
-    public interface PacketListener<TSender, TMessage> {
+    /**
+     * Called after each received packet is processed, on the thread that processed it, so it has to be quick
+     */
+    public interface ProcessListener {
 
-        void received(TSender sender, TMessage message);
+        /**
+         * @param opcode the packet id
+         * @param length the body length in bytes
+         * @param decodeNanos how long decoding the message took
+         * @param dispatchNanos how long checking the message and running its listeners took
+         */
+        void processed(int opcode, int length, long decodeNanos, long dispatchNanos);
 
     }
 
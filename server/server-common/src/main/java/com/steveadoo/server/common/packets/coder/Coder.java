@@ -1,7 +1,9 @@
 package com.steveadoo.server.common.packets.coder;
 
 import com.steveadoo.server.common.packets.coder.storage.ArrayHandlerStorage;
+import com.steveadoo.server.common.packets.coder.storage.IdentityHandlerStorage;
 import com.steveadoo.server.common.packets.coder.storage.MappedHandlerStorage;
+import com.steveadoo.server.common.packets.coder.storage.OpcodeHandlerStorage;
 
 public abstract class Coder<TKey, THandler> {
 
@@ -22,4 +24,18 @@ public abstract class Coder<TKey, THandler> {
     public static <TKey, THandler> HandlerStorage<TKey, THandler> getStorageForSize(int size) {
         return size < 15 ? new ArrayHandlerStorage<TKey, THandler>() : new MappedHandlerStorage<TKey, THandler>();
     }
+
+    /**
+     * @return a storage for opcode keys. lookups are a single array load
+     */
+    public static <THandler> IntHandlerStorage<THandler> getOpcodeStorage() {
+        return new OpcodeHandlerStorage<THandler>();
+    }
+
+    /**
+     * @return a storage for class keys. lookups compare by identity
+     */
+    public static <THandler> HandlerStorage<Class<?>, THandler> getClassStorage() {
+        return new IdentityHandlerStorage<Class<?>, THandler>();
+    }
 }
@@ -0,0 +1,10 @@
+package com.steveadoo.server.common.packets.coder;
+
+/**
+ * A handler storage keyed by ints that can be read without boxing the key
+ */
+public interface IntHandlerStorage<TVal> extends HandlerStorage<Integer, TVal> {
+
+    TVal get(int key);
+
+}
@@ -4,20 +4,26 @@ import com.steveadoo.server.common.packets.MessageHandler;
 import com.steveadoo.server.common.packets.Packet;
 import com.steveadoo.server.common.packets.coder.Coder;
 import com.steveadoo.server.common.packets.coder.HandlerStorage;
+import com.steveadoo.server.common.packets.coder.IntHandlerStorage;
 import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
 import com.steveadoo.server.common.packets.exceptions.MissingHandlerException;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 public class PacketDecoder extends Coder<Integer, MessageHandler> {
 
+    //set if the storage can be read without boxing the opcode
+    private final IntHandlerStorage<MessageHandler> intStorage;
+
     public PacketDecoder(HandlerStorage<Integer, MessageHandler> storage, List<MessageHandler> handlers) {
         super(storage);
+        this.intStorage = storage instanceof IntHandlerStorage ? (IntHandlerStorage<MessageHandler>) storage : null;
         init(handlers);
     }
 
     public PacketDecoder(List<MessageHandler> handlers) {
-        this(Coder.<Integer, MessageHandler>getStorageForSize(handlers.size()), handlers);
+        this(Coder.<MessageHandler>getOpcodeStorage(), handlers);
     }
 
     private void init(List<MessageHandler> handlers) {
@@ -27,7 +33,10 @@ public class PacketDecoder extends Coder<Integer, MessageHandler> {
     }
 
     public <T> T decodePacket(Packet packet) throws MissingHandlerException, MessageHandlerException {
-        MessageHandler handler = getHandler(packet.opcode);
+        if (packet.buffer != null) {
+            return decodeMessage(packet.opcode, packet.buffer);
+        }
+        MessageHandler handler = findHandler(packet.opcode);
         if (handler == null) {
             throw new MissingHandlerException(packet.opcode);
         }
@@ -37,4 +46,30 @@ public class PacketDecoder extends Coder<Integer, MessageHandler> {
         return (T)handler.decoder.decode(packet.data);
     }
 
+    /**
+     * Decodes a message body without copying it, if the handler supports it. Otherwise the body is copied
+     * and handed to the byte[] decoder.
+     * @param opcode the packet id
+     * @param data the message body, from position to limit. decoders are free to move the position.
+     */
+    public <T> T decodeMessage(int opcode, ByteBuffer data) throws MissingHandlerException, MessageHandlerException {
+        MessageHandler handler = findHandler(opcode);
+        if (handler == null) {
+            throw new MissingHandlerException(opcode);
+        }
+        if (handler.bufferDecoder != null) {
+            return (T)handler.bufferDecoder.decode(data);
+        }
+        if (handler.decoder == null) {
+            throw new MessageHandlerException("No decoder defined", opcode);
+        }
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        return (T)handler.decoder.decode(bytes);
+    }
+
+    private MessageHandler findHandler(int opcode) {
+        return intStorage != null ? intStorage.get(opcode) : getHandler(Integer.valueOf(opcode));
+    }
+
 }
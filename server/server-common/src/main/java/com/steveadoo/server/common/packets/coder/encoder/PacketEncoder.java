@@ -2,6 +2,7 @@ package com.steveadoo.server.common.packets.coder.encoder;
 
 import com.steveadoo.server.common.packets.MessageHandler;
 import com.steveadoo.server.common.packets.Packet;
+import com.steveadoo.server.common.packets.PacketPool;
 import com.steveadoo.server.common.packets.coder.Coder;
 import com.steveadoo.server.common.packets.coder.HandlerStorage;
 import com.steveadoo.server.common.packets.exceptions.MessageHandlerException;
@@ -11,13 +12,15 @@ import java.util.List;
 
 public class PacketEncoder extends Coder<Class<?>, MessageHandler> {
 
+    private final PacketPool pool = new PacketPool();
+
     public PacketEncoder(HandlerStorage<Class<?>, MessageHandler> storage, List<MessageHandler> handlers) {
         super(storage);
         init(handlers);
     }
 
     public PacketEncoder(List<MessageHandler> handlers) {
-        this(Coder.<Class<?>, MessageHandler>getStorageForSize(handlers.size()), handlers);
+        this(Coder.<MessageHandler>getClassStorage(), handlers);
     }
 
     private void init(List<MessageHandler> handlers) {
@@ -26,16 +29,42 @@ public class PacketEncoder extends Coder<Class<?>, MessageHandler> {
         }
     }
 
+    /**
+     * Encodes the message with the byte[] encoder
+     * @return a pooled packet. release it once it has been written
+     */
     public Packet encodePacket(Object message) throws MissingHandlerException, MessageHandlerException {
+        MessageHandler handler = getMessageHandler(message);
+        if (handler.encoder == null) {
+            throw new MessageHandlerException("No encoder defined", message.getClass());
+        }
+        return pool.obtain().set(handler.opcode, handler.encoder.encode(message));
+    }
+
+    /**
+     * Finds the handler for this message
+     * @param message the message to encode
+     * @return the handler. it will have either a byte[] encoder or a buffer encoder
+     * @throws MissingHandlerException If there is no message handler for this message type
+     * @throws MessageHandlerException If the message handler can't encode
+     */
+    public MessageHandler getMessageHandler(Object message) throws MissingHandlerException, MessageHandlerException {
         MessageHandler handler = getHandler(message.getClass());
         if (handler == null) {
             throw new MissingHandlerException(message.getClass());
         }
-        if (handler.decoder == null) {
+        if (handler.encoder == null && handler.bufferEncoder == null) {
             throw new MessageHandlerException("No encoder defined", message.getClass());
         }
-        //TODO implement a pool for packets
-        return new Packet(handler.opcode, handler.encoder.encode(message));
+        return handler;
+    }
+
+    /**
+     * @param messageType the message class
+     * @return the handler for this message type, or null if there isn't one
+     */
+    public MessageHandler getHandlerForType(Class<?> messageType) {
+        return getHandler(messageType);
     }
 
 }
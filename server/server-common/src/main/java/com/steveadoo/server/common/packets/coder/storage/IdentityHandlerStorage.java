@@ -0,0 +1,24 @@
+package com.steveadoo.server.common.packets.coder.storage;
+
+import com.steveadoo.server.common.packets.coder.HandlerStorage;
+
+import java.util.IdentityHashMap;
+
+/**
+ * a storage impl that compares keys by identity. good for class keys, where equals is identity anyway
+ */
+public class IdentityHandlerStorage<TKey, TVal> implements HandlerStorage<TKey, TVal> {
+
+    private IdentityHashMap<TKey, TVal> map = new IdentityHashMap<>();
+
+    @Override
+    public TVal get(TKey key) {
+        return map.get(key);
+    }
+
+    @Override
+    public void put(TKey key, TVal val) {
+        map.put(key, val);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.steveadoo.server.common.packets.coder.storage;
+
+import com.steveadoo.server.common.packets.coder.IntHandlerStorage;
+
+/**
+ * a storage impl that indexes an array by opcode. opcodes are a single byte on the wire, so this is always 256 slots
+ */
+public class OpcodeHandlerStorage<TVal> implements IntHandlerStorage<TVal> {
+
+    public static final int MAX_OPCODES = 256;
+
+    private final Object[] handlers = new Object[MAX_OPCODES];
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public TVal get(int key) {
+        if (key < 0 || key >= MAX_OPCODES) {
+            return null;
+        }
+        return (TVal) handlers[key];
+    }
+
+    @Override
+    public TVal get(Integer key) {
+        return get(key.intValue());
+    }
+
+    @Override
+    public void put(Integer key, TVal val) {
+        if (key < 0 || key >= MAX_OPCODES) {
+            throw new IllegalArgumentException("Opcode " + key + " is out of range");
+        }
+        handlers[key] = val;
+    }
+
+}